@@ -0,0 +1,81 @@
+package com.fitness.common.jwt;
+
+import com.fitness.common.config.JwtProperties;
+import com.fitness.common.enums.UserType;
+import com.fitness.common.security.CustomUserPrincipal;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+import javax.crypto.SecretKey;
+import java.util.Date;
+import java.util.List;
+
+/**
+ * 요청당 JWT 검증 비용 비교 벤치마크
+ * - legacyPerRequest: 기존 필터 흐름 (validateToken → getUsernameFromToken → validateToken(token, userDetails)),
+ *   호출마다 Jwts.parser()...build()로 파서를 새로 생성
+ * - singlePassPerRequest: JwtUtil.verify() 한 번 호출 (공유 JwtParser)
+ *
+ * 실행: ./gradlew jmh
+ */
+@State(Scope.Benchmark)
+public class JwtVerificationBenchmark {
+
+    private static final String SECRET = "benchmark-jwt-secret-key-for-development-only-32-chars-minimum";
+
+    private JwtUtil jwtUtil;
+    private SecretKey secretKey;
+    private CustomUserPrincipal principal;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        JwtProperties properties = new JwtProperties();
+        properties.setSecret(SECRET);
+        properties.setAccessTokenExpiration(900_000L);
+        properties.setRefreshTokenExpiration(604_800_000L);
+
+        jwtUtil = new JwtUtil(properties);
+        secretKey = Keys.hmacShaKeyFor(SECRET.getBytes());
+        principal = CustomUserPrincipal.builder()
+                .userId(1L)
+                .username("benchmark_user")
+                .userType(UserType.OWNER)
+                .authorities(List.of(new SimpleGrantedAuthority("ROLE_OWNER")))
+                .enabled(true)
+                .build();
+        token = jwtUtil.generateAccessToken(
+                new UsernamePasswordAuthenticationToken(principal, null, principal.getAuthorities()));
+    }
+
+    @Benchmark
+    public boolean legacyPerRequest() {
+        if (!legacyValidate(token)) {
+            return false;
+        }
+        String username = legacyClaims(token).getSubject();
+        return legacyClaims(token).getSubject().equals(username)
+                && !legacyClaims(token).getExpiration().before(new Date());
+    }
+
+    @Benchmark
+    public JwtTokenClaims singlePassPerRequest() {
+        return jwtUtil.verify(token).orElseThrow();
+    }
+
+    private boolean legacyValidate(String jwt) {
+        Jwts.parser().verifyWith(secretKey).build().parseSignedClaims(jwt);
+        return true;
+    }
+
+    private Claims legacyClaims(String jwt) {
+        return Jwts.parser().verifyWith(secretKey).build().parseSignedClaims(jwt).getPayload();
+    }
+}
@@ -0,0 +1,89 @@
+package com.fitness.domain.business.service;
+
+import com.fitness.domain.business.dto.MemberSearchResult;
+import com.fitness.domain.business.entity.BusinessMemberStatus;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 사업장 회원 10만 명 기준 검색 지연 벤치마크
+ * - phoneSuffix: 전화번호 뒷자리 4자리 (인덱스)
+ * - nameBigram / chosung: 이름 부분 일치 / 초성 (인덱스)
+ * - linearScan: 기존 LIKE '%keyword%'와 동일한 전체 비교
+ *
+ * 실행: ./gradlew jmh (p99는 jmh 설정의 benchmarkMode를 'sample'로 바꿔 p0.99 확인)
+ */
+@State(Scope.Benchmark)
+public class MemberSearchBenchmark {
+
+    private static final int MEMBERS = 100_000;
+    private static final int LIMIT = 20;
+    private static final String[] SURNAMES = {"김", "이", "박", "최", "정", "강", "조", "윤", "장", "임"};
+    private static final String GIVEN = "민서준지현우예하도윤수아진영성호연태희재";
+
+    private MemberKeywordIndex index;
+    private List<MemberSearchResult> members;
+    private String[] phoneSuffixes;
+    private String[] names;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        members = new ArrayList<>(MEMBERS);
+        for (long id = 1; id <= MEMBERS; id++) {
+            String name = SURNAMES[random.nextInt(SURNAMES.length)]
+                    + GIVEN.charAt(random.nextInt(GIVEN.length()))
+                    + GIVEN.charAt(random.nextInt(GIVEN.length()));
+            String phone = String.format("010-%04d-%04d", random.nextInt(10_000), random.nextInt(10_000));
+            members.add(new MemberSearchResult(id, id, name, phone, BusinessMemberStatus.ACTIVE));
+        }
+
+        index = new MemberKeywordIndex();
+        index.loadIfNecessary(() -> members);
+
+        phoneSuffixes = new String[1024];
+        names = new String[1024];
+        for (int i = 0; i < phoneSuffixes.length; i++) {
+            MemberSearchResult member = members.get(random.nextInt(MEMBERS));
+            phoneSuffixes[i] = member.getPhoneNumber().substring(member.getPhoneNumber().length() - 4);
+            names[i] = member.getName().substring(1);
+        }
+    }
+
+    @Benchmark
+    public List<MemberSearchResult> phoneSuffix() {
+        return index.search(phoneSuffixes[ThreadLocalRandom.current().nextInt(phoneSuffixes.length)], null, LIMIT);
+    }
+
+    @Benchmark
+    public List<MemberSearchResult> nameBigram() {
+        return index.search(names[ThreadLocalRandom.current().nextInt(names.length)], null, LIMIT);
+    }
+
+    @Benchmark
+    public List<MemberSearchResult> chosung() {
+        return index.search("ㄱㅁㅅ", null, LIMIT);
+    }
+
+    @Benchmark
+    public List<MemberSearchResult> linearScan() {
+        String keyword = phoneSuffixes[ThreadLocalRandom.current().nextInt(phoneSuffixes.length)];
+        List<MemberSearchResult> results = new ArrayList<>();
+        for (MemberSearchResult member : members) {
+            if (member.getPhoneNumber().contains(keyword) || member.getName().contains(keyword)) {
+                results.add(member);
+                if (results.size() == LIMIT) {
+                    break;
+                }
+            }
+        }
+        return results;
+    }
+}
@@ -0,0 +1,100 @@
+package com.fitness.common.config;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+/**
+ * 비동기 처리 설정 클래스
+ */
+@Configuration
+public class AsyncConfig {
+
+    /**
+     * 소셜 로그인 전용 스레드 풀
+     * 외부 제공자 호출이 지연되어도 Tomcat 요청 스레드를 점유하지 않도록 분리
+     * 큐가 가득 차면 TaskRejectedException으로 즉시 거절 (503 응답)
+     */
+    @Bean
+    public ThreadPoolTaskExecutor socialLoginExecutor(SocialLoginProperties properties) {
+        SocialLoginProperties.Executor executor = properties.getExecutor();
+
+        ThreadPoolTaskExecutor taskExecutor = new ThreadPoolTaskExecutor();
+        taskExecutor.setCorePoolSize(executor.getCorePoolSize());
+        taskExecutor.setMaxPoolSize(executor.getMaxPoolSize());
+        taskExecutor.setQueueCapacity(executor.getQueueCapacity());
+        taskExecutor.setThreadNamePrefix("social-login-");
+        taskExecutor.setWaitForTasksToCompleteOnShutdown(true);
+        taskExecutor.setAwaitTerminationSeconds(10);
+        return taskExecutor;
+    }
+
+    /**
+     * 월말 커미션 정산 전용 스레드 풀
+     * 사업장 단위로 병렬 정산 (사업장 간 데이터 공유 없음)
+     */
+    @Bean
+    public ThreadPoolTaskExecutor commissionExecutor(BusinessProperties properties) {
+        int parallelism = properties.getCommission().getParallelism();
+
+        ThreadPoolTaskExecutor taskExecutor = new ThreadPoolTaskExecutor();
+        taskExecutor.setCorePoolSize(parallelism);
+        taskExecutor.setMaxPoolSize(parallelism);
+        taskExecutor.setThreadNamePrefix("commission-");
+        taskExecutor.setWaitForTasksToCompleteOnShutdown(true);
+        taskExecutor.setAwaitTerminationSeconds(60);
+        return taskExecutor;
+    }
+
+    /**
+     * 회원 일괄 등록 전용 스레드 풀
+     * 대기열이 가득 차면 TaskRejectedException으로 즉시 거절 (503 응답)
+     */
+    @Bean
+    public ThreadPoolTaskExecutor memberImportExecutor(BusinessProperties properties) {
+        int parallelism = properties.getMemberImport().getParallelism();
+
+        ThreadPoolTaskExecutor taskExecutor = new ThreadPoolTaskExecutor();
+        taskExecutor.setCorePoolSize(parallelism);
+        taskExecutor.setMaxPoolSize(parallelism);
+        taskExecutor.setQueueCapacity(parallelism * 5);
+        taskExecutor.setThreadNamePrefix("member-import-");
+        taskExecutor.setWaitForTasksToCompleteOnShutdown(true);
+        taskExecutor.setAwaitTerminationSeconds(60);
+        return taskExecutor;
+    }
+
+    /**
+     * 레슨 대기자 승격 전용 스레드
+     * 신청/취소 트랜잭션 커밋 후 승격을 넘겨받아, 원래 트랜잭션의 커넥션을 잡은 채 커넥션을 하나 더 쓰지 않도록 분리
+     * 스레드 1개로 승격 작업끼리는 자리를 다투지 않음 (대기열이 가득 차면 다음 신청/취소 때 다시 승격)
+     */
+    @Bean
+    public ThreadPoolTaskExecutor lessonBookingExecutor() {
+        ThreadPoolTaskExecutor taskExecutor = new ThreadPoolTaskExecutor();
+        taskExecutor.setCorePoolSize(1);
+        taskExecutor.setMaxPoolSize(1);
+        taskExecutor.setQueueCapacity(1_000);
+        taskExecutor.setThreadNamePrefix("lesson-booking-");
+        taskExecutor.setWaitForTasksToCompleteOnShutdown(true);
+        taskExecutor.setAwaitTerminationSeconds(10);
+        return taskExecutor;
+    }
+
+    /**
+     * 직원 월별 실적 반영 전용 스레드
+     * 결제 트랜잭션 커밋 후 실적 반영(별도 트랜잭션 + 충돌 재시도)을 넘겨받아 결제 요청 스레드와 커넥션을 점유하지 않도록 분리
+     * 스레드 1개로 같은 인스턴스의 반영끼리는 행 충돌이 없음 (대기열이 가득 차면 월 실적 재계산으로 보정)
+     */
+    @Bean
+    public ThreadPoolTaskExecutor performanceExecutor() {
+        ThreadPoolTaskExecutor taskExecutor = new ThreadPoolTaskExecutor();
+        taskExecutor.setCorePoolSize(1);
+        taskExecutor.setMaxPoolSize(1);
+        taskExecutor.setQueueCapacity(10_000);
+        taskExecutor.setThreadNamePrefix("performance-");
+        taskExecutor.setWaitForTasksToCompleteOnShutdown(true);
+        taskExecutor.setAwaitTerminationSeconds(30);
+        return taskExecutor;
+    }
+}
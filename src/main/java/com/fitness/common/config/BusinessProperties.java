@@ -0,0 +1,307 @@
+package com.fitness.common.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalTime;
+
+/**
+ * 사업장 관련 설정 프로퍼티 클래스
+ * application.yml의 business 설정을 바인딩하여 사용
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "business")
+public class BusinessProperties {
+
+    /**
+     * 사업장 회원 통계 캐시 설정
+     */
+    private StatsCache statsCache = new StatsCache();
+
+    /**
+     * 일별 통계 집계 설정
+     */
+    private DailyStats dailyStats = new DailyStats();
+
+    /**
+     * 월말 커미션 정산 설정
+     */
+    private Commission commission = new Commission();
+
+    /**
+     * 엑셀(CSV) 내보내기 설정
+     */
+    private Export export = new Export();
+
+    /**
+     * 회원 일괄 등록 설정
+     */
+    private MemberImport memberImport = new MemberImport();
+
+    /**
+     * 출석 체크인 설정
+     */
+    private CheckIn checkIn = new CheckIn();
+
+    /**
+     * 체크인 자격 인덱스 설정
+     */
+    private Eligibility eligibility = new Eligibility();
+
+    /**
+     * 레슨 일정 설정
+     */
+    private LessonSchedule lessonSchedule = new LessonSchedule();
+
+    /**
+     * 미수금 원장 설정
+     */
+    private Outstanding outstanding = new Outstanding();
+
+    @Getter
+    @Setter
+    public static class StatsCache {
+
+        /**
+         * 캐시에 보관할 최대 사업장 수
+         * 기본값: 10,000개
+         */
+        private Long maximumSize = 10_000L;
+
+        /**
+         * 통계 보관 시간 (밀리초)
+         * 기본값: 30초 (30,000ms)
+         */
+        private Long ttl = 30_000L;
+    }
+
+    @Getter
+    @Setter
+    public static class DailyStats {
+
+        /**
+         * 누적된 증분을 통계 테이블에 반영하는 주기 (밀리초)
+         * 기본값: 5초 (5,000ms)
+         */
+        private Long flushInterval = 5_000L;
+
+        /**
+         * 새벽 재집계 실행 시각 (cron)
+         * 기본값: 매일 03:30
+         */
+        private String reconcileCron = "0 30 3 * * *";
+
+        /**
+         * 새벽 재집계 대상 일수 (어제부터 과거로)
+         * 기본값: 2일
+         */
+        private Integer reconcileDays = 2;
+
+        /**
+         * 한 번에 조회 가능한 최대 일수
+         * 기본값: 366일
+         */
+        private Integer maxQueryDays = 366;
+    }
+
+    @Getter
+    @Setter
+    public static class Commission {
+
+        /**
+         * 월말 정산 실행 시각 (cron, 전월 정산)
+         * 기본값: 매월 1일 04:00
+         */
+        private String runCron = "0 0 4 1 * *";
+
+        /**
+         * 동시에 정산할 사업장 수
+         * 기본값: 4개
+         */
+        private Integer parallelism = 4;
+
+        /**
+         * 결제 스트리밍 조회 fetch 크기
+         * 기본값: 1,000건
+         */
+        private Integer fetchSize = 1_000;
+
+        /**
+         * 계산 내역 배치 INSERT 크기
+         * 기본값: 1,000건
+         */
+        private Integer batchSize = 1_000;
+    }
+
+    @Getter
+    @Setter
+    public static class Export {
+
+        /**
+         * 스트리밍 조회 fetch 크기
+         * 기본값: 1,000건
+         */
+        private Integer fetchSize = 1_000;
+
+        /**
+         * 기간 조건 최대 일수
+         * 기본값: 366일
+         */
+        private Integer maxDays = 366;
+    }
+
+    @Getter
+    @Setter
+    public static class MemberImport {
+
+        /**
+         * 배치 INSERT 및 트랜잭션 단위 행 수
+         * 기본값: 1,000행
+         */
+        private Integer batchSize = 1_000;
+
+        /**
+         * 파일 1개 최대 행 수
+         * 기본값: 50,000행
+         */
+        private Integer maxRows = 50_000;
+
+        /**
+         * 동시에 처리할 일괄 등록 작업 수 (사업장 기준)
+         * 기본값: 2개
+         */
+        private Integer parallelism = 2;
+
+        /**
+         * 완료된 작업 진행 상황 보관 시간 (밀리초)
+         * 기본값: 1시간
+         */
+        private Long retention = 3_600_000L;
+    }
+
+    @Getter
+    @Setter
+    public static class CheckIn {
+
+        /**
+         * 중복 체크인 무시 시간 (밀리초, 키오스크 중복 전송 방지)
+         * 기본값: 10분
+         */
+        private Long duplicateWindow = 600_000L;
+
+        /**
+         * 사업장 소유 확인 결과 캐시 유지 시간 (밀리초)
+         * 기본값: 5분
+         */
+        private Long ownerCacheTtl = 300_000L;
+
+        /**
+         * 출석 일괄 저장 주기 (밀리초)
+         * 기본값: 100ms
+         */
+        private Long flushInterval = 100L;
+
+        /**
+         * 출석 배치 INSERT 크기
+         * 기본값: 500건
+         */
+        private Integer batchSize = 500;
+
+        /**
+         * 저장 대기 출석 최대 건수 (초과 시 503 응답)
+         * 기본값: 10,000건
+         */
+        private Integer queueCapacity = 10_000;
+
+        /**
+         * 저장 실패한 출석 배치 재시도 횟수 (초과 시 저장 포기 로그를 남기고 제외)
+         * 기본값: 300회 (flush-interval 100ms 기준 약 30초)
+         */
+        private Integer maxRetries = 300;
+    }
+
+    @Getter
+    @Setter
+    public static class Eligibility {
+
+        /**
+         * 인덱스 전체 재적재 시각 (cron, 끝난 구간 정리 및 JPA 밖 변경 반영)
+         * 기본값: 매일 03:45
+         */
+        private String rebuildCron = "0 45 3 * * *";
+
+        /**
+         * 만료 임박 기본 조회 기간 (일)
+         * 기본값: 7일
+         */
+        private Integer expiringSoonDays = 7;
+
+        /**
+         * 만료 임박 최대 조회 기간 (일)
+         * 기본값: 90일
+         */
+        private Integer maxExpiringSoonDays = 90;
+    }
+
+    @Getter
+    @Setter
+    public static class LessonSchedule {
+
+        /**
+         * 근무 시간이 없는 트레이너의 기본 근무 시작 시각
+         * 기본값: 06:00
+         */
+        private LocalTime defaultWorkingStart = LocalTime.of(6, 0);
+
+        /**
+         * 근무 시간이 없는 트레이너의 기본 근무 종료 시각
+         * 기본값: 23:00
+         */
+        private LocalTime defaultWorkingEnd = LocalTime.of(23, 0);
+
+        /**
+         * 빈 시간 기본 최소 길이 (분)
+         * 기본값: 30분
+         */
+        private Integer minFreeSlotMinutes = 30;
+
+        /**
+         * 빈 시간 최대 조회 기간 (일)
+         * 기본값: 31일
+         */
+        private Integer maxFreeSlotDays = 31;
+
+        /**
+         * 달력 최대 조회 기간 (일)
+         * 기본값: 62일
+         */
+        private Integer maxCalendarDays = 62;
+
+        /**
+         * 반복 레슨 생성 시 겹침을 검사할 기간 (일, 종료일이 없거나 더 먼 반복 레슨)
+         * 기본값: 366일
+         */
+        private Integer seriesCheckDays = 366;
+
+        /**
+         * 트레이너 일정 인덱스에서 끝난 레슨 정리 시각 (cron)
+         * 기본값: 매일 03:50
+         */
+        private String pruneCron = "0 50 3 * * *";
+    }
+
+    @Getter
+    @Setter
+    public static class Outstanding {
+
+        /**
+         * 결제 원본 기준 회원 미수금 잔액 보정 시각 (cron, 원장 도입 전 미수금 적재 포함)
+         * 기본값: 매일 03:20
+         */
+        private String reconcileCron = "0 20 3 * * *";
+    }
+}
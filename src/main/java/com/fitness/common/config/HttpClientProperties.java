@@ -0,0 +1,47 @@
+package com.fitness.common.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * 외부 API 호출용 HTTP 클라이언트 설정 프로퍼티 클래스
+ * application.yml의 http-client 설정을 바인딩하여 사용
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "http-client")
+public class HttpClientProperties {
+
+    /**
+     * 연결 수립 제한 시간 (밀리초)
+     * 기본값: 2초 (2,000ms)
+     */
+    private Long connectTimeout = 2_000L;
+
+    /**
+     * 응답 대기 제한 시간 (밀리초)
+     * 기본값: 3초 (3,000ms)
+     */
+    private Long readTimeout = 3_000L;
+
+    /**
+     * 커넥션 풀에서 연결을 얻기 위한 대기 제한 시간 (밀리초)
+     * 기본값: 1초 (1,000ms)
+     */
+    private Long connectionRequestTimeout = 1_000L;
+
+    /**
+     * 전체 최대 연결 수
+     * 기본값: 100개
+     */
+    private Integer maxTotalConnections = 100;
+
+    /**
+     * 호스트(라우트)별 최대 연결 수
+     * 기본값: 50개
+     */
+    private Integer maxConnectionsPerRoute = 50;
+}
@@ -31,4 +31,63 @@ public class JwtProperties {
      * 기본값: 7일 (604,800,000ms)
      */
     private Long refreshTokenExpiration;
-}
\ No newline at end of file
+
+    /**
+     * 상태 비저장(Stateless) 인증 모드
+     * true이면 Access Token 클레임(userId, userType, 권한, 활성화 여부)만으로 인증 주체를 구성하고
+     * UserDetailsService(DB) 조회를 하지 않음
+     */
+    private boolean statelessAuthentication = false;
+
+    /**
+     * 토큰 폐기(블랙리스트) 설정
+     */
+    private Revocation revocation = new Revocation();
+
+    /**
+     * Refresh Token 회전(rotation) 설정
+     */
+    private RefreshRotation refreshRotation = new RefreshRotation();
+
+    @Getter
+    @Setter
+    public static class Revocation {
+
+        /**
+         * 블룸 필터 예상 폐기 토큰 수
+         * 기본값: 100,000개
+         */
+        private Integer expectedInsertions = 100_000;
+
+        /**
+         * 블룸 필터 오탐률 (오탐 시에만 저장소 조회)
+         * 기본값: 1%
+         */
+        private Double falsePositiveRate = 0.01;
+
+        /**
+         * 만료된 폐기 항목 정리 및 블룸 필터 재구성 주기 (밀리초)
+         * 공유 저장소 사용 시 다른 서버의 폐기 내역이 반영되는 최대 지연 시간
+         * 기본값: 1분 (60,000ms)
+         */
+        private Long purgeInterval = 60_000L;
+    }
+
+    @Getter
+    @Setter
+    public static class RefreshRotation {
+
+        /**
+         * 메모리에 보관할 최대 토큰 패밀리 수
+         * 기본값: 100,000개
+         */
+        private Long maximumSize = 100_000L;
+
+        /**
+         * 변경된 회전 상태를 DB에 일괄 반영하는 주기 (밀리초)
+         * 서버 비정상 종료 시 이 시간 동안의 회전 내역은 유실되어 해당 사용자는 재로그인 필요
+         * 기본값: 5초 (5,000ms)
+         */
+        private Long flushInterval = 5_000L;
+    }
+}
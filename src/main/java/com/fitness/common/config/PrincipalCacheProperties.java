@@ -0,0 +1,29 @@
+package com.fitness.common.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * 인증 주체(Principal) 캐시 설정 프로퍼티 클래스
+ * application.yml의 security.principal-cache 설정을 바인딩하여 사용
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "security.principal-cache")
+public class PrincipalCacheProperties {
+
+    /**
+     * 캐시에 보관할 최대 사용자 수
+     * 기본값: 10,000명
+     */
+    private Long maximumSize = 10_000L;
+
+    /**
+     * 캐시 항목 만료 시간 (밀리초)
+     * 기본값: 5분 (300,000ms)
+     */
+    private Long expireAfterWrite = 300_000L;
+}
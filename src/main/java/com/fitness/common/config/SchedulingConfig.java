@@ -0,0 +1,13 @@
+package com.fitness.common.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * 스케줄링 설정 클래스
+ * - @Scheduled 기반 주기 작업 활성화 (만료 토큰 정리 등)
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
@@ -0,0 +1,174 @@
+package com.fitness.common.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 소셜 로그인 설정 프로퍼티 클래스
+ * application.yml의 social 설정을 바인딩하여 사용
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "social")
+public class SocialLoginProperties {
+
+    /**
+     * 카카오 API 설정
+     */
+    private Kakao kakao = new Kakao();
+
+    /**
+     * 애플 로그인 설정
+     */
+    private Apple apple = new Apple();
+
+    /**
+     * 소셜 제공자 호출 서킷 브레이커 설정
+     */
+    private CircuitBreaker circuitBreaker = new CircuitBreaker();
+
+    /**
+     * 소셜 로그인 요청 처리 스레드 풀 설정
+     */
+    private Executor executor = new Executor();
+
+    /**
+     * 제공자 토큰 검증 결과 캐시 설정
+     */
+    private IdentityCache identityCache = new IdentityCache();
+
+    @Getter
+    @Setter
+    public static class Kakao {
+
+        /**
+         * 카카오 사용자 정보 조회 URI
+         */
+        private String userInfoUri = "https://kapi.kakao.com/v2/user/me";
+    }
+
+    @Getter
+    @Setter
+    public static class Apple {
+
+        /**
+         * 애플 공개키(JWKS) 조회 URI
+         */
+        private String jwksUri = "https://appleid.apple.com/auth/keys";
+
+        /**
+         * Identity Token 발급자 (iss)
+         */
+        private String issuer = "https://appleid.apple.com";
+
+        /**
+         * 허용할 클라이언트 ID 목록 (aud - 앱 번들 ID 또는 서비스 ID)
+         */
+        private List<String> clientIds = new ArrayList<>();
+
+        /**
+         * 공개키 정기 갱신 주기 (밀리초)
+         * 기본값: 1시간 (3,600,000ms)
+         */
+        private Long refreshInterval = 3_600_000L;
+
+        /**
+         * 알 수 없는 kid로 인한 갱신 최소 간격 (밀리초) - 위조 토큰으로 인한 과도한 조회 방지
+         * 기본값: 1분 (60,000ms)
+         */
+        private Long minRefreshInterval = 60_000L;
+    }
+
+    @Getter
+    @Setter
+    public static class CircuitBreaker {
+
+        /**
+         * 실패율 임계치 (%) - 초과 시 서킷 open
+         * 기본값: 50%
+         */
+        private Float failureRateThreshold = 50f;
+
+        /**
+         * 느린 호출 비율 임계치 (%) - 초과 시 서킷 open
+         * 기본값: 50%
+         */
+        private Float slowCallRateThreshold = 50f;
+
+        /**
+         * 느린 호출로 간주하는 응답 시간 (밀리초)
+         * 기본값: 2초 (2,000ms)
+         */
+        private Long slowCallDurationThreshold = 2_000L;
+
+        /**
+         * 실패율 계산에 사용하는 최근 호출 수
+         * 기본값: 20건
+         */
+        private Integer slidingWindowSize = 20;
+
+        /**
+         * 실패율 계산을 시작하는 최소 호출 수
+         * 기본값: 10건
+         */
+        private Integer minimumNumberOfCalls = 10;
+
+        /**
+         * open 상태 유지 시간 (밀리초) - 이후 half-open으로 전환하여 일부 호출 허용
+         * 기본값: 30초 (30,000ms)
+         */
+        private Long waitDurationInOpenState = 30_000L;
+    }
+
+    @Getter
+    @Setter
+    public static class Executor {
+
+        /**
+         * 기본 스레드 수
+         * 기본값: 16개
+         */
+        private Integer corePoolSize = 16;
+
+        /**
+         * 최대 스레드 수
+         * 기본값: 64개
+         */
+        private Integer maxPoolSize = 64;
+
+        /**
+         * 대기 큐 크기 - 초과 시 요청 거절 (503)
+         * 기본값: 200건
+         */
+        private Integer queueCapacity = 200;
+    }
+
+    @Getter
+    @Setter
+    public static class IdentityCache {
+
+        /**
+         * 캐시에 보관할 최대 토큰 수
+         * 기본값: 10,000개
+         */
+        private Long maximumSize = 10_000L;
+
+        /**
+         * 검증 성공 결과 보관 시간 (밀리초)
+         * 기본값: 1분 (60,000ms)
+         */
+        private Long ttl = 60_000L;
+
+        /**
+         * 검증 실패(거부된 토큰) 결과 보관 시간 (밀리초)
+         * 기본값: 30초 (30,000ms)
+         */
+        private Long negativeTtl = 30_000L;
+    }
+}
@@ -0,0 +1,24 @@
+package com.fitness.common.config;
+
+import com.fitness.common.jwt.InMemoryTokenRevocationStore;
+import com.fitness.common.jwt.TokenRevocationStore;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 토큰 폐기 저장소 설정 클래스
+ * - 별도 TokenRevocationStore 빈(공유 저장소 구현체)이 없으면 메모리 저장소 사용
+ */
+@Configuration
+public class TokenRevocationConfig {
+
+    /**
+     * 기본 폐기 토큰 저장소 빈 등록
+     */
+    @Bean
+    @ConditionalOnMissingBean(TokenRevocationStore.class)
+    public TokenRevocationStore tokenRevocationStore() {
+        return new InMemoryTokenRevocationStore();
+    }
+}
@@ -1,7 +1,16 @@
 package com.fitness.common.config;
 
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
 import org.springframework.web.client.RestTemplate;
 
 /**
@@ -13,9 +22,36 @@ public class WebConfig {
     /**
      * RestTemplate 빈 등록
      * 외부 API 호출을 위한 HTTP 클라이언트
+     * - 커넥션 풀을 사용하여 호출마다 연결을 새로 맺지 않음
+     * - 연결/응답 제한 시간을 두어 외부 서버 지연이 요청 스레드를 무기한 점유하지 않도록 함
      */
     @Bean
-    public RestTemplate restTemplate() {
-        return new RestTemplate();
+    public RestTemplate restTemplate(HttpClientProperties properties) {
+        return new RestTemplate(new HttpComponentsClientHttpRequestFactory(httpClient(properties)));
     }
-}
\ No newline at end of file
+
+    /**
+     * 커넥션 풀 기반 HTTP 클라이언트 생성
+     * @param properties HTTP 클라이언트 설정
+     * @return HTTP 클라이언트
+     */
+    public static CloseableHttpClient httpClient(HttpClientProperties properties) {
+        PoolingHttpClientConnectionManager connectionManager = PoolingHttpClientConnectionManagerBuilder.create()
+                .setMaxConnTotal(properties.getMaxTotalConnections())
+                .setMaxConnPerRoute(properties.getMaxConnectionsPerRoute())
+                .setDefaultConnectionConfig(ConnectionConfig.custom()
+                        .setConnectTimeout(Timeout.ofMilliseconds(properties.getConnectTimeout()))
+                        .setSocketTimeout(Timeout.ofMilliseconds(properties.getReadTimeout()))
+                        .build())
+                .build();
+
+        return HttpClients.custom()
+                .setConnectionManager(connectionManager)
+                .setDefaultRequestConfig(RequestConfig.custom()
+                        .setConnectionRequestTimeout(Timeout.ofMilliseconds(properties.getConnectionRequestTimeout()))
+                        .setResponseTimeout(Timeout.ofMilliseconds(properties.getReadTimeout()))
+                        .build())
+                .evictIdleConnections(TimeValue.ofSeconds(30))
+                .build();
+    }
+}
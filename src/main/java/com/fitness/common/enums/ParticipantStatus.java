@@ -13,7 +13,8 @@ public enum ParticipantStatus {
     APPROVED("승인완료"),
     ATTENDED("출석"),
     ABSENT("미출석"),
-    CANCELLED("취소");
+    CANCELLED("취소"),
+    WAITLISTED("대기");
 
     private final String description;
 
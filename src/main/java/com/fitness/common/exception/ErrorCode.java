@@ -8,6 +8,12 @@ public enum ErrorCode {
     // Common
     INVALID_INPUT("COMMON001", "잘못된 입력값입니다."),
     INTERNAL_SERVER_ERROR("COMMON002", "서버 내부 오류가 발생했습니다."),
+    SERVICE_BUSY("COMMON003", "요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해주세요."),
+    
+    // Auth
+    SOCIAL_PROVIDER_UNAVAILABLE("AUTH001", "소셜 로그인 제공자에 연결할 수 없습니다. 잠시 후 다시 시도해주세요."),
+    INVALID_SOCIAL_TOKEN("AUTH002", "유효하지 않은 소셜 로그인 토큰입니다."),
+    INVALID_TOKEN("AUTH003", "유효하지 않은 토큰입니다."),
     
     // Owner
     OWNER_NOT_FOUND("OWNER001", "사장님 정보를 찾을 수 없습니다."),
@@ -20,7 +26,21 @@ public enum ErrorCode {
     // Member
     MEMBER_NOT_FOUND("MEMBER001", "회원 정보를 찾을 수 없습니다."),
     MEMBER_ALREADY_EXISTS("MEMBER002", "이미 가입된 회원입니다."),
+    MEMBER_IMPORT_IN_PROGRESS("MEMBER003", "진행 중인 회원 일괄 등록이 있습니다."),
+    MEMBER_IMPORT_NOT_FOUND("MEMBER004", "회원 일괄 등록 작업을 찾을 수 없습니다."),
     
+    // Attendance
+    CHECK_IN_NOT_ELIGIBLE("ATTENDANCE001", "이용 가능한 이용권이 없습니다."),
+
+    // Lesson
+    LESSON_NOT_FOUND("LESSON001", "레슨 정보를 찾을 수 없습니다."),
+    LESSON_TIME_CONFLICT("LESSON002", "트레이너의 다른 레슨과 시간이 겹칩니다."),
+    LESSON_NOT_MODIFIABLE("LESSON003", "종료되었거나 취소된 레슨입니다."),
+    LESSON_SERIES_NOT_FOUND("LESSON004", "반복 레슨 정보를 찾을 수 없습니다."),
+    LESSON_OCCURRENCE_NOT_FOUND("LESSON005", "반복 레슨의 회차가 아닌 일자입니다."),
+    LESSON_ALREADY_BOOKED("LESSON006", "이미 신청한 레슨입니다."),
+    LESSON_PARTICIPANT_NOT_FOUND("LESSON007", "레슨 참가 정보를 찾을 수 없습니다."),
+
     // Business
     BUSINESS_NOT_FOUND("BUSINESS001", "사업장 정보를 찾을 수 없습니다."),
     BUSINESS_NOT_APPROVED("BUSINESS002", "승인되지 않은 사업장입니다."),
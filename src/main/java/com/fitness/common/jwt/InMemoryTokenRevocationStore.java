@@ -0,0 +1,40 @@
+package com.fitness.common.jwt;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 프로세스 내 메모리 기반 폐기 토큰 저장소 (기본 구현)
+ * - 단일 서버 환경용, 재시작 시 폐기 내역은 사라짐
+ * - 토큰 만료 시간이 지난 항목은 purgeExpired()로 정리
+ */
+public class InMemoryTokenRevocationStore implements TokenRevocationStore {
+
+    private final Map<String, Instant> revokedTokens = new ConcurrentHashMap<>();
+
+    @Override
+    public void revoke(String tokenId, Instant expiresAt) {
+        revokedTokens.put(tokenId, expiresAt);
+    }
+
+    @Override
+    public boolean isRevoked(String tokenId) {
+        Instant expiresAt = revokedTokens.get(tokenId);
+        return expiresAt != null && expiresAt.isAfter(Instant.now());
+    }
+
+    @Override
+    public Collection<String> activeTokenIds() {
+        return List.copyOf(revokedTokens.keySet());
+    }
+
+    @Override
+    public int purgeExpired(Instant now) {
+        int before = revokedTokens.size();
+        revokedTokens.values().removeIf(expiresAt -> !expiresAt.isAfter(now));
+        return before - revokedTokens.size();
+    }
+}
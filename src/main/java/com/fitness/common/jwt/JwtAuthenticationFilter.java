@@ -4,11 +4,14 @@ import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
+import com.fitness.common.config.JwtProperties;
+import com.fitness.common.security.CustomUserPrincipal;
+import com.fitness.common.security.UserPrincipalCache;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.context.SecurityContextHolder;
-import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
 import org.springframework.stereotype.Component;
@@ -19,8 +22,10 @@ import java.io.IOException;
 
 /**
  * JWT 인증 필터
- * - 모든 HTTP 요청에 대해 JWT 토큰을 검증
+ * - 모든 HTTP 요청에 대해 JWT 토큰을 검증 (요청당 한 번만 파싱)
  * - 유효한 토큰이 있으면 SecurityContext에 인증 정보 설정
+ * - Stateless 모드에서는 토큰 클레임만으로 인증 주체를 구성 (DB 조회 없음)
+ * - Access Token만 인증에 사용하고, 폐기(로그아웃)된 토큰은 인증하지 않음
  * - 토큰이 없거나 유효하지 않으면 다음 필터로 전달
  */
 @Slf4j
@@ -29,7 +34,10 @@ import java.io.IOException;
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     private final JwtUtil jwtUtil;
+    private final JwtProperties jwtProperties;
     private final UserDetailsService userDetailsService;
+    private final UserPrincipalCache principalCache;
+    private final TokenRevocationService revocationService;
 
     /**
      * JWT 토큰을 검증하고 인증 정보를 설정하는 필터
@@ -43,31 +51,9 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
             // Authorization 헤더에서 JWT 토큰 추출
             String jwt = getJwtFromRequest(request);
             
-            if (StringUtils.hasText(jwt) && jwtUtil.validateToken(jwt)) {
-                // 토큰에서 사용자명 추출
-                String username = jwtUtil.getUsernameFromToken(jwt);
-                
-                // 사용자 정보 로드
-                UserDetails userDetails = userDetailsService.loadUserByUsername(username);
-                
-                // 토큰 재검증 (사용자 정보와 함께)
-                if (jwtUtil.validateToken(jwt, userDetails)) {
-                    // 인증 객체 생성
-                    UsernamePasswordAuthenticationToken authentication = 
-                        new UsernamePasswordAuthenticationToken(
-                            userDetails, 
-                            null, 
-                            userDetails.getAuthorities()
-                        );
-                    
-                    // 인증 세부 정보 설정
-                    authentication.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
-                    
-                    // SecurityContext에 인증 정보 설정
-                    SecurityContextHolder.getContext().setAuthentication(authentication);
-                    
-                    log.debug("JWT 토큰 인증 성공 - 사용자: {}", username);
-                }
+            if (StringUtils.hasText(jwt)) {
+                // 토큰을 한 번만 파싱하여 서명/만료 검증 및 클레임 추출
+                jwtUtil.verify(jwt).ifPresent(claims -> authenticate(request, claims));
             }
         } catch (Exception e) {
             log.error("JWT 토큰 인증 과정에서 오류 발생: {}", e.getMessage());
@@ -79,6 +65,73 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         filterChain.doFilter(request, response);
     }
 
+    /**
+     * 검증된 클레임으로 SecurityContext에 인증 정보 설정
+     * @param request HTTP 요청
+     * @param claims 검증된 JWT 클레임
+     */
+    private void authenticate(HttpServletRequest request, JwtTokenClaims claims) {
+        String username = claims.getSubject();
+        
+        // Refresh Token(회전된 이전 토큰 포함)이나 종류가 없는 토큰은 API 인증에 사용할 수 없음
+        // (토큰 종류 도입 이전에 발급된 토큰은 Refresh Token과 구분할 수 없으므로 재로그인 필요)
+        if (!claims.isAccessToken()) {
+            log.debug("Access Token이 아닌 JWT 토큰 - 사용자: {}, 종류: {}", username, claims.getTokenType());
+            return;
+        }
+        
+        // 로그아웃 등으로 폐기된 토큰은 인증하지 않음
+        if (revocationService.isRevoked(claims.getTokenId())) {
+            log.debug("폐기된 JWT 토큰 - 사용자: {}", username);
+            return;
+        }
+        
+        // 사용자 정보 구성 (Stateless 모드는 클레임 사용, 그 외나 사용자 클레임이 없는 토큰은 캐시 미스 시에만 DB 조회)
+        CustomUserPrincipal userDetails = jwtProperties.isStatelessAuthentication() && claims.isSelfContained()
+                ? principalFromClaims(claims)
+                : principalCache.get(username,
+                        key -> (CustomUserPrincipal) userDetailsService.loadUserByUsername(key));
+        
+        // 비활성 사용자는 인증하지 않음
+        if (!userDetails.isEnabled()) {
+            log.debug("비활성 사용자의 JWT 토큰 - 사용자: {}", username);
+            return;
+        }
+        
+        // 인증 객체 생성
+        UsernamePasswordAuthenticationToken authentication = 
+            new UsernamePasswordAuthenticationToken(
+                userDetails, 
+                null, 
+                userDetails.getAuthorities()
+            );
+        
+        // 인증 세부 정보 설정
+        authentication.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
+        
+        // SecurityContext에 인증 정보 설정
+        SecurityContextHolder.getContext().setAuthentication(authentication);
+        
+        log.debug("JWT 토큰 인증 성공 - 사용자: {}", username);
+    }
+
+    /**
+     * Access Token 클레임으로 인증 주체 생성
+     * @param claims 검증된 JWT 클레임
+     * @return 인증 주체
+     */
+    private CustomUserPrincipal principalFromClaims(JwtTokenClaims claims) {
+        return CustomUserPrincipal.builder()
+                .userId(claims.getUserId())
+                .username(claims.getSubject())
+                .userType(claims.getUserType())
+                .authorities(claims.getRoles().stream()
+                        .map(SimpleGrantedAuthority::new)
+                        .toList())
+                .enabled(claims.getEnabled())
+                .build();
+    }
+
     /**
      * HTTP 요청에서 JWT 토큰을 추출
      * @param request HTTP 요청
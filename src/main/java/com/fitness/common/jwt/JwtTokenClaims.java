@@ -0,0 +1,90 @@
+package com.fitness.common.jwt;
+
+import com.fitness.common.enums.UserType;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.Date;
+import java.util.List;
+
+/**
+ * 서명 및 만료 검증을 마친 JWT 클레임 정보
+ * - JwtUtil.verify()가 토큰을 한 번만 파싱하여 생성
+ * - 필터/서비스는 이 객체만 사용하고 토큰을 다시 파싱하지 않음
+ */
+@Getter
+@Builder
+public class JwtTokenClaims {
+
+    /**
+     * 토큰 고유 ID (jti) - 토큰 폐기(블랙리스트) 처리에 사용
+     */
+    private final String tokenId;
+
+    /**
+     * 토큰 종류 (access / refresh)
+     */
+    private final String tokenType;
+
+    /**
+     * Refresh Token 패밀리 ID (Refresh Token에만 포함)
+     */
+    private final Long familyId;
+
+    /**
+     * 토큰 주체 (사용자명)
+     */
+    private final String subject;
+
+    /**
+     * 사용자 ID (Access Token에만 포함)
+     */
+    private final Long userId;
+
+    /**
+     * 사용자 타입 (Access Token에만 포함)
+     */
+    private final UserType userType;
+
+    /**
+     * 계정 활성화 여부 (Access Token에만 포함)
+     */
+    private final Boolean enabled;
+
+    /**
+     * 토큰 발급 시간
+     */
+    private final Date issuedAt;
+
+    /**
+     * 토큰 만료 시간
+     */
+    private final Date expiration;
+
+    /**
+     * 토큰에 포함된 권한 목록 (예: ROLE_OWNER)
+     */
+    private final List<String> roles;
+
+    /**
+     * DB 조회 없이 인증 주체를 구성할 수 있는 클레임이 모두 포함되어 있는지 확인
+     * (CustomUserPrincipal 없이 발급된 Access Token은 false)
+     */
+    public boolean isSelfContained() {
+        return userId != null && userType != null && enabled != null;
+    }
+
+    /**
+     * Access Token 여부 (Refresh Token은 API 인증에 사용할 수 없음)
+     */
+    public boolean isAccessToken() {
+        return JwtUtil.TOKEN_TYPE_ACCESS.equals(tokenType);
+    }
+
+    /**
+     * Refresh Token 여부
+     */
+    public boolean isRefreshToken() {
+        return JwtUtil.TOKEN_TYPE_REFRESH.equals(tokenType);
+    }
+}
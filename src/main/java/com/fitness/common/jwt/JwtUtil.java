@@ -1,49 +1,125 @@
 package com.fitness.common.jwt;
 
 import com.fitness.common.config.JwtProperties;
+import com.fitness.common.enums.UserType;
+import com.fitness.common.security.CustomUserPrincipal;
 import io.jsonwebtoken.*;
 import io.jsonwebtoken.io.Decoders;
 import io.jsonwebtoken.security.Keys;
+import io.jsonwebtoken.security.SecurityException;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Component;
 
 import javax.crypto.SecretKey;
+import java.util.Collection;
 import java.util.Date;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
 import java.util.function.Function;
 
 /**
  * JWT 토큰 생성 및 검증을 위한 유틸리티 클래스
  * - Access Token과 Refresh Token을 생성하고 검증
+ * - Access Token에는 userId, userType, 권한, 활성화 여부를 포함 (Stateless 인증)
  * - 토큰에서 사용자 정보 추출
  * - 토큰 만료 시간 확인
+ * - JwtParser는 불변/스레드 안전하므로 생성자에서 한 번만 만들어 재사용
  */
 @Slf4j
 @Component
 public class JwtUtil {
 
+    /**
+     * 권한 목록 클레임 키
+     */
+    public static final String CLAIM_ROLES = "roles";
+
+    /**
+     * 사용자 ID 클레임 키
+     */
+    public static final String CLAIM_USER_ID = "userId";
+
+    /**
+     * 사용자 타입 클레임 키
+     */
+    public static final String CLAIM_USER_TYPE = "userType";
+
+    /**
+     * 계정 활성화 여부 클레임 키
+     */
+    public static final String CLAIM_ENABLED = "enabled";
+
+    /**
+     * Refresh Token 패밀리 ID 클레임 키
+     */
+    public static final String CLAIM_FAMILY_ID = "fid";
+
+    /**
+     * 토큰 종류 클레임 키 (access / refresh)
+     */
+    public static final String CLAIM_TOKEN_TYPE = "tokenType";
+
+    /**
+     * Access Token 종류 값
+     */
+    public static final String TOKEN_TYPE_ACCESS = "access";
+
+    /**
+     * Refresh Token 종류 값
+     */
+    public static final String TOKEN_TYPE_REFRESH = "refresh";
+
     private final JwtProperties jwtProperties;
     private final SecretKey secretKey;
+    private final JwtParser jwtParser;
 
     @Autowired
     public JwtUtil(JwtProperties jwtProperties) {
         this.jwtProperties = jwtProperties;
         // JWT 비밀키를 직접 사용 (Base64 디코딩 없이)
         this.secretKey = Keys.hmacShaKeyFor(jwtProperties.getSecret().getBytes());
+        this.jwtParser = Jwts.parser()
+                .verifyWith(secretKey)
+                .build();
     }
 
     /**
      * Access Token 생성
+     * CustomUserPrincipal인 경우 userId, userType, 권한, 활성화 여부를 클레임에 포함하여
+     * 서버가 DB 조회 없이 인증 주체를 구성할 수 있도록 함
      * @param authentication 인증 정보
      * @return 생성된 Access Token
      */
     public String generateAccessToken(Authentication authentication) {
         UserDetails userDetails = (UserDetails) authentication.getPrincipal();
-        return createToken(userDetails.getUsername(), jwtProperties.getAccessTokenExpiration());
+        if (userDetails instanceof CustomUserPrincipal principal) {
+            return generateAccessToken(principal);
+        }
+        return createToken(userDetails.getUsername(), TOKEN_TYPE_ACCESS, jwtProperties.getAccessTokenExpiration());
+    }
+
+    /**
+     * 사용자 정보 클레임을 포함한 Access Token 생성
+     * @param principal 사용자 정보
+     * @return 생성된 Access Token
+     */
+    public String generateAccessToken(CustomUserPrincipal principal) {
+        Map<String, Object> claims = new HashMap<>();
+        claims.put(CLAIM_USER_ID, principal.getUserId());
+        claims.put(CLAIM_USER_TYPE, principal.getUserType().name());
+        claims.put(CLAIM_ROLES, principal.getAuthorities().stream()
+                .map(GrantedAuthority::getAuthority)
+                .toList());
+        claims.put(CLAIM_ENABLED, principal.isEnabled());
+        claims.put(CLAIM_TOKEN_TYPE, TOKEN_TYPE_ACCESS);
+        return createToken(claims, principal.getUsername(), jwtProperties.getAccessTokenExpiration());
     }
 
     /**
@@ -52,17 +128,41 @@ public class JwtUtil {
      * @return 생성된 Refresh Token
      */
     public String generateRefreshToken(String username) {
-        return createToken(username, jwtProperties.getRefreshTokenExpiration());
+        return createToken(username, TOKEN_TYPE_REFRESH, jwtProperties.getRefreshTokenExpiration());
+    }
+
+    /**
+     * 회전(rotation)용 Refresh Token 생성
+     * @param username 사용자명
+     * @param familyId 토큰 패밀리 ID
+     * @param tokenId 토큰 ID (jti)
+     * @param expiryDate 만료 시간
+     * @return 생성된 Refresh Token
+     */
+    public String generateRefreshToken(String username, Long familyId, String tokenId, Date expiryDate) {
+        Map<String, Object> claims = new HashMap<>();
+        claims.put(CLAIM_FAMILY_ID, familyId);
+        claims.put(CLAIM_TOKEN_TYPE, TOKEN_TYPE_REFRESH);
+        return Jwts.builder()
+                .claims(claims)
+                .id(tokenId)
+                .subject(username)
+                .issuedAt(new Date())
+                .expiration(expiryDate)
+                .signWith(secretKey)
+                .compact();
     }
 
     /**
      * 토큰 생성 공통 메서드
      * @param username 사용자명
+     * @param tokenType 토큰 종류 (access / refresh)
      * @param expiration 만료 시간
      * @return 생성된 토큰
      */
-    private String createToken(String username, Long expiration) {
+    private String createToken(String username, String tokenType, Long expiration) {
         Map<String, Object> claims = new HashMap<>();
+        claims.put(CLAIM_TOKEN_TYPE, tokenType);
         return createToken(claims, username, expiration);
     }
 
@@ -79,6 +179,7 @@ public class JwtUtil {
 
         return Jwts.builder()
                 .claims(claims)
+                .id(UUID.randomUUID().toString())
                 .subject(subject)
                 .issuedAt(now)
                 .expiration(expiryDate)
@@ -121,13 +222,76 @@ public class JwtUtil {
      * @return 모든 클레임
      */
     private Claims getAllClaimsFromToken(String token) {
-        return Jwts.parser()
-                .verifyWith(secretKey)
-                .build()
+        return jwtParser
                 .parseSignedClaims(token)
                 .getPayload();
     }
 
+    /**
+     * 토큰을 한 번만 파싱하여 서명/만료를 검증하고 클레임을 반환
+     * - 서명 검증(HMAC)과 만료 확인이 한 번의 파싱으로 처리됨
+     * - 요청당 토큰 검증은 이 메서드만 호출하는 것을 권장
+     * @param token JWT 토큰
+     * @return 검증된 클레임 (유효하지 않으면 empty)
+     */
+    public Optional<JwtTokenClaims> verify(String token) {
+        try {
+            Claims claims = getAllClaimsFromToken(token);
+            return Optional.of(JwtTokenClaims.builder()
+                    .tokenId(claims.getId())
+                    .tokenType(claims.get(CLAIM_TOKEN_TYPE, String.class))
+                    .familyId(claims.get(CLAIM_FAMILY_ID, Long.class))
+                    .subject(claims.getSubject())
+                    .userId(claims.get(CLAIM_USER_ID, Long.class))
+                    .userType(extractUserType(claims))
+                    .enabled(claims.get(CLAIM_ENABLED, Boolean.class))
+                    .issuedAt(claims.getIssuedAt())
+                    .expiration(claims.getExpiration())
+                    .roles(extractRoles(claims))
+                    .build());
+        } catch (ExpiredJwtException e) {
+            log.error("JWT 토큰이 만료되었습니다: {}", e.getMessage());
+        } catch (UnsupportedJwtException e) {
+            log.error("지원되지 않는 JWT 토큰입니다: {}", e.getMessage());
+        } catch (MalformedJwtException e) {
+            log.error("잘못된 JWT 토큰입니다: {}", e.getMessage());
+        } catch (SecurityException e) {
+            log.error("JWT 토큰의 서명이 유효하지 않습니다: {}", e.getMessage());
+        } catch (JwtException e) {
+            log.error("JWT 토큰 검증 실패: {}", e.getMessage());
+        } catch (IllegalArgumentException e) {
+            log.error("JWT 토큰이 비어있습니다: {}", e.getMessage());
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * 클레임에서 사용자 타입 추출
+     * 알 수 없는 사용자 타입은 토큰이 비어있는 경우와 구분되도록 잘못된 토큰으로 처리
+     */
+    private UserType extractUserType(Claims claims) {
+        String userType = claims.get(CLAIM_USER_TYPE, String.class);
+        if (userType == null) {
+            return null;
+        }
+        try {
+            return UserType.valueOf(userType);
+        } catch (IllegalArgumentException e) {
+            throw new MalformedJwtException("알 수 없는 사용자 타입입니다: " + userType, e);
+        }
+    }
+
+    /**
+     * 클레임에서 권한 목록 추출
+     */
+    private List<String> extractRoles(Claims claims) {
+        Object roles = claims.get(CLAIM_ROLES);
+        if (roles instanceof Collection<?> collection) {
+            return collection.stream().map(String::valueOf).toList();
+        }
+        return List.of();
+    }
+
     /**
      * 토큰 만료 확인
      * @param token JWT 토큰
@@ -145,13 +309,9 @@ public class JwtUtil {
      * @return 유효성 여부
      */
     public Boolean validateToken(String token, UserDetails userDetails) {
-        try {
-            final String username = getUsernameFromToken(token);
-            return (username.equals(userDetails.getUsername()) && !isTokenExpired(token));
-        } catch (JwtException | IllegalArgumentException e) {
-            log.error("JWT 토큰 검증 실패: {}", e.getMessage());
-            return false;
-        }
+        return verify(token)
+                .map(claims -> claims.getSubject().equals(userDetails.getUsername()))
+                .orElse(false);
     }
 
     /**
@@ -160,28 +320,7 @@ public class JwtUtil {
      * @return 유효성 여부
      */
     public Boolean validateToken(String token) {
-        try {
-            Jwts.parser()
-                    .verifyWith(secretKey)
-                    .build()
-                    .parseSignedClaims(token);
-            return true;
-        } catch (ExpiredJwtException e) {
-            log.error("JWT 토큰이 만료되었습니다: {}", e.getMessage());
-            return false;
-        } catch (UnsupportedJwtException e) {
-            log.error("지원되지 않는 JWT 토큰입니다: {}", e.getMessage());
-            return false;
-        } catch (MalformedJwtException e) {
-            log.error("잘못된 JWT 토큰입니다: {}", e.getMessage());
-            return false;
-        } catch (SecurityException e) {
-            log.error("JWT 토큰의 서명이 유효하지 않습니다: {}", e.getMessage());
-            return false;
-        } catch (IllegalArgumentException e) {
-            log.error("JWT 토큰이 비어있습니다: {}", e.getMessage());
-            return false;
-        }
+        return verify(token).isPresent();
     }
 
     /**
@@ -203,6 +342,6 @@ public class JwtUtil {
      */
     public String refreshToken(String token) {
         final String username = getUsernameFromToken(token);
-        return createToken(username, jwtProperties.getAccessTokenExpiration());
+        return createToken(username, TOKEN_TYPE_ACCESS, jwtProperties.getAccessTokenExpiration());
     }
 }
\ No newline at end of file
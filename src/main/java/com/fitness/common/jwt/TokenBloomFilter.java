@@ -0,0 +1,104 @@
+package com.fitness.common.jwt;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 폐기 토큰 사전 검사용 블룸 필터
+ * - mightContain()이 false이면 해당 토큰은 확실히 폐기되지 않음 (저장소 조회 불필요)
+ * - true인 경우에만 저장소를 조회하여 오탐을 걸러냄
+ * - 비트 배열은 AtomicLongArray로 관리하여 락 없이 동시 조회/추가 가능
+ * - 삭제는 지원하지 않으므로 만료 항목 정리 시 새 필터로 재구성
+ */
+public class TokenBloomFilter {
+
+    private final AtomicLongArray bits;
+    private final long bitSize;
+    private final int hashCount;
+
+    private TokenBloomFilter(long bitSize, int hashCount) {
+        this.bitSize = bitSize;
+        this.hashCount = hashCount;
+        this.bits = new AtomicLongArray((int) ((bitSize + 63) >>> 6));
+    }
+
+    /**
+     * 예상 항목 수와 오탐률로 최적 크기의 필터 생성
+     * @param expectedInsertions 예상 항목 수
+     * @param falsePositiveRate 목표 오탐률 (0 ~ 1)
+     * @return 블룸 필터
+     */
+    public static TokenBloomFilter create(int expectedInsertions, double falsePositiveRate) {
+        int n = Math.max(1, expectedInsertions);
+        double ln2 = Math.log(2);
+        long m = Math.max(64L, (long) Math.ceil(-n * Math.log(falsePositiveRate) / (ln2 * ln2)));
+        int k = Math.max(1, (int) Math.round((double) m / n * ln2));
+        return new TokenBloomFilter(m, k);
+    }
+
+    /**
+     * 항목 추가
+     * @param value 토큰 ID
+     */
+    public void put(String value) {
+        long hash = hash64(value);
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32);
+        for (int i = 1; i <= hashCount; i++) {
+            setBit(index(h1 + i * h2));
+        }
+    }
+
+    /**
+     * 항목 포함 가능성 확인
+     * @param value 토큰 ID
+     * @return false이면 확실히 없음, true이면 있을 수 있음
+     */
+    public boolean mightContain(String value) {
+        long hash = hash64(value);
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32);
+        for (int i = 1; i <= hashCount; i++) {
+            if (!getBit(index(h1 + i * h2))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private long index(int combinedHash) {
+        return (combinedHash & Integer.MAX_VALUE) % bitSize;
+    }
+
+    private void setBit(long index) {
+        int word = (int) (index >>> 6);
+        long mask = 1L << index;
+        long current;
+        do {
+            current = bits.get(word);
+            if ((current & mask) != 0) {
+                return;
+            }
+        } while (!bits.compareAndSet(word, current, current | mask));
+    }
+
+    private boolean getBit(long index) {
+        return (bits.get((int) (index >>> 6)) & (1L << index)) != 0;
+    }
+
+    /**
+     * 64비트 FNV-1a 해시(문자 단위, 할당 없음) 후 비트 혼합(finalizer)
+     */
+    private static long hash64(String value) {
+        long hash = 0xcbf29ce484222325L;
+        for (int i = 0; i < value.length(); i++) {
+            hash ^= value.charAt(i);
+            hash *= 0x100000001b3L;
+        }
+        hash ^= hash >>> 33;
+        hash *= 0xff51afd7ed558ccdL;
+        hash ^= hash >>> 33;
+        hash *= 0xc4ceb9fe1a85ec53L;
+        hash ^= hash >>> 33;
+        return hash;
+    }
+}
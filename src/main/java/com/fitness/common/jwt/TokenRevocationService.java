@@ -0,0 +1,91 @@
+package com.fitness.common.jwt;
+
+import com.fitness.common.config.JwtProperties;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Instant;
+import java.util.Collection;
+
+/**
+ * 토큰 폐기(블랙리스트) 서비스
+ * - 로그아웃 등으로 폐기된 토큰을 jti 기준으로 관리
+ * - 블룸 필터로 "폐기되지 않음"을 먼저 판단하여 대부분의 요청은 저장소를 조회하지 않음
+ * - 만료된 폐기 항목은 주기적으로 정리하고 블룸 필터를 재구성
+ */
+@Slf4j
+@Service
+public class TokenRevocationService {
+
+    private final TokenRevocationStore store;
+    private final JwtProperties.Revocation properties;
+    private final Object rebuildLock = new Object();
+
+    private volatile TokenBloomFilter bloomFilter;
+
+    public TokenRevocationService(TokenRevocationStore store, JwtProperties jwtProperties) {
+        this.store = store;
+        this.properties = jwtProperties.getRevocation();
+        this.bloomFilter = buildFilter(store.activeTokenIds());
+    }
+
+    /**
+     * 토큰 폐기
+     * @param claims 검증된 토큰 클레임
+     */
+    public void revoke(JwtTokenClaims claims) {
+        if (claims.getTokenId() == null) {
+            return;
+        }
+        revoke(claims.getTokenId(), claims.getExpiration().toInstant());
+    }
+
+    /**
+     * 토큰 폐기
+     * @param tokenId 토큰 ID (jti)
+     * @param expiresAt 토큰 만료 시간
+     */
+    public void revoke(String tokenId, Instant expiresAt) {
+        synchronized (rebuildLock) {
+            // 필터에 먼저 추가해야 저장소 등록 직후의 조회가 누락되지 않음
+            bloomFilter.put(tokenId);
+            store.revoke(tokenId, expiresAt);
+        }
+        log.debug("토큰 폐기 등록 - jti: {}", tokenId);
+    }
+
+    /**
+     * 토큰 폐기 여부 확인
+     * @param tokenId 토큰 ID (jti)
+     * @return 폐기 여부
+     */
+    public boolean isRevoked(String tokenId) {
+        if (tokenId == null || !bloomFilter.mightContain(tokenId)) {
+            return false;
+        }
+        return store.isRevoked(tokenId);
+    }
+
+    /**
+     * 만료된 폐기 항목 정리 및 블룸 필터 재구성
+     * 공유 저장소 사용 시 다른 서버에서 폐기한 토큰도 이 시점에 필터에 반영됨
+     */
+    @Scheduled(fixedDelayString = "${jwt.revocation.purge-interval:60000}")
+    public void purgeExpired() {
+        synchronized (rebuildLock) {
+            int purged = store.purgeExpired(Instant.now());
+            bloomFilter = buildFilter(store.activeTokenIds());
+            if (purged > 0) {
+                log.debug("만료된 폐기 토큰 정리 - {}건", purged);
+            }
+        }
+    }
+
+    private TokenBloomFilter buildFilter(Collection<String> tokenIds) {
+        int expected = Math.max(properties.getExpectedInsertions(), tokenIds.size() * 2);
+        TokenBloomFilter filter = TokenBloomFilter.create(expected, properties.getFalsePositiveRate());
+        tokenIds.forEach(filter::put);
+        return filter;
+    }
+}
@@ -0,0 +1,39 @@
+package com.fitness.common.jwt;
+
+import java.time.Instant;
+import java.util.Collection;
+
+/**
+ * 폐기된 토큰(jti) 저장소 SPI
+ * - 기본 구현은 프로세스 내 메모리 저장소(InMemoryTokenRevocationStore)
+ * - 여러 서버가 폐기 내역을 공유해야 하면 Redis 등 공유 저장소 구현체를 빈으로 등록
+ */
+public interface TokenRevocationStore {
+
+    /**
+     * 토큰 폐기 등록
+     * @param tokenId 토큰 ID (jti)
+     * @param expiresAt 토큰 만료 시간 (이후에는 자동 정리 대상)
+     */
+    void revoke(String tokenId, Instant expiresAt);
+
+    /**
+     * 토큰 폐기 여부 확인
+     * @param tokenId 토큰 ID (jti)
+     * @return 폐기 여부
+     */
+    boolean isRevoked(String tokenId);
+
+    /**
+     * 아직 만료되지 않은 폐기 토큰 ID 목록
+     * 블룸 필터 재구성에 사용
+     */
+    Collection<String> activeTokenIds();
+
+    /**
+     * 만료된 폐기 항목 정리
+     * @param now 기준 시간
+     * @return 정리된 항목 수
+     */
+    int purgeExpired(Instant now);
+}
@@ -0,0 +1,40 @@
+package com.fitness.common.security;
+
+import com.fitness.domain.auth.entity.Auth;
+import com.fitness.domain.user.entity.User;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+
+import static com.fitness.common.util.TransactionUtils.afterCommit;
+
+/**
+ * User / Auth 엔티티 변경 시 사용자 정보 캐시를 제거하는 JPA 엔티티 리스너
+ * - 사용자 상태/타입, 비밀번호 등이 바뀌면 캐시된 권한 정보가 더 이상 유효하지 않음
+ * - 트랜잭션 커밋 이후에 제거하여 커밋 전 데이터가 다시 캐시되는 것을 방지
+ */
+@Component
+public class PrincipalCacheEvictionListener {
+
+    private final ObjectProvider<UserPrincipalCache> principalCacheProvider;
+
+    public PrincipalCacheEvictionListener(ObjectProvider<UserPrincipalCache> principalCacheProvider) {
+        this.principalCacheProvider = principalCacheProvider;
+    }
+
+    @PostUpdate
+    @PostRemove
+    public void onChange(Object entity) {
+        UserPrincipalCache principalCache = principalCacheProvider.getIfAvailable();
+        if (principalCache == null) {
+            return;
+        }
+
+        if (entity instanceof User user) {
+            afterCommit(() -> principalCache.evictByUserId(user.getUserId()));
+        } else if (entity instanceof Auth auth) {
+            afterCommit(() -> principalCache.evict(auth.getUsername()));
+        }
+    }
+}
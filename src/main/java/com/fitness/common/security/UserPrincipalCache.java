@@ -0,0 +1,79 @@
+package com.fitness.common.security;
+
+import com.fitness.common.config.PrincipalCacheProperties;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.function.Function;
+
+/**
+ * JWT 인증 필터에서 사용하는 사용자 정보 캐시
+ * - 요청마다 AuthRepository를 조회하지 않도록 username 기준으로 CustomUserPrincipal 보관
+ * - 최대 크기와 TTL로 제한되며, 사용자 상태/타입 변경 및 로그아웃 시 제거
+ * - 적중/실패 지표는 액추에이터 메트릭(cache.gets 등)으로 노출
+ */
+@Slf4j
+@Component
+public class UserPrincipalCache {
+
+    static final String CACHE_NAME = "userPrincipal";
+
+    private final Cache<String, CustomUserPrincipal> cache;
+
+    public UserPrincipalCache(PrincipalCacheProperties properties, MeterRegistry meterRegistry) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(properties.getMaximumSize())
+                .expireAfterWrite(Duration.ofMillis(properties.getExpireAfterWrite()))
+                .recordStats()
+                .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+    }
+
+    /**
+     * 캐시에서 사용자 정보 조회 (없으면 loader로 로드 후 저장)
+     * @param username 사용자명
+     * @param loader 캐시 미스 시 사용자 정보를 로드하는 함수
+     * @return 사용자 정보
+     */
+    public CustomUserPrincipal get(String username, Function<String, CustomUserPrincipal> loader) {
+        return cache.get(username, loader);
+    }
+
+    /**
+     * 특정 사용자명의 캐시 항목 제거
+     * @param username 사용자명
+     */
+    public void evict(String username) {
+        if (username == null) {
+            return;
+        }
+        cache.invalidate(username);
+        log.debug("사용자 정보 캐시 제거 - 사용자: {}", username);
+    }
+
+    /**
+     * 특정 사용자 ID에 연결된 모든 캐시 항목 제거
+     * 1 User : N Auth 구조이므로 사용자 ID 기준으로 여러 username이 제거될 수 있음
+     * @param userId 사용자 ID
+     */
+    public void evictByUserId(Long userId) {
+        if (userId == null) {
+            return;
+        }
+        cache.asMap().values().removeIf(principal -> userId.equals(principal.getUserId()));
+        log.debug("사용자 정보 캐시 제거 - 사용자 ID: {}", userId);
+    }
+
+    /**
+     * 전체 캐시 비우기
+     */
+    public void evictAll() {
+        cache.invalidateAll();
+    }
+}
@@ -0,0 +1,136 @@
+package com.fitness.common.util;
+
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 스트리밍 CSV 읽기 (RFC 4180, {@link CsvWriter}와 짝)
+ * - 큰따옴표로 감싼 값 안의 쉼표, 줄바꿈, "" 이스케이프 지원
+ * - 앞의 UTF-8 BOM 제거, 행 끝은 \n / \r\n 모두 허용
+ * 입출력 오류는 UncheckedIOException으로 변환
+ */
+public class CsvReader implements Closeable {
+
+    private static final char BOM = '\uFEFF';
+
+    private final Reader reader;
+    private final StringBuilder field = new StringBuilder();
+    private int next = -2;
+    private int lineNumber = 1;
+    private int rowLineNumber;
+
+    public CsvReader(InputStream inputStream) {
+        this.reader = new BufferedReader(new InputStreamReader(inputStream, StandardCharsets.UTF_8));
+        if (peek() == BOM) {
+            read();
+        }
+    }
+
+    /**
+     * 다음 행 읽기
+     * @return 컬럼 값 목록 (파일 끝이면 null)
+     */
+    public List<String> readRow() {
+        if (peek() == -1) {
+            return null;
+        }
+        rowLineNumber = lineNumber;
+        List<String> row = new ArrayList<>();
+        while (true) {
+            row.add(readField());
+            int c = read();
+            if (c == ',') {
+                continue;
+            }
+            if (c == '\r' && peek() == '\n') {
+                read();
+            }
+            return row;
+        }
+    }
+
+    /**
+     * 마지막으로 읽은 행이 시작된 줄 번호 (1부터)
+     */
+    public int getRowLineNumber() {
+        return rowLineNumber;
+    }
+
+    @Override
+    public void close() {
+        try {
+            reader.close();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * 값 하나 읽기 (구분자/행 끝 직전까지)
+     */
+    private String readField() {
+        field.setLength(0);
+        if (peek() != '"') {
+            while (!isDelimiter(peek())) {
+                field.append((char) read());
+            }
+            return field.toString();
+        }
+
+        read();
+        while (true) {
+            int c = read();
+            if (c == -1) {
+                return field.toString();
+            }
+            if (c == '"') {
+                if (peek() != '"') {
+                    break;
+                }
+                read();
+            }
+            field.append((char) c);
+        }
+        // 닫는 따옴표 뒤 구분자 전까지의 문자는 그대로 이어 붙임
+        while (!isDelimiter(peek())) {
+            field.append((char) read());
+        }
+        return field.toString();
+    }
+
+    private static boolean isDelimiter(int c) {
+        return c == ',' || c == '\n' || c == '\r' || c == -1;
+    }
+
+    private int peek() {
+        if (next == -2) {
+            next = readChar();
+        }
+        return next;
+    }
+
+    private int read() {
+        int c = peek();
+        next = -2;
+        if (c == '\n') {
+            lineNumber++;
+        }
+        return c;
+    }
+
+    private int readChar() {
+        try {
+            return reader.read();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
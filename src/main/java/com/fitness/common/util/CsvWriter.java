@@ -0,0 +1,156 @@
+package com.fitness.common.util;
+
+import java.io.BufferedWriter;
+import java.io.Closeable;
+import java.io.Flushable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 스트리밍 CSV 작성기 (RFC 4180)
+ * - 행 단위로 바로 출력 스트림에 기록하므로 전체 결과를 메모리에 보관하지 않음
+ * - UTF-8 BOM을 기록해 엑셀에서 한글이 깨지지 않도록 함
+ * - 문자열 값이 =, +, -, @ 로 시작하면 ' 를 붙여 엑셀 수식 실행 방지
+ * 입출력 오류는 UncheckedIOException으로 변환 (JDBC 행 핸들러 안에서 사용)
+ */
+public class CsvWriter implements Closeable, Flushable {
+
+    private static final int BUFFER_SIZE = 16 * 1024;
+    private static final char BOM = '\uFEFF';
+
+    private final Writer writer;
+    private boolean firstColumn = true;
+
+    public CsvWriter(OutputStream outputStream) {
+        this.writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8), BUFFER_SIZE);
+        write(BOM);
+    }
+
+    /**
+     * 헤더 행 기록
+     */
+    public CsvWriter header(String... columns) {
+        for (String column : columns) {
+            text(column);
+        }
+        return endRow();
+    }
+
+    /**
+     * 문자열 값 기록 (null은 빈 칸)
+     */
+    public CsvWriter text(String value) {
+        separator();
+        if (value == null || value.isEmpty()) {
+            return this;
+        }
+        boolean formula = isFormulaPrefix(value.charAt(0));
+        if (formula || needsQuote(value)) {
+            write('"');
+            if (formula) {
+                write('\'');
+            }
+            for (int i = 0; i < value.length(); i++) {
+                char c = value.charAt(i);
+                if (c == '"') {
+                    write('"');
+                }
+                write(c);
+            }
+            write('"');
+        } else {
+            write(value);
+        }
+        return this;
+    }
+
+    /**
+     * 숫자 값 기록 (null은 빈 칸)
+     */
+    public CsvWriter number(Number value) {
+        separator();
+        if (value != null) {
+            write(value.toString());
+        }
+        return this;
+    }
+
+    /**
+     * 숫자 값 기록
+     */
+    public CsvWriter number(long value) {
+        separator();
+        write(Long.toString(value));
+        return this;
+    }
+
+    /**
+     * 행 종료
+     */
+    public CsvWriter endRow() {
+        write('\r');
+        write('\n');
+        firstColumn = true;
+        return this;
+    }
+
+    @Override
+    public void flush() {
+        try {
+            writer.flush();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public void close() {
+        try {
+            writer.close();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void separator() {
+        if (firstColumn) {
+            firstColumn = false;
+        } else {
+            write(',');
+        }
+    }
+
+    private static boolean needsQuote(String value) {
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == ',' || c == '"' || c == '\n' || c == '\r') {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean isFormulaPrefix(char c) {
+        return c == '=' || c == '+' || c == '-' || c == '@';
+    }
+
+    private void write(char c) {
+        try {
+            writer.write(c);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void write(String value) {
+        try {
+            writer.write(value);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
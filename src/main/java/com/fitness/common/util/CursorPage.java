@@ -0,0 +1,46 @@
+package com.fitness.common.util;
+
+import lombok.Getter;
+
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * 커서(키셋) 기반 페이지 결과
+ * - OFFSET 없이 마지막 항목의 키 이후를 조회하므로 깊은 페이지도 첫 페이지와 같은 비용
+ * - 전체 건수(COUNT)는 조회하지 않음
+ */
+@Getter
+public class CursorPage<T> {
+
+    private final List<T> content;
+    private final Long nextCursor;
+    private final boolean hasNext;
+
+    private CursorPage(List<T> content, Long nextCursor, boolean hasNext) {
+        this.content = content;
+        this.nextCursor = nextCursor;
+        this.hasNext = hasNext;
+    }
+
+    /**
+     * size + 1건 조회 결과로 페이지 생성 (초과분이 있으면 다음 페이지 존재)
+     * @param fetched size + 1건까지 조회한 결과
+     * @param size 페이지 크기
+     * @param cursorExtractor 항목에서 커서 값을 추출하는 함수
+     * @return 커서 페이지
+     */
+    public static <T> CursorPage<T> of(List<T> fetched, int size, Function<T, Long> cursorExtractor) {
+        boolean hasNext = fetched.size() > size;
+        List<T> content = hasNext ? fetched.subList(0, size) : fetched;
+        Long nextCursor = hasNext ? cursorExtractor.apply(content.get(content.size() - 1)) : null;
+        return new CursorPage<>(content, nextCursor, hasNext);
+    }
+
+    /**
+     * 항목 변환 (커서 정보 유지)
+     */
+    public <R> CursorPage<R> map(Function<T, R> mapper) {
+        return new CursorPage<>(content.stream().map(mapper).toList(), nextCursor, hasNext);
+    }
+}
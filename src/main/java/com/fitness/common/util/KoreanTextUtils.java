@@ -0,0 +1,87 @@
+package com.fitness.common.util;
+
+/**
+ * 한글 검색용 문자열 유틸리티
+ * - 초성 추출 (김민수 → ㄱㅁㅅ)
+ * - 검색 키 정규화 (공백 제거, 소문자)
+ */
+public final class KoreanTextUtils {
+
+    private static final char HANGUL_BASE = 0xAC00;
+    private static final char HANGUL_LAST = 0xD7A3;
+    private static final int JUNGSUNG_JONGSUNG_COUNT = 21 * 28;
+
+    private static final char[] CHOSUNG = {
+            'ㄱ', 'ㄲ', 'ㄴ', 'ㄷ', 'ㄸ', 'ㄹ', 'ㅁ', 'ㅂ', 'ㅃ', 'ㅅ',
+            'ㅆ', 'ㅇ', 'ㅈ', 'ㅉ', 'ㅊ', 'ㅋ', 'ㅌ', 'ㅍ', 'ㅎ'
+    };
+
+    private KoreanTextUtils() {
+    }
+
+    /**
+     * 검색 키 정규화 (공백 제거, 소문자 변환)
+     */
+    public static String normalize(String text) {
+        if (text == null) {
+            return "";
+        }
+        StringBuilder builder = new StringBuilder(text.length());
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (!Character.isWhitespace(c)) {
+                builder.append(Character.toLowerCase(c));
+            }
+        }
+        return builder.toString();
+    }
+
+    /**
+     * 초성 문자열로 변환 (한글 음절은 초성, 그 외 문자는 그대로)
+     */
+    public static String toChosung(String text) {
+        StringBuilder builder = new StringBuilder(text.length());
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            builder.append(isHangulSyllable(c) ? CHOSUNG[(c - HANGUL_BASE) / JUNGSUNG_JONGSUNG_COUNT] : c);
+        }
+        return builder.toString();
+    }
+
+    /**
+     * 초성(자음) 문자 포함 여부 (ㄱ~ㅎ)
+     */
+    public static boolean containsChosung(String text) {
+        for (int i = 0; i < text.length(); i++) {
+            if (isChosung(text.charAt(i))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 숫자만 추출 (전화번호 하이픈 등 제거)
+     */
+    public static String digitsOnly(String text) {
+        if (text == null) {
+            return "";
+        }
+        StringBuilder builder = new StringBuilder(text.length());
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (c >= '0' && c <= '9') {
+                builder.append(c);
+            }
+        }
+        return builder.toString();
+    }
+
+    private static boolean isHangulSyllable(char c) {
+        return c >= HANGUL_BASE && c <= HANGUL_LAST;
+    }
+
+    private static boolean isChosung(char c) {
+        return c >= 'ㄱ' && c <= 'ㅎ';
+    }
+}
@@ -0,0 +1,31 @@
+package com.fitness.common.util;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 트랜잭션 유틸리티
+ * - 캐시/인덱스 갱신처럼 DB 변경이 확정된 뒤에만 해야 하는 작업을 커밋 후로 미룸
+ */
+public final class TransactionUtils {
+
+    private TransactionUtils() {
+    }
+
+    /**
+     * 트랜잭션이 진행 중이면 커밋 후 실행, 아니면 즉시 실행 (롤백되면 실행하지 않음)
+     * @param action 커밋 후 실행할 작업
+     */
+    public static void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+}
@@ -0,0 +1,46 @@
+package com.fitness.domain.attendance.controller;
+
+import com.fitness.common.security.CustomUserPrincipal;
+import com.fitness.common.util.ApiResponse;
+import com.fitness.domain.attendance.dto.CheckInRequest;
+import com.fitness.domain.attendance.dto.CheckInResponse;
+import com.fitness.domain.attendance.service.CheckInService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * 출석 체크인 API 컨트롤러 (OWNER 전용)
+ */
+@RestController
+@RequestMapping("/api/owner/businesses/{businessId}/check-ins")
+@RequiredArgsConstructor
+@Tag(name = "출석 체크인 API", description = "입구 단말기 출석 체크인 API")
+@SecurityRequirement(name = "Bearer Authentication")
+public class CheckInController {
+
+    private final CheckInService checkInService;
+
+    /**
+     * 출석 체크인
+     */
+    @PostMapping
+    @Operation(summary = "출석 체크인", description = "이용 가능한 이용권이 있는 회원의 출석을 기록합니다. "
+            + "짧은 시간 안에 다시 체크인하면 출석을 추가하지 않고 DUPLICATE로 응답합니다.")
+    public ResponseEntity<ApiResponse<CheckInResponse>> checkIn(
+            @AuthenticationPrincipal CustomUserPrincipal principal,
+            @PathVariable Long businessId,
+            @Valid @RequestBody CheckInRequest request) {
+        return ResponseEntity.ok(ApiResponse.success(
+                checkInService.checkIn(principal.getUserId(), businessId, request.getMemberId())));
+    }
+}
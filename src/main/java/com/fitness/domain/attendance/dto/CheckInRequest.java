@@ -0,0 +1,19 @@
+package com.fitness.domain.attendance.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotNull;
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * 출석 체크인 요청 DTO
+ */
+@Getter
+@Setter
+@Schema(description = "출석 체크인 요청")
+public class CheckInRequest {
+
+    @NotNull(message = "회원 ID는 필수입니다.")
+    @Schema(description = "회원 ID", example = "1")
+    private Long memberId;
+}
@@ -0,0 +1,35 @@
+package com.fitness.domain.attendance.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 출석 체크인 응답 DTO
+ */
+@Getter
+@AllArgsConstructor
+public class CheckInResponse {
+
+    private final Long memberId;
+    private final Status status;
+
+    /**
+     * 출석 일시 (DUPLICATE인 경우 처음 체크인한 일시)
+     */
+    private final LocalDateTime checkedInAt;
+
+    /**
+     * 이용 가능한 이용권의 종료 일시
+     */
+    private final LocalDateTime membershipEndDate;
+
+    public enum Status {
+        CHECKED_IN,
+        /**
+         * 중복 체크인 (duplicate-window 안에 다시 체크인 - 출석을 추가로 저장하지 않음)
+         */
+        DUPLICATE
+    }
+}
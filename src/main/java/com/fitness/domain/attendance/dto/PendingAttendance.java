@@ -0,0 +1,18 @@
+package com.fitness.domain.attendance.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 저장 대기 중인 출석 (체크인 응답 후 일괄 저장)
+ */
+@Getter
+@AllArgsConstructor
+public class PendingAttendance {
+
+    private final Long businessId;
+    private final Long memberId;
+    private final LocalDateTime attendanceDate;
+}
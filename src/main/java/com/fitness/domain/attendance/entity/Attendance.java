@@ -2,6 +2,7 @@ package com.fitness.domain.attendance.entity;
 
 import com.fitness.common.BaseEntity;
 import com.fitness.domain.business.entity.Business;
+import com.fitness.domain.statistics.service.DailyStatsListener;
 import com.fitness.domain.user.entity.User;
 import jakarta.persistence.*;
 import lombok.AccessLevel;
@@ -17,7 +18,11 @@ import java.time.LocalDateTime;
  * 회원의 사업장 출석 정보를 관리하는 테이블
  */
 @Entity
-@Table(name = "attendance")
+@EntityListeners(DailyStatsListener.class)
+@Table(name = "attendance", indexes = {
+        @Index(name = "idx_attendance_business_date", columnList = "business_id, attendance_date"),
+        @Index(name = "idx_attendance_business_member_date", columnList = "business_id, member_id, attendance_date")
+})
 @Getter
 @Setter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
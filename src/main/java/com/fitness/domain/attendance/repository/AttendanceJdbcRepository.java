@@ -0,0 +1,47 @@
+package com.fitness.domain.attendance.repository;
+
+import com.fitness.domain.attendance.dto.PendingAttendance;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 출석 체크인용 JDBC 리포지토리 (출석 배치 INSERT)
+ */
+@Repository
+@RequiredArgsConstructor
+public class AttendanceJdbcRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 출석 배치 INSERT
+     */
+    public void batchInsert(List<PendingAttendance> attendances) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        jdbcTemplate.batchUpdate(
+                "INSERT INTO attendance (business_id, member_id, attendance_date, created_at) VALUES (?, ?, ?, ?)",
+                new BatchPreparedStatementSetter() {
+                    @Override
+                    public void setValues(PreparedStatement ps, int i) throws SQLException {
+                        PendingAttendance attendance = attendances.get(i);
+                        ps.setLong(1, attendance.getBusinessId());
+                        ps.setLong(2, attendance.getMemberId());
+                        ps.setTimestamp(3, Timestamp.valueOf(attendance.getAttendanceDate()));
+                        ps.setTimestamp(4, now);
+                    }
+
+                    @Override
+                    public int getBatchSize() {
+                        return attendances.size();
+                    }
+                });
+    }
+}
@@ -0,0 +1,217 @@
+package com.fitness.domain.attendance.service;
+
+import com.fitness.common.config.BusinessProperties;
+import com.fitness.domain.attendance.dto.PendingAttendance;
+import com.fitness.domain.attendance.repository.AttendanceJdbcRepository;
+import com.fitness.domain.statistics.dto.DailyStatsKey;
+import com.fitness.domain.statistics.service.DailyStatsRecorder;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 출석 쓰기 버퍼 (write-behind)
+ * - 체크인은 대기열에 넣고 바로 응답, 전용 스레드가 flush-interval마다 batch-size 단위 JDBC 배치로 저장
+ *   (공용 @Scheduled 스레드는 새벽 정산 등 긴 작업에 점유될 수 있어 분리)
+ * - 저장 실패한 배치는 보관했다가 다음 주기에 먼저 재시도 (대기열이 가득 차면 체크인을 503으로 거절)
+ *   - 배치는 트랜잭션 하나로 저장 (일부만 저장된 채 실패하지 않도록)
+ *   - 무결성 위반(없는 회원 등)으로 실패하면 한 건씩 다시 저장하고, 위반한 출석만 저장 포기 로그를 남기고 제외
+ *   - 그 밖의 실패는 max-retries번까지 재시도 후 저장 포기 로그를 남기고 제외 (다음 출석 저장이 막히지 않도록)
+ * - 저장 후 일별 통계에 출석 증분 기록, 종료 시 남은 출석을 모두 저장
+ * - 저장 전 출석(대기열, 저장 중, 재시도 대기)은 저장하지 않고 조회 가능 ({@link #pendingAttendances})
+ * JDBC로 직접 저장하므로 Attendance 엔티티 리스너는 호출되지 않음
+ */
+@Slf4j
+@Component
+public class AttendanceWriteBuffer {
+
+    private final AttendanceJdbcRepository attendanceRepository;
+    private final DailyStatsRecorder dailyStatsRecorder;
+    private final TransactionTemplate transactionTemplate;
+    private final BusinessProperties.CheckIn properties;
+    private final BlockingQueue<PendingAttendance> queue;
+
+    private final ScheduledExecutorService flusher = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "check-in-flush");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private final Object drainLock = new Object();
+    private volatile List<PendingAttendance> writing = List.of();
+    private volatile List<PendingAttendance> failed = List.of();
+    private int failedAttempts;
+
+    public AttendanceWriteBuffer(AttendanceJdbcRepository attendanceRepository,
+                                 DailyStatsRecorder dailyStatsRecorder,
+                                 PlatformTransactionManager transactionManager,
+                                 BusinessProperties businessProperties) {
+        this.attendanceRepository = attendanceRepository;
+        this.dailyStatsRecorder = dailyStatsRecorder;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.properties = businessProperties.getCheckIn();
+        this.queue = new ArrayBlockingQueue<>(properties.getQueueCapacity());
+    }
+
+    @PostConstruct
+    void start() {
+        long interval = properties.getFlushInterval();
+        flusher.scheduleWithFixedDelay(this::flushSafely, interval, interval, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * 저장 대기열에 추가
+     * @throws TaskRejectedException 대기열이 가득 찬 경우
+     */
+    public void add(PendingAttendance attendance) {
+        if (!queue.offer(attendance)) {
+            throw new TaskRejectedException("출석 저장 대기열이 가득 찼습니다.");
+        }
+    }
+
+    /**
+     * 대기 중인 출석 저장 (전용 스레드, 종료 시, 사업장 체크인 자격 인덱스 재적재 전 호출)
+     */
+    public synchronized void flush() {
+        if (!failed.isEmpty()) {
+            List<PendingAttendance> remaining = write(failed);
+            if (!remaining.isEmpty() && ++failedAttempts < properties.getMaxRetries()) {
+                failed = remaining;
+                return;
+            }
+            for (PendingAttendance attendance : remaining) {
+                deadLetter(attendance, "재시도 " + failedAttempts + "회 실패");
+            }
+            failed = List.of();
+            failedAttempts = 0;
+        }
+
+        int batchSize = properties.getBatchSize();
+        while (true) {
+            List<PendingAttendance> batch = new ArrayList<>(Math.min(batchSize, queue.size()));
+            // 대기열에서 꺼낸 출석이 저장 전 출석 조회에서 빠지지 않도록 저장 중 목록으로 옮길 때까지 잠금
+            synchronized (drainLock) {
+                if (queue.drainTo(batch, batchSize) == 0) {
+                    return;
+                }
+                writing = batch;
+            }
+            List<PendingAttendance> remaining = write(batch);
+            if (!remaining.isEmpty()) {
+                failed = remaining;
+            }
+            writing = List.of();
+            if (!remaining.isEmpty()) {
+                return;
+            }
+        }
+    }
+
+    public int pendingCount() {
+        return queue.size() + failed.size();
+    }
+
+    /**
+     * 회원 1명의 저장 전 출석 (DB 저장 없이 조회 - 체크인 자격 인덱스 회원 재적재용)
+     * 조회 중 저장이 끝난 출석은 DB에도 있을 수 있으므로 호출자가 DB보다 먼저 조회하고 출석 일시로 중복 제거
+     */
+    public List<PendingAttendance> pendingAttendances(Long businessId, Long memberId) {
+        List<PendingAttendance> pending = new ArrayList<>(0);
+        synchronized (drainLock) {
+            addMatching(pending, queue, businessId, memberId);
+            addMatching(pending, writing, businessId, memberId);
+            addMatching(pending, failed, businessId, memberId);
+        }
+        return pending;
+    }
+
+    @PreDestroy
+    void stop() throws InterruptedException {
+        flusher.shutdown();
+        flusher.awaitTermination(10, TimeUnit.SECONDS);
+        flush();
+        if (pendingCount() > 0) {
+            log.error("종료 시 저장하지 못한 출석: {}건", pendingCount());
+        }
+    }
+
+    /**
+     * 예외가 나가면 주기 실행이 멈추므로 모두 잡아서 기록
+     */
+    private void flushSafely() {
+        try {
+            flush();
+        } catch (RuntimeException e) {
+            log.error("출석 저장 주기 실행 실패 - 원인: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 배치 저장 (무결성 위반이면 한 건씩 저장)
+     * @return 저장하지 못해 재시도할 출석
+     */
+    private List<PendingAttendance> write(List<PendingAttendance> batch) {
+        try {
+            insert(batch);
+            return List.of();
+        } catch (DataIntegrityViolationException e) {
+            log.warn("출석 일괄 저장 중 무결성 위반 - {}건을 한 건씩 다시 저장, 원인: {}", batch.size(), e.getMessage());
+            return writeEach(batch);
+        } catch (RuntimeException e) {
+            log.error("출석 일괄 저장 실패 - {}건, 원인: {}", batch.size(), e.getMessage());
+            return batch;
+        }
+    }
+
+    private List<PendingAttendance> writeEach(List<PendingAttendance> batch) {
+        List<PendingAttendance> remaining = new ArrayList<>();
+        for (PendingAttendance attendance : batch) {
+            try {
+                insert(List.of(attendance));
+            } catch (DataIntegrityViolationException e) {
+                deadLetter(attendance, e.getMessage());
+            } catch (RuntimeException e) {
+                remaining.add(attendance);
+            }
+        }
+        return remaining;
+    }
+
+    private void insert(List<PendingAttendance> batch) {
+        transactionTemplate.executeWithoutResult(status -> attendanceRepository.batchInsert(batch));
+        for (PendingAttendance attendance : batch) {
+            dailyStatsRecorder.recordAttendance(new DailyStatsKey(attendance.getBusinessId(),
+                    attendance.getAttendanceDate().toLocalDate()));
+        }
+    }
+
+    private static void addMatching(List<PendingAttendance> pending, Iterable<PendingAttendance> attendances,
+                                    Long businessId, Long memberId) {
+        for (PendingAttendance attendance : attendances) {
+            if (attendance.getBusinessId().equals(businessId) && attendance.getMemberId().equals(memberId)) {
+                pending.add(attendance);
+            }
+        }
+    }
+
+    /**
+     * 저장 포기 - 수동 복구할 수 있도록 출석 정보를 로그로 남김
+     */
+    private void deadLetter(PendingAttendance attendance, String reason) {
+        log.error("출석 저장 포기 - 사업장: {}, 회원: {}, 출석일시: {}, 원인: {}", attendance.getBusinessId(),
+                attendance.getMemberId(), attendance.getAttendanceDate(), reason);
+    }
+}
@@ -0,0 +1,116 @@
+package com.fitness.domain.attendance.service;
+
+import com.fitness.common.config.BusinessProperties;
+import com.fitness.common.exception.BusinessException;
+import com.fitness.common.exception.ErrorCode;
+import com.fitness.domain.attendance.dto.CheckInResponse;
+import com.fitness.domain.attendance.dto.PendingAttendance;
+import com.fitness.domain.business.repository.BusinessRepository;
+import com.fitness.domain.membership.service.MembershipEligibilityIndex;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * 출석 체크인 서비스 (입구 단말기에서 호출, 이용 가능한 회원은 요청 스레드에서 DB 접근 없이 응답)
+ * 1. 사업장 소유 확인 - 확인된 (사장님, 사업장)만 캐시
+ * 2. duplicate-window 안의 같은 회원 재체크인은 이용권 확인 없이 처음 결과와 함께 DUPLICATE로 응답하고 저장하지 않음
+ *    (횟수제 이용권 마지막 회차의 중복 전송도 거절되지 않도록 이용권 확인보다 먼저 처리)
+ * 3. 이용권 확인은 {@link MembershipEligibilityIndex}에서 (횟수제 이용권은 체크인 시 남은 횟수 차감)
+ *    이용 불가로 나오면 회원 1명을 DB에서 다시 읽어 재확인 (다른 서버에서 결제한 이용권 등 반영, 저장 전 출석은 저장하지 않고 더함)
+ * 4. 출석은 {@link AttendanceWriteBuffer}에 넣고 바로 응답 - 짧은 주기로 모아서 배치 저장
+ * 서버가 비정상 종료되면 저장 전 출석(최대 flush-interval 분량)은 유실될 수 있음
+ */
+@Service
+public class CheckInService {
+
+    private final BusinessRepository businessRepository;
+    private final MembershipEligibilityIndex eligibilityIndex;
+    private final AttendanceWriteBuffer writeBuffer;
+    private final Cache<String, Boolean> owners;
+    private final ConcurrentMap<String, CheckInResponse> recentCheckIns;
+
+    public CheckInService(BusinessRepository businessRepository,
+                          MembershipEligibilityIndex eligibilityIndex,
+                          AttendanceWriteBuffer writeBuffer,
+                          BusinessProperties businessProperties) {
+        BusinessProperties.CheckIn properties = businessProperties.getCheckIn();
+        this.businessRepository = businessRepository;
+        this.eligibilityIndex = eligibilityIndex;
+        this.writeBuffer = writeBuffer;
+        this.owners = Caffeine.newBuilder()
+                .expireAfterWrite(Duration.ofMillis(properties.getOwnerCacheTtl()))
+                .maximumSize(10_000)
+                .build();
+        this.recentCheckIns = Caffeine.newBuilder()
+                .expireAfterWrite(Duration.ofMillis(properties.getDuplicateWindow()))
+                .<String, CheckInResponse>build()
+                .asMap();
+    }
+
+    /**
+     * 출석 체크인
+     * @param ownerId 요청한 사장님 ID
+     * @param businessId 사업장 ID
+     * @param memberId 회원 ID
+     * @return 체크인 결과 (중복이면 처음 체크인 일시와 함께 DUPLICATE)
+     * @throws BusinessException 이용 가능한 이용권이 없는 경우 CHECK_IN_NOT_ELIGIBLE
+     */
+    public CheckInResponse checkIn(Long ownerId, Long businessId, Long memberId) {
+        verifyOwner(ownerId, businessId);
+
+        LocalDateTime now = LocalDateTime.now();
+        String key = businessId + ":" + memberId;
+        boolean[] created = {false};
+        // 이용 불가면 null을 반환해 기록하지 않음 (DB 재확인은 맵 잠금 밖에서)
+        CheckInResponse response = recentCheckIns.computeIfAbsent(key,
+                k -> checkedIn(businessId, memberId, now, created));
+        if (response == null) {
+            eligibilityIndex.refreshMember(businessId, memberId);
+            response = recentCheckIns.computeIfAbsent(key, k -> checkedIn(businessId, memberId, now, created));
+            if (response == null) {
+                throw new BusinessException(ErrorCode.CHECK_IN_NOT_ELIGIBLE);
+            }
+        }
+        if (!created[0]) {
+            return new CheckInResponse(memberId, CheckInResponse.Status.DUPLICATE, response.getCheckedInAt(),
+                    response.getMembershipEndDate());
+        }
+        try {
+            writeBuffer.add(new PendingAttendance(businessId, memberId, now));
+        } catch (RuntimeException e) {
+            recentCheckIns.remove(key, response);
+            throw e;
+        }
+        eligibilityIndex.recordUse(businessId, memberId, now);
+        return response;
+    }
+
+    /**
+     * 자격 인덱스로 이용권 확인
+     * @return 이용 가능하면 체크인 결과, 아니면 null
+     */
+    private CheckInResponse checkedIn(Long businessId, Long memberId, LocalDateTime now, boolean[] created) {
+        LocalDateTime until = eligibilityIndex.eligibleUntil(businessId, memberId, now);
+        if (until == null) {
+            return null;
+        }
+        created[0] = true;
+        return new CheckInResponse(memberId, CheckInResponse.Status.CHECKED_IN, now, until);
+    }
+
+    private void verifyOwner(Long ownerId, Long businessId) {
+        String key = ownerId + ":" + businessId;
+        if (owners.getIfPresent(key) != null) {
+            return;
+        }
+        if (!businessRepository.existsByBusinessIdAndOwner_UserId(businessId, ownerId)) {
+            throw new BusinessException(ErrorCode.BUSINESS_NOT_FOUND);
+        }
+        owners.put(key, Boolean.TRUE);
+    }
+}
@@ -1,5 +1,8 @@
 package com.fitness.domain.auth.controller;
 
+import com.fitness.common.exception.BusinessException;
+import com.fitness.common.exception.ErrorCode;
+import com.fitness.common.jwt.JwtUtil;
 import com.fitness.domain.auth.dto.LoginRequest;
 import com.fitness.domain.auth.dto.LoginResponse;
 import com.fitness.domain.auth.dto.SocialLoginRequest;
@@ -10,16 +13,19 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.ResponseEntity;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
 
 import jakarta.validation.Valid;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * 인증 관련 API 컨트롤러
  * - 로그인/로그아웃
  * - 토큰 갱신
  * - 인증 상태 확인
+ * 소셜 로그인은 외부 제공자 호출이 포함되므로 전용 스레드 풀에서 비동기 처리
  */
 @Slf4j
 @RestController
@@ -30,6 +36,8 @@ public class AuthController {
 
     private final AuthService authService;
     private final SocialLoginService socialLoginService;
+    private final JwtUtil jwtUtil;
+    private final ThreadPoolTaskExecutor socialLoginExecutor;
 
     /**
      * 일반 로그인 (OWNER 전용 - 웹)
@@ -50,13 +58,10 @@ public class AuthController {
      */
     @PostMapping("/social-login")
     @Operation(summary = "소셜 로그인", description = "카카오/애플 소셜 로그인을 처리하고 JWT 토큰을 발급합니다.")
-    public ResponseEntity<LoginResponse> socialLogin(@Valid @RequestBody SocialLoginRequest request) {
+    public CompletableFuture<ResponseEntity<LoginResponse>> socialLogin(@Valid @RequestBody SocialLoginRequest request) {
         log.info("소셜 로그인 시도: {}", request.getProvider());
         
-        LoginResponse response = socialLoginService.socialLogin(request);
-        
-        log.info("소셜 로그인 성공: {} - {}", request.getProvider(), response.getUsername());
-        return ResponseEntity.ok(response);
+        return processSocialLogin(request);
     }
 
     /**
@@ -64,27 +69,24 @@ public class AuthController {
      */
     @PostMapping("/kakao")
     @Operation(summary = "카카오 로그인", description = "카카오 소셜 로그인을 처리합니다.")
-    public ResponseEntity<LoginResponse> kakaoLogin(@RequestParam String accessToken) {
+    public CompletableFuture<ResponseEntity<LoginResponse>> kakaoLogin(@RequestParam String accessToken) {
         log.info("카카오 로그인 시도");
         
         SocialLoginRequest request = new SocialLoginRequest();
         request.setProvider(com.fitness.common.enums.SocialProvider.KAKAO);
         request.setAccessToken(accessToken);
         
-        LoginResponse response = socialLoginService.socialLogin(request);
-        
-        log.info("카카오 로그인 성공: {}", response.getUsername());
-        return ResponseEntity.ok(response);
+        return processSocialLogin(request);
     }
 
     /**
      * 애플 로그인
      */
     @PostMapping("/apple")
-    @Operation(summary = "애플 로그인", description = "애플 소셜 로그인을 처리합니다.")
-    public ResponseEntity<LoginResponse> appleLogin(
+    @Operation(summary = "애플 로그인", description = "애플 Identity Token을 검증하여 소셜 로그인을 처리합니다. (socialId/email은 토큰 값 사용)")
+    public CompletableFuture<ResponseEntity<LoginResponse>> appleLogin(
             @RequestParam String accessToken,
-            @RequestParam String socialId,
+            @RequestParam(required = false) String socialId,
             @RequestParam(required = false) String email,
             @RequestParam(required = false) String nickname) {
         log.info("애플 로그인 시도");
@@ -96,10 +98,19 @@ public class AuthController {
         request.setEmail(email);
         request.setNickname(nickname);
         
-        LoginResponse response = socialLoginService.socialLogin(request);
-        
-        log.info("애플 로그인 성공: {}", response.getUsername());
-        return ResponseEntity.ok(response);
+        return processSocialLogin(request);
+    }
+
+    /**
+     * 소셜 로그인 비동기 처리
+     * 요청 스레드는 즉시 반환되고, 스레드 풀이 가득 차면 TaskRejectedException(503)으로 거절
+     */
+    private CompletableFuture<ResponseEntity<LoginResponse>> processSocialLogin(SocialLoginRequest request) {
+        return CompletableFuture.supplyAsync(() -> {
+            LoginResponse response = socialLoginService.socialLogin(request);
+            log.info("소셜 로그인 성공: {} - {}", request.getProvider(), response.getUsername());
+            return ResponseEntity.ok(response);
+        }, socialLoginExecutor);
     }
 
     /**
@@ -121,11 +132,17 @@ public class AuthController {
      * 로그아웃
      */
     @PostMapping("/logout")
-    @Operation(summary = "로그아웃", description = "사용자 로그아웃을 처리합니다.")
-    public ResponseEntity<Void> logout(Authentication authentication) {
-        log.info("로그아웃: {}", authentication.getName());
-        
-        authService.logout(authentication.getName());
+    @Operation(summary = "로그아웃", description = "사용자 로그아웃을 처리하고 Access/Refresh Token을 폐기합니다.")
+    public ResponseEntity<Void> logout(
+            @RequestHeader("Authorization") String accessToken,
+            @RequestHeader(value = "Refresh-Token", required = false) String refreshToken) {
+        log.info("로그아웃 요청");
+        
+        String token = jwtUtil.resolveToken(accessToken); // "Bearer " 제거
+        if (token == null) {
+            throw new BusinessException(ErrorCode.INVALID_TOKEN);
+        }
+        authService.logout(token, refreshToken);
         
         return ResponseEntity.ok().build();
     }
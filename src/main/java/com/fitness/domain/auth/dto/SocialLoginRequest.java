@@ -20,10 +20,10 @@ public class SocialLoginRequest {
     private SocialProvider provider;
 
     @NotBlank(message = "액세스 토큰은 필수입니다.")
-    @Schema(description = "소셜 액세스 토큰", example = "kakao_access_token_here")
+    @Schema(description = "소셜 액세스 토큰 (애플은 Identity Token)", example = "kakao_access_token_here")
     private String accessToken;
 
-    @Schema(description = "소셜 ID (카카오/애플에서 제공)", example = "1234567890")
+    @Schema(description = "소셜 ID (미사용 - 제공자 검증 결과의 ID 사용)", example = "1234567890")
     private String socialId;
 
     @Schema(description = "이메일", example = "user@example.com")
@@ -0,0 +1,21 @@
+package com.fitness.domain.auth.dto;
+
+import com.fitness.common.enums.SocialProvider;
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * 소셜 제공자에서 확인한 사용자 정보 DTO
+ * 제공자별 응답(KakaoUserInfo, AppleUserInfo)을 공통 형식으로 변환한 결과
+ * 불변 객체이므로 SocialIdentityCache에서 그대로 공유
+ */
+@Getter
+@Builder
+public class SocialUserInfo {
+
+    private final String socialId;
+    private final String email;
+    private final String nickname;
+    private final String profileImage;
+    private final SocialProvider provider;
+}
@@ -2,6 +2,7 @@ package com.fitness.domain.auth.entity;
 
 import com.fitness.common.BaseEntity;
 import com.fitness.common.enums.SocialProvider;
+import com.fitness.common.security.PrincipalCacheEvictionListener;
 import com.fitness.domain.user.entity.User;
 import jakarta.persistence.*;
 import lombok.AccessLevel;
@@ -15,7 +16,11 @@ import lombok.Setter;
  * 일반 로그인 및 소셜 로그인 정보 저장
  */
 @Entity
-@Table(name = "auth")
+@EntityListeners(PrincipalCacheEvictionListener.class)
+@Table(name = "auth", uniqueConstraints = {
+        // 같은 소셜 계정의 동시 가입이 서로 다른 사용자명으로 중복 등록되지 않도록 보장
+        @UniqueConstraint(name = "uk_auth_provider_social_id", columnNames = {"provider", "social_id"})
+})
 @Getter
 @Setter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
@@ -34,7 +39,7 @@ public class Auth extends BaseEntity {
     @Column(name = "provider", nullable = false)
     private SocialProvider provider;
 
-    @Column(name = "username", length = 50)
+    @Column(name = "username", length = 50, unique = true)
     private String username;
 
     @Column(name = "password")
@@ -0,0 +1,68 @@
+package com.fitness.domain.auth.entity;
+
+import com.fitness.common.BaseEntity;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+
+/**
+ * Refresh Token 패밀리(REFRESH_TOKEN_FAMILY) 엔티티
+ * 로그인 1회당 1건 생성되며, 이후 회전(rotation)된 Refresh Token은 모두 같은 패밀리에 속함
+ * 현재 유효한 토큰의 jti만 보관하여 이전 토큰의 재사용을 탐지
+ */
+@Entity
+@Table(name = "refresh_token_family", indexes = {
+        @Index(name = "idx_refresh_token_family_username", columnList = "username")
+})
+@Getter
+@Setter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class RefreshTokenFamily extends BaseEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "family_id")
+    private Long familyId;
+
+    @Column(name = "username", nullable = false, length = 50)
+    private String username;
+
+    @Column(name = "current_token_id", nullable = false, length = 36)
+    private String currentTokenId;
+
+    @Column(name = "generation", nullable = false)
+    private Integer generation;
+
+    @Column(name = "revoked", nullable = false)
+    private Boolean revoked;
+
+    @Column(name = "expires_at", nullable = false)
+    private LocalDateTime expiresAt;
+
+    /**
+     * 로그인 시 새 패밀리 생성
+     */
+    public static RefreshTokenFamily create(String username, String tokenId, LocalDateTime expiresAt) {
+        RefreshTokenFamily family = new RefreshTokenFamily();
+        family.username = username;
+        family.currentTokenId = tokenId;
+        family.generation = 0;
+        family.revoked = false;
+        family.expiresAt = expiresAt;
+        return family;
+    }
+
+    /**
+     * 회전 상태 반영
+     */
+    public void applyRotation(String currentTokenId, int generation, boolean revoked, LocalDateTime expiresAt) {
+        this.currentTokenId = currentTokenId;
+        this.generation = generation;
+        this.revoked = revoked;
+        this.expiresAt = expiresAt;
+    }
+}
@@ -6,6 +6,7 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
 import java.util.Optional;
 
 /**
@@ -46,6 +47,17 @@ public interface AuthRepository extends JpaRepository<Auth, Long> {
      */
     boolean existsByUsername(String username);
 
+    /**
+     * 기본 사용자명과 같거나 "기본 사용자명_" 으로 시작하는 사용자명 목록 조회
+     * (인덱스 범위 조회, LIKE 특수문자는 '!'로 이스케이프된 패턴 사용)
+     * @param baseUsername 기본 사용자명
+     * @param pattern 이스케이프된 LIKE 패턴 (예: kakao!_123!_%)
+     * @return 사용자명 목록
+     */
+    @Query("SELECT a.username FROM Auth a WHERE a.username = :baseUsername OR a.username LIKE :pattern ESCAPE '!'")
+    List<String> findUsernamesWithPrefix(@Param("baseUsername") String baseUsername,
+                                         @Param("pattern") String pattern);
+
     /**
      * 이메일 중복 확인
      * @param email 이메일
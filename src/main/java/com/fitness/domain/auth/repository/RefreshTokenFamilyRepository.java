@@ -0,0 +1,26 @@
+package com.fitness.domain.auth.repository;
+
+import com.fitness.domain.auth.entity.RefreshTokenFamily;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+
+/**
+ * RefreshTokenFamily 엔티티에 대한 데이터 접근 레포지토리
+ */
+@Repository
+public interface RefreshTokenFamilyRepository extends JpaRepository<RefreshTokenFamily, Long> {
+
+    /**
+     * 만료 시간이 지난 패밀리 일괄 삭제
+     * @param now 기준 시간
+     * @return 삭제 건수
+     */
+    @Modifying
+    @Query("DELETE FROM RefreshTokenFamily f WHERE f.expiresAt < :now")
+    int deleteExpired(@Param("now") LocalDateTime now);
+}
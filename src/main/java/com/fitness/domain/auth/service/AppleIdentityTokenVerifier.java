@@ -0,0 +1,243 @@
+package com.fitness.domain.auth.service;
+
+import com.fitness.common.config.SocialLoginProperties;
+import com.fitness.common.exception.BusinessException;
+import com.fitness.common.exception.ErrorCode;
+import com.fitness.domain.auth.dto.AppleUserInfo;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwsHeader;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.LocatorAdapter;
+import io.jsonwebtoken.security.Jwk;
+import io.jsonwebtoken.security.JwkSet;
+import io.jsonwebtoken.security.Jwks;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestClientException;
+import org.springframework.web.client.RestTemplate;
+
+import java.security.Key;
+import java.security.PublicKey;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 애플 Identity Token 검증기
+ * - 애플 공개키(JWKS)를 kid별 PublicKey로 미리 변환하여 메모리에 보관
+ * - 요청 처리 중에는 공개키를 조회하지 않음 (최초 1회 로드 전 제외)
+ * - 알 수 없는 kid(애플 키 교체)는 백그라운드 갱신을 요청하고 해당 요청은 일시 오류로 응답
+ * - 서명, 만료, 발급자(iss), 대상(aud)을 모두 검증
+ */
+@Slf4j
+@Component
+public class AppleIdentityTokenVerifier {
+
+    private final RestTemplate restTemplate;
+    private final SocialLoginProperties.Apple properties;
+    private final JwtParser jwtParser;
+    private final ExecutorService refreshExecutor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "apple-jwks-refresh");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private final AtomicBoolean refreshing = new AtomicBoolean();
+    private final Object loadLock = new Object();
+
+    private volatile Map<String, PublicKey> publicKeys = Map.of();
+    private volatile long lastRefreshAttempt;
+
+    public AppleIdentityTokenVerifier(RestTemplate restTemplate, SocialLoginProperties socialLoginProperties) {
+        this.restTemplate = restTemplate;
+        this.properties = socialLoginProperties.getApple();
+        this.jwtParser = Jwts.parser()
+                .keyLocator(new LocatorAdapter<Key>() {
+                    @Override
+                    protected Key locate(JwsHeader header) {
+                        return findPublicKey(header.getKeyId());
+                    }
+                })
+                .requireIssuer(properties.getIssuer())
+                .clockSkewSeconds(60)
+                .build();
+
+        if (properties.getClientIds().isEmpty()) {
+            log.warn("social.apple.client-ids가 설정되지 않아 애플 로그인이 모두 거부됩니다.");
+        }
+    }
+
+    /**
+     * Identity Token 검증 후 사용자 정보 추출
+     * @param identityToken 애플 Identity Token
+     * @return 애플 사용자 정보
+     */
+    public AppleUserInfo verify(String identityToken) {
+        ensureLoaded();
+
+        Claims claims;
+        try {
+            claims = jwtParser.parseSignedClaims(identityToken).getPayload();
+        } catch (UnknownKeyIdException e) {
+            // 애플 키 교체 직후 - 갱신 완료 후 재시도하면 성공하므로 토큰 거부로 캐시하지 않음
+            throw new BusinessException(ErrorCode.SOCIAL_PROVIDER_UNAVAILABLE);
+        } catch (JwtException | IllegalArgumentException e) {
+            log.warn("애플 Identity Token 검증 실패: {}", e.getMessage());
+            throw new BusinessException(ErrorCode.INVALID_SOCIAL_TOKEN);
+        }
+
+        Set<String> audience = claims.getAudience();
+        if (audience == null || audience.stream().noneMatch(properties.getClientIds()::contains)) {
+            log.warn("애플 Identity Token 대상 불일치 - aud: {}", audience);
+            throw new BusinessException(ErrorCode.INVALID_SOCIAL_TOKEN);
+        }
+
+        AppleUserInfo userInfo = new AppleUserInfo();
+        userInfo.setSub(claims.getSubject());
+        userInfo.setEmail(claims.get("email", String.class));
+        userInfo.setEmailVerified(toBoolean(claims.get("email_verified")));
+        userInfo.setIsPrivateEmail(toBoolean(claims.get("is_private_email")));
+        userInfo.setAuthTime(claims.get("auth_time", Long.class));
+        userInfo.setNonceSupported(toBoolean(claims.get("nonce_supported")));
+        return userInfo;
+    }
+
+    /**
+     * 기동 완료 시 공개키 미리 로드 (백그라운드)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void preload() {
+        requestRefresh(false);
+    }
+
+    /**
+     * 공개키 정기 갱신 (백그라운드)
+     */
+    @Scheduled(fixedDelayString = "${social.apple.refresh-interval:3600000}",
+               initialDelayString = "${social.apple.refresh-interval:3600000}")
+    public void scheduledRefresh() {
+        requestRefresh(false);
+    }
+
+    /**
+     * 공개키 즉시 갱신
+     * @return 갱신 성공 여부
+     */
+    public boolean refresh() {
+        lastRefreshAttempt = System.currentTimeMillis();
+        try {
+            String json = restTemplate.getForObject(properties.getJwksUri(), String.class);
+            Map<String, PublicKey> keys = parse(json);
+            if (keys.isEmpty()) {
+                log.warn("애플 공개키 목록이 비어 있어 기존 키를 유지합니다.");
+                return false;
+            }
+            publicKeys = keys;
+            log.info("애플 공개키 갱신 완료 - kid: {}", keys.keySet());
+            return true;
+        } catch (RestClientException | JwtException | IllegalArgumentException e) {
+            log.error("애플 공개키 갱신 실패: {}", e.getMessage());
+            return false;
+        }
+    }
+
+    /**
+     * 보관 중인 kid 목록 (모니터링/테스트용)
+     */
+    public List<String> getKeyIds() {
+        return List.copyOf(publicKeys.keySet());
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        refreshExecutor.shutdownNow();
+    }
+
+    /**
+     * kid에 해당하는 공개키 조회 (없으면 백그라운드 갱신 요청 후 예외)
+     */
+    private PublicKey findPublicKey(String keyId) {
+        PublicKey key = keyId != null ? publicKeys.get(keyId) : null;
+        if (key == null) {
+            log.info("알 수 없는 애플 kid - 백그라운드 갱신 요청: {}", keyId);
+            requestRefresh(true);
+            throw new UnknownKeyIdException(keyId);
+        }
+        return key;
+    }
+
+    /**
+     * 최초 로드 전이면 동기로 로드 (기동 직후 첫 요청에 한함)
+     */
+    private void ensureLoaded() {
+        if (!publicKeys.isEmpty()) {
+            return;
+        }
+        synchronized (loadLock) {
+            if (publicKeys.isEmpty() && !refresh()) {
+                throw new BusinessException(ErrorCode.SOCIAL_PROVIDER_UNAVAILABLE);
+            }
+        }
+    }
+
+    /**
+     * 백그라운드 갱신 요청 (동시에 한 번만 실행, kid 미스는 최소 간격 적용)
+     */
+    private void requestRefresh(boolean throttled) {
+        if (throttled && System.currentTimeMillis() - lastRefreshAttempt < properties.getMinRefreshInterval()) {
+            return;
+        }
+        if (!refreshing.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            refreshExecutor.execute(() -> {
+                try {
+                    refresh();
+                } finally {
+                    refreshing.set(false);
+                }
+            });
+        } catch (RuntimeException e) {
+            refreshing.set(false);
+            log.error("애플 공개키 갱신 요청 실패: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * JWKS JSON을 kid별 PublicKey로 변환
+     */
+    private static Map<String, PublicKey> parse(String json) {
+        JwkSet jwkSet = Jwks.setParser().build().parse(json);
+        Map<String, PublicKey> keys = new HashMap<>();
+        for (Jwk<?> jwk : jwkSet.getKeys()) {
+            if (jwk.getId() != null && jwk.toKey() instanceof PublicKey publicKey) {
+                keys.put(jwk.getId(), publicKey);
+            }
+        }
+        return Map.copyOf(keys);
+    }
+
+    private static Boolean toBoolean(Object value) {
+        // 애플은 boolean 클레임을 문자열("true")로 보내기도 함
+        return value == null ? null : Boolean.valueOf(String.valueOf(value));
+    }
+
+    /**
+     * 보관 중인 공개키에 없는 kid
+     */
+    private static class UnknownKeyIdException extends JwtException {
+        UnknownKeyIdException(String keyId) {
+            super("알 수 없는 kid: " + keyId);
+        }
+    }
+}
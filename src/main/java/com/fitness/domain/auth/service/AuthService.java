@@ -1,18 +1,26 @@
 package com.fitness.domain.auth.service;
 
+import com.fitness.common.exception.BusinessException;
+import com.fitness.common.exception.ErrorCode;
 import com.fitness.domain.auth.dto.LoginRequest;
 import com.fitness.domain.auth.dto.LoginResponse;
+import com.fitness.common.jwt.JwtTokenClaims;
 import com.fitness.common.jwt.JwtUtil;
+import com.fitness.common.jwt.TokenRevocationService;
 import com.fitness.common.security.CustomUserPrincipal;
+import com.fitness.common.security.UserPrincipalCache;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.AuthenticationException;
+import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Optional;
+
 /**
  * 인증 관련 비즈니스 로직을 처리하는 서비스
  */
@@ -24,6 +32,10 @@ public class AuthService {
 
     private final AuthenticationManager authenticationManager;
     private final JwtUtil jwtUtil;
+    private final UserPrincipalCache principalCache;
+    private final UserDetailsService userDetailsService;
+    private final TokenRevocationService revocationService;
+    private final RefreshTokenService refreshTokenService;
 
     /**
      * 로그인 처리
@@ -42,7 +54,7 @@ public class AuthService {
 
             // 토큰 생성
             String accessToken = jwtUtil.generateAccessToken(authentication);
-            String refreshToken = jwtUtil.generateRefreshToken(authentication.getName());
+            String refreshToken = refreshTokenService.issue(authentication.getName());
 
             // 사용자 정보 추출
             CustomUserPrincipal userPrincipal = (CustomUserPrincipal) authentication.getPrincipal();
@@ -73,20 +85,33 @@ public class AuthService {
      */
     public LoginResponse refreshToken(String refreshToken) {
         try {
-            if (!jwtUtil.validateToken(refreshToken)) {
-                throw new RuntimeException("유효하지 않은 Refresh Token입니다.");
+            JwtTokenClaims claims = jwtUtil.verify(refreshToken)
+                    .orElseThrow(() -> new RuntimeException("유효하지 않은 Refresh Token입니다."));
+
+            if (!claims.isRefreshToken()) {
+                throw new RuntimeException("Refresh Token이 아닙니다.");
             }
 
-            String username = jwtUtil.getUsernameFromToken(refreshToken);
-            String newAccessToken = jwtUtil.refreshToken(refreshToken);
+            String username = claims.getSubject();
+
+            // Refresh Token 회전 (이전 토큰 재사용 시 패밀리 전체 폐기)
+            // 교체된 토큰은 폐기 목록에도 있으므로 폐기 목록으로 먼저 거르지 않고 패밀리 상태로 판단
+            String newRefreshToken = refreshTokenService.rotate(claims);
+
+            // 사용자 정보 클레임을 포함한 Access Token 재발급
+            CustomUserPrincipal userPrincipal = principalCache.get(username,
+                    key -> (CustomUserPrincipal) userDetailsService.loadUserByUsername(key));
+            String newAccessToken = jwtUtil.generateAccessToken(userPrincipal);
 
             log.info("토큰 갱신 성공 - 사용자: {}", username);
 
             return LoginResponse.builder()
                     .accessToken(newAccessToken)
-                    .refreshToken(refreshToken) // 기존 Refresh Token 유지
+                    .refreshToken(newRefreshToken)
                     .tokenType("Bearer")
+                    .userId(userPrincipal.getUserId())
                     .username(username)
+                    .userType(userPrincipal.getUserType())
                     .expiresIn(900L)
                     .build();
 
@@ -98,10 +123,30 @@ public class AuthService {
 
     /**
      * 로그아웃 처리
-     * @param username 사용자명
+     * - Access Token과 Refresh Token을 만료 시점까지 폐기 처리
+     * - Access Token이 만료되었거나 유효하지 않아도 Refresh Token은 폐기
+     * @param accessToken Access Token
+     * @param refreshToken Refresh Token (선택)
      */
-    public void logout(String username) {
-        // TODO: 토큰 블랙리스트 처리 (Redis 등을 사용하여 구현)
+    public void logout(String accessToken, String refreshToken) {
+        Optional<JwtTokenClaims> accessClaims = jwtUtil.verify(accessToken);
+        Optional<JwtTokenClaims> refreshClaims = Optional.ofNullable(refreshToken)
+                .flatMap(jwtUtil::verify)
+                .filter(claims -> accessClaims
+                        .map(access -> access.getSubject().equals(claims.getSubject()))
+                        .orElse(true));
+        if (accessClaims.isEmpty() && refreshClaims.isEmpty()) {
+            throw new BusinessException(ErrorCode.INVALID_TOKEN);
+        }
+
+        accessClaims.ifPresent(revocationService::revoke);
+        refreshClaims.ifPresent(claims -> {
+            revocationService.revoke(claims);
+            refreshTokenService.revoke(claims);
+        });
+
+        String username = accessClaims.or(() -> refreshClaims).orElseThrow().getSubject();
+        principalCache.evict(username);
         log.info("로그아웃 처리 - 사용자: {}", username);
     }
 
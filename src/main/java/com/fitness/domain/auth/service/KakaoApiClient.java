@@ -0,0 +1,90 @@
+package com.fitness.domain.auth.service;
+
+import com.fitness.common.config.SocialLoginProperties;
+import com.fitness.common.exception.BusinessException;
+import com.fitness.common.exception.ErrorCode;
+import com.fitness.domain.auth.dto.KakaoUserInfo;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerConfig;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.RestClientException;
+import org.springframework.web.client.RestTemplate;
+
+import java.time.Duration;
+
+/**
+ * 카카오 API 클라이언트
+ * - 커넥션 풀/제한 시간이 설정된 RestTemplate 사용
+ * - 서킷 브레이커로 카카오 장애 시 호출을 즉시 차단하여 지연이 전파되지 않도록 함
+ * - 4xx(잘못된 토큰 등)는 클라이언트 오류이므로 실패율에 포함하지 않음
+ */
+@Slf4j
+@Component
+public class KakaoApiClient {
+
+    static final String CIRCUIT_BREAKER_NAME = "kakao";
+
+    private final RestTemplate restTemplate;
+    private final String userInfoUri;
+    private final CircuitBreaker circuitBreaker;
+
+    public KakaoApiClient(RestTemplate restTemplate, SocialLoginProperties properties) {
+        this.restTemplate = restTemplate;
+        this.userInfoUri = properties.getKakao().getUserInfoUri();
+        this.circuitBreaker = CircuitBreaker.of(CIRCUIT_BREAKER_NAME, circuitBreakerConfig(properties.getCircuitBreaker()));
+    }
+
+    /**
+     * 카카오 사용자 정보 조회
+     * @param accessToken 카카오 Access Token
+     * @return 카카오 사용자 정보
+     */
+    public KakaoUserInfo getUserInfo(String accessToken) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.setBearerAuth(accessToken);
+        HttpEntity<Void> entity = new HttpEntity<>(headers);
+
+        try {
+            KakaoUserInfo userInfo = circuitBreaker.executeSupplier(() -> restTemplate.exchange(
+                    userInfoUri, HttpMethod.GET, entity, KakaoUserInfo.class).getBody());
+            if (userInfo == null) {
+                throw new BusinessException(ErrorCode.SOCIAL_PROVIDER_UNAVAILABLE, "카카오 사용자 정보를 가져올 수 없습니다.");
+            }
+            return userInfo;
+        } catch (HttpClientErrorException e) {
+            log.warn("카카오 사용자 정보 조회 거부 - 상태: {}", e.getStatusCode());
+            throw new BusinessException(ErrorCode.INVALID_SOCIAL_TOKEN);
+        } catch (CallNotPermittedException e) {
+            log.warn("카카오 API 서킷 open 상태 - 호출 차단");
+            throw new BusinessException(ErrorCode.SOCIAL_PROVIDER_UNAVAILABLE);
+        } catch (RestClientException e) {
+            log.error("카카오 사용자 정보 조회 실패: {}", e.getMessage());
+            throw new BusinessException(ErrorCode.SOCIAL_PROVIDER_UNAVAILABLE);
+        }
+    }
+
+    /**
+     * 서킷 브레이커 상태 (모니터링/테스트용)
+     */
+    public CircuitBreaker.State getCircuitBreakerState() {
+        return circuitBreaker.getState();
+    }
+
+    private static CircuitBreakerConfig circuitBreakerConfig(SocialLoginProperties.CircuitBreaker properties) {
+        return CircuitBreakerConfig.custom()
+                .failureRateThreshold(properties.getFailureRateThreshold())
+                .slowCallRateThreshold(properties.getSlowCallRateThreshold())
+                .slowCallDurationThreshold(Duration.ofMillis(properties.getSlowCallDurationThreshold()))
+                .slidingWindowSize(properties.getSlidingWindowSize())
+                .minimumNumberOfCalls(properties.getMinimumNumberOfCalls())
+                .waitDurationInOpenState(Duration.ofMillis(properties.getWaitDurationInOpenState()))
+                .ignoreExceptions(HttpClientErrorException.class)
+                .build();
+    }
+}
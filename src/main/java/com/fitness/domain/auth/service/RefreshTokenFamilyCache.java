@@ -0,0 +1,173 @@
+package com.fitness.domain.auth.service;
+
+import com.fitness.common.config.JwtProperties;
+import com.fitness.domain.auth.entity.RefreshTokenFamily;
+import com.fitness.domain.auth.repository.RefreshTokenFamilyRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Refresh Token 패밀리 회전 상태 캐시 (write-behind)
+ * - 토큰 갱신 시 DB를 갱신하지 않고 메모리 상태만 변경한 뒤 변경 목록(dirty)에 등록
+ * - 주기적으로 변경된 패밀리를 한 트랜잭션에서 일괄 UPDATE (같은 패밀리의 여러 회전은 1건으로 병합)
+ * - 재사용 탐지 등 보안상 즉시 반영이 필요한 변경은 flush(state)로 바로 기록
+ * - 변경 목록에서는 기록이 커밋된 뒤에, 기록 중 다시 변경되지 않은 경우에만 제거
+ *   (기록 중 조회가 DB의 이전 상태를 읽어 정상 갱신을 재사용으로 오판하지 않도록)
+ * - 애플리케이션 종료 시 남은 변경 사항을 모두 기록
+ * 회전 상태는 서버(노드)별 메모리에 있으므로 다중 노드 배포 시에는 같은 패밀리의 갱신 요청이
+ * 한 노드로 가도록 라우팅(sticky)하거나 상태를 공유 저장소로 옮겨야 함
+ * (다른 노드가 기록 전 DB 상태로 판단하면 정상 갱신이 재사용으로 탐지될 수 있음)
+ */
+@Slf4j
+@Component
+public class RefreshTokenFamilyCache {
+
+    static final String CACHE_NAME = "refreshTokenFamily";
+
+    private final RefreshTokenFamilyRepository refreshTokenFamilyRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final Cache<Long, RefreshTokenFamilyState> cache;
+    private final Map<Long, RefreshTokenFamilyState> dirty = new ConcurrentHashMap<>();
+
+    public RefreshTokenFamilyCache(RefreshTokenFamilyRepository refreshTokenFamilyRepository,
+                                   PlatformTransactionManager transactionManager,
+                                   JwtProperties jwtProperties,
+                                   MeterRegistry meterRegistry) {
+        this.refreshTokenFamilyRepository = refreshTokenFamilyRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(jwtProperties.getRefreshRotation().getMaximumSize())
+                .expireAfterAccess(Duration.ofMillis(jwtProperties.getRefreshTokenExpiration()))
+                .recordStats()
+                .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+    }
+
+    /**
+     * 패밀리 상태 조회 (메모리에 없으면 DB에서 로드)
+     * @param familyId 패밀리 ID
+     * @return 패밀리 상태 (없으면 null)
+     */
+    public RefreshTokenFamilyState get(Long familyId) {
+        // 캐시에서 밀려났더라도 아직 기록되지 않은 상태가 DB보다 최신
+        RefreshTokenFamilyState pending = dirty.get(familyId);
+        if (pending != null) {
+            return pending;
+        }
+        return cache.get(familyId, key -> refreshTokenFamilyRepository.findById(key)
+                .map(RefreshTokenFamilyState::from)
+                .orElse(null));
+    }
+
+    /**
+     * 새로 저장된 패밀리를 캐시에 등록
+     * @param family 저장된 패밀리 엔티티
+     * @return 패밀리 상태
+     */
+    public RefreshTokenFamilyState register(RefreshTokenFamily family) {
+        RefreshTokenFamilyState state = RefreshTokenFamilyState.from(family);
+        cache.put(state.getFamilyId(), state);
+        return state;
+    }
+
+    /**
+     * 변경된 상태를 다음 일괄 기록 대상으로 등록
+     * @param state 변경된 패밀리 상태
+     */
+    public void markDirty(RefreshTokenFamilyState state) {
+        dirty.put(state.getFamilyId(), state);
+    }
+
+    /**
+     * 변경된 패밀리 상태를 DB에 일괄 기록
+     */
+    @Scheduled(fixedDelayString = "${jwt.refresh-rotation.flush-interval:5000}")
+    public void flush() {
+        if (dirty.isEmpty()) {
+            return;
+        }
+
+        // 기록이 커밋될 때까지 목록에 남겨 조회는 계속 메모리 상태를 사용
+        Map<Long, RefreshTokenFamilyState> batch = new HashMap<>(dirty);
+        try {
+            Map<Long, Long> written = transactionTemplate.execute(status -> write(batch));
+            clean(batch, written);
+            log.debug("Refresh Token 패밀리 상태 기록 - {}건", batch.size());
+        } catch (RuntimeException e) {
+            log.error("Refresh Token 패밀리 상태 기록 실패 - {}건, 원인: {}", batch.size(), e.getMessage());
+        }
+    }
+
+    /**
+     * 특정 패밀리 상태를 즉시 기록
+     * 호출 측 트랜잭션이 롤백되어도 유지되도록 별도 트랜잭션에서 처리
+     * 기록에 실패하면 변경 목록에 남아 다음 주기에 다시 기록
+     * @param state 패밀리 상태
+     */
+    public void flush(RefreshTokenFamilyState state) {
+        Map<Long, RefreshTokenFamilyState> batch = Map.of(state.getFamilyId(), state);
+        dirty.put(state.getFamilyId(), state);
+        Map<Long, Long> written = transactionTemplate.execute(status -> write(batch));
+        clean(batch, written);
+    }
+
+    /**
+     * 만료된 패밀리 정리 (매일 새벽 4시)
+     */
+    @Scheduled(cron = "0 0 4 * * *")
+    public void purgeExpired() {
+        Integer deleted = transactionTemplate.execute(status ->
+                refreshTokenFamilyRepository.deleteExpired(LocalDateTime.now()));
+        log.info("만료된 Refresh Token 패밀리 정리 - {}건", deleted);
+    }
+
+    /**
+     * 종료 시 남은 변경 사항 기록
+     */
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+
+    /**
+     * 기록한 상태를 DB에 반영
+     * @return 패밀리 ID별 반영한 상태 버전
+     */
+    private Map<Long, Long> write(Map<Long, RefreshTokenFamilyState> states) {
+        // 한 번의 IN 조회 후 변경 감지로 UPDATE (hibernate.jdbc.batch_size 단위로 배치 처리)
+        Map<Long, Long> written = new HashMap<>();
+        for (RefreshTokenFamily family : refreshTokenFamilyRepository.findAllById(states.keySet())) {
+            written.put(family.getFamilyId(), states.get(family.getFamilyId()).copyTo(family));
+        }
+        return written;
+    }
+
+    /**
+     * 커밋된 상태를 변경 목록에서 제거 (기록 중 다시 변경된 패밀리는 다음 주기에 기록)
+     * DB에 행이 없는 패밀리(만료되어 정리됨)도 제거
+     */
+    private void clean(Map<Long, RefreshTokenFamilyState> batch, Map<Long, Long> written) {
+        batch.forEach((familyId, state) -> {
+            Long version = written.get(familyId);
+            dirty.computeIfPresent(familyId, (key, pending) ->
+                    pending == state && (version == null || pending.getVersion() == version) ? null : pending);
+        });
+    }
+}
@@ -0,0 +1,108 @@
+package com.fitness.domain.auth.service;
+
+import com.fitness.domain.auth.entity.RefreshTokenFamily;
+import lombok.Getter;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+
+/**
+ * 메모리에 보관하는 Refresh Token 패밀리 회전 상태
+ * - 같은 패밀리에 대한 동시 갱신 요청은 인스턴스 락으로 직렬화
+ * - DB 반영은 RefreshTokenFamilyCache가 일괄 처리 (write-behind)
+ */
+public class RefreshTokenFamilyState {
+
+    /**
+     * 회전 결과
+     */
+    public enum RotationResult {
+        ROTATED,
+        REUSED,
+        REVOKED,
+        EXPIRED
+    }
+
+    @Getter
+    private final Long familyId;
+
+    @Getter
+    private final String username;
+
+    private String currentTokenId;
+    private int generation;
+    private boolean revoked;
+    private Instant expiresAt;
+
+    /**
+     * 상태 변경 횟수 (기록 중 다시 변경되었는지 확인용)
+     */
+    private long version;
+
+    private RefreshTokenFamilyState(RefreshTokenFamily family) {
+        this.familyId = family.getFamilyId();
+        this.username = family.getUsername();
+        this.currentTokenId = family.getCurrentTokenId();
+        this.generation = family.getGeneration();
+        this.revoked = family.getRevoked();
+        this.expiresAt = family.getExpiresAt().atZone(ZoneId.systemDefault()).toInstant();
+    }
+
+    public static RefreshTokenFamilyState from(RefreshTokenFamily family) {
+        return new RefreshTokenFamilyState(family);
+    }
+
+    /**
+     * 제시된 토큰이 현재 토큰이면 새 토큰으로 교체
+     * 이전 토큰이 제시되면 탈취로 간주하여 패밀리 전체를 폐기
+     * @param presentedTokenId 제시된 Refresh Token의 jti
+     * @param newTokenId 새로 발급할 Refresh Token의 jti
+     * @param newExpiresAt 새 토큰 만료 시간
+     * @return 회전 결과
+     */
+    public synchronized RotationResult rotate(String presentedTokenId, String newTokenId, Instant newExpiresAt) {
+        if (revoked) {
+            return RotationResult.REVOKED;
+        }
+        if (!expiresAt.isAfter(Instant.now())) {
+            return RotationResult.EXPIRED;
+        }
+        if (!currentTokenId.equals(presentedTokenId)) {
+            revoked = true;
+            version++;
+            return RotationResult.REUSED;
+        }
+        currentTokenId = newTokenId;
+        generation++;
+        expiresAt = newExpiresAt;
+        version++;
+        return RotationResult.ROTATED;
+    }
+
+    /**
+     * 패밀리 폐기
+     */
+    public synchronized void revoke() {
+        revoked = true;
+        version++;
+    }
+
+    /**
+     * 현재 상태 버전
+     */
+    public synchronized long getVersion() {
+        return version;
+    }
+
+    /**
+     * 현재 상태를 엔티티에 반영
+     * @param family 반영 대상 엔티티
+     * @return 반영한 상태 버전
+     */
+    public synchronized long copyTo(RefreshTokenFamily family) {
+        family.applyRotation(currentTokenId, generation, revoked,
+                LocalDateTime.ofInstant(expiresAt, ZoneId.systemDefault()));
+        return version;
+    }
+}
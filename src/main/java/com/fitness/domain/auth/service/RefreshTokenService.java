@@ -0,0 +1,107 @@
+package com.fitness.domain.auth.service;
+
+import com.fitness.common.config.JwtProperties;
+import com.fitness.common.jwt.JwtTokenClaims;
+import com.fitness.common.jwt.JwtUtil;
+import com.fitness.common.jwt.TokenRevocationService;
+import com.fitness.domain.auth.entity.RefreshTokenFamily;
+import com.fitness.domain.auth.repository.RefreshTokenFamilyRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Date;
+import java.util.UUID;
+
+/**
+ * Refresh Token 회전(rotation) 서비스
+ * - 로그인 시 토큰 패밀리를 생성하고, 갱신할 때마다 새 Refresh Token을 발급
+ * - 이미 사용된(이전 세대) Refresh Token이 제시되면 탈취로 간주하여 패밀리 전체를 폐기
+ * - 회전으로 교체된 토큰은 만료 시점까지 폐기 목록에도 등록
+ * - 회전 상태는 RefreshTokenFamilyCache에서 관리하여 갱신 요청마다 DB UPDATE가 발생하지 않음
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class RefreshTokenService {
+
+    private final RefreshTokenFamilyRepository refreshTokenFamilyRepository;
+    private final RefreshTokenFamilyCache familyCache;
+    private final TokenRevocationService revocationService;
+    private final JwtUtil jwtUtil;
+    private final JwtProperties jwtProperties;
+
+    /**
+     * 새 토큰 패밀리를 생성하고 첫 Refresh Token 발급 (로그인 시)
+     * @param username 사용자명
+     * @return Refresh Token
+     */
+    public String issue(String username) {
+        String tokenId = UUID.randomUUID().toString();
+        Instant expiresAt = nextExpiration();
+
+        RefreshTokenFamily family = refreshTokenFamilyRepository.save(RefreshTokenFamily.create(
+                username, tokenId, LocalDateTime.ofInstant(expiresAt, ZoneId.systemDefault())));
+        familyCache.register(family);
+
+        return jwtUtil.generateRefreshToken(username, family.getFamilyId(), tokenId, Date.from(expiresAt));
+    }
+
+    /**
+     * Refresh Token 회전
+     * 교체된 토큰도 폐기 목록보다 먼저 여기서 판단해야 재사용이 탐지됨
+     * @param claims 검증된 Refresh Token 클레임
+     * @return 새 Refresh Token
+     */
+    public String rotate(JwtTokenClaims claims) {
+        if (claims.getFamilyId() == null) {
+            throw new RuntimeException("회전을 지원하지 않는 Refresh Token입니다.");
+        }
+
+        RefreshTokenFamilyState state = familyCache.get(claims.getFamilyId());
+        if (state == null || !state.getUsername().equals(claims.getSubject())) {
+            throw new RuntimeException("존재하지 않는 Refresh Token입니다.");
+        }
+
+        String newTokenId = UUID.randomUUID().toString();
+        Instant expiresAt = nextExpiration();
+
+        switch (state.rotate(claims.getTokenId(), newTokenId, expiresAt)) {
+            case ROTATED:
+                familyCache.markDirty(state);
+                revocationService.revoke(claims);
+                return jwtUtil.generateRefreshToken(
+                        claims.getSubject(), state.getFamilyId(), newTokenId, Date.from(expiresAt));
+            case REUSED:
+                familyCache.flush(state);
+                log.warn("Refresh Token 재사용 탐지 - 사용자: {}, 패밀리: {}", claims.getSubject(), state.getFamilyId());
+                throw new RuntimeException("이미 사용된 Refresh Token입니다.");
+            case EXPIRED:
+                throw new RuntimeException("만료된 Refresh Token입니다.");
+            default:
+                throw new RuntimeException("폐기된 Refresh Token입니다.");
+        }
+    }
+
+    /**
+     * 토큰 패밀리 폐기 (로그아웃 시)
+     * @param claims 검증된 Refresh Token 클레임
+     */
+    public void revoke(JwtTokenClaims claims) {
+        if (claims.getFamilyId() == null) {
+            return;
+        }
+        RefreshTokenFamilyState state = familyCache.get(claims.getFamilyId());
+        if (state != null && state.getUsername().equals(claims.getSubject())) {
+            state.revoke();
+            familyCache.markDirty(state);
+        }
+    }
+
+    private Instant nextExpiration() {
+        return Instant.now().plusMillis(jwtProperties.getRefreshTokenExpiration());
+    }
+}
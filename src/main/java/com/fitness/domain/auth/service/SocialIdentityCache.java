@@ -0,0 +1,91 @@
+package com.fitness.domain.auth.service;
+
+import com.fitness.common.config.SocialLoginProperties;
+import com.fitness.common.enums.SocialProvider;
+import com.fitness.common.exception.BusinessException;
+import com.fitness.common.exception.ErrorCode;
+import com.fitness.domain.auth.dto.SocialUserInfo;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.HexFormat;
+import java.util.function.Supplier;
+
+/**
+ * 소셜 제공자 토큰 검증 결과 캐시
+ * - 모바일 클라이언트의 재시도로 같은 제공자 토큰이 반복 전달되면 제공자 API를 다시 호출하지 않음
+ * - 키는 "제공자:토큰 SHA-256 해시"로, 원본 토큰은 메모리에 보관하지 않음
+ * - 거부된 토큰(INVALID_SOCIAL_TOKEN)은 짧은 시간 동안 음성 캐시에 보관하여 즉시 거절
+ * - 같은 토큰에 대한 동시 요청은 한 번만 제공자를 호출 (Caffeine 로딩 병합)
+ */
+@Slf4j
+@Component
+public class SocialIdentityCache {
+
+    static final String CACHE_NAME = "socialIdentity";
+    static final String NEGATIVE_CACHE_NAME = "socialIdentityRejected";
+
+    private final Cache<String, SocialUserInfo> identities;
+    private final Cache<String, Boolean> rejected;
+
+    public SocialIdentityCache(SocialLoginProperties properties, MeterRegistry meterRegistry) {
+        SocialLoginProperties.IdentityCache config = properties.getIdentityCache();
+        this.identities = Caffeine.newBuilder()
+                .maximumSize(config.getMaximumSize())
+                .expireAfterWrite(Duration.ofMillis(config.getTtl()))
+                .recordStats()
+                .build();
+        this.rejected = Caffeine.newBuilder()
+                .maximumSize(config.getMaximumSize())
+                .expireAfterWrite(Duration.ofMillis(config.getNegativeTtl()))
+                .recordStats()
+                .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, identities, CACHE_NAME);
+        CaffeineCacheMetrics.monitor(meterRegistry, rejected, NEGATIVE_CACHE_NAME);
+    }
+
+    /**
+     * 제공자 토큰에 해당하는 사용자 정보 조회 (캐시에 없으면 loader로 제공자 확인)
+     * @param provider 소셜 제공자
+     * @param providerToken 제공자 Access Token (또는 Identity Token)
+     * @param loader 캐시 미스 시 제공자에서 사용자 정보를 확인하는 함수
+     * @return 소셜 사용자 정보
+     */
+    public SocialUserInfo get(SocialProvider provider, String providerToken, Supplier<SocialUserInfo> loader) {
+        String key = cacheKey(provider, providerToken);
+
+        if (rejected.getIfPresent(key) != null) {
+            log.debug("거부된 소셜 토큰 재요청 - 제공자: {}", provider);
+            throw new BusinessException(ErrorCode.INVALID_SOCIAL_TOKEN);
+        }
+
+        try {
+            return identities.get(key, k -> loader.get());
+        } catch (BusinessException e) {
+            // 제공자 장애(SOCIAL_PROVIDER_UNAVAILABLE)는 토큰 문제가 아니므로 캐시하지 않음
+            if (e.getErrorCode() == ErrorCode.INVALID_SOCIAL_TOKEN) {
+                rejected.put(key, Boolean.TRUE);
+            }
+            throw e;
+        }
+    }
+
+    private static String cacheKey(SocialProvider provider, String providerToken) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            byte[] hash = digest.digest(providerToken.getBytes(StandardCharsets.UTF_8));
+            return provider.name() + ":" + HexFormat.of().formatHex(hash);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 알고리즘을 사용할 수 없습니다.", e);
+        }
+    }
+}
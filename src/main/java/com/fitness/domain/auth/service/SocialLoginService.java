@@ -2,7 +2,9 @@ package com.fitness.domain.auth.service;
 
 import com.fitness.domain.auth.dto.*;
 import com.fitness.common.enums.SocialProvider;
+import com.fitness.common.enums.UserStatus;
 import com.fitness.common.enums.UserType;
+import com.fitness.common.exception.BusinessException;
 import com.fitness.common.jwt.JwtUtil;
 import com.fitness.common.security.CustomUserPrincipal;
 import com.fitness.domain.auth.entity.Auth;
@@ -11,17 +13,15 @@ import com.fitness.domain.user.entity.User;
 import com.fitness.domain.user.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.http.HttpEntity;
-import org.springframework.http.HttpHeaders;
-import org.springframework.http.HttpMethod;
-import org.springframework.http.ResponseEntity;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
-import org.springframework.web.client.RestTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.util.ArrayList;
 import java.util.Collection;
@@ -38,42 +38,48 @@ import java.util.Optional;
 @Transactional
 public class SocialLoginService {
 
+    private static final int MAX_REGISTER_ATTEMPTS = 3;
+
     private final AuthRepository authRepository;
     private final UserRepository userRepository;
     private final JwtUtil jwtUtil;
+    private final RefreshTokenService refreshTokenService;
     private final PasswordEncoder passwordEncoder;
-    private final RestTemplate restTemplate;
+    private final KakaoApiClient kakaoApiClient;
+    private final AppleIdentityTokenVerifier appleIdentityTokenVerifier;
+    private final SocialIdentityCache identityCache;
+    private final TransactionTemplate transactionTemplate;
+    private final UsernameAllocator usernameAllocator;
 
     /**
      * 소셜 로그인 처리
+     * 외부 제공자 호출은 DB 트랜잭션 밖에서 수행하여 제공자 지연 중 DB 커넥션을 점유하지 않음
      * @param request 소셜 로그인 요청
      * @return 로그인 응답
      */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public LoginResponse socialLogin(SocialLoginRequest request) {
         try {
             // 소셜 제공자별 사용자 정보 조회
             SocialUserInfo socialUserInfo = getSocialUserInfo(request);
 
-            // 기존 사용자 확인 또는 신규 사용자 생성
-            Auth auth = findOrCreateUser(socialUserInfo, request.getProvider());
-
-            // JWT 토큰 생성
-            String accessToken = generateAccessToken(auth);
-            String refreshToken = jwtUtil.generateRefreshToken(auth.getUsername());
-
-            log.info("소셜 로그인 성공 - 제공자: {}, 사용자: {}, 타입: {}", 
-                    request.getProvider(), auth.getUsername(), auth.getUser().getUserType());
-
-            return LoginResponse.builder()
-                    .accessToken(accessToken)
-                    .refreshToken(refreshToken)
-                    .tokenType("Bearer")
-                    .userId(auth.getUser().getUserId())
-                    .username(auth.getUsername())
-                    .userType(auth.getUser().getUserType())
-                    .expiresIn(900L) // 15분
-                    .build();
+            // 다른 요청/서버와 사용자명 또는 소셜 계정이 충돌하면(유니크 제약 위반) 새 트랜잭션으로 재시도
+            // 같은 소셜 계정이 먼저 등록된 경우 재시도에서 기존 계정을 다시 조회하여 로그인 처리
+            for (int attempt = 1; ; attempt++) {
+                try {
+                    return transactionTemplate.execute(status -> loginOrRegister(socialUserInfo, request.getProvider()));
+                } catch (DataIntegrityViolationException e) {
+                    if (attempt >= MAX_REGISTER_ATTEMPTS) {
+                        throw e;
+                    }
+                    log.warn("소셜 사용자 등록 충돌, 재시도 - 제공자: {}, 시도: {}", request.getProvider(), attempt);
+                    usernameAllocator.invalidate(baseUsername(socialUserInfo, request.getProvider()));
+                }
+            }
 
+        } catch (BusinessException e) {
+            log.error("소셜 로그인 실패 - 제공자: {}, 원인: {}", request.getProvider(), e.getMessage());
+            throw e;
         } catch (Exception e) {
             log.error("소셜 로그인 실패 - 제공자: {}, 원인: {}", request.getProvider(), e.getMessage());
             throw new RuntimeException("소셜 로그인에 실패했습니다: " + e.getMessage());
@@ -81,9 +87,43 @@ public class SocialLoginService {
     }
 
     /**
-     * 소셜 제공자별 사용자 정보 조회
+     * 소셜 사용자 정보 조회
+     * 같은 제공자 토큰으로 재시도된 요청은 캐시된 검증 결과를 사용 (제공자 호출 없음)
      */
     private SocialUserInfo getSocialUserInfo(SocialLoginRequest request) {
+        return identityCache.get(request.getProvider(), request.getAccessToken(),
+                () -> fetchSocialUserInfo(request));
+    }
+
+    /**
+     * 기존 사용자 로그인 또는 신규 등록 후 토큰 발급 (트랜잭션 내에서 실행)
+     */
+    private LoginResponse loginOrRegister(SocialUserInfo socialUserInfo, SocialProvider provider) {
+        // 기존 사용자 확인 또는 신규 사용자 생성
+        Auth auth = findOrCreateUser(socialUserInfo, provider);
+
+        // JWT 토큰 생성
+        String accessToken = generateAccessToken(auth);
+        String refreshToken = refreshTokenService.issue(auth.getUsername());
+
+        log.info("소셜 로그인 성공 - 제공자: {}, 사용자: {}, 타입: {}", 
+                provider, auth.getUsername(), auth.getUser().getUserType());
+
+        return LoginResponse.builder()
+                .accessToken(accessToken)
+                .refreshToken(refreshToken)
+                .tokenType("Bearer")
+                .userId(auth.getUser().getUserId())
+                .username(auth.getUsername())
+                .userType(auth.getUser().getUserType())
+                .expiresIn(900L) // 15분
+                .build();
+    }
+
+    /**
+     * 소셜 제공자별 사용자 정보 조회
+     */
+    private SocialUserInfo fetchSocialUserInfo(SocialLoginRequest request) {
         switch (request.getProvider()) {
             case KAKAO:
                 return getKakaoUserInfo(request.getAccessToken());
@@ -98,44 +138,28 @@ public class SocialLoginService {
      * 카카오 사용자 정보 조회
      */
     private SocialUserInfo getKakaoUserInfo(String accessToken) {
-        try {
-            String url = "https://kapi.kakao.com/v2/user/me";
-            
-            HttpHeaders headers = new HttpHeaders();
-            headers.add("Authorization", "Bearer " + accessToken);
-            
-            HttpEntity<String> entity = new HttpEntity<>(headers);
-            ResponseEntity<KakaoUserInfo> response = restTemplate.exchange(
-                url, HttpMethod.GET, entity, KakaoUserInfo.class);
-            
-            KakaoUserInfo kakaoUserInfo = response.getBody();
-            if (kakaoUserInfo == null) {
-                throw new RuntimeException("카카오 사용자 정보를 가져올 수 없습니다.");
-            }
+        KakaoUserInfo kakaoUserInfo = kakaoApiClient.getUserInfo(accessToken);
 
-            return SocialUserInfo.builder()
-                    .socialId(String.valueOf(kakaoUserInfo.getId()))
-                    .email(kakaoUserInfo.getKakaoAccount() != null ? kakaoUserInfo.getKakaoAccount().getEmail() : null)
-                    .nickname(kakaoUserInfo.getProperties() != null ? kakaoUserInfo.getProperties().getNickname() : null)
-                    .profileImage(kakaoUserInfo.getProperties() != null ? kakaoUserInfo.getProperties().getProfileImage() : null)
-                    .provider(SocialProvider.KAKAO)
-                    .build();
-                    
-        } catch (Exception e) {
-            log.error("카카오 사용자 정보 조회 실패: {}", e.getMessage());
-            throw new RuntimeException("카카오 사용자 정보 조회에 실패했습니다.");
-        }
+        return SocialUserInfo.builder()
+                .socialId(String.valueOf(kakaoUserInfo.getId()))
+                .email(kakaoUserInfo.getKakaoAccount() != null ? kakaoUserInfo.getKakaoAccount().getEmail() : null)
+                .nickname(kakaoUserInfo.getProperties() != null ? kakaoUserInfo.getProperties().getNickname() : null)
+                .profileImage(kakaoUserInfo.getProperties() != null ? kakaoUserInfo.getProperties().getProfileImage() : null)
+                .provider(SocialProvider.KAKAO)
+                .build();
     }
 
     /**
-     * 애플 사용자 정보 조회 (클라이언트에서 제공받은 정보 사용)
+     * 애플 사용자 정보 조회
+     * 소셜 ID와 이메일은 검증된 Identity Token에서 추출하고,
+     * 토큰에 포함되지 않는 이름/프로필 이미지만 클라이언트 제공 값을 사용
      */
     private SocialUserInfo getAppleUserInfo(SocialLoginRequest request) {
-        // 애플의 경우 클라이언트에서 JWT 토큰을 파싱하여 정보를 제공
-        // 실제 구현에서는 애플 JWT 토큰 검증이 필요
+        AppleUserInfo appleUserInfo = appleIdentityTokenVerifier.verify(request.getAccessToken());
+
         return SocialUserInfo.builder()
-                .socialId(request.getSocialId())
-                .email(request.getEmail())
+                .socialId(appleUserInfo.getSub())
+                .email(appleUserInfo.getEmail())
                 .nickname(request.getNickname())
                 .profileImage(request.getProfileImage())
                 .provider(SocialProvider.APPLE)
@@ -248,16 +272,15 @@ public class SocialLoginService {
      * 사용자명 생성
      */
     private String generateUsername(SocialUserInfo socialUserInfo, SocialProvider provider) {
-        String baseUsername = provider.name().toLowerCase() + "_" + socialUserInfo.getSocialId();
-        
-        // 중복 확인 및 유니크한 사용자명 생성
-        String username = baseUsername;
-        int counter = 1;
-        while (authRepository.existsByUsername(username)) {
-            username = baseUsername + "_" + counter++;
-        }
-        
-        return username;
+        // 중복 시 "기본 사용자명_N" 형식으로 할당 (기본 사용자명별 최대 1회 조회)
+        return usernameAllocator.allocate(baseUsername(socialUserInfo, provider));
+    }
+
+    /**
+     * 기본 사용자명 (제공자_소셜ID)
+     */
+    private String baseUsername(SocialUserInfo socialUserInfo, SocialProvider provider) {
+        return provider.name().toLowerCase() + "_" + socialUserInfo.getSocialId();
     }
 
     /**
@@ -271,7 +294,7 @@ public class SocialLoginService {
                 .password(auth.getPassword())
                 .userType(auth.getUser().getUserType())
                 .authorities(getAuthorities(auth.getUser()))
-                .enabled(true)
+                .enabled(auth.getUser().getStatus() == UserStatus.ACTIVE)
                 .build();
         
         // UsernamePasswordAuthenticationToken을 통해 Authentication 생성
@@ -304,17 +327,4 @@ public class SocialLoginService {
         
         return authorities;
     }
-
-    /**
-     * 소셜 사용자 정보 내부 DTO
-     */
-    @lombok.Builder
-    @lombok.Getter
-    private static class SocialUserInfo {
-        private String socialId;
-        private String email;
-        private String nickname;
-        private String profileImage;
-        private SocialProvider provider;
-    }
-}
\ No newline at end of file
+}
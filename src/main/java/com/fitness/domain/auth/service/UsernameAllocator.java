@@ -0,0 +1,106 @@
+package com.fitness.domain.auth.service;
+
+import com.fitness.domain.auth.repository.AuthRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 사용자명 할당기
+ * - 기본 사용자명(예: kakao_12345)이 사용 중이면 "기본 사용자명_N" 형식으로 할당
+ * - 기본 사용자명별로 최초 1회만 DB를 조회하여 최대 접미사를 구하고, 이후에는 메모리 카운터로 할당
+ * - 같은 서버 내 동시 가입은 카운터로 겹치지 않으며, 다른 서버와의 충돌은 username 유니크 제약으로 감지
+ *   (충돌 시 invalidate 후 재시도하면 DB 기준으로 다시 동기화)
+ */
+@Slf4j
+@Component
+public class UsernameAllocator {
+
+    private static final char LIKE_ESCAPE = '!';
+
+    private final AuthRepository authRepository;
+    private final Cache<String, AtomicInteger> nextSuffixes = Caffeine.newBuilder()
+            .maximumSize(10_000)
+            .expireAfterAccess(Duration.ofMinutes(10))
+            .build();
+
+    public UsernameAllocator(AuthRepository authRepository) {
+        this.authRepository = authRepository;
+    }
+
+    /**
+     * 사용 가능한 사용자명 할당
+     * @param baseUsername 기본 사용자명
+     * @return 할당된 사용자명
+     */
+    public String allocate(String baseUsername) {
+        int suffix = nextSuffixes.get(baseUsername, this::loadNextSuffix).getAndIncrement();
+        return suffix == 0 ? baseUsername : baseUsername + "_" + suffix;
+    }
+
+    /**
+     * 기본 사용자명의 카운터 제거 (다음 할당 시 DB 기준으로 다시 계산)
+     * @param baseUsername 기본 사용자명
+     */
+    public void invalidate(String baseUsername) {
+        nextSuffixes.invalidate(baseUsername);
+    }
+
+    /**
+     * 기존 사용자명 중 최대 접미사를 한 번의 조회로 계산
+     * @return 다음에 할당할 접미사 (0이면 기본 사용자명 그대로 사용)
+     */
+    private AtomicInteger loadNextSuffix(String baseUsername) {
+        List<String> usernames = authRepository.findUsernamesWithPrefix(
+                baseUsername, escapeLike(baseUsername) + LIKE_ESCAPE + "_%");
+        if (usernames.isEmpty()) {
+            return new AtomicInteger(0);
+        }
+
+        int maxSuffix = 0;
+        int prefixLength = baseUsername.length() + 1;
+        for (String username : usernames) {
+            if (username.length() > prefixLength) {
+                maxSuffix = Math.max(maxSuffix, parseSuffix(username.substring(prefixLength)));
+            }
+        }
+
+        log.debug("사용자명 접미사 계산 - 기본: {}, 기존: {}건, 다음: {}", baseUsername, usernames.size(), maxSuffix + 1);
+        return new AtomicInteger(maxSuffix + 1);
+    }
+
+    /**
+     * 숫자 접미사 파싱 (숫자가 아니면 0)
+     */
+    private static int parseSuffix(String suffix) {
+        if (suffix.length() > 9) {
+            return 0;
+        }
+        for (int i = 0; i < suffix.length(); i++) {
+            if (!Character.isDigit(suffix.charAt(i))) {
+                return 0;
+            }
+        }
+        return Integer.parseInt(suffix);
+    }
+
+    /**
+     * LIKE 패턴 특수문자(%, _, !) 이스케이프
+     */
+    private static String escapeLike(String value) {
+        StringBuilder escaped = new StringBuilder(value.length() + 4);
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == '%' || c == '_' || c == LIKE_ESCAPE) {
+                escaped.append(LIKE_ESCAPE);
+            }
+            escaped.append(c);
+        }
+        return escaped.toString();
+    }
+}
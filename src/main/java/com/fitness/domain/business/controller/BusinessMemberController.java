@@ -0,0 +1,100 @@
+package com.fitness.domain.business.controller;
+
+import com.fitness.common.security.CustomUserPrincipal;
+import com.fitness.common.util.ApiResponse;
+import com.fitness.common.util.CursorPage;
+import com.fitness.domain.business.dto.BusinessMemberResponse;
+import com.fitness.domain.business.dto.BusinessMemberSearchRequest;
+import com.fitness.domain.business.dto.MemberSearchResult;
+import com.fitness.domain.business.entity.BusinessMemberStatus;
+import com.fitness.domain.business.service.BusinessMemberService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.web.PageableDefault;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.ModelAttribute;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+/**
+ * 사업장 회원 API 컨트롤러 (OWNER 전용)
+ */
+@RestController
+@RequestMapping("/api/owner/businesses/{businessId}/members")
+@RequiredArgsConstructor
+@Tag(name = "사업장 회원 API", description = "사업장 회원 목록 조회/검색 API")
+@SecurityRequirement(name = "Bearer Authentication")
+public class BusinessMemberController {
+
+    private final BusinessMemberService businessMemberService;
+
+    /**
+     * 회원 목록 (페이지)
+     */
+    @GetMapping
+    @Operation(summary = "회원 목록", description = "검색 조건에 맞는 회원을 페이지로 조회합니다. "
+            + "정렬은 businessMemberId, joinDate, status만 가능합니다. (size 최대 100)")
+    public ResponseEntity<ApiResponse<Page<BusinessMemberResponse>>> getMembers(
+            @AuthenticationPrincipal CustomUserPrincipal principal,
+            @PathVariable Long businessId,
+            @ModelAttribute BusinessMemberSearchRequest request,
+            @PageableDefault(size = 20) Pageable pageable) {
+        return ResponseEntity.ok(ApiResponse.success(businessMemberService.getMembers(
+                principal.getUserId(), request.toCondition(businessId), pageable)));
+    }
+
+    /**
+     * 회원 목록 (커서)
+     */
+    @GetMapping("/scroll")
+    @Operation(summary = "회원 목록 (커서)", description = "검색 조건에 맞는 회원을 최근 등록순으로 조회합니다. "
+            + "다음 페이지는 응답의 nextCursor를 cursor로 전달합니다. (size 최대 100)")
+    public ResponseEntity<ApiResponse<CursorPage<BusinessMemberResponse>>> getMembersByCursor(
+            @AuthenticationPrincipal CustomUserPrincipal principal,
+            @PathVariable Long businessId,
+            @ModelAttribute BusinessMemberSearchRequest request,
+            @RequestParam(required = false) Long cursor,
+            @RequestParam(defaultValue = "20") int size) {
+        return ResponseEntity.ok(ApiResponse.success(businessMemberService.getMembersByCursor(
+                principal.getUserId(), request.toCondition(businessId), cursor, size)));
+    }
+
+    /**
+     * 회원 키워드 검색
+     */
+    @GetMapping("/search")
+    @Operation(summary = "회원 키워드 검색", description = "이름, 이름 초성, 전화번호(뒷자리 4자리 또는 부분)로 "
+            + "회원을 최근 등록순으로 검색합니다. (limit 최대 50)")
+    public ResponseEntity<ApiResponse<List<MemberSearchResult>>> searchMembers(
+            @AuthenticationPrincipal CustomUserPrincipal principal,
+            @PathVariable Long businessId,
+            @RequestParam String keyword,
+            @RequestParam(required = false) BusinessMemberStatus status,
+            @RequestParam(defaultValue = "20") int limit) {
+        return ResponseEntity.ok(ApiResponse.success(businessMemberService.searchMembers(
+                principal.getUserId(), businessId, keyword, status, limit)));
+    }
+
+    /**
+     * 회원 수
+     */
+    @GetMapping("/count")
+    @Operation(summary = "회원 수", description = "검색 조건에 맞는 회원 수를 조회합니다.")
+    public ResponseEntity<ApiResponse<Long>> countMembers(
+            @AuthenticationPrincipal CustomUserPrincipal principal,
+            @PathVariable Long businessId,
+            @ModelAttribute BusinessMemberSearchRequest request) {
+        return ResponseEntity.ok(ApiResponse.success(businessMemberService.countMembers(
+                principal.getUserId(), request.toCondition(businessId))));
+    }
+}
@@ -0,0 +1,70 @@
+package com.fitness.domain.business.controller;
+
+import com.fitness.common.security.CustomUserPrincipal;
+import com.fitness.common.util.ApiResponse;
+import com.fitness.domain.business.dto.MemberImportJobResponse;
+import com.fitness.domain.business.service.MemberImportJob;
+import com.fitness.domain.business.service.MemberImportService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestPart;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * 회원 일괄 등록 API 컨트롤러 (OWNER 전용)
+ */
+@RestController
+@RequestMapping("/api/owner/businesses/{businessId}/members/imports")
+@RequiredArgsConstructor
+@Tag(name = "회원 일괄 등록 API", description = "CSV 파일로 회원/이용권 일괄 등록 API")
+@SecurityRequirement(name = "Bearer Authentication")
+public class MemberImportController {
+
+    private final MemberImportService memberImportService;
+
+    /**
+     * 회원 일괄 등록 시작
+     */
+    @PostMapping(consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    @Operation(summary = "회원 일괄 등록", description = "CSV 파일을 검증한 뒤 회원과 이용권을 일괄 등록합니다. "
+            + "검증 오류가 있으면 아무것도 등록하지 않고 오류 목록을 반환하며, "
+            + "검증을 통과하면 202 응답 후 작업 ID로 진행 상황을 조회합니다.")
+    public ResponseEntity<ApiResponse<MemberImportJobResponse>> startImport(
+            @AuthenticationPrincipal CustomUserPrincipal principal,
+            @PathVariable Long businessId,
+            @RequestPart("file") MultipartFile file) throws IOException {
+        MemberImportJobResponse response;
+        try (InputStream inputStream = file.getInputStream()) {
+            response = memberImportService.startImport(principal.getUserId(), businessId, inputStream);
+        }
+        HttpStatus status = response.getStatus() == MemberImportJob.Status.RUNNING ? HttpStatus.ACCEPTED : HttpStatus.OK;
+        return ResponseEntity.status(status).body(ApiResponse.success(response));
+    }
+
+    /**
+     * 회원 일괄 등록 진행 상황
+     */
+    @GetMapping("/{jobId}")
+    @Operation(summary = "회원 일괄 등록 진행 상황", description = "등록 완료된 행 수와 진행률, 실패 원인을 조회합니다.")
+    public ResponseEntity<ApiResponse<MemberImportJobResponse>> getJob(
+            @AuthenticationPrincipal CustomUserPrincipal principal,
+            @PathVariable Long businessId,
+            @PathVariable String jobId) {
+        return ResponseEntity.ok(ApiResponse.success(
+                memberImportService.getJob(principal.getUserId(), businessId, jobId)));
+    }
+}
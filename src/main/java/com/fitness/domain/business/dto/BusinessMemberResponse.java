@@ -0,0 +1,43 @@
+package com.fitness.domain.business.dto;
+
+import com.fitness.domain.business.entity.BusinessMember;
+import com.fitness.domain.business.entity.BusinessMemberStatus;
+import com.fitness.domain.user.entity.User;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDate;
+
+/**
+ * 사업장 회원 목록 응답 DTO
+ */
+@Getter
+@Builder
+public class BusinessMemberResponse {
+
+    private final Long businessMemberId;
+    private final Long memberId;
+    private final String name;
+    private final String phoneNumber;
+    private final BusinessMemberStatus status;
+    private final Long trainerId;
+    private final boolean smsConsent;
+    private final LocalDate joinDate;
+
+    /**
+     * 회원 정보가 함께 조회된(fetch join) 엔티티에서 변환 (담당 트레이너는 ID만 사용)
+     */
+    public static BusinessMemberResponse from(BusinessMember businessMember) {
+        User member = businessMember.getMember();
+        return BusinessMemberResponse.builder()
+                .businessMemberId(businessMember.getBusinessMemberId())
+                .memberId(member.getUserId())
+                .name(member.getName())
+                .phoneNumber(member.getPhoneNumber())
+                .status(businessMember.getStatus())
+                .trainerId(businessMember.getEmployee() != null ? businessMember.getEmployee().getUserId() : null)
+                .smsConsent(businessMember.isSmsYn())
+                .joinDate(businessMember.getJoinDate())
+                .build();
+    }
+}
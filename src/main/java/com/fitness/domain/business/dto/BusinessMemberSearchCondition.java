@@ -0,0 +1,56 @@
+package com.fitness.domain.business.dto;
+
+import com.fitness.domain.business.entity.BusinessMemberStatus;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDate;
+
+/**
+ * 사업장 회원 검색 조건 DTO
+ * null인 조건은 검색에서 제외
+ */
+@Getter
+@Builder
+public class BusinessMemberSearchCondition {
+
+    /**
+     * 사업장 ID (필수)
+     */
+    private final Long businessId;
+
+    /**
+     * 회원 이름 (앞부분 일치)
+     */
+    private final String name;
+
+    /**
+     * 전화번호 (숫자 4자리는 뒷자리 일치, 그 외에는 앞부분 일치)
+     */
+    private final String phone;
+
+    /**
+     * 회원 번호 (사업장 회원 ID)
+     */
+    private final String memberNumber;
+
+    private final BusinessMemberStatus status;
+
+    /**
+     * 담당 트레이너 ID
+     */
+    private final Long trainerId;
+
+    private final Boolean smsConsent;
+
+    private final LocalDate joinDateFrom;
+
+    private final LocalDate joinDateTo;
+
+    /**
+     * 마지막 방문일 (출석 기록 기준)
+     */
+    private final LocalDate lastVisitDateFrom;
+
+    private final LocalDate lastVisitDateTo;
+}
@@ -0,0 +1,71 @@
+package com.fitness.domain.business.dto;
+
+import com.fitness.domain.business.entity.BusinessMemberStatus;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.format.annotation.DateTimeFormat;
+
+import java.time.LocalDate;
+
+/**
+ * 사업장 회원 목록 검색 요청 (쿼리 파라미터)
+ */
+@Getter
+@Setter
+@Schema(description = "사업장 회원 목록 검색 조건")
+public class BusinessMemberSearchRequest {
+
+    @Schema(description = "회원 이름 (앞부분 일치)", example = "김")
+    private String name;
+
+    @Schema(description = "전화번호 (숫자 4자리는 뒷자리 일치, 그 외에는 앞부분 일치)", example = "1234")
+    private String phone;
+
+    @Schema(description = "회원 번호", example = "15")
+    private String memberNumber;
+
+    @Schema(description = "회원 상태", example = "ACTIVE")
+    private BusinessMemberStatus status;
+
+    @Schema(description = "담당 트레이너 ID", example = "3")
+    private Long trainerId;
+
+    @Schema(description = "SMS 수신 동의 여부", example = "true")
+    private Boolean smsConsent;
+
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+    @Schema(description = "가입일 시작", example = "2025-01-01")
+    private LocalDate joinDateFrom;
+
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+    @Schema(description = "가입일 종료", example = "2025-12-31")
+    private LocalDate joinDateTo;
+
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+    @Schema(description = "마지막 방문일 시작", example = "2025-03-01")
+    private LocalDate lastVisitDateFrom;
+
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+    @Schema(description = "마지막 방문일 종료", example = "2025-03-31")
+    private LocalDate lastVisitDateTo;
+
+    /**
+     * 사업장 검색 조건으로 변환
+     */
+    public BusinessMemberSearchCondition toCondition(Long businessId) {
+        return BusinessMemberSearchCondition.builder()
+                .businessId(businessId)
+                .name(name)
+                .phone(phone)
+                .memberNumber(memberNumber)
+                .status(status)
+                .trainerId(trainerId)
+                .smsConsent(smsConsent)
+                .joinDateFrom(joinDateFrom)
+                .joinDateTo(joinDateTo)
+                .lastVisitDateFrom(lastVisitDateFrom)
+                .lastVisitDateTo(lastVisitDateTo)
+                .build();
+    }
+}
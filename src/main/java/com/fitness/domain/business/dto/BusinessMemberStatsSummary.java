@@ -0,0 +1,27 @@
+package com.fitness.domain.business.dto;
+
+import com.fitness.domain.business.repository.BusinessMemberRepositoryCustom.BusinessMemberStats;
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * 사업장 회원 통계
+ * - 이용 중 회원: ACTIVE, EXPIRING_SOON
+ * - 비이용 회원: 이용 중이 아닌 회원 전체 (EXPIRED, SUSPENDED)
+ * - 개인레슨/일반/SMS 수신동의 회원 수는 이용 중 회원 기준
+ * - 평균 방문 빈도: 최근 30일 출석 수 / 이용 중 회원 수
+ */
+@Getter
+@Builder
+public class BusinessMemberStatsSummary implements BusinessMemberStats {
+
+    private final Long totalMembers;
+    private final Long activeMembers;
+    private final Long inactiveMembers;
+    private final Long suspendedMembers;
+    private final Long expiredMembers;
+    private final Long personalTrainingMembers;
+    private final Long generalMembers;
+    private final Long smsConsentMembers;
+    private final Double averageVisitFrequency;
+}
@@ -0,0 +1,19 @@
+package com.fitness.domain.business.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 회원 일괄 등록 검증 오류
+ */
+@Getter
+@AllArgsConstructor
+public class MemberImportError {
+
+    /**
+     * CSV 줄 번호 (헤더가 1)
+     */
+    private final int lineNumber;
+
+    private final String message;
+}
@@ -0,0 +1,57 @@
+package com.fitness.domain.business.dto;
+
+import com.fitness.domain.business.service.MemberImportJob;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 회원 일괄 등록 작업 응답 DTO
+ */
+@Getter
+@Builder
+public class MemberImportJobResponse {
+
+    private final String jobId;
+    private final MemberImportJob.Status status;
+    private final int totalRows;
+
+    /**
+     * 등록 완료(커밋)된 행 수
+     */
+    private final int processedRows;
+
+    private final int importedMemberships;
+
+    /**
+     * 진행률 (0~100)
+     */
+    private final int progress;
+
+    /**
+     * 검증 오류 (VALIDATION_FAILED인 경우)
+     */
+    private final List<MemberImportError> errors;
+
+    private final String failureMessage;
+    private final LocalDateTime startedAt;
+    private final LocalDateTime finishedAt;
+
+    public static MemberImportJobResponse from(MemberImportJob job) {
+        int processed = job.getProcessedRows();
+        return MemberImportJobResponse.builder()
+                .jobId(job.getJobId())
+                .status(job.getStatus())
+                .totalRows(job.getTotalRows())
+                .processedRows(processed)
+                .importedMemberships(job.getImportedMemberships())
+                .progress(job.getTotalRows() == 0 ? 100 : (int) (processed * 100L / job.getTotalRows()))
+                .errors(job.getErrors())
+                .failureMessage(job.getFailureMessage())
+                .startedAt(job.getStartedAt())
+                .finishedAt(job.getFinishedAt())
+                .build();
+    }
+}
@@ -0,0 +1,54 @@
+package com.fitness.domain.business.dto;
+
+import com.fitness.common.enums.PaymentMethod;
+import com.fitness.domain.business.entity.BusinessMemberStatus;
+import com.fitness.domain.membership.entity.MembershipType;
+import com.fitness.domain.user.entity.Gender;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDate;
+
+/**
+ * 회원 일괄 등록 행 (검증 완료)
+ * 상품이 지정된 행은 결제 + 이용권을 함께 등록
+ */
+@Getter
+@Builder
+public class MemberImportRow {
+
+    /**
+     * CSV 줄 번호 (오류 안내용)
+     */
+    private final int lineNumber;
+
+    private final String name;
+    private final String phoneNumber;
+    private final Gender gender;
+    private final LocalDate birthday;
+    private final BusinessMemberStatus status;
+    private final LocalDate joinDate;
+    private final boolean smsYn;
+    private final String memo;
+
+    /**
+     * 이용권 상품 ID (null이면 회원만 등록)
+     */
+    private final Long productId;
+
+    private final Integer productPrice;
+    private final MembershipType membershipType;
+    private final LocalDate serviceStartDate;
+    private final LocalDate serviceEndDate;
+
+    /**
+     * 실 결제 금액
+     */
+    private final Integer paidAmount;
+
+    private final PaymentMethod paymentMethod;
+
+    public boolean hasMembership() {
+        return productId != null;
+    }
+}
@@ -0,0 +1,20 @@
+package com.fitness.domain.business.dto;
+
+import com.fitness.domain.business.entity.BusinessMemberStatus;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 회원 검색 결과 DTO
+ * 검색 인덱스에 그대로 보관되므로 불변 객체로 유지
+ */
+@Getter
+@AllArgsConstructor
+public class MemberSearchResult {
+
+    private final Long businessMemberId;
+    private final Long memberId;
+    private final String name;
+    private final String phoneNumber;
+    private final BusinessMemberStatus status;
+}
@@ -1,6 +1,9 @@
 package com.fitness.domain.business.entity;
 
 import com.fitness.common.BaseEntity;
+import com.fitness.domain.business.service.MemberSearchIndexListener;
+import com.fitness.domain.business.service.MemberStatsCacheEvictionListener;
+import com.fitness.domain.membership.service.MembershipEligibilityListener;
 import com.fitness.domain.user.entity.User;
 import jakarta.persistence.*;
 import lombok.AccessLevel;
@@ -15,7 +18,12 @@ import java.time.LocalDate;
  * 특정 사업장에 등록된 회원 정보를 관리하는 테이블
  */
 @Entity
-@Table(name = "business_member")
+@EntityListeners({MemberSearchIndexListener.class, MemberStatsCacheEvictionListener.class,
+        MembershipEligibilityListener.class})
+@Table(name = "business_member", indexes = {
+        @Index(name = "idx_business_member_business_status", columnList = "business_id, status"),
+        @Index(name = "idx_business_member_outstanding", columnList = "business_id, total_outstanding_amount")
+})
 @Getter
 @Setter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
@@ -51,4 +59,12 @@ public class BusinessMember extends BaseEntity {
     @Column(name = "join_date", nullable = false)
     private LocalDate joinDate;
 
+    /**
+     * 총 미수금 (미수금 원장 기록과 함께 SQL로만 갱신, 엔티티 저장 시에는 쓰지 않음)
+     */
+    @Column(name = "total_outstanding_amount", nullable = false, insertable = false, updatable = false,
+            columnDefinition = "BIGINT DEFAULT 0")
+    @Setter(AccessLevel.NONE)
+    private long totalOutstandingAmount;
+
 }
\ No newline at end of file
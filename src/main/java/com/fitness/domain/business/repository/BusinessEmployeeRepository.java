@@ -0,0 +1,27 @@
+package com.fitness.domain.business.repository;
+
+import com.fitness.domain.business.entity.BusinessEmployee;
+import com.fitness.domain.business.entity.BusinessEmployeeStatus;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.Optional;
+
+/**
+ * 사업장 소속 직원 리포지토리
+ */
+@Repository
+public interface BusinessEmployeeRepository extends JpaRepository<BusinessEmployee, Long> {
+
+    /**
+     * 사업장 소속 직원 조회 (상태 조건)
+     */
+    @Query("SELECT be FROM BusinessEmployee be WHERE be.business.businessId = :businessId " +
+           "AND be.employee.userId = :employeeId AND be.status IN :statuses AND be.deletedAt IS NULL")
+    Optional<BusinessEmployee> findByBusinessIdAndEmployeeId(@Param("businessId") Long businessId,
+                                                             @Param("employeeId") Long employeeId,
+                                                             @Param("statuses") Collection<BusinessEmployeeStatus> statuses);
+}
@@ -1,5 +1,6 @@
 package com.fitness.domain.business.repository;
 
+import com.fitness.domain.business.dto.MemberSearchResult;
 import com.fitness.domain.business.entity.BusinessMember;
 import com.fitness.domain.business.entity.BusinessMemberStatus;
 import org.springframework.data.domain.Page;
@@ -17,7 +18,7 @@ import java.util.Optional;
  * 사업장-회원 소속관계 리포지토리
  */
 @Repository
-public interface BusinessMemberRepository extends JpaRepository<BusinessMember, Long> { // TODO: BusinessMemberRepositoryCustom 구현 후 재연결
+public interface BusinessMemberRepository extends JpaRepository<BusinessMember, Long>, BusinessMemberRepositoryCustom {
 
     /**
      * 특정 사업장의 특정 회원 소속 정보 조회
@@ -85,6 +86,7 @@ public interface BusinessMemberRepository extends JpaRepository<BusinessMember,
 
     /**
      * 특정 사업장의 회원 검색 (이름 또는 전화번호로 검색)
+     * 앞쪽 와일드카드로 인덱스를 사용할 수 없으므로 키워드 검색은 BusinessMemberSearchIndex 사용
      */
     @Query("SELECT bm FROM BusinessMember bm " +
            "JOIN FETCH bm.member m " +
@@ -97,6 +99,17 @@ public interface BusinessMemberRepository extends JpaRepository<BusinessMember,
             @Param("keyword") String keyword,
             Pageable pageable);
 
+    /**
+     * 회원 검색 인덱스 적재용 조회 (삭제되지 않은 소속 회원 전체)
+     */
+    @Query("SELECT new com.fitness.domain.business.dto.MemberSearchResult(" +
+           "bm.businessMemberId, m.userId, m.name, m.phoneNumber, bm.status) " +
+           "FROM BusinessMember bm " +
+           "JOIN bm.member m " +
+           "WHERE bm.business.businessId = :businessId " +
+           "AND bm.deletedAt IS NULL")
+    List<MemberSearchResult> findSearchEntriesByBusinessId(@Param("businessId") Long businessId);
+
     /**
      * 특정 트레이너의 담당 회원 목록 조회
      */
@@ -1,5 +1,7 @@
 package com.fitness.domain.business.repository;
 
+import com.fitness.common.util.CursorPage;
+import com.fitness.domain.business.dto.BusinessMemberSearchCondition;
 import com.fitness.domain.business.entity.BusinessMember;
 import com.fitness.domain.business.entity.BusinessMemberStatus;
 import org.springframework.data.domain.Page;
@@ -32,6 +34,24 @@ public interface BusinessMemberRepositoryCustom {
             Pageable pageable
     );
 
+    /**
+     * 검색 조건으로 회원 검색 (페이징)
+     * 전체 건수는 마지막 페이지 판단이 불가능한 경우에만 조회
+     */
+    Page<BusinessMember> searchMembers(BusinessMemberSearchCondition condition, Pageable pageable);
+
+    /**
+     * 검색 조건으로 회원 검색 (커서 기반, 최근 등록순)
+     * @param cursorId 이전 페이지의 nextCursor (첫 페이지는 null)
+     * @param size 페이지 크기
+     */
+    CursorPage<BusinessMember> searchMembersByCursor(BusinessMemberSearchCondition condition, Long cursorId, int size);
+
+    /**
+     * 검색 조건에 해당하는 전체 회원 수 (커서 조회 화면에서 필요할 때만 별도 호출)
+     */
+    long countMembers(BusinessMemberSearchCondition condition);
+
     /**
      * 특정 사업장의 회원 통계 조회
      */
@@ -1,22 +1,59 @@
 package com.fitness.domain.business.repository;
 
+import com.fitness.common.util.CursorPage;
+import com.fitness.domain.business.dto.BusinessMemberSearchCondition;
+import com.fitness.domain.business.dto.BusinessMemberStatsSummary;
 import com.fitness.domain.business.entity.BusinessMember;
 import com.fitness.domain.business.entity.BusinessMemberStatus;
+import com.fitness.domain.user.entity.QUser;
+import com.querydsl.core.BooleanBuilder;
+import com.querydsl.core.Tuple;
+import com.querydsl.core.types.Order;
+import com.querydsl.core.types.OrderSpecifier;
+import com.querydsl.core.types.Predicate;
+import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.core.types.dsl.CaseBuilder;
+import com.querydsl.core.types.dsl.Expressions;
+import com.querydsl.core.types.dsl.NumberExpression;
+import com.querydsl.core.types.dsl.PathBuilder;
+import com.querydsl.jpa.JPAExpressions;
+import com.querydsl.jpa.JPQLQuery;
+import com.querydsl.jpa.impl.JPAQuery;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.support.PageableExecutionUtils;
 import org.springframework.stereotype.Repository;
+import org.springframework.util.StringUtils;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
 
+import static com.fitness.domain.attendance.entity.QAttendance.attendance;
+import static com.fitness.domain.business.entity.QBusinessMember.businessMember;
+
 /**
  * BusinessMember 커스텀 리포지토리 구현체
- * 임시로 기본 구현만 제공 - 추후 QueryDSL로 구현 예정
+ * - 회원 검색은 QueryDSL 동적 조건으로 구현 (null 조건은 제외)
+ * - 페이지 조회는 전체 건수가 필요한 경우에만 COUNT 실행
+ * - 커서 조회는 business_member_id 기준 키셋 방식 (OFFSET 없음)
+ * - 회원 통계는 조건부 집계 쿼리 1회로 조회
  */
 @Repository
+@RequiredArgsConstructor
 public class BusinessMemberRepositoryImpl implements BusinessMemberRepositoryCustom {
 
+    private static final int VISIT_FREQUENCY_DAYS = 30;
+    private static final QUser member = new QUser("member");
+    private static final PathBuilder<BusinessMember> sortPath =
+            new PathBuilder<>(BusinessMember.class, businessMember.getMetadata());
+
+    private final JPAQueryFactory queryFactory;
+
     @Override
     public Page<BusinessMember> searchMembersWithConditions(
             Long businessId,
@@ -32,14 +69,221 @@ public class BusinessMemberRepositoryImpl implements BusinessMemberRepositoryCus
             LocalDate lastVisitDateTo,
             Pageable pageable
     ) {
-        // TODO: QueryDSL 구현 필요 - 임시로 빈 결과 반환
-        return new PageImpl<>(List.of(), pageable, 0);
+        BusinessMemberSearchCondition condition = BusinessMemberSearchCondition.builder()
+                .businessId(businessId)
+                .name(name)
+                .phone(phone)
+                .memberNumber(memberNumber)
+                .status(status)
+                .trainerId(trainerId)
+                .smsConsent(smsConsent)
+                .joinDateFrom(joinDateFrom)
+                .joinDateTo(joinDateTo)
+                .lastVisitDateFrom(lastVisitDateFrom)
+                .lastVisitDateTo(lastVisitDateTo)
+                .build();
+        return searchMembers(condition, pageable);
+    }
+
+    @Override
+    public Page<BusinessMember> searchMembers(BusinessMemberSearchCondition condition, Pageable pageable) {
+        Predicate where = searchPredicate(condition);
+
+        JPAQuery<BusinessMember> query = queryFactory
+                .selectFrom(businessMember)
+                .join(businessMember.member, member).fetchJoin()
+                .where(where)
+                .orderBy(orderSpecifiers(pageable.getSort()));
+        if (pageable.isPaged()) {
+            query.offset(pageable.getOffset()).limit(pageable.getPageSize());
+        }
+        List<BusinessMember> content = query.fetch();
+
+        // 첫 페이지가 다 차지 않았거나 마지막 페이지면 COUNT 생략
+        return PageableExecutionUtils.getPage(content, pageable, () -> countMembers(condition));
+    }
+
+    @Override
+    public CursorPage<BusinessMember> searchMembersByCursor(BusinessMemberSearchCondition condition,
+                                                            Long cursorId, int size) {
+        List<BusinessMember> fetched = queryFactory
+                .selectFrom(businessMember)
+                .join(businessMember.member, member).fetchJoin()
+                .where(searchPredicate(condition),
+                        cursorId != null ? businessMember.businessMemberId.lt(cursorId) : null)
+                .orderBy(businessMember.businessMemberId.desc())
+                .limit(size + 1L)
+                .fetch();
+        return CursorPage.of(fetched, size, BusinessMember::getBusinessMemberId);
     }
 
+    @Override
+    public long countMembers(BusinessMemberSearchCondition condition) {
+        JPAQuery<Long> query = queryFactory
+                .select(businessMember.count())
+                .from(businessMember);
+        // 회원 정보 조건이 없으면 조인 생략
+        if (StringUtils.hasText(condition.getName()) || StringUtils.hasText(condition.getPhone())) {
+            query.join(businessMember.member, member);
+        }
+        Long count = query.where(searchPredicate(condition)).fetchOne();
+        return count != null ? count : 0L;
+    }
+
+    /**
+     * 검색 조건 → WHERE 절 (사업장 조건은 필수)
+     */
+    private Predicate searchPredicate(BusinessMemberSearchCondition condition) {
+        return new BooleanBuilder()
+                .and(businessMember.business.businessId.eq(condition.getBusinessId()))
+                .and(businessMember.deletedAt.isNull())
+                .and(nameStartsWith(condition.getName()))
+                .and(phoneMatches(condition.getPhone()))
+                .and(memberNumberEq(condition.getMemberNumber()))
+                .and(statusEq(condition.getStatus()))
+                .and(trainerEq(condition.getTrainerId()))
+                .and(smsConsentEq(condition.getSmsConsent()))
+                .and(joinDateBetween(condition.getJoinDateFrom(), condition.getJoinDateTo()))
+                .and(lastVisitBetween(condition.getLastVisitDateFrom(), condition.getLastVisitDateTo()));
+    }
+
+    private BooleanExpression nameStartsWith(String name) {
+        // 앞부분 일치만 허용하여 이름 인덱스 사용 가능하도록 함
+        return StringUtils.hasText(name) ? member.name.startsWith(name.trim()) : null;
+    }
+
+    private BooleanExpression phoneMatches(String phone) {
+        if (!StringUtils.hasText(phone)) {
+            return null;
+        }
+        String value = phone.trim();
+        // 숫자 4자리는 전화번호 뒷자리 검색
+        return value.matches("\\d{4}") ? member.phoneNumber.endsWith(value) : member.phoneNumber.startsWith(value);
+    }
+
+    private BooleanExpression memberNumberEq(String memberNumber) {
+        if (!StringUtils.hasText(memberNumber)) {
+            return null;
+        }
+        String value = memberNumber.trim();
+        if (!value.matches("\\d{1,18}")) {
+            // 숫자가 아닌 회원 번호는 일치하는 회원 없음
+            return Expressions.FALSE.isTrue();
+        }
+        return businessMember.businessMemberId.eq(Long.valueOf(value));
+    }
+
+    private BooleanExpression statusEq(BusinessMemberStatus status) {
+        return status != null ? businessMember.status.eq(status) : null;
+    }
+
+    private BooleanExpression trainerEq(Long trainerId) {
+        return trainerId != null ? businessMember.employee.userId.eq(trainerId) : null;
+    }
+
+    private BooleanExpression smsConsentEq(Boolean smsConsent) {
+        return smsConsent != null ? businessMember.smsYn.eq(smsConsent) : null;
+    }
+
+    private BooleanExpression joinDateBetween(LocalDate from, LocalDate to) {
+        BooleanExpression fromCondition = from != null ? businessMember.joinDate.goe(from) : null;
+        BooleanExpression toCondition = to != null ? businessMember.joinDate.loe(to) : null;
+        return fromCondition != null ? fromCondition.and(toCondition) : toCondition;
+    }
+
+    /**
+     * 마지막 방문일 조건
+     * MAX 집계 대신 (사업장, 회원, 출석일시) 인덱스를 타는 EXISTS 조건으로 변환
+     * - 마지막 방문일 >= from : from 이후 출석이 존재
+     * - 마지막 방문일 <= to   : to 다음날 이후 출석이 없고, 출석 기록은 존재
+     */
+    private BooleanExpression lastVisitBetween(LocalDate from, LocalDate to) {
+        if (from == null && to == null) {
+            return null;
+        }
+        BooleanExpression visited = visitedSince(from != null ? from.atStartOfDay() : null);
+        if (to == null) {
+            return visited;
+        }
+        return visited.and(visitedSince(to.plusDays(1).atStartOfDay()).not());
+    }
+
+    /**
+     * 해당 일시 이후 출석 기록 존재 여부 (null이면 출석 기록 존재 여부)
+     */
+    private BooleanExpression visitedSince(LocalDateTime since) {
+        return JPAExpressions.selectOne()
+                .from(attendance)
+                .where(attendance.business.businessId.eq(businessMember.business.businessId),
+                        attendance.member.userId.eq(businessMember.member.userId),
+                        since != null ? attendance.attendanceDate.goe(since) : null)
+                .exists();
+    }
+
+    private static NumberExpression<Long> countWhen(BooleanExpression condition) {
+        return new CaseBuilder().when(condition).then(1L).otherwise(0L).sum();
+    }
+
+    private static long valueOf(Long value) {
+        // 대상 행이 없으면 SUM 결과는 NULL
+        return value != null ? value : 0L;
+    }
+
+    /**
+     * Pageable 정렬 → OrderSpecifier (동순위는 ID 역순으로 고정)
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private OrderSpecifier<?>[] orderSpecifiers(Sort sort) {
+        List<OrderSpecifier<?>> orders = new ArrayList<>();
+        for (Sort.Order order : sort) {
+            Order direction = order.isAscending() ? Order.ASC : Order.DESC;
+            orders.add(new OrderSpecifier(direction, sortPath.getComparable(order.getProperty(), Comparable.class)));
+        }
+        orders.add(businessMember.businessMemberId.desc());
+        return orders.toArray(OrderSpecifier[]::new);
+    }
+
+    /**
+     * 사업장 회원 통계 (조건부 집계 쿼리 1회)
+     * 상태별 COUNT를 각각 실행하지 않고 SUM(CASE ...)로 한 번에 집계
+     */
     @Override
     public BusinessMemberStats getMemberStatsByBusinessId(Long businessId) {
-        // TODO: 구현 필요
-        return null;
+        BooleanExpression using = businessMember.status.in(BusinessMemberStatus.ACTIVE, BusinessMemberStatus.EXPIRING_SOON);
+        NumberExpression<Long> active = countWhen(using);
+        NumberExpression<Long> suspended = countWhen(businessMember.status.eq(BusinessMemberStatus.SUSPENDED));
+        NumberExpression<Long> expired = countWhen(businessMember.status.eq(BusinessMemberStatus.EXPIRED));
+        NumberExpression<Long> personalTraining = countWhen(using.and(businessMember.employee.isNotNull()));
+        NumberExpression<Long> general = countWhen(using.and(businessMember.employee.isNull()));
+        NumberExpression<Long> smsConsent = countWhen(using.and(businessMember.smsYn.isTrue()));
+        JPQLQuery<Long> recentVisits = JPAExpressions
+                .select(attendance.count())
+                .from(attendance)
+                .where(attendance.business.businessId.eq(businessId),
+                        attendance.attendanceDate.goe(LocalDate.now().minusDays(VISIT_FREQUENCY_DAYS).atStartOfDay()));
+
+        Tuple row = queryFactory
+                .select(businessMember.count(), active, suspended, expired,
+                        personalTraining, general, smsConsent, recentVisits)
+                .from(businessMember)
+                .where(businessMember.business.businessId.eq(businessId),
+                        businessMember.deletedAt.isNull())
+                .fetchOne();
+
+        long total = row != null ? valueOf(row.get(businessMember.count())) : 0L;
+        long activeCount = row != null ? valueOf(row.get(active)) : 0L;
+        long visits = row != null ? valueOf(row.get(recentVisits)) : 0L;
+        return BusinessMemberStatsSummary.builder()
+                .totalMembers(total)
+                .activeMembers(activeCount)
+                .inactiveMembers(total - activeCount)
+                .suspendedMembers(row != null ? valueOf(row.get(suspended)) : 0L)
+                .expiredMembers(row != null ? valueOf(row.get(expired)) : 0L)
+                .personalTrainingMembers(row != null ? valueOf(row.get(personalTraining)) : 0L)
+                .generalMembers(row != null ? valueOf(row.get(general)) : 0L)
+                .smsConsentMembers(row != null ? valueOf(row.get(smsConsent)) : 0L)
+                .averageVisitFrequency(activeCount > 0 ? (double) visits / activeCount : 0.0)
+                .build();
     }
 
     @Override
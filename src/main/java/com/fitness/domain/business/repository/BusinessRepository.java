@@ -0,0 +1,17 @@
+package com.fitness.domain.business.repository;
+
+import com.fitness.domain.business.entity.Business;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+/**
+ * 사업장 리포지토리
+ */
+@Repository
+public interface BusinessRepository extends JpaRepository<Business, Long> {
+
+    /**
+     * 사업장 소유 여부 확인
+     */
+    boolean existsByBusinessIdAndOwner_UserId(Long businessId, Long ownerId);
+}
@@ -0,0 +1,246 @@
+package com.fitness.domain.business.repository;
+
+import com.fitness.common.util.KoreanTextUtils;
+import com.fitness.domain.business.dto.MemberImportRow;
+import com.fitness.domain.product.entity.ProductType;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 회원 일괄 등록용 JDBC 리포지토리
+ * IDENTITY 전략 엔티티는 Hibernate가 INSERT를 배치로 묶지 않으므로 JDBC 배치로 직접 저장
+ * 생성된 키는 배치 실행 후 getGeneratedKeys로 한 번에 받아 다음 테이블의 FK로 사용
+ * (MySQL은 rewriteBatchedStatements=true일 때 다중 VALUES INSERT 1회로 전송)
+ */
+@Repository
+@RequiredArgsConstructor
+public class MemberImportJdbcRepository {
+
+    private static final String IMPORT_MEMO = "회원 일괄 등록";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 사업장 회원 전화번호 목록 (숫자만, 중복 검사용)
+     */
+    public Set<String> findMemberPhoneNumbers(Long businessId) {
+        Set<String> phoneNumbers = new HashSet<>();
+        jdbcTemplate.query(
+                "SELECT u.phone_number FROM business_member bm JOIN user u ON u.user_id = bm.member_id " +
+                "WHERE bm.business_id = ? AND bm.deleted_at IS NULL AND u.phone_number IS NOT NULL",
+                rs -> {
+                    phoneNumbers.add(KoreanTextUtils.digitsOnly(rs.getString(1)));
+                },
+                businessId);
+        return phoneNumbers;
+    }
+
+    /**
+     * 사업장 판매 중 상품 (상품명 기준)
+     */
+    public Map<String, ProductRef> findActiveProductsByName(Long businessId) {
+        Map<String, ProductRef> products = new HashMap<>();
+        jdbcTemplate.query(
+                "SELECT product_id, name, product_type, price FROM products " +
+                "WHERE business_id = ? AND is_active = TRUE AND deleted_at IS NULL",
+                rs -> {
+                    products.put(rs.getString(2), new ProductRef(rs.getLong(1),
+                            ProductType.valueOf(rs.getString(3)), rs.getInt(4)));
+                },
+                businessId);
+        return products;
+    }
+
+    /**
+     * 청크 저장 (회원 User → 사업장 회원 → 결제 → 이용권)
+     * 호출하는 쪽 트랜잭션 안에서 실행
+     * @param createdBy 등록한 사장님 ID
+     * @return 등록한 이용권 수
+     */
+    public int insertChunk(Long businessId, Long createdBy, List<MemberImportRow> rows) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+
+        long[] memberIds = insertUsers(rows, createdBy, now);
+        insertBusinessMembers(businessId, rows, memberIds, createdBy, now);
+
+        List<MemberImportRow> membershipRows = new ArrayList<>();
+        List<Long> membershipMemberIds = new ArrayList<>();
+        for (int i = 0; i < rows.size(); i++) {
+            if (rows.get(i).hasMembership()) {
+                membershipRows.add(rows.get(i));
+                membershipMemberIds.add(memberIds[i]);
+            }
+        }
+        if (!membershipRows.isEmpty()) {
+            long[] paymentIds = insertPayments(businessId, membershipRows, membershipMemberIds, createdBy, now);
+            insertMemberships(membershipRows, membershipMemberIds, paymentIds, createdBy, now);
+        }
+        return membershipRows.size();
+    }
+
+    private long[] insertUsers(List<MemberImportRow> rows, Long createdBy, Timestamp now) {
+        return insertReturningKeys(
+                "INSERT INTO user (user_type, name, phone_number, gender, birthday, status, created_at, created_by) " +
+                "VALUES ('MEMBER', ?, ?, ?, ?, 'ACTIVE', ?, ?)",
+                "user_id",
+                new BatchPreparedStatementSetter() {
+                    @Override
+                    public void setValues(PreparedStatement ps, int i) throws SQLException {
+                        MemberImportRow row = rows.get(i);
+                        ps.setString(1, row.getName());
+                        ps.setString(2, row.getPhoneNumber());
+                        ps.setString(3, row.getGender() == null ? null : row.getGender().name());
+                        ps.setDate(4, row.getBirthday() == null ? null : Date.valueOf(row.getBirthday()));
+                        ps.setTimestamp(5, now);
+                        ps.setLong(6, createdBy);
+                    }
+
+                    @Override
+                    public int getBatchSize() {
+                        return rows.size();
+                    }
+                });
+    }
+
+    private void insertBusinessMembers(Long businessId, List<MemberImportRow> rows, long[] memberIds,
+                                       Long createdBy, Timestamp now) {
+        jdbcTemplate.batchUpdate(
+                "INSERT INTO business_member (member_id, business_id, status, sms_yn, memo, join_date, " +
+                "created_at, created_by) VALUES (?, ?, ?, ?, ?, ?, ?, ?)",
+                new BatchPreparedStatementSetter() {
+                    @Override
+                    public void setValues(PreparedStatement ps, int i) throws SQLException {
+                        MemberImportRow row = rows.get(i);
+                        ps.setLong(1, memberIds[i]);
+                        ps.setLong(2, businessId);
+                        ps.setString(3, row.getStatus().name());
+                        ps.setBoolean(4, row.isSmsYn());
+                        ps.setString(5, row.getMemo());
+                        ps.setDate(6, Date.valueOf(row.getJoinDate()));
+                        ps.setTimestamp(7, now);
+                        ps.setLong(8, createdBy);
+                    }
+
+                    @Override
+                    public int getBatchSize() {
+                        return rows.size();
+                    }
+                });
+    }
+
+    private long[] insertPayments(Long businessId, List<MemberImportRow> rows, List<Long> memberIds,
+                                  Long createdBy, Timestamp now) {
+        return insertReturningKeys(
+                "INSERT INTO payment (business_id, member_id, product_id, status, product_price, actual_price, " +
+                "outstanding_amount, initial_outstanding_amount, payment_method, payment_date, memo, " +
+                "created_at, created_by) VALUES (?, ?, ?, 'COMPLETED', ?, ?, 0, 0, ?, ?, ?, ?, ?)",
+                "payment_id",
+                new BatchPreparedStatementSetter() {
+                    @Override
+                    public void setValues(PreparedStatement ps, int i) throws SQLException {
+                        MemberImportRow row = rows.get(i);
+                        ps.setLong(1, businessId);
+                        ps.setLong(2, memberIds.get(i));
+                        ps.setLong(3, row.getProductId());
+                        setInteger(ps, 4, row.getProductPrice());
+                        ps.setInt(5, row.getPaidAmount());
+                        ps.setString(6, row.getPaymentMethod().name());
+                        ps.setTimestamp(7, Timestamp.valueOf(row.getServiceStartDate().atStartOfDay()));
+                        ps.setString(8, IMPORT_MEMO);
+                        ps.setTimestamp(9, now);
+                        ps.setLong(10, createdBy);
+                    }
+
+                    @Override
+                    public int getBatchSize() {
+                        return rows.size();
+                    }
+                });
+    }
+
+    private void insertMemberships(List<MemberImportRow> rows, List<Long> memberIds, long[] paymentIds,
+                                   Long createdBy, Timestamp now) {
+        jdbcTemplate.batchUpdate(
+                "INSERT INTO membership (payment_id, member_id, type, product_id, service_start_date, " +
+                "service_end_date, created_at, created_by) VALUES (?, ?, ?, ?, ?, ?, ?, ?)",
+                new BatchPreparedStatementSetter() {
+                    @Override
+                    public void setValues(PreparedStatement ps, int i) throws SQLException {
+                        MemberImportRow row = rows.get(i);
+                        ps.setLong(1, paymentIds[i]);
+                        ps.setLong(2, memberIds.get(i));
+                        ps.setString(3, row.getMembershipType().name());
+                        ps.setLong(4, row.getProductId());
+                        ps.setTimestamp(5, Timestamp.valueOf(row.getServiceStartDate().atStartOfDay()));
+                        // 종료일 당일까지 이용 가능
+                        ps.setTimestamp(6, Timestamp.valueOf(row.getServiceEndDate().atTime(23, 59, 59)));
+                        ps.setTimestamp(7, now);
+                        ps.setLong(8, createdBy);
+                    }
+
+                    @Override
+                    public int getBatchSize() {
+                        return rows.size();
+                    }
+                });
+    }
+
+    /**
+     * 배치 INSERT 후 생성된 키를 행 순서대로 반환
+     */
+    private long[] insertReturningKeys(String sql, String keyColumn, BatchPreparedStatementSetter setter) {
+        KeyHolder keyHolder = new GeneratedKeyHolder();
+        jdbcTemplate.batchUpdate(
+                connection -> connection.prepareStatement(sql, new String[]{keyColumn}),
+                setter,
+                keyHolder);
+
+        List<Map<String, Object>> keys = keyHolder.getKeyList();
+        if (keys.size() != setter.getBatchSize()) {
+            throw new IllegalStateException("생성된 키 수가 INSERT 행 수와 다릅니다: " + keys.size());
+        }
+        long[] ids = new long[keys.size()];
+        for (int i = 0; i < ids.length; i++) {
+            ids[i] = ((Number) keys.get(i).values().iterator().next()).longValue();
+        }
+        return ids;
+    }
+
+    private static void setInteger(PreparedStatement ps, int index, Integer value) throws SQLException {
+        if (value != null) {
+            ps.setInt(index, value);
+        } else {
+            ps.setNull(index, Types.INTEGER);
+        }
+    }
+
+    /**
+     * 일괄 등록 대상 상품 정보
+     */
+    @Getter
+    @AllArgsConstructor
+    public static class ProductRef {
+        private final Long productId;
+        private final ProductType productType;
+        private final Integer price;
+    }
+}
@@ -0,0 +1,95 @@
+package com.fitness.domain.business.service;
+
+import com.fitness.domain.business.dto.MemberSearchResult;
+import com.fitness.domain.business.entity.BusinessMemberStatus;
+import com.fitness.domain.business.repository.BusinessMemberRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 사업장별 회원 검색 인덱스
+ * - 체크인 등 프런트 검색을 LIKE '%keyword%' 대신 메모리 인덱스로 처리
+ * - 사업장 인덱스는 첫 검색 시 적재하고, 이후 엔티티 변경 이벤트로 증분 갱신
+ *   ({@link MemberSearchIndexListener})
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class BusinessMemberSearchIndex {
+
+    private final BusinessMemberRepository businessMemberRepository;
+
+    private final Map<Long, MemberKeywordIndex> indexes = new ConcurrentHashMap<>();
+
+    /**
+     * 사업장 회원 검색
+     * @param businessId 사업장 ID
+     * @param keyword 이름, 초성, 전화번호(뒷자리 4자리 또는 부분)
+     * @param status 회원 상태 (null이면 전체)
+     * @param limit 최대 결과 수
+     * @return 검색 결과 (최근 등록순)
+     */
+    public List<MemberSearchResult> search(Long businessId, String keyword, BusinessMemberStatus status, int limit) {
+        return indexOf(businessId).search(keyword, status, limit);
+    }
+
+    /**
+     * 사업장 소속 회원 추가/변경 반영 (적재되지 않은 사업장은 무시 - 적재 시 DB에서 읽음)
+     */
+    public void upsert(Long businessId, MemberSearchResult result) {
+        MemberKeywordIndex index = indexes.get(businessId);
+        if (index != null) {
+            index.upsert(result);
+        }
+    }
+
+    /**
+     * 사업장 소속 회원 상태 변경 반영
+     * 색인에 없는 회원(회원 정보를 읽지 않은 채 추가된 경우)이면 사업장 인덱스를 제거하여 다음 검색 시 다시 적재
+     */
+    public void updateStatus(Long businessId, Long businessMemberId, BusinessMemberStatus status) {
+        MemberKeywordIndex index = indexes.get(businessId);
+        if (index != null && !index.updateStatus(businessMemberId, status)) {
+            evict(businessId);
+        }
+    }
+
+    /**
+     * 사업장 소속 회원 제거 반영
+     */
+    public void remove(Long businessId, Long businessMemberId) {
+        MemberKeywordIndex index = indexes.get(businessId);
+        if (index != null) {
+            index.remove(businessMemberId);
+        }
+    }
+
+    /**
+     * 회원 이름/전화번호 변경 반영 (소속된 모든 사업장)
+     */
+    public void updateMember(Long memberId, String name, String phoneNumber) {
+        indexes.values().forEach(index -> index.updateMember(memberId, name, phoneNumber));
+    }
+
+    /**
+     * 사업장 인덱스 제거 (다음 검색 시 다시 적재)
+     */
+    public void evict(Long businessId) {
+        indexes.remove(businessId);
+    }
+
+    private MemberKeywordIndex indexOf(Long businessId) {
+        MemberKeywordIndex index = indexes.computeIfAbsent(businessId, key -> new MemberKeywordIndex());
+        index.loadIfNecessary(() -> {
+            List<MemberSearchResult> results = businessMemberRepository.findSearchEntriesByBusinessId(businessId);
+            log.info("회원 검색 인덱스 적재 - 사업장: {}, 회원 수: {}", businessId, results.size());
+            return results;
+        });
+        return index;
+    }
+}
@@ -0,0 +1,106 @@
+package com.fitness.domain.business.service;
+
+import com.fitness.common.exception.BusinessException;
+import com.fitness.common.exception.ErrorCode;
+import com.fitness.common.util.CursorPage;
+import com.fitness.domain.business.dto.BusinessMemberResponse;
+import com.fitness.domain.business.dto.BusinessMemberSearchCondition;
+import com.fitness.domain.business.dto.MemberSearchResult;
+import com.fitness.domain.business.entity.BusinessMemberStatus;
+import com.fitness.domain.business.repository.BusinessMemberRepository;
+import com.fitness.domain.business.repository.BusinessRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.StringUtils;
+
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 사업장 회원 목록 조회 서비스
+ * - 페이지 조회: 전체 건수가 필요한 관리 화면용 (마지막 페이지 판단이 가능하면 COUNT 생략)
+ * - 커서 조회: 무한 스크롤용 (OFFSET/COUNT 없음), 전체 건수는 필요할 때만 별도 조회
+ * - 키워드 검색: LIKE '%keyword%' 대신 사업장별 메모리 검색 인덱스 사용 ({@link BusinessMemberSearchIndex})
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class BusinessMemberService {
+
+    static final int MAX_PAGE_SIZE = 100;
+    static final int MAX_SEARCH_LIMIT = 50;
+
+    /**
+     * 정렬 허용 필드 (인덱스/엔티티에 존재하는 값만 허용)
+     */
+    private static final Set<String> SORTABLE_PROPERTIES = Set.of("businessMemberId", "joinDate", "status");
+
+    private final BusinessRepository businessRepository;
+    private final BusinessMemberRepository businessMemberRepository;
+    private final BusinessMemberSearchIndex searchIndex;
+
+    /**
+     * 회원 목록 페이지 조회
+     */
+    public Page<BusinessMemberResponse> getMembers(Long ownerId, BusinessMemberSearchCondition condition,
+                                                   Pageable pageable) {
+        verifyOwner(ownerId, condition.getBusinessId());
+        if (pageable.isPaged() && pageable.getPageSize() > MAX_PAGE_SIZE) {
+            throw new BusinessException(ErrorCode.INVALID_INPUT);
+        }
+        for (Sort.Order order : pageable.getSort()) {
+            if (!SORTABLE_PROPERTIES.contains(order.getProperty())) {
+                throw new BusinessException(ErrorCode.INVALID_INPUT);
+            }
+        }
+        return businessMemberRepository.searchMembers(condition, pageable).map(BusinessMemberResponse::from);
+    }
+
+    /**
+     * 회원 목록 커서 조회 (최근 등록순)
+     * @param cursorId 이전 페이지의 nextCursor (null이면 첫 페이지)
+     * @param size 페이지 크기 (1 ~ MAX_PAGE_SIZE)
+     */
+    public CursorPage<BusinessMemberResponse> getMembersByCursor(Long ownerId, BusinessMemberSearchCondition condition,
+                                                                 Long cursorId, int size) {
+        if (size < 1 || size > MAX_PAGE_SIZE) {
+            throw new BusinessException(ErrorCode.INVALID_INPUT);
+        }
+        verifyOwner(ownerId, condition.getBusinessId());
+        return businessMemberRepository.searchMembersByCursor(condition, cursorId, size)
+                .map(BusinessMemberResponse::from);
+    }
+
+    /**
+     * 검색 조건에 해당하는 회원 수 (커서 조회 화면의 전체 건수 표시용)
+     */
+    public long countMembers(Long ownerId, BusinessMemberSearchCondition condition) {
+        verifyOwner(ownerId, condition.getBusinessId());
+        return businessMemberRepository.countMembers(condition);
+    }
+
+    /**
+     * 회원 키워드 검색 (이름, 초성, 전화번호 - 메모리 검색 인덱스 사용)
+     * @param keyword 검색어
+     * @param status 회원 상태 (null이면 전체)
+     * @param limit 최대 결과 수 (1 ~ MAX_SEARCH_LIMIT)
+     */
+    public List<MemberSearchResult> searchMembers(Long ownerId, Long businessId, String keyword,
+                                                  BusinessMemberStatus status, int limit) {
+        if (!StringUtils.hasText(keyword) || limit < 1 || limit > MAX_SEARCH_LIMIT) {
+            throw new BusinessException(ErrorCode.INVALID_INPUT);
+        }
+        verifyOwner(ownerId, businessId);
+        return searchIndex.search(businessId, keyword, status, limit);
+    }
+
+    private void verifyOwner(Long ownerId, Long businessId) {
+        if (!businessRepository.existsByBusinessIdAndOwner_UserId(businessId, ownerId)) {
+            throw new BusinessException(ErrorCode.BUSINESS_NOT_FOUND);
+        }
+    }
+}
@@ -0,0 +1,55 @@
+package com.fitness.domain.business.service;
+
+import com.fitness.common.config.BusinessProperties;
+import com.fitness.domain.business.repository.BusinessMemberRepository;
+import com.fitness.domain.business.repository.BusinessMemberRepositoryCustom.BusinessMemberStats;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+
+/**
+ * 사업장 회원 통계 서비스
+ * - 대시보드 조회마다 집계하지 않도록 사업장별 결과를 짧게 캐시
+ * - 회원 소속/상태가 바뀌면 커밋 후 해당 사업장 캐시 제거 ({@link MemberStatsCacheEvictionListener})
+ */
+@Service
+public class BusinessMemberStatsService {
+
+    static final String CACHE_NAME = "businessMemberStats";
+
+    private final BusinessMemberRepository businessMemberRepository;
+    private final Cache<Long, BusinessMemberStats> statsCache;
+
+    public BusinessMemberStatsService(BusinessMemberRepository businessMemberRepository,
+                                      BusinessProperties properties,
+                                      MeterRegistry meterRegistry) {
+        this.businessMemberRepository = businessMemberRepository;
+        BusinessProperties.StatsCache config = properties.getStatsCache();
+        this.statsCache = Caffeine.newBuilder()
+                .maximumSize(config.getMaximumSize())
+                .expireAfterWrite(Duration.ofMillis(config.getTtl()))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, statsCache, CACHE_NAME);
+    }
+
+    /**
+     * 사업장 회원 통계 조회 (동시 요청은 집계 1회로 병합)
+     * @param businessId 사업장 ID
+     * @return 회원 통계
+     */
+    public BusinessMemberStats getMemberStats(Long businessId) {
+        return statsCache.get(businessId, businessMemberRepository::getMemberStatsByBusinessId);
+    }
+
+    /**
+     * 사업장 회원 통계 캐시 제거
+     */
+    public void evict(Long businessId) {
+        statsCache.invalidate(businessId);
+    }
+}
@@ -0,0 +1,86 @@
+package com.fitness.domain.business.service;
+
+import com.fitness.domain.business.dto.MemberImportError;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 회원 일괄 등록 작업 진행 상황 (메모리 보관)
+ * 청크 단위로 커밋되므로 실패 시 processedRows까지는 등록된 상태
+ */
+@Getter
+public class MemberImportJob {
+
+    private final String jobId = UUID.randomUUID().toString();
+    private final Long businessId;
+    private final int totalRows;
+    private final List<MemberImportError> errors;
+    private final LocalDateTime startedAt = LocalDateTime.now();
+
+    private volatile Status status;
+    private volatile int processedRows;
+    private volatile int importedMemberships;
+    private volatile String failureMessage;
+    private volatile LocalDateTime finishedAt;
+
+    private MemberImportJob(Long businessId, int totalRows, List<MemberImportError> errors, Status status) {
+        this.businessId = businessId;
+        this.totalRows = totalRows;
+        this.errors = errors;
+        this.status = status;
+    }
+
+    /**
+     * 검증 통과 - 등록 진행
+     */
+    static MemberImportJob running(Long businessId, int totalRows) {
+        return new MemberImportJob(businessId, totalRows, List.of(), Status.RUNNING);
+    }
+
+    /**
+     * 검증 실패 - 아무것도 등록하지 않음
+     */
+    static MemberImportJob rejected(Long businessId, int totalRows, List<MemberImportError> errors) {
+        MemberImportJob job = new MemberImportJob(businessId, totalRows, List.copyOf(errors), Status.VALIDATION_FAILED);
+        job.finishedAt = job.startedAt;
+        return job;
+    }
+
+    /**
+     * 청크 커밋 후 진행 상황 반영 (작업 스레드 1개만 호출)
+     */
+    void progress(int rows, int memberships) {
+        processedRows += rows;
+        importedMemberships += memberships;
+    }
+
+    void complete() {
+        status = Status.COMPLETED;
+        finishedAt = LocalDateTime.now();
+    }
+
+    void fail(String message) {
+        failureMessage = message;
+        status = Status.FAILED;
+        finishedAt = LocalDateTime.now();
+    }
+
+    public boolean isRunning() {
+        return status == Status.RUNNING;
+    }
+
+    @Getter
+    @AllArgsConstructor
+    public enum Status {
+        RUNNING("진행 중"),
+        COMPLETED("완료"),
+        VALIDATION_FAILED("검증 실패"),
+        FAILED("실패");
+
+        private final String description;
+    }
+}
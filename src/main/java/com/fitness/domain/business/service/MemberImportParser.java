@@ -0,0 +1,287 @@
+package com.fitness.domain.business.service;
+
+import com.fitness.common.enums.PaymentMethod;
+import com.fitness.common.exception.BusinessException;
+import com.fitness.common.exception.ErrorCode;
+import com.fitness.common.util.CsvReader;
+import com.fitness.common.util.KoreanTextUtils;
+import com.fitness.domain.business.dto.MemberImportError;
+import com.fitness.domain.business.dto.MemberImportRow;
+import com.fitness.domain.business.entity.BusinessMemberStatus;
+import com.fitness.domain.business.repository.MemberImportJdbcRepository.ProductRef;
+import com.fitness.domain.membership.entity.MembershipType;
+import com.fitness.domain.product.entity.ProductType;
+import com.fitness.domain.user.entity.Gender;
+import lombok.Getter;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * 회원 일괄 등록 CSV 파서 / 검증기
+ * - 첫 행은 헤더 (컬럼 순서 무관, 내보내기 CSV의 회원 컬럼명과 동일)
+ * - 필수: 이름, 전화번호 / 선택: 성별, 생년월일, 상태, 등록일, 문자수신, 메모
+ * - 이용권: 상품명, 이용시작일, 이용종료일, 결제수단 (선택: 이용권유형, 결제금액 - 기본값 상품 가격)
+ * - 코드값은 코드(ACTIVE) 또는 한글 설명(활성) 모두 허용
+ * 오류가 있는 행을 모두 모아 반환하며, 오류가 하나라도 있으면 아무것도 저장하지 않음
+ */
+class MemberImportParser {
+
+    static final int MAX_ERRORS = 100;
+
+    private static final String NAME = "이름";
+    private static final String PHONE = "전화번호";
+    private static final String GENDER = "성별";
+    private static final String BIRTHDAY = "생년월일";
+    private static final String STATUS = "상태";
+    private static final String JOIN_DATE = "등록일";
+    private static final String SMS = "문자수신";
+    private static final String MEMO = "메모";
+    private static final String PRODUCT = "상품명";
+    private static final String MEMBERSHIP_TYPE = "이용권유형";
+    private static final String START_DATE = "이용시작일";
+    private static final String END_DATE = "이용종료일";
+    private static final String PAID_AMOUNT = "결제금액";
+    private static final String PAYMENT_METHOD = "결제수단";
+
+    private final Map<String, ProductRef> products;
+    private final Set<String> phoneNumbers;
+    private final int maxRows;
+    private final LocalDate today = LocalDate.now();
+
+    @Getter
+    private final List<MemberImportRow> rows = new ArrayList<>();
+
+    @Getter
+    private final List<MemberImportError> errors = new ArrayList<>();
+
+    /**
+     * @param products 사업장 판매 중 상품 (상품명 기준)
+     * @param phoneNumbers 이미 등록된 회원 전화번호 (숫자만, 파일 내 중복 검사에도 사용)
+     * @param maxRows 최대 행 수 (초과 시 INVALID_INPUT)
+     */
+    MemberImportParser(Map<String, ProductRef> products, Set<String> phoneNumbers, int maxRows) {
+        this.products = products;
+        this.phoneNumbers = phoneNumbers;
+        this.maxRows = maxRows;
+    }
+
+    /**
+     * 전체 파일 검증
+     * @return 오류가 없으면 true
+     */
+    boolean parse(CsvReader reader) {
+        List<String> header = reader.readRow();
+        if (header == null) {
+            throw new BusinessException(ErrorCode.INVALID_INPUT);
+        }
+        Map<String, Integer> columns = new HashMap<>();
+        for (int i = 0; i < header.size(); i++) {
+            columns.put(header.get(i).trim(), i);
+        }
+        if (!columns.containsKey(NAME) || !columns.containsKey(PHONE)) {
+            errors.add(new MemberImportError(1, "헤더에 이름, 전화번호 컬럼이 필요합니다."));
+            return false;
+        }
+
+        int rowCount = 0;
+        List<String> values;
+        while ((values = reader.readRow()) != null && errors.size() < MAX_ERRORS) {
+            if (isBlank(values)) {
+                continue;
+            }
+            if (++rowCount > maxRows) {
+                throw new BusinessException(ErrorCode.INVALID_INPUT);
+            }
+            Row row = new Row(reader.getRowLineNumber(), values, columns);
+            try {
+                rows.add(parseRow(row));
+            } catch (IllegalArgumentException e) {
+                errors.add(new MemberImportError(row.lineNumber, e.getMessage()));
+            }
+        }
+        return errors.isEmpty();
+    }
+
+    private MemberImportRow parseRow(Row row) {
+        String name = required(row, NAME);
+        if (name.length() > 100) {
+            throw new IllegalArgumentException("이름은 100자 이하로 입력해주세요.");
+        }
+        String phoneNumber = phoneNumber(required(row, PHONE));
+
+        MemberImportRow.MemberImportRowBuilder builder = MemberImportRow.builder()
+                .lineNumber(row.lineNumber)
+                .name(name)
+                .phoneNumber(phoneNumber)
+                .gender(code(row, GENDER, Gender.class, Gender::getDescription, null))
+                .birthday(date(row, BIRTHDAY, null))
+                .status(code(row, STATUS, BusinessMemberStatus.class, BusinessMemberStatus::getDescription,
+                        BusinessMemberStatus.ACTIVE))
+                .joinDate(date(row, JOIN_DATE, today))
+                .smsYn(yesNo(row, SMS))
+                .memo(row.get(MEMO));
+
+        String productName = row.get(PRODUCT);
+        if (productName == null) {
+            if (row.get(START_DATE) != null || row.get(END_DATE) != null || row.get(PAID_AMOUNT) != null) {
+                throw new IllegalArgumentException("이용권을 등록하려면 상품명을 입력해주세요.");
+            }
+        } else {
+            ProductRef product = products.get(productName);
+            if (product == null) {
+                throw new IllegalArgumentException("판매 중인 상품이 아닙니다: " + productName);
+            }
+            LocalDate startDate = date(row, START_DATE, null);
+            LocalDate endDate = date(row, END_DATE, null);
+            if (startDate == null || endDate == null) {
+                throw new IllegalArgumentException("이용시작일과 이용종료일을 입력해주세요.");
+            }
+            if (endDate.isBefore(startDate)) {
+                throw new IllegalArgumentException("이용종료일이 이용시작일보다 빠릅니다.");
+            }
+            PaymentMethod paymentMethod = code(row, PAYMENT_METHOD, PaymentMethod.class,
+                    PaymentMethod::getDescription, null);
+            if (paymentMethod == null) {
+                throw new IllegalArgumentException("결제수단을 입력해주세요.");
+            }
+            builder.productId(product.getProductId())
+                    .productPrice(product.getPrice())
+                    .membershipType(code(row, MEMBERSHIP_TYPE, MembershipType.class, MembershipType::getDescription,
+                            product.getProductType() == ProductType.PERSONAL_TRAINING
+                                    ? MembershipType.PT : MembershipType.GYM))
+                    .serviceStartDate(startDate)
+                    .serviceEndDate(endDate)
+                    .paidAmount(amount(row, PAID_AMOUNT, product.getPrice()))
+                    .paymentMethod(paymentMethod);
+        }
+
+        // 다른 검증을 모두 통과한 행만 전화번호 선점
+        if (!phoneNumbers.add(KoreanTextUtils.digitsOnly(phoneNumber))) {
+            throw new IllegalArgumentException("이미 등록되었거나 파일 안에서 중복된 전화번호입니다: " + phoneNumber);
+        }
+        return builder.build();
+    }
+
+    private static String required(Row row, String column) {
+        String value = row.get(column);
+        if (value == null) {
+            throw new IllegalArgumentException(column + "을(를) 입력해주세요.");
+        }
+        return value;
+    }
+
+    /**
+     * 전화번호 정규화 (01012345678 → 010-1234-5678)
+     */
+    private static String phoneNumber(String value) {
+        String digits = KoreanTextUtils.digitsOnly(value);
+        if (!digits.startsWith("01") || digits.length() < 10 || digits.length() > 11) {
+            throw new IllegalArgumentException("휴대폰 번호 형식이 아닙니다: " + value);
+        }
+        int middleEnd = digits.length() - 4;
+        return digits.substring(0, 3) + "-" + digits.substring(3, middleEnd) + "-" + digits.substring(middleEnd);
+    }
+
+    private static LocalDate date(Row row, String column, LocalDate defaultValue) {
+        String value = row.get(column);
+        if (value == null) {
+            return defaultValue;
+        }
+        try {
+            return LocalDate.parse(value.replace('.', '-').replace('/', '-'));
+        } catch (DateTimeParseException e) {
+            throw new IllegalArgumentException(column + " 형식이 올바르지 않습니다 (예: 2025-03-10): " + value);
+        }
+    }
+
+    private static Integer amount(Row row, String column, Integer defaultValue) {
+        String value = row.get(column);
+        if (value == null) {
+            return defaultValue;
+        }
+        try {
+            int amount = Integer.parseInt(value.replace(",", ""));
+            if (amount < 0) {
+                throw new NumberFormatException();
+            }
+            return amount;
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException(column + "은(는) 0 이상의 숫자로 입력해주세요: " + value);
+        }
+    }
+
+    private static boolean yesNo(Row row, String column) {
+        String value = row.get(column);
+        if (value == null || value.equalsIgnoreCase("Y")) {
+            return true;
+        }
+        if (value.equalsIgnoreCase("N")) {
+            return false;
+        }
+        throw new IllegalArgumentException(column + "은(는) Y 또는 N으로 입력해주세요: " + value);
+    }
+
+    /**
+     * 코드(ACTIVE) 또는 한글 설명(활성)으로 Enum 변환
+     */
+    private static <E extends Enum<E>> E code(Row row, String column, Class<E> type,
+                                              Function<E, String> description, E defaultValue) {
+        String value = row.get(column);
+        if (value == null) {
+            return defaultValue;
+        }
+        for (E constant : type.getEnumConstants()) {
+            if (constant.name().equalsIgnoreCase(value) || description.apply(constant).equals(value)) {
+                return constant;
+            }
+        }
+        throw new IllegalArgumentException(column + " 값이 올바르지 않습니다: " + value);
+    }
+
+    private static boolean isBlank(List<String> values) {
+        for (String value : values) {
+            if (!value.isBlank()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * CSV 행 (헤더 이름으로 값 조회, 빈 값은 null)
+     */
+    private static final class Row {
+        private final int lineNumber;
+        private final List<String> values;
+        private final Map<String, Integer> columns;
+
+        private Row(int lineNumber, List<String> values, Map<String, Integer> columns) {
+            this.lineNumber = lineNumber;
+            this.values = values;
+            this.columns = columns;
+        }
+
+        private String get(String column) {
+            Integer index = columns.get(column);
+            if (index == null || index >= values.size()) {
+                return null;
+            }
+            String value = values.get(index).trim();
+            if (value.isEmpty()) {
+                return null;
+            }
+            // 내보내기 시 수식 방지로 붙인 ' 제거
+            if (value.length() > 1 && value.charAt(0) == '\'' && "=+-@".indexOf(value.charAt(1)) >= 0) {
+                return value.substring(1);
+            }
+            return value;
+        }
+    }
+}
@@ -0,0 +1,205 @@
+package com.fitness.domain.business.service;
+
+import com.fitness.common.config.BusinessProperties;
+import com.fitness.common.exception.BusinessException;
+import com.fitness.common.exception.ErrorCode;
+import com.fitness.common.util.CsvReader;
+import com.fitness.domain.business.dto.MemberImportJobResponse;
+import com.fitness.domain.business.dto.MemberImportRow;
+import com.fitness.domain.business.repository.BusinessRepository;
+import com.fitness.domain.business.repository.MemberImportJdbcRepository;
+import com.fitness.domain.membership.service.MembershipEligibilityIndex;
+import com.fitness.domain.statistics.dto.DailyStatsKey;
+import com.fitness.domain.statistics.service.BusinessDailyStatsService;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.InputStream;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * 회원 일괄 등록 서비스 (다른 프로그램에서 이전하는 사업장용)
+ * 1. 요청 스레드에서 CSV 전체를 검증 - 오류가 있으면 아무것도 저장하지 않고 오류 목록 반환
+ * 2. 전용 스레드 풀에서 batchSize 단위 청크마다 트랜잭션 1개로 JDBC 배치 저장, 청크 커밋마다 진행 상황 갱신
+ * 3. 완료 후 검색 인덱스 / 회원 통계 캐시 무효화, 체크인 자격 인덱스 재적재, 이관된 결제 일자의 일별 통계 재집계
+ * JPA 엔티티 리스너를 거치지 않으므로 후처리는 여기서 직접 수행
+ */
+@Slf4j
+@Service
+public class MemberImportService {
+
+    private final MemberImportJdbcRepository importRepository;
+    private final BusinessRepository businessRepository;
+    private final BusinessMemberSearchIndex searchIndex;
+    private final BusinessMemberStatsService memberStatsService;
+    private final BusinessDailyStatsService dailyStatsService;
+    private final MembershipEligibilityIndex eligibilityIndex;
+    private final ThreadPoolTaskExecutor memberImportExecutor;
+    private final TransactionTemplate transactionTemplate;
+    private final BusinessProperties.MemberImport properties;
+    private final Cache<String, MemberImportJob> jobs;
+
+    public MemberImportService(MemberImportJdbcRepository importRepository,
+                               BusinessRepository businessRepository,
+                               BusinessMemberSearchIndex searchIndex,
+                               BusinessMemberStatsService memberStatsService,
+                               BusinessDailyStatsService dailyStatsService,
+                               MembershipEligibilityIndex eligibilityIndex,
+                               @Qualifier("memberImportExecutor") ThreadPoolTaskExecutor memberImportExecutor,
+                               PlatformTransactionManager transactionManager,
+                               BusinessProperties businessProperties) {
+        this.importRepository = importRepository;
+        this.businessRepository = businessRepository;
+        this.searchIndex = searchIndex;
+        this.memberStatsService = memberStatsService;
+        this.dailyStatsService = dailyStatsService;
+        this.eligibilityIndex = eligibilityIndex;
+        this.memberImportExecutor = memberImportExecutor;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.properties = businessProperties.getMemberImport();
+        this.jobs = Caffeine.newBuilder()
+                .expireAfterWrite(Duration.ofMillis(properties.getRetention()))
+                .build();
+    }
+
+    /**
+     * CSV 검증 후 일괄 등록 시작
+     * @param ownerId 요청한 사장님 ID
+     * @param businessId 사업장 ID
+     * @param inputStream CSV 파일 (UTF-8)
+     * @return 작업 상태 (검증 실패 시 VALIDATION_FAILED + 오류 목록, 그 외 RUNNING)
+     */
+    public MemberImportJobResponse startImport(Long ownerId, Long businessId, InputStream inputStream) {
+        if (!businessRepository.existsByBusinessIdAndOwner_UserId(businessId, ownerId)) {
+            throw new BusinessException(ErrorCode.BUSINESS_NOT_FOUND);
+        }
+        MemberImportParser parser = new MemberImportParser(
+                importRepository.findActiveProductsByName(businessId),
+                importRepository.findMemberPhoneNumbers(businessId),
+                properties.getMaxRows());
+        boolean valid;
+        try (CsvReader reader = new CsvReader(inputStream)) {
+            valid = parser.parse(reader);
+        }
+
+        List<MemberImportRow> rows = parser.getRows();
+        if (!valid) {
+            MemberImportJob job = MemberImportJob.rejected(businessId, rows.size() + parser.getErrors().size(),
+                    parser.getErrors());
+            jobs.put(job.getJobId(), job);
+            return MemberImportJobResponse.from(job);
+        }
+        if (rows.isEmpty()) {
+            throw new BusinessException(ErrorCode.INVALID_INPUT);
+        }
+
+        MemberImportJob job = MemberImportJob.running(businessId, rows.size());
+        register(job);
+        try {
+            memberImportExecutor.execute(() -> importRows(job, ownerId, rows));
+        } catch (RuntimeException e) {
+            jobs.invalidate(job.getJobId());
+            throw e;
+        }
+        log.info("회원 일괄 등록 시작 - 사업장: {}, 작업: {}, 행: {}", businessId, job.getJobId(), rows.size());
+        return MemberImportJobResponse.from(job);
+    }
+
+    /**
+     * 진행 중 작업 등록 (사업장당 1개)
+     */
+    private synchronized void register(MemberImportJob job) {
+        if (jobs.asMap().values().stream()
+                .anyMatch(running -> running.getBusinessId().equals(job.getBusinessId()) && running.isRunning())) {
+            throw new BusinessException(ErrorCode.MEMBER_IMPORT_IN_PROGRESS);
+        }
+        jobs.put(job.getJobId(), job);
+    }
+
+    /**
+     * 작업 진행 상황 조회
+     */
+    public MemberImportJobResponse getJob(Long ownerId, Long businessId, String jobId) {
+        if (!businessRepository.existsByBusinessIdAndOwner_UserId(businessId, ownerId)) {
+            throw new BusinessException(ErrorCode.BUSINESS_NOT_FOUND);
+        }
+        MemberImportJob job = jobs.getIfPresent(jobId);
+        if (job == null || !job.getBusinessId().equals(businessId)) {
+            throw new BusinessException(ErrorCode.MEMBER_IMPORT_NOT_FOUND);
+        }
+        return MemberImportJobResponse.from(job);
+    }
+
+    /**
+     * 청크 단위 저장 (청크마다 별도 트랜잭션)
+     * 후처리까지 끝난 뒤 완료/실패 상태로 변경
+     */
+    void importRows(MemberImportJob job, Long ownerId, List<MemberImportRow> rows) {
+        Long businessId = job.getBusinessId();
+        int batchSize = properties.getBatchSize();
+        long startedAt = System.nanoTime();
+        RuntimeException failure = null;
+        try {
+            for (int from = 0; from < rows.size(); from += batchSize) {
+                List<MemberImportRow> chunk = rows.subList(from, Math.min(from + batchSize, rows.size()));
+                Integer memberships = transactionTemplate.execute(
+                        status -> importRepository.insertChunk(businessId, ownerId, chunk));
+                job.progress(chunk.size(), memberships);
+            }
+        } catch (RuntimeException e) {
+            failure = e;
+        }
+
+        if (job.getProcessedRows() > 0) {
+            refreshDerivedData(businessId, rows.subList(0, job.getProcessedRows()));
+        }
+        if (failure == null) {
+            job.complete();
+            log.info("회원 일괄 등록 완료 - 사업장: {}, 작업: {}, 행: {}, 소요: {}ms", businessId, job.getJobId(),
+                    rows.size(), (System.nanoTime() - startedAt) / 1_000_000);
+        } else {
+            job.fail(failure.getMessage());
+            log.error("회원 일괄 등록 실패 - 사업장: {}, 작업: {}, 등록된 행: {}, 원인: {}", businessId, job.getJobId(),
+                    job.getProcessedRows(), failure.getMessage());
+        }
+        // 완료 시점부터 보관 시간 계산
+        jobs.put(job.getJobId(), job);
+    }
+
+    /**
+     * 엔티티 리스너가 하던 후처리 (검색 인덱스, 회원 통계 캐시, 체크인 자격 인덱스, 일별 통계)
+     */
+    private void refreshDerivedData(Long businessId, List<MemberImportRow> importedRows) {
+        searchIndex.evict(businessId);
+        memberStatsService.evict(businessId);
+        try {
+            eligibilityIndex.reload(businessId);
+        } catch (RuntimeException e) {
+            log.error("체크인 자격 인덱스 재적재 실패 - 사업장: {}, 원인: {}", businessId, e.getMessage());
+        }
+
+        Set<LocalDate> paymentDates = new TreeSet<>();
+        for (MemberImportRow row : importedRows) {
+            if (row.hasMembership()) {
+                paymentDates.add(row.getServiceStartDate());
+            }
+        }
+        for (LocalDate date : paymentDates) {
+            try {
+                dailyStatsService.recompute(new DailyStatsKey(businessId, date));
+            } catch (RuntimeException e) {
+                log.error("일별 통계 재집계 실패 - 사업장: {}, 일자: {}, 원인: {}", businessId, date, e.getMessage());
+            }
+        }
+    }
+}
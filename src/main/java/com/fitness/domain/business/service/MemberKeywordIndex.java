@@ -0,0 +1,332 @@
+package com.fitness.domain.business.service;
+
+import com.fitness.common.util.KoreanTextUtils;
+import com.fitness.domain.business.dto.MemberSearchResult;
+import com.fitness.domain.business.entity.BusinessMemberStatus;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+/**
+ * 사업장 1곳의 회원 키워드 검색 인덱스 (메모리)
+ * - 이름: 1글자/2글자(bigram) 인덱스, 부분 일치
+ * - 초성: 이름 초성 문자열의 1글자/2글자 인덱스 (ㄱㅁㅅ → 김민수)
+ * - 전화번호: 뒷자리 4자리 인덱스 + 숫자 bigram 인덱스 (부분 일치)
+ * 후보는 가장 작은 posting 목록에서 골라 원문으로 재확인하므로 오탐 없음
+ * 읽기는 동시에, 변경/적재는 단독으로 수행 (ReadWriteLock)
+ */
+public class MemberKeywordIndex {
+
+    private static final int PHONE_SUFFIX_LENGTH = 4;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private final Map<Long, Entry> entries = new HashMap<>();
+    private final Map<Long, Set<Long>> entryIdsByMemberId = new HashMap<>();
+    private final Map<String, TreeSet<Long>> nameGrams = new HashMap<>();
+    private final Map<String, TreeSet<Long>> chosungGrams = new HashMap<>();
+    private final Map<String, TreeSet<Long>> phoneGrams = new HashMap<>();
+    private final Map<String, TreeSet<Long>> phoneSuffixes = new HashMap<>();
+
+    private boolean loaded;
+
+    /**
+     * 최초 1회 전체 적재 (이미 적재되었으면 무시)
+     * 적재 중 들어온 변경은 적재 완료 후 반영되므로 적재 쿼리는 잠금 안에서 실행
+     */
+    public void loadIfNecessary(Supplier<? extends Collection<MemberSearchResult>> loader) {
+        lock.readLock().lock();
+        try {
+            if (loaded) {
+                return;
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        lock.writeLock().lock();
+        try {
+            if (!loaded) {
+                for (MemberSearchResult result : loader.get()) {
+                    add(result);
+                }
+                loaded = true;
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 회원 추가 또는 갱신
+     */
+    public void upsert(MemberSearchResult result) {
+        lock.writeLock().lock();
+        try {
+            removeEntry(result.getBusinessMemberId());
+            add(result);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 회원 제거
+     */
+    public void remove(Long businessMemberId) {
+        lock.writeLock().lock();
+        try {
+            removeEntry(businessMemberId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 소속 회원 상태 변경 반영 (이름/전화번호는 색인된 값 유지)
+     * @return 색인된 회원이면 true, 없으면 false
+     */
+    public boolean updateStatus(Long businessMemberId, BusinessMemberStatus status) {
+        lock.writeLock().lock();
+        try {
+            Entry entry = entries.get(businessMemberId);
+            if (entry == null) {
+                return false;
+            }
+            MemberSearchResult current = entry.result;
+            if (current.getStatus() != status) {
+                removeEntry(businessMemberId);
+                add(new MemberSearchResult(businessMemberId, current.getMemberId(), current.getName(),
+                        current.getPhoneNumber(), status));
+            }
+            return true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 회원(User) 이름/전화번호 변경 반영
+     */
+    public void updateMember(Long memberId, String name, String phoneNumber) {
+        lock.writeLock().lock();
+        try {
+            Set<Long> entryIds = entryIdsByMemberId.get(memberId);
+            if (entryIds == null) {
+                return;
+            }
+            for (Long entryId : List.copyOf(entryIds)) {
+                MemberSearchResult current = entries.get(entryId).result;
+                removeEntry(entryId);
+                add(new MemberSearchResult(current.getBusinessMemberId(), memberId, name, phoneNumber,
+                        current.getStatus()));
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 키워드 검색 (최근 등록순)
+     * - 숫자 4자리: 전화번호 뒷자리 일치
+     * - 숫자 2자리 이상: 전화번호 부분 일치
+     * - 초성 포함: 이름 초성 부분 일치
+     * - 그 외: 이름 부분 일치
+     * @param keyword 검색어
+     * @param status 회원 상태 (null이면 전체)
+     * @param limit 최대 결과 수
+     * @return 검색 결과
+     */
+    public List<MemberSearchResult> search(String keyword, BusinessMemberStatus status, int limit) {
+        String normalized = KoreanTextUtils.normalize(keyword);
+        if (normalized.isEmpty() || limit <= 0) {
+            return List.of();
+        }
+
+        lock.readLock().lock();
+        try {
+            String digits = normalized.replace("-", "");
+            if (isDigits(digits)) {
+                if (digits.length() == PHONE_SUFFIX_LENGTH) {
+                    return collect(phoneSuffixes.get(digits), entry -> entry.phone.endsWith(digits), status, limit);
+                }
+                if (digits.length() < 2) {
+                    return List.of();
+                }
+                return collect(smallestPosting(phoneGrams, bigrams(digits)),
+                        entry -> entry.phone.contains(digits), status, limit);
+            }
+            if (KoreanTextUtils.containsChosung(normalized)) {
+                String chosung = KoreanTextUtils.toChosung(normalized);
+                return collect(smallestPosting(chosungGrams, queryGrams(chosung)),
+                        entry -> entry.chosung.contains(chosung), status, limit);
+            }
+            return collect(smallestPosting(nameGrams, queryGrams(normalized)),
+                    entry -> entry.name.contains(normalized), status, limit);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return entries.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private List<MemberSearchResult> collect(TreeSet<Long> candidates, Predicate<Entry> matcher,
+                                             BusinessMemberStatus status, int limit) {
+        if (candidates == null) {
+            return List.of();
+        }
+        List<MemberSearchResult> results = new ArrayList<>(Math.min(limit, candidates.size()));
+        Iterator<Long> iterator = candidates.descendingIterator();
+        while (iterator.hasNext() && results.size() < limit) {
+            Entry entry = entries.get(iterator.next());
+            if ((status == null || entry.result.getStatus() == status) && matcher.test(entry)) {
+                results.add(entry.result);
+            }
+        }
+        return results;
+    }
+
+    private void add(MemberSearchResult result) {
+        Entry entry = new Entry(result);
+        Long id = result.getBusinessMemberId();
+        entries.put(id, entry);
+        entryIdsByMemberId.computeIfAbsent(result.getMemberId(), key -> new HashSet<>()).add(id);
+
+        index(nameGrams, allGrams(entry.name), id);
+        index(chosungGrams, allGrams(entry.chosung), id);
+        index(phoneGrams, bigrams(entry.phone), id);
+        if (entry.phone.length() >= PHONE_SUFFIX_LENGTH) {
+            index(phoneSuffixes, Set.of(phoneSuffix(entry.phone)), id);
+        }
+    }
+
+    private void removeEntry(Long businessMemberId) {
+        Entry entry = entries.remove(businessMemberId);
+        if (entry == null) {
+            return;
+        }
+        Set<Long> entryIds = entryIdsByMemberId.get(entry.result.getMemberId());
+        if (entryIds != null) {
+            entryIds.remove(businessMemberId);
+            if (entryIds.isEmpty()) {
+                entryIdsByMemberId.remove(entry.result.getMemberId());
+            }
+        }
+
+        unindex(nameGrams, allGrams(entry.name), businessMemberId);
+        unindex(chosungGrams, allGrams(entry.chosung), businessMemberId);
+        unindex(phoneGrams, bigrams(entry.phone), businessMemberId);
+        if (entry.phone.length() >= PHONE_SUFFIX_LENGTH) {
+            unindex(phoneSuffixes, Set.of(phoneSuffix(entry.phone)), businessMemberId);
+        }
+    }
+
+    private static void index(Map<String, TreeSet<Long>> postings, Set<String> grams, Long id) {
+        for (String gram : grams) {
+            postings.computeIfAbsent(gram, key -> new TreeSet<>()).add(id);
+        }
+    }
+
+    private static void unindex(Map<String, TreeSet<Long>> postings, Set<String> grams, Long id) {
+        for (String gram : grams) {
+            TreeSet<Long> posting = postings.get(gram);
+            if (posting != null && posting.remove(id) && posting.isEmpty()) {
+                postings.remove(gram);
+            }
+        }
+    }
+
+    /**
+     * 모든 gram의 posting이 있어야 일치 가능 - 그중 가장 작은 목록을 후보로 사용
+     */
+    private static TreeSet<Long> smallestPosting(Map<String, TreeSet<Long>> postings, Set<String> grams) {
+        TreeSet<Long> smallest = null;
+        for (String gram : grams) {
+            TreeSet<Long> posting = postings.get(gram);
+            if (posting == null) {
+                return null;
+            }
+            if (smallest == null || posting.size() < smallest.size()) {
+                smallest = posting;
+            }
+        }
+        return smallest;
+    }
+
+    /**
+     * 검색어 gram (1글자는 unigram, 2글자 이상은 bigram)
+     */
+    private static Set<String> queryGrams(String text) {
+        return text.length() == 1 ? Set.of(text) : bigrams(text);
+    }
+
+    /**
+     * 색인 gram (unigram + bigram)
+     */
+    private static Set<String> allGrams(String text) {
+        Set<String> grams = bigrams(text);
+        for (int i = 0; i < text.length(); i++) {
+            grams.add(text.substring(i, i + 1));
+        }
+        return grams;
+    }
+
+    private static Set<String> bigrams(String text) {
+        Set<String> grams = new HashSet<>();
+        for (int i = 0; i + 2 <= text.length(); i++) {
+            grams.add(text.substring(i, i + 2));
+        }
+        return grams;
+    }
+
+    private static String phoneSuffix(String phone) {
+        return phone.substring(phone.length() - PHONE_SUFFIX_LENGTH);
+    }
+
+    private static boolean isDigits(String text) {
+        if (text.isEmpty()) {
+            return false;
+        }
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (c < '0' || c > '9') {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * 색인 항목 (정규화된 검색 키 포함)
+     */
+    private static final class Entry {
+        private final MemberSearchResult result;
+        private final String name;
+        private final String chosung;
+        private final String phone;
+
+        private Entry(MemberSearchResult result) {
+            this.result = result;
+            this.name = KoreanTextUtils.normalize(result.getName());
+            this.chosung = KoreanTextUtils.toChosung(name);
+            this.phone = KoreanTextUtils.digitsOnly(result.getPhoneNumber());
+        }
+    }
+}
@@ -0,0 +1,74 @@
+package com.fitness.domain.business.service;
+
+import com.fitness.domain.business.dto.MemberSearchResult;
+import com.fitness.domain.business.entity.BusinessMember;
+import com.fitness.domain.business.entity.BusinessMemberStatus;
+import com.fitness.domain.user.entity.User;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import org.hibernate.Hibernate;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+
+import static com.fitness.common.util.TransactionUtils.afterCommit;
+
+/**
+ * BusinessMember / User 엔티티 변경 시 회원 검색 인덱스를 갱신하는 JPA 엔티티 리스너
+ * - 변경 값은 이벤트 시점에 복사하고, 인덱스 반영은 트랜잭션 커밋 이후에 수행
+ * - 롤백된 변경은 인덱스에 반영되지 않음
+ * - 지연 로딩 연관(회원 정보)은 이벤트(flush) 중에 초기화하지 않고, 이미 읽힌 값과 ID만 사용
+ */
+@Component
+public class MemberSearchIndexListener {
+
+    private final ObjectProvider<BusinessMemberSearchIndex> searchIndexProvider;
+
+    public MemberSearchIndexListener(ObjectProvider<BusinessMemberSearchIndex> searchIndexProvider) {
+        this.searchIndexProvider = searchIndexProvider;
+    }
+
+    @PostPersist
+    @PostUpdate
+    public void onSave(Object entity) {
+        BusinessMemberSearchIndex searchIndex = searchIndexProvider.getIfAvailable();
+        if (searchIndex == null) {
+            return;
+        }
+
+        if (entity instanceof BusinessMember businessMember) {
+            Long businessId = businessMember.getBusiness().getBusinessId();
+            if (businessMember.isDeleted()) {
+                Long businessMemberId = businessMember.getBusinessMemberId();
+                afterCommit(() -> searchIndex.remove(businessId, businessMemberId));
+                return;
+            }
+            // 지연 로딩 회원 정보를 flush 중에 초기화하지 않도록, 이미 읽힌 경우에만 이름/전화번호 사용
+            Long businessMemberId = businessMember.getBusinessMemberId();
+            BusinessMemberStatus status = businessMember.getStatus();
+            User member = businessMember.getMember();
+            if (!Hibernate.isInitialized(member)) {
+                afterCommit(() -> searchIndex.updateStatus(businessId, businessMemberId, status));
+                return;
+            }
+            MemberSearchResult result = new MemberSearchResult(businessMemberId,
+                    member.getUserId(), member.getName(), member.getPhoneNumber(), status);
+            afterCommit(() -> searchIndex.upsert(businessId, result));
+        } else if (entity instanceof User user) {
+            Long userId = user.getUserId();
+            String name = user.getName();
+            String phoneNumber = user.getPhoneNumber();
+            afterCommit(() -> searchIndex.updateMember(userId, name, phoneNumber));
+        }
+    }
+
+    @PostRemove
+    public void onRemove(Object entity) {
+        BusinessMemberSearchIndex searchIndex = searchIndexProvider.getIfAvailable();
+        if (searchIndex != null && entity instanceof BusinessMember businessMember) {
+            Long businessId = businessMember.getBusiness().getBusinessId();
+            Long businessMemberId = businessMember.getBusinessMemberId();
+            afterCommit(() -> searchIndex.remove(businessId, businessMemberId));
+        }
+    }
+}
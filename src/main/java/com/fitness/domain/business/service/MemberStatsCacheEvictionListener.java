@@ -0,0 +1,37 @@
+package com.fitness.domain.business.service;
+
+import com.fitness.domain.business.entity.BusinessMember;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+
+import static com.fitness.common.util.TransactionUtils.afterCommit;
+
+/**
+ * BusinessMember 변경 시 사업장 회원 통계 캐시를 제거하는 JPA 엔티티 리스너
+ * - 가입/상태 변경/트레이너 배정/SMS 동의 변경 모두 통계에 영향
+ * - 트랜잭션 커밋 이후에 제거하여 커밋 전 통계가 다시 캐시되는 것을 방지
+ */
+@Component
+public class MemberStatsCacheEvictionListener {
+
+    private final ObjectProvider<BusinessMemberStatsService> statsServiceProvider;
+
+    public MemberStatsCacheEvictionListener(ObjectProvider<BusinessMemberStatsService> statsServiceProvider) {
+        this.statsServiceProvider = statsServiceProvider;
+    }
+
+    @PostPersist
+    @PostUpdate
+    @PostRemove
+    public void onChange(BusinessMember businessMember) {
+        BusinessMemberStatsService statsService = statsServiceProvider.getIfAvailable();
+        if (statsService == null) {
+            return;
+        }
+        Long businessId = businessMember.getBusiness().getBusinessId();
+        afterCommit(() -> statsService.evict(businessId));
+    }
+}
@@ -0,0 +1,44 @@
+package com.fitness.domain.commission.controller;
+
+import com.fitness.common.security.CustomUserPrincipal;
+import com.fitness.common.util.ApiResponse;
+import com.fitness.domain.commission.dto.PerformanceRebuildResult;
+import com.fitness.domain.commission.service.MonthlyPerformanceService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.YearMonth;
+
+/**
+ * 직원 실적 API 컨트롤러 (OWNER 전용)
+ */
+@RestController
+@RequestMapping("/api/owner/businesses/{businessId}/performances")
+@RequiredArgsConstructor
+@Tag(name = "직원 실적 API", description = "직원 월별 실적 관리 API")
+@SecurityRequirement(name = "Bearer Authentication")
+public class PerformanceController {
+
+    private final MonthlyPerformanceService performanceService;
+
+    /**
+     * 월 실적 재계산
+     */
+    @PostMapping("/{yearMonth}/rebuild")
+    @Operation(summary = "월 실적 재계산", description = "결제 원본으로 직원 월별 실적을 재계산하고 증분 값과 다른 직원을 보정합니다. (yearMonth: YYYY-MM)")
+    public ResponseEntity<ApiResponse<PerformanceRebuildResult>> rebuild(
+            @AuthenticationPrincipal CustomUserPrincipal principal,
+            @PathVariable Long businessId,
+            @PathVariable YearMonth yearMonth) {
+        return ResponseEntity.ok(ApiResponse.success(
+                performanceService.rebuild(principal.getUserId(), businessId, yearMonth)));
+    }
+}
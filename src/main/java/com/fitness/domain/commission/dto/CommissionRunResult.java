@@ -0,0 +1,30 @@
+package com.fitness.domain.commission.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * 사업장 월말 커미션 정산 결과
+ */
+@Getter
+@Builder
+public class CommissionRunResult {
+
+    private final Long businessId;
+    private final String yearMonth;
+
+    /**
+     * 정산 대상 직원 수
+     */
+    private final int employeeCount;
+
+    /**
+     * 계산 내역을 생성한 결제 수
+     */
+    private final long paymentCount;
+
+    /**
+     * 커미션 합계
+     */
+    private final long totalCommission;
+}
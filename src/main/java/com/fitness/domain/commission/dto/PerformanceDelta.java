@@ -0,0 +1,42 @@
+package com.fitness.domain.commission.dto;
+
+import lombok.Getter;
+
+/**
+ * 직원 월별 실적 증감 값
+ */
+@Getter
+public class PerformanceDelta {
+
+    private long totalAmount;
+    private long commissionAmount;
+    private int newMemberCnt;
+    private int renewalMemberCnt;
+
+    /**
+     * 결제 완료(sign = 1) 또는 취소(sign = -1) 반영
+     * @param newMember 해당 사업장에서 회원의 첫 결제 여부
+     */
+    public PerformanceDelta addPayment(int sign, long amount, long commission, boolean newMember) {
+        totalAmount += sign * amount;
+        commissionAmount += sign * commission;
+        if (newMember) {
+            newMemberCnt += sign;
+        } else {
+            renewalMemberCnt += sign;
+        }
+        return this;
+    }
+
+    /**
+     * 미수금 납부 반영 (매출만 증가)
+     */
+    public PerformanceDelta addOutstandingPaid(long amount) {
+        totalAmount += amount;
+        return this;
+    }
+
+    public boolean isEmpty() {
+        return totalAmount == 0 && commissionAmount == 0 && newMemberCnt == 0 && renewalMemberCnt == 0;
+    }
+}
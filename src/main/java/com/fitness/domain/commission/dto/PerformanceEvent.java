@@ -0,0 +1,42 @@
+package com.fitness.domain.commission.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * 직원 실적에 영향을 주는 결제 이벤트
+ * 엔티티 변경 시점의 값을 복사해 두고 커밋 후 실적에 반영
+ */
+@Getter
+@Builder
+public class PerformanceEvent {
+
+    public enum Type {
+        /**
+         * 결제 완료
+         */
+        PAYMENT_COMPLETED,
+        /**
+         * 완료된 결제 취소
+         */
+        PAYMENT_CANCELLED,
+        /**
+         * 미수금 납부
+         */
+        OUTSTANDING_PAID
+    }
+
+    private final Type type;
+    private final Long paymentId;
+    private final Long businessId;
+    private final Long memberId;
+    private final Long employeeId;
+
+    /**
+     * 년월 (YYYY-MM)
+     */
+    private final String yearMonth;
+
+    private final long amount;
+    private final long commission;
+}
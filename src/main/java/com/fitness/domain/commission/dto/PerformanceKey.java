@@ -0,0 +1,24 @@
+package com.fitness.domain.commission.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * 직원 월별 실적 키 (사업장 + 직원 + 년월)
+ */
+@Getter
+@AllArgsConstructor
+@EqualsAndHashCode
+@ToString
+public class PerformanceKey {
+
+    private final Long businessId;
+    private final Long employeeId;
+
+    /**
+     * 년월 (YYYY-MM)
+     */
+    private final String yearMonth;
+}
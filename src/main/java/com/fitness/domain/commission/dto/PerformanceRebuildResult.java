@@ -0,0 +1,41 @@
+package com.fitness.domain.commission.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * 직원 월별 실적 재계산 결과
+ */
+@Getter
+@Builder
+public class PerformanceRebuildResult {
+
+    private final Long businessId;
+    private final String yearMonth;
+
+    /**
+     * 재계산한 직원 수
+     */
+    private final int employeeCount;
+
+    /**
+     * 증분 값과 재계산 값이 달랐던 직원 목록 (재계산 값으로 보정됨)
+     */
+    private final List<Mismatch> mismatches;
+
+    @Getter
+    @Builder
+    public static class Mismatch {
+        private final Long employeeId;
+        private final long storedTotalAmount;
+        private final long rebuiltTotalAmount;
+        private final long storedCommissionAmount;
+        private final long rebuiltCommissionAmount;
+        private final int storedNewMemberCnt;
+        private final int rebuiltNewMemberCnt;
+        private final int storedRenewalMemberCnt;
+        private final int rebuiltRenewalMemberCnt;
+    }
+}
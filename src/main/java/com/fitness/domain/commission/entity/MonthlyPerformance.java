@@ -1,6 +1,7 @@
 package com.fitness.domain.commission.entity;
 
 import com.fitness.common.BaseEntity;
+import com.fitness.domain.commission.dto.PerformanceDelta;
 import com.fitness.domain.business.entity.Business;
 import com.fitness.domain.user.entity.User;
 import jakarta.persistence.*;
@@ -12,9 +13,13 @@ import java.time.YearMonth;
 /**
  * 직원 월별 실적 엔티티
  * 직원의 월별 매출 및 회원 관리 실적을 관리
+ * 결제 이벤트로 증분 갱신되며 동시 갱신은 버전(낙관적 잠금)으로 감지
  */
 @Entity
-@Table(name = "employee_monthly_performances")
+@Table(name = "employee_monthly_performances", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_monthly_performance_employee_month",
+                columnNames = {"business_id", "employee_id", "year_month"})
+})
 @Getter
 @Setter
 @NoArgsConstructor
@@ -58,4 +63,37 @@ public class MonthlyPerformance extends BaseEntity {
     @Builder.Default
     private Integer managedMemberCnt = 0; // 담당회원 수
 
+    @Version
+    @Column(name = "version", nullable = false, columnDefinition = "BIGINT DEFAULT 0 NOT NULL")
+    private Long version;
+
+    /**
+     * 증분 반영
+     */
+    public void add(PerformanceDelta delta) {
+        this.totalAmount = Math.toIntExact(totalAmount + delta.getTotalAmount());
+        this.commissionAmount = Math.toIntExact(commissionAmount + delta.getCommissionAmount());
+        this.newMemberCnt += delta.getNewMemberCnt();
+        this.renewalMemberCnt += delta.getRenewalMemberCnt();
+    }
+
+    /**
+     * 재계산 값으로 덮어쓰기 (담당회원 수는 유지)
+     */
+    public void overwrite(PerformanceDelta values) {
+        this.totalAmount = Math.toIntExact(values.getTotalAmount());
+        this.commissionAmount = Math.toIntExact(values.getCommissionAmount());
+        this.newMemberCnt = values.getNewMemberCnt();
+        this.renewalMemberCnt = values.getRenewalMemberCnt();
+    }
+
+    /**
+     * 재계산 값과 일치 여부
+     */
+    public boolean matches(PerformanceDelta values) {
+        return totalAmount == values.getTotalAmount()
+                && commissionAmount == values.getCommissionAmount()
+                && newMemberCnt == values.getNewMemberCnt()
+                && renewalMemberCnt == values.getRenewalMemberCnt();
+    }
 }
\ No newline at end of file
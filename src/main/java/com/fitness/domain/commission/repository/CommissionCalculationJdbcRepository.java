@@ -0,0 +1,176 @@
+package com.fitness.domain.commission.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Repository;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 월말 커미션 정산용 JDBC 리포지토리
+ * 대량 결제를 엔티티로 만들지 않고 스트리밍 조회 / 배치 INSERT로 처리
+ */
+@Repository
+@RequiredArgsConstructor
+public class CommissionCalculationJdbcRepository {
+
+    private static final String COMPLETED_PAYMENT_CONDITION =
+            "WHERE business_id = ? AND payment_date >= ? AND payment_date < ? " +
+            "AND status = 'COMPLETED' AND deleted_at IS NULL AND consultant_id IS NOT NULL ";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 해당 월에 완료된 결제가 있는 사업장 ID 조회
+     */
+    public List<Long> findBusinessIdsWithPayments(YearMonth yearMonth) {
+        return jdbcTemplate.queryForList(
+                "SELECT DISTINCT business_id FROM payment " +
+                "WHERE payment_date >= ? AND payment_date < ? AND status = 'COMPLETED' AND deleted_at IS NULL",
+                Long.class, start(yearMonth), end(yearMonth));
+    }
+
+    /**
+     * 직원(상품 담당자)별 월 매출 합계 (구간 결정용)
+     * @return 직원 ID별 매출 합계
+     */
+    public Map<Long, Long> sumSalesByEmployee(Long businessId, YearMonth yearMonth) {
+        Map<Long, Long> sales = new HashMap<>();
+        jdbcTemplate.query(
+                "SELECT consultant_id, SUM(actual_price) FROM payment " + COMPLETED_PAYMENT_CONDITION +
+                "GROUP BY consultant_id",
+                rs -> {
+                    sales.put(rs.getLong(1), rs.getLong(2));
+                },
+                businessId, start(yearMonth), end(yearMonth));
+        return sales;
+    }
+
+    /**
+     * 월 완료 결제를 직원 순으로 스트리밍 조회
+     * 행 핸들러에는 consultant_id, payment_id, actual_price 순으로 전달
+     * @param fetchSize 드라이버 fetch 크기 (MySQL은 useCursorFetch=true 필요)
+     */
+    public void streamPayments(Long businessId, YearMonth yearMonth, int fetchSize, RowCallbackHandler handler) {
+        jdbcTemplate.query(
+                connection -> {
+                    PreparedStatement statement = connection.prepareStatement(
+                            "SELECT consultant_id, payment_id, actual_price FROM payment " + COMPLETED_PAYMENT_CONDITION +
+                            "ORDER BY consultant_id, payment_id");
+                    statement.setFetchSize(fetchSize);
+                    statement.setLong(1, businessId);
+                    statement.setTimestamp(2, start(yearMonth));
+                    statement.setTimestamp(3, end(yearMonth));
+                    return statement;
+                },
+                handler);
+    }
+
+    /**
+     * 사업장 월 계산 내역 삭제 (재정산 시)
+     * @return 삭제 건수
+     */
+    public int deleteByBusinessIdAndYearMonth(Long businessId, YearMonth yearMonth) {
+        return jdbcTemplate.update(
+                "DELETE FROM commission_calculations WHERE performance_id IN (" +
+                "SELECT monthly_performance_id FROM employee_monthly_performances " +
+                "WHERE business_id = ? AND year_month = ?)",
+                businessId, yearMonth.toString());
+    }
+
+    /**
+     * 계산 내역 배치 INSERT
+     */
+    public void batchInsert(CalculationBuffer buffer) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        jdbcTemplate.batchUpdate(
+                "INSERT INTO commission_calculations (performance_id, payment_id, sales_amount, commission_rate, " +
+                "commission_amount, commission_policy_id, created_at) VALUES (?, ?, ?, ?, ?, ?, ?)",
+                new BatchPreparedStatementSetter() {
+                    @Override
+                    public void setValues(PreparedStatement ps, int i) throws SQLException {
+                        ps.setLong(1, buffer.performanceIds[i]);
+                        ps.setLong(2, buffer.paymentIds[i]);
+                        ps.setLong(3, buffer.salesAmounts[i]);
+                        ps.setInt(4, buffer.rates[i]);
+                        ps.setLong(5, buffer.commissionAmounts[i]);
+                        if (buffer.policyIds[i] != 0L) {
+                            ps.setLong(6, buffer.policyIds[i]);
+                        } else {
+                            ps.setNull(6, Types.BIGINT);
+                        }
+                        ps.setTimestamp(7, now);
+                    }
+
+                    @Override
+                    public int getBatchSize() {
+                        return buffer.size;
+                    }
+                });
+    }
+
+    private static Timestamp start(YearMonth yearMonth) {
+        return Timestamp.valueOf(yearMonth.atDay(1).atStartOfDay());
+    }
+
+    private static Timestamp end(YearMonth yearMonth) {
+        return Timestamp.valueOf(yearMonth.plusMonths(1).atDay(1).atStartOfDay());
+    }
+
+    /**
+     * 배치 INSERT용 계산 내역 버퍼 (기본형 배열, 재사용)
+     * 정책 ID 0은 해당 구간 없음
+     */
+    public static class CalculationBuffer {
+
+        private final long[] performanceIds;
+        private final long[] paymentIds;
+        private final long[] salesAmounts;
+        private final int[] rates;
+        private final long[] commissionAmounts;
+        private final long[] policyIds;
+        private int size;
+
+        public CalculationBuffer(int capacity) {
+            this.performanceIds = new long[capacity];
+            this.paymentIds = new long[capacity];
+            this.salesAmounts = new long[capacity];
+            this.rates = new int[capacity];
+            this.commissionAmounts = new long[capacity];
+            this.policyIds = new long[capacity];
+        }
+
+        public void add(long performanceId, long paymentId, long salesAmount, int rate, long commissionAmount,
+                        long policyId) {
+            performanceIds[size] = performanceId;
+            paymentIds[size] = paymentId;
+            salesAmounts[size] = salesAmount;
+            rates[size] = rate;
+            commissionAmounts[size] = commissionAmount;
+            policyIds[size] = policyId;
+            size++;
+        }
+
+        public boolean isFull() {
+            return size == performanceIds.length;
+        }
+
+        public int size() {
+            return size;
+        }
+
+        public void clear() {
+            size = 0;
+        }
+    }
+}
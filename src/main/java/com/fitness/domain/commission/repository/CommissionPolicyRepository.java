@@ -0,0 +1,25 @@
+package com.fitness.domain.commission.repository;
+
+import com.fitness.domain.commission.entity.CommissionPolicy;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+/**
+ * 커미션 정책 리포지토리
+ */
+@Repository
+public interface CommissionPolicyRepository extends JpaRepository<CommissionPolicy, Long> {
+
+    /**
+     * 사업장의 사용 중인 커미션 정책 조회
+     */
+    @Query("SELECT cp FROM CommissionPolicy cp " +
+           "WHERE cp.business.businessId = :businessId " +
+           "AND cp.useYn = true " +
+           "AND cp.deletedAt IS NULL")
+    List<CommissionPolicy> findActiveByBusinessId(@Param("businessId") Long businessId);
+}
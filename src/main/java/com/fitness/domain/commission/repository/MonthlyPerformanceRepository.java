@@ -0,0 +1,59 @@
+package com.fitness.domain.commission.repository;
+
+import com.fitness.domain.commission.entity.MonthlyPerformance;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 직원 월별 실적 리포지토리
+ */
+@Repository
+public interface MonthlyPerformanceRepository extends JpaRepository<MonthlyPerformance, Long>, MonthlyPerformanceRepositoryCustom {
+
+    /**
+     * 직원의 특정 월 실적 조회
+     */
+    @Query("SELECT mp FROM MonthlyPerformance mp " +
+           "WHERE mp.business.businessId = :businessId " +
+           "AND mp.employeeId.userId = :employeeId " +
+           "AND mp.yearMonth = :yearMonth")
+    Optional<MonthlyPerformance> findByKey(@Param("businessId") Long businessId,
+                                           @Param("employeeId") Long employeeId,
+                                           @Param("yearMonth") String yearMonth);
+
+    /**
+     * 직원의 특정 월 실적 조회 (행 잠금, 낙관적 재시도가 모두 실패한 경우에만 사용)
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT mp FROM MonthlyPerformance mp " +
+           "WHERE mp.business.businessId = :businessId " +
+           "AND mp.employeeId.userId = :employeeId " +
+           "AND mp.yearMonth = :yearMonth")
+    Optional<MonthlyPerformance> findByKeyForUpdate(@Param("businessId") Long businessId,
+                                                    @Param("employeeId") Long employeeId,
+                                                    @Param("yearMonth") String yearMonth);
+
+    /**
+     * 사업장의 특정 월 전체 직원 실적 조회
+     */
+    @Query("SELECT mp FROM MonthlyPerformance mp " +
+           "WHERE mp.business.businessId = :businessId " +
+           "AND mp.yearMonth = :yearMonth")
+    List<MonthlyPerformance> findByBusinessIdAndYearMonth(@Param("businessId") Long businessId,
+                                                          @Param("yearMonth") String yearMonth);
+
+    /**
+     * 버전 컬럼 도입 이전 행의 버전 초기화 (NULL이면 낙관적 잠금 갱신이 불가능)
+     */
+    @Modifying
+    @Query("UPDATE MonthlyPerformance mp SET mp.version = 0 WHERE mp.version IS NULL")
+    int initializeMissingVersions();
+}
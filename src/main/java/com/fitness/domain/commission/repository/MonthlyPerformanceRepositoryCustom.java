@@ -0,0 +1,18 @@
+package com.fitness.domain.commission.repository;
+
+import com.fitness.domain.commission.dto.PerformanceDelta;
+
+import java.time.YearMonth;
+import java.util.Map;
+
+/**
+ * 직원 월별 실적 재계산용 커스텀 리포지토리 인터페이스
+ */
+public interface MonthlyPerformanceRepositoryCustom {
+
+    /**
+     * 결제/미수금 납부 원본으로 직원별 월 실적 재계산
+     * @return 직원 ID별 실적
+     */
+    Map<Long, PerformanceDelta> aggregateByEmployee(Long businessId, YearMonth yearMonth);
+}
@@ -0,0 +1,86 @@
+package com.fitness.domain.commission.repository;
+
+import com.fitness.domain.commission.dto.PerformanceDelta;
+import com.fitness.domain.payment.entity.PaymentStatus;
+import com.fitness.domain.payment.entity.QPayment;
+import com.querydsl.core.Tuple;
+import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.jpa.JPAExpressions;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.HashMap;
+import java.util.Map;
+
+import static com.fitness.domain.payment.entity.QOutstandingPayment.outstandingPayment;
+import static com.fitness.domain.payment.entity.QPayment.payment;
+
+/**
+ * 직원 월별 실적 재계산 리포지토리 구현체
+ * 증분 반영과 같은 규칙으로 집계
+ * - 실적 직원: 결제의 상품 담당자(consultant)
+ * - 신규/재등록: 같은 사업장에서 해당 결제 이전에 완료된 회원 결제가 없으면 신규
+ * - 미수금 납부: 원 결제 담당자의 납부 월 매출에 합산
+ */
+@Repository
+@RequiredArgsConstructor
+public class MonthlyPerformanceRepositoryImpl implements MonthlyPerformanceRepositoryCustom {
+
+    private final JPAQueryFactory queryFactory;
+
+    @Override
+    public Map<Long, PerformanceDelta> aggregateByEmployee(Long businessId, YearMonth yearMonth) {
+        LocalDateTime start = yearMonth.atDay(1).atStartOfDay();
+        LocalDateTime end = yearMonth.plusMonths(1).atDay(1).atStartOfDay();
+
+        QPayment earlier = new QPayment("earlier");
+        BooleanExpression renewal = JPAExpressions.selectOne()
+                .from(earlier)
+                .where(earlier.business.businessId.eq(payment.business.businessId),
+                        earlier.member.userId.eq(payment.member.userId),
+                        earlier.status.eq(PaymentStatus.COMPLETED),
+                        earlier.deletedAt.isNull(),
+                        earlier.paymentId.lt(payment.paymentId))
+                .exists();
+
+        Map<Long, PerformanceDelta> performances = new HashMap<>();
+        for (Tuple row : queryFactory
+                .select(payment.consultant.userId, payment.actualPrice, payment.consultantCommissionPrice, renewal)
+                .from(payment)
+                .where(payment.business.businessId.eq(businessId),
+                        payment.paymentDate.goe(start),
+                        payment.paymentDate.lt(end),
+                        payment.status.eq(PaymentStatus.COMPLETED),
+                        payment.deletedAt.isNull(),
+                        payment.consultant.isNotNull())
+                .fetch()) {
+            performances.computeIfAbsent(row.get(payment.consultant.userId), key -> new PerformanceDelta())
+                    .addPayment(1, valueOf(row.get(payment.actualPrice)),
+                            valueOf(row.get(payment.consultantCommissionPrice)),
+                            !Boolean.TRUE.equals(row.get(renewal)));
+        }
+
+        for (Tuple row : queryFactory
+                .select(outstandingPayment.originalPayment.consultant.userId, outstandingPayment.paidAmount.sum())
+                .from(outstandingPayment)
+                .where(outstandingPayment.business.businessId.eq(businessId),
+                        outstandingPayment.paymentDate.goe(start),
+                        outstandingPayment.paymentDate.lt(end),
+                        outstandingPayment.deletedAt.isNull(),
+                        outstandingPayment.originalPayment.consultant.isNotNull())
+                .groupBy(outstandingPayment.originalPayment.consultant.userId)
+                .fetch()) {
+            performances.computeIfAbsent(row.get(outstandingPayment.originalPayment.consultant.userId),
+                            key -> new PerformanceDelta())
+                    .addOutstandingPaid(valueOf(row.get(outstandingPayment.paidAmount.sum())));
+        }
+        return performances;
+    }
+
+    private static long valueOf(Integer value) {
+        return value != null ? value : 0L;
+    }
+}
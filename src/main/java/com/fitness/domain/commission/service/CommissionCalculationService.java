@@ -0,0 +1,227 @@
+package com.fitness.domain.commission.service;
+
+import com.fitness.common.config.BusinessProperties;
+import com.fitness.domain.commission.dto.CommissionRunResult;
+import com.fitness.domain.commission.dto.PerformanceKey;
+import com.fitness.domain.commission.entity.MonthlyPerformance;
+import com.fitness.domain.commission.repository.CommissionCalculationJdbcRepository;
+import com.fitness.domain.commission.repository.CommissionCalculationJdbcRepository.CalculationBuffer;
+import com.fitness.domain.commission.repository.CommissionPolicyRepository;
+import com.fitness.domain.commission.repository.MonthlyPerformanceRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * 월말 커미션 정산 서비스
+ * - 사업장별 사용 중인 정책으로 구간표를 만들고, 직원 월 매출 합계로 구간(비율)을 결정
+ * - 해당 월 결제를 직원 순으로 스트리밍하며 결제별 계산 내역을 JDBC 배치로 기록
+ * - 사업장 단위로 트랜잭션을 분리하여 병렬 실행, 재실행 시 해당 월 내역을 지우고 다시 계산
+ */
+@Slf4j
+@Service
+public class CommissionCalculationService {
+
+    private final CommissionPolicyRepository policyRepository;
+    private final CommissionCalculationJdbcRepository calculationRepository;
+    private final MonthlyPerformanceRepository performanceRepository;
+    private final MonthlyPerformanceAggregator performanceAggregator;
+    private final BusinessProperties.Commission properties;
+    private final ThreadPoolTaskExecutor commissionExecutor;
+    private final TransactionTemplate transactionTemplate;
+
+    public CommissionCalculationService(CommissionPolicyRepository policyRepository,
+                                        CommissionCalculationJdbcRepository calculationRepository,
+                                        MonthlyPerformanceRepository performanceRepository,
+                                        MonthlyPerformanceAggregator performanceAggregator,
+                                        BusinessProperties businessProperties,
+                                        ThreadPoolTaskExecutor commissionExecutor,
+                                        PlatformTransactionManager transactionManager) {
+        this.policyRepository = policyRepository;
+        this.calculationRepository = calculationRepository;
+        this.performanceRepository = performanceRepository;
+        this.performanceAggregator = performanceAggregator;
+        this.properties = businessProperties.getCommission();
+        this.commissionExecutor = commissionExecutor;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    /**
+     * 전월 커미션 정산 (매월 1일 새벽)
+     */
+    @Scheduled(cron = "${business.commission.run-cron:0 0 4 1 * *}")
+    public void runPreviousMonth() {
+        runMonth(YearMonth.now().minusMonths(1));
+    }
+
+    /**
+     * 해당 월에 결제가 있는 모든 사업장 병렬 정산
+     * @param yearMonth 정산 년월
+     * @return 성공한 사업장별 정산 결과
+     */
+    public List<CommissionRunResult> runMonth(YearMonth yearMonth) {
+        List<Long> businessIds = calculationRepository.findBusinessIdsWithPayments(yearMonth);
+        long startedAt = System.currentTimeMillis();
+
+        List<CompletableFuture<CommissionRunResult>> futures = new ArrayList<>(businessIds.size());
+        for (Long businessId : businessIds) {
+            futures.add(CompletableFuture.supplyAsync(() -> run(businessId, yearMonth), commissionExecutor)
+                    .exceptionally(e -> {
+                        log.error("커미션 정산 실패 - 사업장: {}, 년월: {}, 원인: {}", businessId, yearMonth, e.getMessage());
+                        return null;
+                    }));
+        }
+
+        List<CommissionRunResult> results = new ArrayList<>(businessIds.size());
+        for (CompletableFuture<CommissionRunResult> future : futures) {
+            CommissionRunResult result = future.join();
+            if (result != null) {
+                results.add(result);
+            }
+        }
+        log.info("커미션 정산 완료 - 년월: {}, 사업장: {}개, 실패: {}개, 소요: {}ms", yearMonth, businessIds.size(),
+                businessIds.size() - results.size(), System.currentTimeMillis() - startedAt);
+        return results;
+    }
+
+    /**
+     * 사업장 1곳의 월 커미션 정산 (단일 트랜잭션)
+     * @param businessId 사업장 ID
+     * @param yearMonth 정산 년월
+     * @return 정산 결과
+     */
+    public CommissionRunResult run(Long businessId, YearMonth yearMonth) {
+        return transactionTemplate.execute(status -> calculate(businessId, yearMonth));
+    }
+
+    private CommissionRunResult calculate(Long businessId, YearMonth yearMonth) {
+        CommissionTierTable tiers = CommissionTierTable.of(policyRepository.findActiveByBusinessId(businessId));
+        Map<Long, Long> salesByEmployee = calculationRepository.sumSalesByEmployee(businessId, yearMonth);
+        Map<Long, Long> performanceIds = performanceIds(businessId, yearMonth, salesByEmployee.keySet());
+        calculationRepository.deleteByBusinessIdAndYearMonth(businessId, yearMonth);
+
+        CalculationWriter writer = new CalculationWriter(tiers, salesByEmployee, performanceIds);
+        calculationRepository.streamPayments(businessId, yearMonth, properties.getFetchSize(), writer);
+        writer.finish();
+
+        if (!writer.skippedEmployeeIds.isEmpty()) {
+            log.warn("커미션 정산 제외 - 사업장: {}, 년월: {}, 월 매출/실적이 없는 직원: {}, 제외 결제: {}건",
+                    businessId, yearMonth, writer.skippedEmployeeIds, writer.skippedPaymentCount);
+        }
+        if (tiers.isEmpty()) {
+            log.warn("커미션 정책 없음 - 사업장: {}, 년월: {} (비율 0%로 기록)", businessId, yearMonth);
+        }
+        return CommissionRunResult.builder()
+                .businessId(businessId)
+                .yearMonth(yearMonth.toString())
+                .employeeCount(salesByEmployee.size())
+                .paymentCount(writer.paymentCount)
+                .totalCommission(writer.totalCommission)
+                .build();
+    }
+
+    /**
+     * 직원별 월 실적 ID 조회 (없으면 생성)
+     */
+    private Map<Long, Long> performanceIds(Long businessId, YearMonth yearMonth, Iterable<Long> employeeIds) {
+        String month = yearMonth.toString();
+        Map<Long, Long> performanceIds = new HashMap<>();
+        for (MonthlyPerformance performance : performanceRepository.findByBusinessIdAndYearMonth(businessId, month)) {
+            performanceIds.put(performance.getEmployeeId().getUserId(), performance.getMonthlyPerformanceId());
+        }
+        for (Long employeeId : employeeIds) {
+            performanceIds.computeIfAbsent(employeeId, id -> performanceAggregator
+                    .create(new PerformanceKey(businessId, id, month)).getMonthlyPerformanceId());
+        }
+        return performanceIds;
+    }
+
+    /**
+     * 스트리밍 결제 행을 계산 내역으로 변환하여 배치 크기마다 기록
+     * 결제는 직원 순으로 정렬되어 있으므로 직원이 바뀔 때만 구간 조회
+     */
+    private final class CalculationWriter implements RowCallbackHandler {
+
+        private final CommissionTierTable tiers;
+        private final Map<Long, Long> salesByEmployee;
+        private final Map<Long, Long> performanceIds;
+        private final CalculationBuffer buffer = new CalculationBuffer(properties.getBatchSize());
+
+        private long employeeId = -1L;
+        private long performanceId;
+        private int rate;
+        private long policyId;
+
+        private boolean skipping;
+
+        private long paymentCount;
+        private long totalCommission;
+        private long skippedPaymentCount;
+        private final List<Long> skippedEmployeeIds = new ArrayList<>();
+
+        private CalculationWriter(CommissionTierTable tiers, Map<Long, Long> salesByEmployee,
+                                  Map<Long, Long> performanceIds) {
+            this.tiers = tiers;
+            this.salesByEmployee = salesByEmployee;
+            this.performanceIds = performanceIds;
+        }
+
+        @Override
+        public void processRow(ResultSet rs) throws SQLException {
+            long rowEmployeeId = rs.getLong(1);
+            if (rowEmployeeId != employeeId) {
+                employeeId = rowEmployeeId;
+                Long sales = salesByEmployee.get(rowEmployeeId);
+                Long rowPerformanceId = performanceIds.get(rowEmployeeId);
+                skipping = sales == null || rowPerformanceId == null;
+                if (skipping) {
+                    // 매출 합계 조회 이후 들어온 결제 등으로 구간을 정할 수 없으면 해당 직원은 제외 (재실행 시 반영)
+                    skippedEmployeeIds.add(rowEmployeeId);
+                } else {
+                    int tier = tiers.tierOf(sales);
+                    Long tierPolicyId = tiers.policyIdOf(tier);
+                    performanceId = rowPerformanceId;
+                    rate = tiers.rateOf(tier);
+                    policyId = tierPolicyId != null ? tierPolicyId : 0L;
+                }
+            }
+            if (skipping) {
+                skippedPaymentCount++;
+                return;
+            }
+
+            long salesAmount = rs.getLong(3);
+            long commission = CommissionTierTable.commissionOf(salesAmount, rate);
+            buffer.add(performanceId, rs.getLong(2), salesAmount, rate, commission, policyId);
+            paymentCount++;
+            totalCommission += commission;
+            if (buffer.isFull()) {
+                flush();
+            }
+        }
+
+        private void finish() {
+            if (buffer.size() > 0) {
+                flush();
+            }
+        }
+
+        private void flush() {
+            calculationRepository.batchInsert(buffer);
+            buffer.clear();
+        }
+    }
+}
@@ -0,0 +1,103 @@
+package com.fitness.domain.commission.service;
+
+import com.fitness.domain.commission.entity.CommissionPolicy;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * 사업장 커미션 구간표 (불변)
+ * 정책을 최소 매출액 순으로 정렬한 기본형 배열로 보관하고 이진 탐색으로 구간 조회
+ * - 매출액 이하인 최소 매출액 중 가장 큰 구간 선택 (경계 금액은 상위 구간)
+ * - 최대 매출액이 있으면 그 금액까지 포함, 없으면 상한 없음
+ * - 최소 매출액이 같은 정책이 여러 개면 가장 최근 정책 사용
+ */
+public final class CommissionTierTable {
+
+    /**
+     * 해당 구간 없음
+     */
+    public static final int NO_TIER = -1;
+
+    private final long[] minAmounts;
+    private final long[] maxAmounts;
+    private final int[] rates;
+    private final long[] policyIds;
+
+    private CommissionTierTable(long[] minAmounts, long[] maxAmounts, int[] rates, long[] policyIds) {
+        this.minAmounts = minAmounts;
+        this.maxAmounts = maxAmounts;
+        this.rates = rates;
+        this.policyIds = policyIds;
+    }
+
+    /**
+     * 사용 중인 정책 목록으로 구간표 생성
+     */
+    public static CommissionTierTable of(List<CommissionPolicy> policies) {
+        List<CommissionPolicy> sorted = new ArrayList<>(policies);
+        sorted.sort(Comparator.comparing(CommissionPolicy::getMinAmount)
+                .thenComparing(CommissionPolicy::getCommissionPolicyId, Comparator.reverseOrder()));
+
+        int size = 0;
+        long[] minAmounts = new long[sorted.size()];
+        long[] maxAmounts = new long[sorted.size()];
+        int[] rates = new int[sorted.size()];
+        long[] policyIds = new long[sorted.size()];
+        for (CommissionPolicy policy : sorted) {
+            if (size > 0 && minAmounts[size - 1] == policy.getMinAmount()) {
+                continue;
+            }
+            minAmounts[size] = policy.getMinAmount();
+            maxAmounts[size] = policy.getMaxAmount() != null ? policy.getMaxAmount() : Long.MAX_VALUE;
+            rates[size] = policy.getCommissionRate();
+            policyIds[size] = policy.getCommissionPolicyId();
+            size++;
+        }
+        return new CommissionTierTable(Arrays.copyOf(minAmounts, size), Arrays.copyOf(maxAmounts, size),
+                Arrays.copyOf(rates, size), Arrays.copyOf(policyIds, size));
+    }
+
+    /**
+     * 매출액이 속한 구간 번호 조회
+     * @param salesAmount 직원 월 매출액
+     * @return 구간 번호 (없으면 NO_TIER)
+     */
+    public int tierOf(long salesAmount) {
+        int index = Arrays.binarySearch(minAmounts, salesAmount);
+        if (index < 0) {
+            index = -index - 2;
+        }
+        if (index < 0 || salesAmount > maxAmounts[index]) {
+            return NO_TIER;
+        }
+        return index;
+    }
+
+    /**
+     * 구간의 커미션 비율 (%)
+     */
+    public int rateOf(int tier) {
+        return tier == NO_TIER ? 0 : rates[tier];
+    }
+
+    /**
+     * 구간의 커미션 정책 ID
+     */
+    public Long policyIdOf(int tier) {
+        return tier == NO_TIER ? null : policyIds[tier];
+    }
+
+    /**
+     * 결제 1건의 커미션 금액 (원 단위 미만 버림)
+     */
+    public static long commissionOf(long salesAmount, int rate) {
+        return salesAmount * rate / 100;
+    }
+
+    public boolean isEmpty() {
+        return minAmounts.length == 0;
+    }
+}
@@ -0,0 +1,152 @@
+package com.fitness.domain.commission.service;
+
+import com.fitness.domain.business.repository.BusinessRepository;
+import com.fitness.domain.commission.dto.PerformanceDelta;
+import com.fitness.domain.commission.dto.PerformanceEvent;
+import com.fitness.domain.commission.dto.PerformanceKey;
+import com.fitness.domain.commission.entity.MonthlyPerformance;
+import com.fitness.domain.commission.repository.MonthlyPerformanceRepository;
+import com.fitness.domain.payment.repository.PaymentRepository;
+import com.fitness.domain.user.repository.UserRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 직원 월별 실적 증분 반영기
+ * - 한 트랜잭션의 결제 이벤트를 사업장+직원+월 단위로 병합하여 행마다 1회만 갱신
+ * - 원 트랜잭션 커밋 후 별도 트랜잭션(REQUIRES_NEW)에서 반영
+ * - 동시 결제로 같은 행을 갱신하면 버전 충돌을 감지하고 다시 읽어 재시도 (갱신 유실 방지)
+ *   재시도 간격은 시도 횟수에 비례한 임의 지연으로 분산
+ * - 충돌이 계속되면 마지막 1회는 행 잠금으로 반영
+ * - 그래도 실패하면 로그만 남기고 월 실적 재계산으로 보정
+ */
+@Slf4j
+@Component
+public class MonthlyPerformanceAggregator {
+
+    private static final int MAX_ATTEMPTS = 10;
+    private static final long BACKOFF_MILLIS = 10L;
+
+    private final MonthlyPerformanceRepository performanceRepository;
+    private final PaymentRepository paymentRepository;
+    private final BusinessRepository businessRepository;
+    private final UserRepository userRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    public MonthlyPerformanceAggregator(MonthlyPerformanceRepository performanceRepository,
+                                        PaymentRepository paymentRepository,
+                                        BusinessRepository businessRepository,
+                                        UserRepository userRepository,
+                                        PlatformTransactionManager transactionManager) {
+        this.performanceRepository = performanceRepository;
+        this.paymentRepository = paymentRepository;
+        this.businessRepository = businessRepository;
+        this.userRepository = userRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    /**
+     * 기동 완료 시 버전 컬럼 도입 이전 행의 버전 초기화 (1회성, 이후에는 대상 없음)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void initializeMissingVersions() {
+        Integer updated = transactionTemplate.execute(status -> performanceRepository.initializeMissingVersions());
+        if (updated != null && updated > 0) {
+            log.info("직원 월별 실적 버전 초기화 - {}건", updated);
+        }
+    }
+
+    /**
+     * 트랜잭션 1건의 실적 이벤트 일괄 반영
+     * @param events 커밋된 결제 이벤트 목록
+     */
+    public void apply(List<PerformanceEvent> events) {
+        if (events.isEmpty()) {
+            return;
+        }
+        for (int attempt = 1; attempt <= MAX_ATTEMPTS; attempt++) {
+            try {
+                transactionTemplate.executeWithoutResult(status -> applyDeltas(merge(events), false));
+                return;
+            } catch (OptimisticLockingFailureException | DataIntegrityViolationException e) {
+                log.debug("직원 실적 동시 갱신 충돌 - 재시도 {}회", attempt);
+                backoff(attempt);
+            } catch (RuntimeException e) {
+                log.error("직원 실적 반영 실패 - 이벤트: {}건, 원인: {}", events.size(), e.getMessage());
+                return;
+            }
+        }
+
+        try {
+            transactionTemplate.executeWithoutResult(status -> applyDeltas(merge(events), true));
+        } catch (RuntimeException e) {
+            log.error("직원 실적 반영 실패 - 이벤트: {}건, 원인: {}", events.size(), e.getMessage());
+        }
+    }
+
+    private static void backoff(int attempt) {
+        try {
+            Thread.sleep(ThreadLocalRandom.current().nextLong(BACKOFF_MILLIS * attempt + 1));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * 이벤트를 사업장+직원+월 단위 증분으로 병합
+     * 신규/재등록은 같은 사업장의 이전 완료 결제 존재 여부로 구분 (재계산과 같은 규칙)
+     */
+    private Map<PerformanceKey, PerformanceDelta> merge(List<PerformanceEvent> events) {
+        Map<PerformanceKey, PerformanceDelta> deltas = new LinkedHashMap<>();
+        for (PerformanceEvent event : events) {
+            PerformanceDelta delta = deltas.computeIfAbsent(
+                    new PerformanceKey(event.getBusinessId(), event.getEmployeeId(), event.getYearMonth()),
+                    key -> new PerformanceDelta());
+            switch (event.getType()) {
+                case PAYMENT_COMPLETED, PAYMENT_CANCELLED -> {
+                    boolean newMember = !paymentRepository.existsCompletedBefore(
+                            event.getBusinessId(), event.getMemberId(), event.getPaymentId());
+                    int sign = event.getType() == PerformanceEvent.Type.PAYMENT_COMPLETED ? 1 : -1;
+                    delta.addPayment(sign, event.getAmount(), event.getCommission(), newMember);
+                }
+                case OUTSTANDING_PAID -> delta.addOutstandingPaid(event.getAmount());
+            }
+        }
+        return deltas;
+    }
+
+    private void applyDeltas(Map<PerformanceKey, PerformanceDelta> deltas, boolean lock) {
+        deltas.forEach((key, delta) -> {
+            if (delta.isEmpty()) {
+                return;
+            }
+            MonthlyPerformance performance = (lock
+                    ? performanceRepository.findByKeyForUpdate(key.getBusinessId(), key.getEmployeeId(), key.getYearMonth())
+                    : performanceRepository.findByKey(key.getBusinessId(), key.getEmployeeId(), key.getYearMonth()))
+                    .orElseGet(() -> create(key));
+            performance.add(delta);
+        });
+        performanceRepository.flush();
+    }
+
+    MonthlyPerformance create(PerformanceKey key) {
+        return performanceRepository.save(MonthlyPerformance.builder()
+                .business(businessRepository.getReferenceById(key.getBusinessId()))
+                .employeeId(userRepository.getReferenceById(key.getEmployeeId()))
+                .yearMonth(key.getYearMonth())
+                .build());
+    }
+}
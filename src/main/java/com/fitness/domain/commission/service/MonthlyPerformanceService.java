@@ -0,0 +1,105 @@
+package com.fitness.domain.commission.service;
+
+import com.fitness.common.exception.BusinessException;
+import com.fitness.common.exception.ErrorCode;
+import com.fitness.domain.business.repository.BusinessRepository;
+import com.fitness.domain.commission.dto.PerformanceDelta;
+import com.fitness.domain.commission.dto.PerformanceKey;
+import com.fitness.domain.commission.dto.PerformanceRebuildResult;
+import com.fitness.domain.commission.entity.MonthlyPerformance;
+import com.fitness.domain.commission.repository.MonthlyPerformanceRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 직원 월별 실적 서비스
+ * 증분으로 유지되는 실적을 결제 원본 기준으로 재계산하여 검증/보정
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class MonthlyPerformanceService {
+
+    private final MonthlyPerformanceRepository performanceRepository;
+    private final BusinessRepository businessRepository;
+    private final MonthlyPerformanceAggregator aggregator;
+
+    /**
+     * 사장님 요청으로 월 실적 재계산
+     * @param ownerId 요청한 사장님 ID
+     * @param businessId 사업장 ID
+     * @param yearMonth 대상 년월
+     * @return 재계산 결과 (불일치 목록 포함)
+     */
+    @Transactional
+    public PerformanceRebuildResult rebuild(Long ownerId, Long businessId, YearMonth yearMonth) {
+        if (!businessRepository.existsByBusinessIdAndOwner_UserId(businessId, ownerId)) {
+            throw new BusinessException(ErrorCode.BUSINESS_NOT_FOUND);
+        }
+        return rebuild(businessId, yearMonth);
+    }
+
+    /**
+     * 결제 원본으로 월 실적을 재계산하고 증분 값과 다르면 보정
+     * @param businessId 사업장 ID
+     * @param yearMonth 대상 년월
+     * @return 재계산 결과 (불일치 목록 포함)
+     */
+    @Transactional
+    public PerformanceRebuildResult rebuild(Long businessId, YearMonth yearMonth) {
+        String month = yearMonth.toString();
+        Map<Long, PerformanceDelta> rebuilt = performanceRepository.aggregateByEmployee(businessId, yearMonth);
+
+        Map<Long, MonthlyPerformance> stored = new HashMap<>();
+        for (MonthlyPerformance performance : performanceRepository.findByBusinessIdAndYearMonth(businessId, month)) {
+            stored.put(performance.getEmployeeId().getUserId(), performance);
+        }
+        // 원본에 실적이 없는 직원은 0으로 재계산
+        for (Long employeeId : stored.keySet()) {
+            rebuilt.putIfAbsent(employeeId, new PerformanceDelta());
+        }
+
+        List<PerformanceRebuildResult.Mismatch> mismatches = new ArrayList<>();
+        rebuilt.forEach((employeeId, values) -> {
+            MonthlyPerformance performance = stored.get(employeeId);
+            if (performance == null) {
+                if (values.isEmpty()) {
+                    return;
+                }
+                performance = aggregator.create(new PerformanceKey(businessId, employeeId, month));
+            }
+            if (!performance.matches(values)) {
+                mismatches.add(PerformanceRebuildResult.Mismatch.builder()
+                        .employeeId(employeeId)
+                        .storedTotalAmount(performance.getTotalAmount())
+                        .rebuiltTotalAmount(values.getTotalAmount())
+                        .storedCommissionAmount(performance.getCommissionAmount())
+                        .rebuiltCommissionAmount(values.getCommissionAmount())
+                        .storedNewMemberCnt(performance.getNewMemberCnt())
+                        .rebuiltNewMemberCnt(values.getNewMemberCnt())
+                        .storedRenewalMemberCnt(performance.getRenewalMemberCnt())
+                        .rebuiltRenewalMemberCnt(values.getRenewalMemberCnt())
+                        .build());
+                performance.overwrite(values);
+            }
+        });
+
+        if (!mismatches.isEmpty()) {
+            log.warn("직원 실적 불일치 보정 - 사업장: {}, 년월: {}, 직원: {}명", businessId, month, mismatches.size());
+        }
+        return PerformanceRebuildResult.builder()
+                .businessId(businessId)
+                .yearMonth(month)
+                .employeeCount(rebuilt.size())
+                .mismatches(mismatches)
+                .build();
+    }
+}
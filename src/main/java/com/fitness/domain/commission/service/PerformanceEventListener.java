@@ -0,0 +1,157 @@
+package com.fitness.domain.commission.service;
+
+import com.fitness.domain.commission.dto.PerformanceEvent;
+import com.fitness.domain.payment.entity.OutstandingPayment;
+import com.fitness.domain.payment.entity.Payment;
+import com.fitness.domain.payment.entity.PaymentStatus;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostUpdate;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 결제 / 미수금 납부를 직원 월별 실적에 반영하는 JPA 엔티티 리스너
+ * - 결제 완료(저장 또는 상태 변경): 상품 담당자 실적 증가
+ * - 완료된 결제 취소: 같은 값만큼 실적 감소
+ * - 미수금 납부: 원 결제 담당자의 매출 증가
+ * 이벤트는 트랜잭션 단위로 모아 커밋 후 한 번에 반영 (롤백된 결제는 반영하지 않음)
+ * 반영은 실적 전용 스레드에서 실행하여 결제 요청 스레드가 커넥션을 추가로 점유하거나 재시도 대기하지 않음
+ * 금액 수정 등 상태 전이가 아닌 변경은 월 실적 재계산으로 보정
+ */
+@Slf4j
+@Component
+public class PerformanceEventListener {
+
+    private static final DateTimeFormatter YEAR_MONTH = DateTimeFormatter.ofPattern("yyyy-MM");
+
+    private final ObjectProvider<MonthlyPerformanceAggregator> aggregatorProvider;
+    private final ObjectProvider<ThreadPoolTaskExecutor> executorProvider;
+
+    public PerformanceEventListener(ObjectProvider<MonthlyPerformanceAggregator> aggregatorProvider,
+                                    @Qualifier("performanceExecutor") ObjectProvider<ThreadPoolTaskExecutor> executorProvider) {
+        this.aggregatorProvider = aggregatorProvider;
+        this.executorProvider = executorProvider;
+    }
+
+    @PostPersist
+    public void onPersist(Object entity) {
+        if (entity instanceof Payment payment) {
+            if (payment.getStatus() == PaymentStatus.COMPLETED && !payment.isDeleted()) {
+                record(paymentEvent(payment, PerformanceEvent.Type.PAYMENT_COMPLETED));
+            }
+        } else if (entity instanceof OutstandingPayment outstandingPayment) {
+            Payment original = outstandingPayment.getOriginalPayment();
+            if (original == null || original.getConsultant() == null || outstandingPayment.isDeleted()) {
+                return;
+            }
+            record(PerformanceEvent.builder()
+                    .type(PerformanceEvent.Type.OUTSTANDING_PAID)
+                    .paymentId(original.getPaymentId())
+                    .businessId(outstandingPayment.getBusiness().getBusinessId())
+                    .memberId(original.getMember().getUserId())
+                    .employeeId(original.getConsultant().getUserId())
+                    .yearMonth(yearMonth(outstandingPayment.getPaymentDate()))
+                    .amount(amountOf(outstandingPayment.getPaidAmount()))
+                    .build());
+        }
+    }
+
+    @PostUpdate
+    public void onUpdate(Object entity) {
+        if (!(entity instanceof Payment payment)) {
+            return;
+        }
+        PaymentStatus before = payment.getPersistedStatus();
+        PaymentStatus after = payment.getStatus();
+        if (before != PaymentStatus.COMPLETED && after == PaymentStatus.COMPLETED) {
+            record(paymentEvent(payment, PerformanceEvent.Type.PAYMENT_COMPLETED));
+        } else if (before == PaymentStatus.COMPLETED && after == PaymentStatus.CANCELLED) {
+            record(paymentEvent(payment, PerformanceEvent.Type.PAYMENT_CANCELLED));
+        }
+    }
+
+    private static PerformanceEvent paymentEvent(Payment payment, PerformanceEvent.Type type) {
+        if (payment.getConsultant() == null) {
+            return null;
+        }
+        return PerformanceEvent.builder()
+                .type(type)
+                .paymentId(payment.getPaymentId())
+                .businessId(payment.getBusiness().getBusinessId())
+                .memberId(payment.getMember().getUserId())
+                .employeeId(payment.getConsultant().getUserId())
+                .yearMonth(yearMonth(payment.getPaymentDate()))
+                .amount(amountOf(payment.getActualPrice()))
+                .commission(amountOf(payment.getConsultantCommissionPrice()))
+                .build();
+    }
+
+    private static String yearMonth(LocalDateTime dateTime) {
+        return dateTime.format(YEAR_MONTH);
+    }
+
+    private static long amountOf(Integer amount) {
+        return amount != null ? amount : 0L;
+    }
+
+    /**
+     * 트랜잭션이 진행 중이면 트랜잭션별 목록에 모아 커밋 후 일괄 반영, 아니면 즉시 반영 요청
+     */
+    private void record(PerformanceEvent event) {
+        MonthlyPerformanceAggregator aggregator = aggregatorProvider.getIfAvailable();
+        if (event == null || aggregator == null) {
+            return;
+        }
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            submit(aggregator, List.of(event));
+            return;
+        }
+
+        @SuppressWarnings("unchecked")
+        List<PerformanceEvent> batch = (List<PerformanceEvent>) TransactionSynchronizationManager.getResource(this);
+        if (batch == null) {
+            List<PerformanceEvent> events = new ArrayList<>();
+            TransactionSynchronizationManager.bindResource(this, events);
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    submit(aggregator, events);
+                }
+
+                @Override
+                public void afterCompletion(int status) {
+                    TransactionSynchronizationManager.unbindResourceIfPossible(PerformanceEventListener.this);
+                }
+            });
+            batch = events;
+        }
+        batch.add(event);
+    }
+
+    /**
+     * 실적 전용 스레드에 반영 요청 (스레드 풀이 없으면 현재 스레드에서 반영)
+     */
+    private void submit(MonthlyPerformanceAggregator aggregator, List<PerformanceEvent> events) {
+        ThreadPoolTaskExecutor executor = executorProvider.getIfAvailable();
+        if (executor == null) {
+            aggregator.apply(events);
+            return;
+        }
+        try {
+            executor.execute(() -> aggregator.apply(events));
+        } catch (TaskRejectedException e) {
+            log.error("직원 실적 반영 대기열 가득 참 - 이벤트: {}건 (월 실적 재계산으로 보정 필요)", events.size());
+        }
+    }
+}
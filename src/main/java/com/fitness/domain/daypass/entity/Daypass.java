@@ -3,14 +3,17 @@ package com.fitness.domain.daypass.entity;
 import com.fitness.common.BaseEntity;
 import com.fitness.common.enums.PaymentMethod;
 import com.fitness.domain.business.entity.Business;
+import com.fitness.domain.statistics.service.DailyStatsListener;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
+import jakarta.persistence.EntityListeners;
 import jakarta.persistence.EnumType;
 import jakarta.persistence.Enumerated;
 import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.Table;
@@ -22,7 +25,10 @@ import lombok.Setter;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "daypass")
+@EntityListeners(DailyStatsListener.class)
+@Table(name = "daypass", indexes = {
+        @Index(name = "idx_daypass_business_date", columnList = "business_id, visit_date")
+})
 @Getter @Setter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class Daypass extends BaseEntity {
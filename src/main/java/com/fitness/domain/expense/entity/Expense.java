@@ -16,7 +16,9 @@ import java.time.LocalDateTime;
  * 사업장의 지출 정보를 관리하는 테이블
  */
 @Entity
-@Table(name = "expense")
+@Table(name = "expense", indexes = {
+        @Index(name = "idx_expense_business_date", columnList = "business_id, expense_date")
+})
 @Getter
 @Setter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
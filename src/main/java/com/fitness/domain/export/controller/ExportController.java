@@ -0,0 +1,110 @@
+package com.fitness.domain.export.controller;
+
+import com.fitness.common.security.CustomUserPrincipal;
+import com.fitness.domain.business.entity.BusinessMemberStatus;
+import com.fitness.domain.export.service.ExportService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+
+/**
+ * 엑셀(CSV) 내보내기 API 컨트롤러 (OWNER 전용)
+ * 요청 스레드에서 응답 스트림에 바로 기록 (비동기 요청 타임아웃 적용 대상 아님)
+ */
+@RestController
+@RequestMapping("/api/owner/businesses/{businessId}/exports")
+@RequiredArgsConstructor
+@Tag(name = "내보내기 API", description = "결제/회원/출석/지출 엑셀(CSV) 내보내기 API")
+@SecurityRequirement(name = "Bearer Authentication")
+public class ExportController {
+
+    private static final String CSV_CONTENT_TYPE = "text/csv; charset=UTF-8";
+
+    private final ExportService exportService;
+
+    /**
+     * 결제 내역 내보내기
+     */
+    @GetMapping("/payments")
+    @Operation(summary = "결제 내역 내보내기", description = "기간 내 결제 내역을 CSV 파일로 내려받습니다.")
+    public void exportPayments(
+            @AuthenticationPrincipal CustomUserPrincipal principal,
+            @PathVariable Long businessId,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            HttpServletResponse response) throws IOException {
+        exportService.validate(principal.getUserId(), businessId, from, to);
+        prepare(response, "payments_" + from + "_" + to);
+        exportService.exportPayments(businessId, from, to, response.getOutputStream());
+    }
+
+    /**
+     * 사업장 회원 내보내기
+     */
+    @GetMapping("/members")
+    @Operation(summary = "회원 목록 내보내기", description = "사업장 회원 목록을 CSV 파일로 내려받습니다.")
+    public void exportMembers(
+            @AuthenticationPrincipal CustomUserPrincipal principal,
+            @PathVariable Long businessId,
+            @RequestParam(required = false) BusinessMemberStatus status,
+            HttpServletResponse response) throws IOException {
+        exportService.validate(principal.getUserId(), businessId, null, null);
+        prepare(response, "members_" + LocalDate.now());
+        exportService.exportMembers(businessId, status, response.getOutputStream());
+    }
+
+    /**
+     * 출석 기록 내보내기
+     */
+    @GetMapping("/attendances")
+    @Operation(summary = "출석 기록 내보내기", description = "기간 내 출석 기록을 CSV 파일로 내려받습니다.")
+    public void exportAttendances(
+            @AuthenticationPrincipal CustomUserPrincipal principal,
+            @PathVariable Long businessId,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            HttpServletResponse response) throws IOException {
+        exportService.validate(principal.getUserId(), businessId, from, to);
+        prepare(response, "attendances_" + from + "_" + to);
+        exportService.exportAttendances(businessId, from, to, response.getOutputStream());
+    }
+
+    /**
+     * 지출 내역 내보내기
+     */
+    @GetMapping("/expenses")
+    @Operation(summary = "지출 내역 내보내기", description = "기간 내 지출 내역을 CSV 파일로 내려받습니다.")
+    public void exportExpenses(
+            @AuthenticationPrincipal CustomUserPrincipal principal,
+            @PathVariable Long businessId,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            HttpServletResponse response) throws IOException {
+        exportService.validate(principal.getUserId(), businessId, from, to);
+        prepare(response, "expenses_" + from + "_" + to);
+        exportService.exportExpenses(businessId, from, to, response.getOutputStream());
+    }
+
+    private static void prepare(HttpServletResponse response, String fileName) {
+        response.setContentType(CSV_CONTENT_TYPE);
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                .filename(fileName + ".csv", StandardCharsets.UTF_8)
+                .build()
+                .toString());
+    }
+}
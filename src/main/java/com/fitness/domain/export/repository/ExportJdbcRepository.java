@@ -0,0 +1,115 @@
+package com.fitness.domain.export.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.ArgumentPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Repository;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+
+/**
+ * 내보내기용 JDBC 리포지토리
+ * 엔티티를 만들지 않고 필요한 컬럼만 forward-only 커서로 스트리밍 조회
+ * (MySQL은 useCursorFetch=true 필요, 없으면 드라이버가 전체 결과를 메모리에 적재)
+ */
+@Repository
+@RequiredArgsConstructor
+public class ExportJdbcRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 기간 내 결제 스트리밍 조회 (결제일 순)
+     * 행: payment_id, payment_date, 회원 이름, 회원 전화번호, 상품명, product_type, status, payment_method,
+     * product_price, actual_price, outstanding_amount, 상담 직원 이름, 담당 트레이너 이름, memo
+     * @param from 시작일
+     * @param to 종료일 (포함)
+     */
+    public void streamPayments(Long businessId, LocalDate from, LocalDate to, int fetchSize,
+                               RowCallbackHandler handler) {
+        stream("SELECT p.payment_id, p.payment_date, m.name, m.phone_number, pr.name, pr.product_type, " +
+                        "p.status, p.payment_method, p.product_price, p.actual_price, p.outstanding_amount, " +
+                        "c.name, t.name, p.memo " +
+                        "FROM payment p " +
+                        "JOIN user m ON m.user_id = p.member_id " +
+                        "JOIN products pr ON pr.product_id = p.product_id " +
+                        "LEFT JOIN user c ON c.user_id = p.consultant_id " +
+                        "LEFT JOIN user t ON t.user_id = p.trainer_id " +
+                        "WHERE p.business_id = ? AND p.payment_date >= ? AND p.payment_date < ? " +
+                        "AND p.deleted_at IS NULL " +
+                        "ORDER BY p.payment_date, p.payment_id",
+                fetchSize, handler, businessId, start(from), end(to));
+    }
+
+    /**
+     * 사업장 회원 스트리밍 조회 (등록 순)
+     * 행: business_member_id, 이름, 전화번호, gender, birthday, status, join_date, 담당 직원 이름,
+     * sms_yn, total_outstanding_amount, memo
+     * @param status 회원 상태 (null이면 전체)
+     */
+    public void streamMembers(Long businessId, String status, int fetchSize, RowCallbackHandler handler) {
+        String sql = "SELECT bm.business_member_id, m.name, m.phone_number, m.gender, m.birthday, bm.status, " +
+                "bm.join_date, e.name, bm.sms_yn, bm.total_outstanding_amount, bm.memo " +
+                "FROM business_member bm " +
+                "JOIN user m ON m.user_id = bm.member_id " +
+                "LEFT JOIN user e ON e.user_id = bm.employee_id " +
+                "WHERE bm.business_id = ? AND bm.deleted_at IS NULL ";
+        if (status == null) {
+            stream(sql + "ORDER BY bm.business_member_id", fetchSize, handler, businessId);
+        } else {
+            stream(sql + "AND bm.status = ? ORDER BY bm.business_member_id", fetchSize, handler, businessId, status);
+        }
+    }
+
+    /**
+     * 기간 내 출석 스트리밍 조회 (출석 시각 순)
+     * 행: attendance_id, attendance_date, 회원 이름, 회원 전화번호
+     */
+    public void streamAttendances(Long businessId, LocalDate from, LocalDate to, int fetchSize,
+                                  RowCallbackHandler handler) {
+        stream("SELECT a.attendance_id, a.attendance_date, m.name, m.phone_number " +
+                        "FROM attendance a " +
+                        "JOIN user m ON m.user_id = a.member_id " +
+                        "WHERE a.business_id = ? AND a.attendance_date >= ? AND a.attendance_date < ? " +
+                        "AND a.deleted_at IS NULL " +
+                        "ORDER BY a.attendance_date, a.attendance_id",
+                fetchSize, handler, businessId, start(from), end(to));
+    }
+
+    /**
+     * 기간 내 지출 스트리밍 조회 (지출일 순)
+     * 행: expense_id, expense_date, expense_type, title, amount, description
+     */
+    public void streamExpenses(Long businessId, LocalDate from, LocalDate to, int fetchSize,
+                               RowCallbackHandler handler) {
+        stream("SELECT expense_id, expense_date, expense_type, title, amount, description " +
+                        "FROM expense " +
+                        "WHERE business_id = ? AND expense_date >= ? AND expense_date < ? AND deleted_at IS NULL " +
+                        "ORDER BY expense_date, expense_id",
+                fetchSize, handler, businessId, start(from), end(to));
+    }
+
+    private void stream(String sql, int fetchSize, RowCallbackHandler handler, Object... args) {
+        jdbcTemplate.query(
+                connection -> {
+                    PreparedStatement statement = connection.prepareStatement(
+                            sql, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+                    statement.setFetchSize(fetchSize);
+                    new ArgumentPreparedStatementSetter(args).setValues(statement);
+                    return statement;
+                },
+                handler);
+    }
+
+    private static Timestamp start(LocalDate from) {
+        return Timestamp.valueOf(from.atStartOfDay());
+    }
+
+    private static Timestamp end(LocalDate to) {
+        return Timestamp.valueOf(to.plusDays(1).atStartOfDay());
+    }
+}
@@ -0,0 +1,190 @@
+package com.fitness.domain.export.service;
+
+import com.fitness.common.config.BusinessProperties;
+import com.fitness.common.enums.PaymentMethod;
+import com.fitness.common.exception.BusinessException;
+import com.fitness.common.exception.ErrorCode;
+import com.fitness.common.util.CsvWriter;
+import com.fitness.domain.business.entity.BusinessMemberStatus;
+import com.fitness.domain.business.repository.BusinessRepository;
+import com.fitness.domain.expense.entity.ExpenseType;
+import com.fitness.domain.export.repository.ExportJdbcRepository;
+import com.fitness.domain.payment.entity.PaymentStatus;
+import com.fitness.domain.product.entity.ProductType;
+import com.fitness.domain.user.entity.Gender;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.io.OutputStream;
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.time.temporal.ChronoUnit;
+import java.util.function.Function;
+
+/**
+ * 엑셀(CSV) 내보내기 서비스
+ * 조회 결과를 한 행씩 바로 출력 스트림에 기록하므로 건수와 관계없이 메모리 사용량이 일정
+ * 권한/기간 검증은 응답을 쓰기 전에 수행 (검증 실패 시 일반 오류 응답)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ExportService {
+
+    private static final DateTimeFormatter DATE_TIME_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+
+    private final ExportJdbcRepository exportRepository;
+    private final BusinessRepository businessRepository;
+    private final BusinessProperties businessProperties;
+
+    /**
+     * 내보내기 요청 검증 (사업장 소유 여부, 기간)
+     * 응답 헤더를 쓰기 전에 호출
+     * @param from 시작일 (기간 조건이 없으면 null)
+     * @param to 종료일 (포함, 기간 조건이 없으면 null)
+     */
+    public void validate(Long ownerId, Long businessId, LocalDate from, LocalDate to) {
+        if (from != null || to != null) {
+            if (from == null || to == null || from.isAfter(to)
+                    || ChronoUnit.DAYS.between(from, to) >= businessProperties.getExport().getMaxDays()) {
+                throw new BusinessException(ErrorCode.INVALID_INPUT);
+            }
+        }
+        if (!businessRepository.existsByBusinessIdAndOwner_UserId(businessId, ownerId)) {
+            throw new BusinessException(ErrorCode.BUSINESS_NOT_FOUND);
+        }
+    }
+
+    /**
+     * 결제 내역 내보내기
+     * @return 기록한 행 수
+     */
+    public long exportPayments(Long businessId, LocalDate from, LocalDate to, OutputStream outputStream) {
+        CsvWriter writer = new CsvWriter(outputStream)
+                .header("결제번호", "결제일시", "회원명", "전화번호", "상품명", "상품유형", "상태", "결제수단",
+                        "정가", "결제금액", "미수금", "상담직원", "담당트레이너", "메모");
+        long[] rows = {0};
+        exportRepository.streamPayments(businessId, from, to, fetchSize(), rs -> {
+            writer.number(rs.getLong(1))
+                    .text(format(rs.getTimestamp(2)))
+                    .text(rs.getString(3))
+                    .text(rs.getString(4))
+                    .text(rs.getString(5))
+                    .text(label(rs.getString(6), ProductType.class, ProductType::getDescription))
+                    .text(label(rs.getString(7), PaymentStatus.class, PaymentStatus::getDescription))
+                    .text(label(rs.getString(8), PaymentMethod.class, PaymentMethod::getDescription))
+                    .number((Number) rs.getObject(9))
+                    .number((Number) rs.getObject(10))
+                    .number((Number) rs.getObject(11))
+                    .text(rs.getString(12))
+                    .text(rs.getString(13))
+                    .text(rs.getString(14))
+                    .endRow();
+            rows[0]++;
+        });
+        return finish(writer, "payments", businessId, rows[0]);
+    }
+
+    /**
+     * 사업장 회원 내보내기
+     * @param status 회원 상태 (null이면 전체)
+     * @return 기록한 행 수
+     */
+    public long exportMembers(Long businessId, BusinessMemberStatus status, OutputStream outputStream) {
+        CsvWriter writer = new CsvWriter(outputStream)
+                .header("회원번호", "이름", "전화번호", "성별", "생년월일", "상태", "등록일", "담당직원",
+                        "문자수신", "총미수금", "메모");
+        long[] rows = {0};
+        exportRepository.streamMembers(businessId, status == null ? null : status.name(), fetchSize(), rs -> {
+            writer.number(rs.getLong(1))
+                    .text(rs.getString(2))
+                    .text(rs.getString(3))
+                    .text(label(rs.getString(4), Gender.class, Gender::getDescription))
+                    .text(format(rs.getDate(5)))
+                    .text(label(rs.getString(6), BusinessMemberStatus.class, BusinessMemberStatus::getDescription))
+                    .text(format(rs.getDate(7)))
+                    .text(rs.getString(8))
+                    .text(rs.getBoolean(9) ? "Y" : "N")
+                    .number(rs.getLong(10))
+                    .text(rs.getString(11))
+                    .endRow();
+            rows[0]++;
+        });
+        return finish(writer, "members", businessId, rows[0]);
+    }
+
+    /**
+     * 출석 기록 내보내기
+     * @return 기록한 행 수
+     */
+    public long exportAttendances(Long businessId, LocalDate from, LocalDate to, OutputStream outputStream) {
+        CsvWriter writer = new CsvWriter(outputStream)
+                .header("출석번호", "출석일시", "회원명", "전화번호");
+        long[] rows = {0};
+        exportRepository.streamAttendances(businessId, from, to, fetchSize(), rs -> {
+            writer.number(rs.getLong(1))
+                    .text(format(rs.getTimestamp(2)))
+                    .text(rs.getString(3))
+                    .text(rs.getString(4))
+                    .endRow();
+            rows[0]++;
+        });
+        return finish(writer, "attendances", businessId, rows[0]);
+    }
+
+    /**
+     * 지출 내역 내보내기
+     * @return 기록한 행 수
+     */
+    public long exportExpenses(Long businessId, LocalDate from, LocalDate to, OutputStream outputStream) {
+        CsvWriter writer = new CsvWriter(outputStream)
+                .header("지출번호", "지출일시", "유형", "제목", "금액", "설명");
+        long[] rows = {0};
+        exportRepository.streamExpenses(businessId, from, to, fetchSize(), rs -> {
+            writer.number(rs.getLong(1))
+                    .text(format(rs.getTimestamp(2)))
+                    .text(label(rs.getString(3), ExpenseType.class, ExpenseType::getDescription))
+                    .text(rs.getString(4))
+                    .number((Number) rs.getObject(5))
+                    .text(rs.getString(6))
+                    .endRow();
+            rows[0]++;
+        });
+        return finish(writer, "expenses", businessId, rows[0]);
+    }
+
+    private long finish(CsvWriter writer, String target, Long businessId, long rows) {
+        writer.flush();
+        log.info("내보내기 완료: target={}, businessId={}, rows={}", target, businessId, rows);
+        return rows;
+    }
+
+    private int fetchSize() {
+        return businessProperties.getExport().getFetchSize();
+    }
+
+    private static String format(Timestamp timestamp) {
+        return timestamp == null ? null : timestamp.toLocalDateTime().format(DATE_TIME_FORMAT);
+    }
+
+    private static String format(Date date) {
+        return date == null ? null : date.toLocalDate().toString();
+    }
+
+    /**
+     * 코드값을 한글 설명으로 변환 (알 수 없는 코드는 그대로)
+     */
+    private static <E extends Enum<E>> String label(String code, Class<E> type, Function<E, String> description) {
+        if (code == null) {
+            return null;
+        }
+        try {
+            return description.apply(Enum.valueOf(type, code));
+        } catch (IllegalArgumentException e) {
+            return code;
+        }
+    }
+}
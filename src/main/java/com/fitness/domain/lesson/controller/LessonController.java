@@ -0,0 +1,132 @@
+package com.fitness.domain.lesson.controller;
+
+import com.fitness.common.security.CustomUserPrincipal;
+import com.fitness.common.util.ApiResponse;
+import com.fitness.domain.lesson.dto.FreeSlotResponse;
+import com.fitness.domain.lesson.dto.LessonBookingRequest;
+import com.fitness.domain.lesson.dto.LessonCreateRequest;
+import com.fitness.domain.lesson.dto.LessonMoveRequest;
+import com.fitness.domain.lesson.dto.LessonParticipantResponse;
+import com.fitness.domain.lesson.dto.LessonResponse;
+import com.fitness.domain.lesson.service.LessonBookingService;
+import com.fitness.domain.lesson.service.LessonSchedulingService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PatchMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * 레슨 일정 API 컨트롤러 (OWNER 전용)
+ */
+@RestController
+@RequestMapping("/api/owner/businesses/{businessId}")
+@RequiredArgsConstructor
+@Tag(name = "레슨 일정 API", description = "레슨 생성, 일정 변경, 참가 신청, 트레이너 빈 시간 조회 API")
+@SecurityRequirement(name = "Bearer Authentication")
+public class LessonController {
+
+    private final LessonSchedulingService lessonSchedulingService;
+    private final LessonBookingService lessonBookingService;
+
+    /**
+     * 레슨 생성
+     */
+    @PostMapping("/lessons")
+    @Operation(summary = "레슨 생성", description = "트레이너의 다른 레슨과 시간이 겹치면 LESSON002 오류를 반환합니다.")
+    public ResponseEntity<ApiResponse<LessonResponse>> createLesson(
+            @AuthenticationPrincipal CustomUserPrincipal principal,
+            @PathVariable Long businessId,
+            @Valid @RequestBody LessonCreateRequest request) {
+        return ResponseEntity.ok(ApiResponse.success(
+                lessonSchedulingService.createLesson(principal.getUserId(), businessId, request)));
+    }
+
+    /**
+     * 레슨 일정 변경
+     */
+    @PatchMapping("/lessons/{lessonId}/schedule")
+    @Operation(summary = "레슨 일정 변경", description = "시작 일시, 소요시간, 트레이너를 변경합니다. "
+            + "트레이너의 다른 레슨과 시간이 겹치면 LESSON002 오류를 반환합니다.")
+    public ResponseEntity<ApiResponse<LessonResponse>> moveLesson(
+            @AuthenticationPrincipal CustomUserPrincipal principal,
+            @PathVariable Long businessId,
+            @PathVariable Long lessonId,
+            @Valid @RequestBody LessonMoveRequest request) {
+        return ResponseEntity.ok(ApiResponse.success(
+                lessonSchedulingService.moveLesson(principal.getUserId(), businessId, lessonId, request)));
+    }
+
+    /**
+     * 레슨 취소
+     */
+    @PostMapping("/lessons/{lessonId}/cancel")
+    @Operation(summary = "레슨 취소", description = "예정된 레슨을 취소하고 트레이너의 해당 시간을 비웁니다.")
+    public ResponseEntity<ApiResponse<LessonResponse>> cancelLesson(
+            @AuthenticationPrincipal CustomUserPrincipal principal,
+            @PathVariable Long businessId,
+            @PathVariable Long lessonId) {
+        return ResponseEntity.ok(ApiResponse.success(
+                lessonSchedulingService.cancelLesson(principal.getUserId(), businessId, lessonId)));
+    }
+
+    /**
+     * 레슨 참가 신청
+     */
+    @PostMapping("/lessons/{lessonId}/participants")
+    @Operation(summary = "레슨 참가 신청", description = "정원이 남아 있으면 READY, 차 있으면 WAITLISTED로 등록합니다. "
+            + "대기자는 자리가 나면 신청 순서대로 READY로 바뀝니다.")
+    public ResponseEntity<ApiResponse<LessonParticipantResponse>> book(
+            @AuthenticationPrincipal CustomUserPrincipal principal,
+            @PathVariable Long businessId,
+            @PathVariable Long lessonId,
+            @Valid @RequestBody LessonBookingRequest request) {
+        return ResponseEntity.ok(ApiResponse.success(
+                lessonBookingService.book(principal.getUserId(), businessId, lessonId, request)));
+    }
+
+    /**
+     * 레슨 참가 취소
+     */
+    @PostMapping("/lessons/{lessonId}/participants/{participantId}/cancel")
+    @Operation(summary = "레슨 참가 취소", description = "자리를 가진 참가자가 취소하면 첫 대기자에게 자리가 넘어갑니다.")
+    public ResponseEntity<ApiResponse<LessonParticipantResponse>> cancelBooking(
+            @AuthenticationPrincipal CustomUserPrincipal principal,
+            @PathVariable Long businessId,
+            @PathVariable Long lessonId,
+            @PathVariable Long participantId) {
+        return ResponseEntity.ok(ApiResponse.success(
+                lessonBookingService.cancel(principal.getUserId(), businessId, lessonId, participantId)));
+    }
+
+    /**
+     * 트레이너 빈 시간 조회
+     */
+    @GetMapping("/trainers/{trainerId}/free-slots")
+    @Operation(summary = "트레이너 빈 시간 조회", description = "기간 내 일자별 근무 시간 중 레슨이 없는 구간을 조회합니다. "
+            + "minMinutes보다 짧은 구간은 제외합니다.")
+    public ResponseEntity<ApiResponse<List<FreeSlotResponse>>> getFreeSlots(
+            @AuthenticationPrincipal CustomUserPrincipal principal,
+            @PathVariable Long businessId,
+            @PathVariable Long trainerId,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(required = false) Integer minMinutes) {
+        return ResponseEntity.ok(ApiResponse.success(lessonSchedulingService.getFreeSlots(
+                principal.getUserId(), businessId, trainerId, from, to, minMinutes)));
+    }
+}
@@ -0,0 +1,120 @@
+package com.fitness.domain.lesson.controller;
+
+import com.fitness.common.security.CustomUserPrincipal;
+import com.fitness.common.util.ApiResponse;
+import com.fitness.domain.lesson.dto.CalendarLessonResponse;
+import com.fitness.domain.lesson.dto.LessonBookingRequest;
+import com.fitness.domain.lesson.dto.LessonParticipantResponse;
+import com.fitness.domain.lesson.dto.LessonResponse;
+import com.fitness.domain.lesson.dto.LessonSeriesCreateRequest;
+import com.fitness.domain.lesson.dto.LessonSeriesResponse;
+import com.fitness.domain.lesson.service.LessonBookingService;
+import com.fitness.domain.lesson.service.LessonSeriesService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * 반복 레슨 / 레슨 달력 API 컨트롤러 (OWNER 전용)
+ */
+@RestController
+@RequestMapping("/api/owner/businesses/{businessId}")
+@RequiredArgsConstructor
+@Tag(name = "반복 레슨 API", description = "반복 레슨 생성, 회차 저장/취소, 레슨 달력 조회 API")
+@SecurityRequirement(name = "Bearer Authentication")
+public class LessonSeriesController {
+
+    private final LessonSeriesService lessonSeriesService;
+    private final LessonBookingService lessonBookingService;
+
+    /**
+     * 반복 레슨 생성
+     */
+    @PostMapping("/lesson-series")
+    @Operation(summary = "반복 레슨 생성", description = "요일/주기로 반복되는 레슨을 만듭니다. 회차는 달력 조회 시 계산되며 "
+            + "트레이너의 다른 레슨과 겹치는 회차가 있으면 LESSON002 오류를 반환합니다.")
+    public ResponseEntity<ApiResponse<LessonSeriesResponse>> createSeries(
+            @AuthenticationPrincipal CustomUserPrincipal principal,
+            @PathVariable Long businessId,
+            @Valid @RequestBody LessonSeriesCreateRequest request) {
+        return ResponseEntity.ok(ApiResponse.success(
+                lessonSeriesService.createSeries(principal.getUserId(), businessId, request)));
+    }
+
+    /**
+     * 반복 레슨 회차 저장
+     */
+    @PostMapping("/lesson-series/{seriesId}/occurrences/{occurrenceDate}")
+    @Operation(summary = "반복 레슨 회차 저장", description = "회차를 레슨으로 저장하고 lessonId를 반환합니다. "
+            + "이미 저장된 회차면 저장된 레슨을 반환합니다.")
+    public ResponseEntity<ApiResponse<LessonResponse>> materializeOccurrence(
+            @AuthenticationPrincipal CustomUserPrincipal principal,
+            @PathVariable Long businessId,
+            @PathVariable Long seriesId,
+            @PathVariable @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate occurrenceDate) {
+        return ResponseEntity.ok(ApiResponse.success(lessonSeriesService.materializeOccurrence(
+                principal.getUserId(), businessId, seriesId, occurrenceDate)));
+    }
+
+    /**
+     * 반복 레슨 회차 취소
+     */
+    @PostMapping("/lesson-series/{seriesId}/occurrences/{occurrenceDate}/cancel")
+    @Operation(summary = "반복 레슨 회차 취소", description = "해당 회차만 취소합니다.")
+    public ResponseEntity<ApiResponse<LessonResponse>> cancelOccurrence(
+            @AuthenticationPrincipal CustomUserPrincipal principal,
+            @PathVariable Long businessId,
+            @PathVariable Long seriesId,
+            @PathVariable @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate occurrenceDate) {
+        return ResponseEntity.ok(ApiResponse.success(lessonSeriesService.cancelOccurrence(
+                principal.getUserId(), businessId, seriesId, occurrenceDate)));
+    }
+
+    /**
+     * 반복 레슨 회차 참가 신청
+     */
+    @PostMapping("/lesson-series/{seriesId}/occurrences/{occurrenceDate}/participants")
+    @Operation(summary = "반복 레슨 회차 참가 신청", description = "회차를 레슨으로 저장한 뒤 참가 신청합니다. "
+            + "정원이 차 있으면 WAITLISTED로 등록합니다.")
+    public ResponseEntity<ApiResponse<LessonParticipantResponse>> bookOccurrence(
+            @AuthenticationPrincipal CustomUserPrincipal principal,
+            @PathVariable Long businessId,
+            @PathVariable Long seriesId,
+            @PathVariable @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate occurrenceDate,
+            @Valid @RequestBody LessonBookingRequest request) {
+        return ResponseEntity.ok(ApiResponse.success(lessonBookingService.bookOccurrence(
+                principal.getUserId(), businessId, seriesId, occurrenceDate, request)));
+    }
+
+    /**
+     * 레슨 달력 조회
+     */
+    @GetMapping("/lessons/calendar")
+    @Operation(summary = "레슨 달력 조회", description = "기간 내 레슨과 반복 레슨 회차를 시작 일시 순으로 조회합니다. "
+            + "저장된 레슨은 참가 회원(취소 제외)을 함께 반환하고, "
+            + "저장되지 않은 회차는 lessonId 없이 seriesId + occurrenceDate로 반환합니다.")
+    public ResponseEntity<ApiResponse<List<CalendarLessonResponse>>> getCalendar(
+            @AuthenticationPrincipal CustomUserPrincipal principal,
+            @PathVariable Long businessId,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(required = false) Long trainerId) {
+        return ResponseEntity.ok(ApiResponse.success(
+                lessonSeriesService.getCalendar(principal.getUserId(), businessId, from, to, trainerId)));
+    }
+}
@@ -0,0 +1,68 @@
+package com.fitness.domain.lesson.dto;
+
+import com.fitness.common.enums.LessonType;
+import com.fitness.common.enums.ScheduleStatus;
+import com.fitness.domain.lesson.entity.LessonSeries;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 달력 레슨 응답 DTO
+ * 저장되지 않은 반복 레슨 회차는 lessonId 없이 seriesId + occurrenceDate로 식별 (참가 회원 없음)
+ */
+@Getter
+@Builder
+public class CalendarLessonResponse {
+
+    private final Long lessonId;
+    private final Long seriesId;
+    private final LocalDate occurrenceDate;
+    private final Long trainerId;
+    private final String trainerName;
+    private final LessonType lessonType;
+    private final ScheduleStatus status;
+    private final String title;
+    private final LocalDateTime startDate;
+    private final LocalDateTime endDate;
+    private final Integer maxParticipant;
+    private final int bookedCount;
+    private final List<CalendarParticipantResponse> participants;
+
+    public static CalendarLessonResponse from(CalendarLessonRow lesson, List<CalendarParticipantResponse> participants) {
+        return CalendarLessonResponse.builder()
+                .lessonId(lesson.getLessonId())
+                .seriesId(lesson.getSeriesId())
+                .occurrenceDate(lesson.getOccurrenceDate())
+                .trainerId(lesson.getTrainerId())
+                .trainerName(lesson.getTrainerName())
+                .lessonType(lesson.getLessonType())
+                .status(lesson.getStatus())
+                .title(lesson.getTitle())
+                .startDate(lesson.getStartDate())
+                .endDate(lesson.getEndDate())
+                .maxParticipant(lesson.getMaxParticipant())
+                .bookedCount(lesson.getBookedCount())
+                .participants(participants)
+                .build();
+    }
+
+    public static CalendarLessonResponse occurrence(LessonSeries series, LocalDate occurrenceDate) {
+        return CalendarLessonResponse.builder()
+                .seriesId(series.getSeriesId())
+                .occurrenceDate(occurrenceDate)
+                .trainerId(series.getTrainer().getUserId())
+                .trainerName(series.getTrainer().getName())
+                .lessonType(series.getLessonType())
+                .status(ScheduleStatus.SCHEDULED)
+                .title(series.getTitle())
+                .startDate(series.occurrenceStart(occurrenceDate))
+                .endDate(series.occurrenceEnd(occurrenceDate))
+                .maxParticipant(series.getMaxParticipant())
+                .participants(List.of())
+                .build();
+    }
+}
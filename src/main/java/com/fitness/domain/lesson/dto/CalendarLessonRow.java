@@ -0,0 +1,30 @@
+package com.fitness.domain.lesson.dto;
+
+import com.fitness.common.enums.LessonType;
+import com.fitness.common.enums.ScheduleStatus;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * 달력 조회용 저장된 레슨 프로젝션 (엔티티/연관 객체를 읽지 않도록 필요한 컬럼만 조회)
+ */
+@Getter
+@AllArgsConstructor
+public class CalendarLessonRow {
+
+    private final Long lessonId;
+    private final Long seriesId;
+    private final LocalDate occurrenceDate;
+    private final Long trainerId;
+    private final String trainerName;
+    private final LessonType lessonType;
+    private final ScheduleStatus status;
+    private final String title;
+    private final LocalDateTime startDate;
+    private final LocalDateTime endDate;
+    private final Integer maxParticipant;
+    private final int bookedCount;
+}
@@ -0,0 +1,20 @@
+package com.fitness.domain.lesson.dto;
+
+import com.fitness.common.enums.ParticipantStatus;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 달력 레슨 참가 회원 요약 DTO
+ */
+@Getter
+@AllArgsConstructor
+public class CalendarParticipantResponse {
+
+    private final Long lessonId;
+    private final Long participantId;
+    private final Long memberId;
+    private final String memberName;
+    private final String phoneNumber;
+    private final ParticipantStatus status;
+}
@@ -0,0 +1,22 @@
+package com.fitness.domain.lesson.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 트레이너 빈 시간 응답 DTO
+ */
+@Getter
+@AllArgsConstructor
+public class FreeSlotResponse {
+
+    private final LocalDateTime startDate;
+    private final LocalDateTime endDate;
+
+    /**
+     * 빈 시간 길이 (분)
+     */
+    private final long minutes;
+}
@@ -0,0 +1,19 @@
+package com.fitness.domain.lesson.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotNull;
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * 레슨 참가 신청 요청 DTO
+ */
+@Getter
+@Setter
+@Schema(description = "레슨 참가 신청 요청")
+public class LessonBookingRequest {
+
+    @NotNull(message = "회원 ID는 필수입니다.")
+    @Schema(description = "회원 ID", example = "101")
+    private Long memberId;
+}
@@ -0,0 +1,50 @@
+package com.fitness.domain.lesson.dto;
+
+import com.fitness.common.enums.LessonType;
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 레슨 생성 요청 DTO
+ */
+@Getter
+@Setter
+@Schema(description = "레슨 생성 요청")
+public class LessonCreateRequest {
+
+    @NotNull(message = "트레이너 ID는 필수입니다.")
+    @Schema(description = "트레이너 ID", example = "3")
+    private Long trainerId;
+
+    @NotNull(message = "레슨 유형은 필수입니다.")
+    @Schema(description = "레슨 유형", example = "PERSONAL_PT")
+    private LessonType lessonType;
+
+    @NotBlank(message = "레슨 제목은 필수입니다.")
+    @Schema(description = "레슨 제목", example = "김민수 회원 PT")
+    private String title;
+
+    @Schema(description = "메모")
+    private String description;
+
+    @NotNull(message = "시작 일시는 필수입니다.")
+    @Schema(description = "시작 일시", example = "2025-03-10T19:00:00")
+    private LocalDateTime startDate;
+
+    @NotNull(message = "소요시간은 필수입니다.")
+    @Min(value = 10, message = "소요시간은 10분 이상이어야 합니다.")
+    @Max(value = 480, message = "소요시간은 480분 이하여야 합니다.")
+    @Schema(description = "소요시간 (분)", example = "50")
+    private Integer durationMinute;
+
+    @Min(value = 1, message = "최대 참가자 수는 1명 이상이어야 합니다.")
+    @Schema(description = "최대 참가자 수 (기본 1명)", example = "1")
+    private Integer maxParticipant;
+}
@@ -0,0 +1,18 @@
+package com.fitness.domain.lesson.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 레슨 시간 구간 (트레이너 일정 인덱스 적재용)
+ */
+@Getter
+@AllArgsConstructor
+public class LessonInterval {
+
+    private final Long lessonId;
+    private final LocalDateTime startDate;
+    private final LocalDateTime endDate;
+}
@@ -0,0 +1,31 @@
+package com.fitness.domain.lesson.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 레슨 일정 변경 요청 DTO
+ */
+@Getter
+@Setter
+@Schema(description = "레슨 일정 변경 요청")
+public class LessonMoveRequest {
+
+    @NotNull(message = "시작 일시는 필수입니다.")
+    @Schema(description = "변경할 시작 일시", example = "2025-03-11T19:00:00")
+    private LocalDateTime startDate;
+
+    @Min(value = 10, message = "소요시간은 10분 이상이어야 합니다.")
+    @Max(value = 480, message = "소요시간은 480분 이하여야 합니다.")
+    @Schema(description = "변경할 소요시간 (분, 없으면 기존 유지)", example = "50")
+    private Integer durationMinute;
+
+    @Schema(description = "변경할 트레이너 ID (없으면 기존 유지)", example = "3")
+    private Long trainerId;
+}
@@ -0,0 +1,26 @@
+package com.fitness.domain.lesson.dto;
+
+import com.fitness.common.enums.ParticipantStatus;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 레슨 참가 응답 DTO
+ */
+@Getter
+@AllArgsConstructor
+public class LessonParticipantResponse {
+
+    private final Long participantId;
+    private final Long lessonId;
+    private final Long memberId;
+
+    /**
+     * 참가 상태 (정원이 차 있으면 WAITLISTED)
+     */
+    private final ParticipantStatus status;
+
+    private final LocalDateTime registeredDate;
+}
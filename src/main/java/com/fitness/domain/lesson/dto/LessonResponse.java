@@ -0,0 +1,48 @@
+package com.fitness.domain.lesson.dto;
+
+import com.fitness.common.enums.LessonType;
+import com.fitness.common.enums.ScheduleStatus;
+import com.fitness.domain.lesson.entity.Lesson;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * 레슨 응답 DTO
+ */
+@Getter
+@Builder
+public class LessonResponse {
+
+    private final Long lessonId;
+    private final Long seriesId;
+    private final LocalDate occurrenceDate;
+    private final Long trainerId;
+    private final LessonType lessonType;
+    private final ScheduleStatus status;
+    private final String title;
+    private final String description;
+    private final LocalDateTime startDate;
+    private final LocalDateTime endDate;
+    private final Integer durationMinute;
+    private final Integer maxParticipant;
+
+    public static LessonResponse from(Lesson lesson) {
+        return LessonResponse.builder()
+                .lessonId(lesson.getLessonId())
+                .seriesId(lesson.getSeries() != null ? lesson.getSeries().getSeriesId() : null)
+                .occurrenceDate(lesson.getOccurrenceDate())
+                .trainerId(lesson.getTrainer() != null ? lesson.getTrainer().getUserId() : null)
+                .lessonType(lesson.getLessonType())
+                .status(lesson.getStatus())
+                .title(lesson.getTitle())
+                .description(lesson.getDescription())
+                .startDate(lesson.getStartDate())
+                .endDate(lesson.getEndDate())
+                .durationMinute(lesson.getDurationMinute())
+                .maxParticipant(lesson.getMaxParticipant())
+                .build();
+    }
+}
@@ -0,0 +1,70 @@
+package com.fitness.domain.lesson.dto;
+
+import com.fitness.common.enums.LessonType;
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.Set;
+
+/**
+ * 반복 레슨 생성 요청 DTO
+ */
+@Getter
+@Setter
+@Schema(description = "반복 레슨 생성 요청")
+public class LessonSeriesCreateRequest {
+
+    @NotNull(message = "트레이너 ID는 필수입니다.")
+    @Schema(description = "트레이너 ID", example = "3")
+    private Long trainerId;
+
+    @NotNull(message = "레슨 유형은 필수입니다.")
+    @Schema(description = "레슨 유형", example = "YOGA")
+    private LessonType lessonType;
+
+    @NotBlank(message = "레슨 제목은 필수입니다.")
+    @Schema(description = "레슨 제목", example = "아침 요가")
+    private String title;
+
+    @Schema(description = "메모")
+    private String description;
+
+    @NotEmpty(message = "반복 요일은 필수입니다.")
+    @Schema(description = "반복 요일", example = "[\"MONDAY\", \"WEDNESDAY\"]")
+    private Set<DayOfWeek> daysOfWeek;
+
+    @Min(value = 1, message = "반복 주기는 1주 이상이어야 합니다.")
+    @Max(value = 4, message = "반복 주기는 4주 이하여야 합니다.")
+    @Schema(description = "반복 주기 (주, 기본 1주)", example = "1")
+    private Integer intervalWeeks;
+
+    @NotNull(message = "시작 시각은 필수입니다.")
+    @Schema(description = "회차 시작 시각", example = "07:00:00")
+    private LocalTime startTime;
+
+    @NotNull(message = "소요시간은 필수입니다.")
+    @Min(value = 10, message = "소요시간은 10분 이상이어야 합니다.")
+    @Max(value = 480, message = "소요시간은 480분 이하여야 합니다.")
+    @Schema(description = "소요시간 (분)", example = "50")
+    private Integer durationMinute;
+
+    @NotNull(message = "반복 시작일은 필수입니다.")
+    @Schema(description = "반복 시작일", example = "2025-03-10")
+    private LocalDate startDate;
+
+    @Schema(description = "반복 종료일 (없으면 계속)", example = "2025-12-31")
+    private LocalDate endDate;
+
+    @Min(value = 1, message = "최대 참가자 수는 1명 이상이어야 합니다.")
+    @Schema(description = "회차별 최대 참가자 수 (기본 1명)", example = "20")
+    private Integer maxParticipant;
+}
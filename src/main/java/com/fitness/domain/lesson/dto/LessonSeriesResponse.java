@@ -0,0 +1,52 @@
+package com.fitness.domain.lesson.dto;
+
+import com.fitness.common.enums.LessonType;
+import com.fitness.domain.lesson.entity.LessonSeries;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * 반복 레슨 응답 DTO
+ */
+@Getter
+@Builder
+public class LessonSeriesResponse {
+
+    private final Long seriesId;
+    private final Long trainerId;
+    private final LessonType lessonType;
+    private final String title;
+    private final String description;
+    private final List<DayOfWeek> daysOfWeek;
+    private final Integer intervalWeeks;
+    private final LocalTime startTime;
+    private final Integer durationMinute;
+    private final LocalDate startDate;
+    private final LocalDate endDate;
+    private final Integer maxParticipant;
+
+    public static LessonSeriesResponse from(LessonSeries series) {
+        return LessonSeriesResponse.builder()
+                .seriesId(series.getSeriesId())
+                .trainerId(series.getTrainer().getUserId())
+                .lessonType(series.getLessonType())
+                .title(series.getTitle())
+                .description(series.getDescription())
+                .daysOfWeek(Arrays.stream(DayOfWeek.values())
+                        .filter(day -> (series.getDaysOfWeek() & (1 << (day.getValue() - 1))) != 0)
+                        .toList())
+                .intervalWeeks(series.getIntervalWeeks())
+                .startTime(series.getStartTime())
+                .durationMinute(series.getDurationMinute())
+                .startDate(series.getStartDate())
+                .endDate(series.getEndDate())
+                .maxParticipant(series.getMaxParticipant())
+                .build();
+    }
+}
@@ -4,6 +4,7 @@ import com.fitness.common.BaseEntity;
 import com.fitness.common.enums.LessonType;
 import com.fitness.common.enums.ScheduleStatus;
 import com.fitness.domain.business.entity.Business;
+import com.fitness.domain.lesson.service.LessonScheduleListener;
 import com.fitness.domain.user.entity.User;
 import jakarta.persistence.*;
 import lombok.*;
@@ -17,9 +18,17 @@ import java.util.List;
 /**
  * 레슨 일정 엔티티
  * 개별 레슨 및 그룹 레슨 일정을 관리
+ * 반복 레슨({@link LessonSeries}) 회차는 참가 신청, 취소, 시간 변경이 생길 때만 저장
  */
 @Entity
-@Table(name = "lesson")
+@EntityListeners(LessonScheduleListener.class)
+@Table(name = "lesson", indexes = {
+        @Index(name = "idx_lesson_trainer_end", columnList = "trainer_id, end_date"),
+        @Index(name = "idx_lesson_business_start", columnList = "business_id, start_date"),
+        @Index(name = "idx_lesson_business_occurrence", columnList = "business_id, occurrence_date")
+}, uniqueConstraints = {
+        @UniqueConstraint(name = "uk_lesson_series_occurrence", columnNames = {"series_id", "occurrence_date"})
+})
 @Getter
 @Setter
 @NoArgsConstructor
@@ -40,6 +49,13 @@ public class Lesson extends BaseEntity {
     @JoinColumn(name = "trainer_id")
     private User trainer;
 
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "series_id")
+    private LessonSeries series; // 반복 레슨 (단일 레슨이면 null)
+
+    @Column(name = "occurrence_date")
+    private LocalDate occurrenceDate; // 반복 레슨 회차 원래 일자 (시간을 옮겨도 유지)
+
     @Enumerated(EnumType.STRING)
     @Column(name = "lesson_type", nullable = false)
     private LessonType lessonType; // 레슨 유형
@@ -68,6 +84,14 @@ public class Lesson extends BaseEntity {
     @Builder.Default
     private Integer maxParticipant = 1; // 최대 참가자 수
 
+    /**
+     * 자리를 차지한 참가자 수 (신청/취소 시 조건부 UPDATE로만 갱신, 엔티티 저장 시에는 쓰지 않음)
+     */
+    @Column(name = "booked_count", nullable = false, insertable = false, updatable = false,
+            columnDefinition = "INT DEFAULT 0")
+    @Setter(AccessLevel.NONE)
+    private int bookedCount;
+
     @OneToMany(mappedBy = "lesson", cascade = CascadeType.ALL, orphanRemoval = true)
     @Builder.Default
     private List<LessonParticipant> participants = new ArrayList<>();
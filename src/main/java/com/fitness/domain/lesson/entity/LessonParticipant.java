@@ -13,9 +13,14 @@ import java.time.LocalDateTime;
 /**
  * 레슨 일정 참여 회원 엔티티
  * 레슨에 참여하는 회원들의 정보를 관리
+ * 정원이 찬 레슨은 WAITLISTED로 등록되고 자리가 나면 신청 순서대로 READY로 변경
  */
 @Entity
-@Table(name = "lesson_participants")
+@Table(name = "lesson_participants", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_lesson_participant_member", columnNames = {"lesson_id", "member_id"})
+}, indexes = {
+        @Index(name = "idx_lesson_participant_status", columnList = "lesson_id, participant_status, registered_date")
+})
 @Getter
 @Setter
 @NoArgsConstructor
@@ -0,0 +1,136 @@
+package com.fitness.domain.lesson.entity;
+
+import com.fitness.common.BaseEntity;
+import com.fitness.common.enums.LessonType;
+import com.fitness.domain.business.entity.Business;
+import com.fitness.domain.user.entity.User;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.temporal.ChronoUnit;
+import java.time.temporal.TemporalAdjusters;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 반복 레슨 엔티티 (요가, 스피닝, 그룹 PT 등 매주 반복되는 수업)
+ * 반복 규칙만 저장하고 회차는 조회 기간에 맞춰 계산
+ * 참가 신청, 취소, 시간 변경이 생긴 회차만 series_id + occurrence_date로 Lesson 행을 만듦
+ */
+@Entity
+@Table(name = "lesson_series", indexes = {
+        @Index(name = "idx_lesson_series_business", columnList = "business_id, start_date"),
+        @Index(name = "idx_lesson_series_trainer", columnList = "trainer_id, start_date")
+})
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class LessonSeries extends BaseEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "series_id")
+    private Long seriesId;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "business_id", nullable = false)
+    private Business business;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "trainer_id", nullable = false)
+    private User trainer;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "lesson_type", nullable = false)
+    private LessonType lessonType; // 레슨 유형
+
+    @Column(name = "title", nullable = false, length = 200)
+    private String title; // 일정 제목
+
+    @Column(name = "description", columnDefinition = "TEXT")
+    private String description; // 일정 메모
+
+    @Column(name = "days_of_week", nullable = false)
+    private Integer daysOfWeek; // 반복 요일 (월요일 1, 화요일 2, 수요일 4 ... 일요일 64 비트 합)
+
+    @Column(name = "interval_weeks", nullable = false)
+    @Builder.Default
+    private Integer intervalWeeks = 1; // 반복 주기 (주)
+
+    @Column(name = "start_time", nullable = false)
+    private LocalTime startTime; // 회차 시작 시각
+
+    @Column(name = "duration_minute", nullable = false)
+    private Integer durationMinute; // 소요시간 (분)
+
+    @Column(name = "start_date", nullable = false)
+    private LocalDate startDate; // 반복 시작일
+
+    @Column(name = "end_date")
+    private LocalDate endDate; // 반복 종료일 (없으면 계속)
+
+    @Column(name = "max_participant", nullable = false)
+    @Builder.Default
+    private Integer maxParticipant = 1; // 회차별 최대 참가자 수
+
+    /**
+     * 요일 목록을 비트 합으로 변환
+     */
+    public static int toDaysOfWeek(Collection<DayOfWeek> days) {
+        int mask = 0;
+        for (DayOfWeek day : days) {
+            mask |= 1 << (day.getValue() - 1);
+        }
+        return mask;
+    }
+
+    /**
+     * 해당 일자가 회차인지 (반복 기간, 요일, 반복 주기)
+     */
+    public boolean occursOn(LocalDate date) {
+        if (date.isBefore(startDate) || (endDate != null && date.isAfter(endDate))) {
+            return false;
+        }
+        if ((daysOfWeek & (1 << (date.getDayOfWeek().getValue() - 1))) == 0) {
+            return false;
+        }
+        LocalDate firstWeek = startDate.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+        return ChronoUnit.WEEKS.between(firstWeek, date) % intervalWeeks == 0;
+    }
+
+    /**
+     * 기간 내 회차 일자 (from, to 포함)
+     */
+    public List<LocalDate> occurrenceDates(LocalDate from, LocalDate to) {
+        List<LocalDate> dates = new ArrayList<>();
+        LocalDate first = from.isBefore(startDate) ? startDate : from;
+        LocalDate last = endDate != null && endDate.isBefore(to) ? endDate : to;
+        for (LocalDate date = first; !date.isAfter(last); date = date.plusDays(1)) {
+            if (occursOn(date)) {
+                dates.add(date);
+            }
+        }
+        return dates;
+    }
+
+    /**
+     * 회차 시작 일시
+     */
+    public LocalDateTime occurrenceStart(LocalDate occurrenceDate) {
+        return occurrenceDate.atTime(startTime);
+    }
+
+    /**
+     * 회차 종료 일시
+     */
+    public LocalDateTime occurrenceEnd(LocalDate occurrenceDate) {
+        return occurrenceStart(occurrenceDate).plusMinutes(durationMinute);
+    }
+}
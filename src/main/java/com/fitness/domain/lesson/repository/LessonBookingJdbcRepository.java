@@ -0,0 +1,97 @@
+package com.fitness.domain.lesson.repository;
+
+import com.fitness.common.enums.ParticipantStatus;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 레슨 정원 / 참가 상태 조건부 갱신 JDBC 리포지토리
+ * 레슨 행을 SELECT ... FOR UPDATE로 잠그지 않고 조건부 UPDATE 한 번으로 자리 확보 여부를 결정
+ * (갱신된 행 수가 0이면 다른 트랜잭션이 먼저 자리를 가져갔거나 상태를 바꾼 것)
+ */
+@Repository
+@RequiredArgsConstructor
+public class LessonBookingJdbcRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 정원이 남아 있으면 자리 1개 확보
+     * @return 확보했으면 true
+     */
+    public boolean reserveSeat(Long lessonId) {
+        return jdbcTemplate.update(
+                "UPDATE lesson SET booked_count = booked_count + 1 " +
+                "WHERE lesson_id = ? AND booked_count < max_participant AND status = 'SCHEDULED' " +
+                "AND deleted_at IS NULL",
+                lessonId) == 1;
+    }
+
+    /**
+     * 자리 1개 반납
+     */
+    public void releaseSeat(Long lessonId) {
+        jdbcTemplate.update(
+                "UPDATE lesson SET booked_count = booked_count - 1 WHERE lesson_id = ? AND booked_count > 0",
+                lessonId);
+    }
+
+    /**
+     * 예정된 레슨의 확보 자리 수를 자리를 가진 참가자(READY/APPROVED) 수로 보정
+     * (자리 수 컬럼 도입 이전 레슨은 0으로 시작하므로 기존 참가자 수를 반영)
+     * @return 보정한 레슨 수
+     */
+    public int reconcileBookedCounts() {
+        String seated = "(SELECT COUNT(*) FROM lesson_participants p " +
+                "WHERE p.lesson_id = lesson.lesson_id AND p.participant_status IN ('READY', 'APPROVED'))";
+        return jdbcTemplate.update(
+                "UPDATE lesson SET booked_count = " + seated + " " +
+                "WHERE status = 'SCHEDULED' AND deleted_at IS NULL AND booked_count <> " + seated);
+    }
+
+    /**
+     * 참가 상태 변경 (현재 상태가 from 중 하나일 때만)
+     * @return 변경했으면 true
+     */
+    public boolean changeStatus(Long participantId, Long lessonId, List<ParticipantStatus> from, ParticipantStatus to) {
+        String placeholders = String.join(", ", from.stream().map(status -> "?").toList());
+        Object[] args = new Object[from.size() + 3];
+        args[0] = to.name();
+        args[1] = participantId;
+        args[2] = lessonId;
+        for (int i = 0; i < from.size(); i++) {
+            args[i + 3] = from.get(i).name();
+        }
+        return jdbcTemplate.update(
+                "UPDATE lesson_participants SET participant_status = ? " +
+                "WHERE lesson_participant_id = ? AND lesson_id = ? AND participant_status IN (" + placeholders + ")",
+                args) == 1;
+    }
+
+    /**
+     * 취소했던 참가 다시 신청 (신청 일시를 새로 기록해 대기 순서 뒤로)
+     * @return 변경했으면 true
+     */
+    public boolean reactivate(Long participantId, ParticipantStatus to, LocalDateTime registeredDate) {
+        return jdbcTemplate.update(
+                "UPDATE lesson_participants SET participant_status = ?, registered_date = ? " +
+                "WHERE lesson_participant_id = ? AND participant_status = 'CANCELLED'",
+                to.name(), Timestamp.valueOf(registeredDate), participantId) == 1;
+    }
+
+    /**
+     * 대기 참가자 ID (신청 순서)
+     */
+    public List<Long> findWaitlisted(Long lessonId, int limit) {
+        return jdbcTemplate.queryForList(
+                "SELECT lesson_participant_id FROM lesson_participants " +
+                "WHERE lesson_id = ? AND participant_status = 'WAITLISTED' " +
+                "ORDER BY registered_date, lesson_participant_id LIMIT ?",
+                Long.class, lessonId, limit);
+    }
+}
@@ -0,0 +1,37 @@
+package com.fitness.domain.lesson.repository;
+
+import com.fitness.domain.lesson.dto.CalendarParticipantResponse;
+import com.fitness.domain.lesson.entity.LessonParticipant;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 레슨 참가 회원 리포지토리
+ */
+@Repository
+public interface LessonParticipantRepository extends JpaRepository<LessonParticipant, Long> {
+
+    /**
+     * 레슨의 회원 참가 조회 (취소 포함)
+     */
+    @Query("SELECT p FROM LessonParticipant p WHERE p.lesson.lessonId = :lessonId AND p.member.userId = :memberId")
+    Optional<LessonParticipant> findByLessonIdAndMemberId(@Param("lessonId") Long lessonId,
+                                                          @Param("memberId") Long memberId);
+
+    /**
+     * 달력용 레슨별 참가 회원 요약 (취소 제외, 레슨 / 신청 순)
+     */
+    @Query("SELECT new com.fitness.domain.lesson.dto.CalendarParticipantResponse(" +
+           "p.lesson.lessonId, p.lessonParticipantId, m.userId, m.name, m.phoneNumber, p.participantStatus) " +
+           "FROM LessonParticipant p JOIN p.member m " +
+           "WHERE p.lesson.lessonId IN :lessonIds " +
+           "AND p.participantStatus <> com.fitness.common.enums.ParticipantStatus.CANCELLED " +
+           "ORDER BY p.lesson.lessonId, p.registeredDate, p.lessonParticipantId")
+    List<CalendarParticipantResponse> findCalendarParticipants(@Param("lessonIds") Collection<Long> lessonIds);
+}
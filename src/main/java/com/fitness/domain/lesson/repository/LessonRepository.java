@@ -0,0 +1,84 @@
+package com.fitness.domain.lesson.repository;
+
+import com.fitness.common.enums.ScheduleStatus;
+import com.fitness.domain.lesson.dto.CalendarLessonRow;
+import com.fitness.domain.lesson.dto.LessonInterval;
+import com.fitness.domain.lesson.entity.Lesson;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 레슨 일정 리포지토리
+ */
+@Repository
+public interface LessonRepository extends JpaRepository<Lesson, Long> {
+
+    /**
+     * 사업장 레슨 조회
+     */
+    @Query("SELECT l FROM Lesson l WHERE l.lessonId = :lessonId AND l.business.businessId = :businessId " +
+           "AND l.deletedAt IS NULL")
+    Optional<Lesson> findByIdAndBusinessId(@Param("lessonId") Long lessonId, @Param("businessId") Long businessId);
+
+    /**
+     * 트레이너의 끝나지 않은 레슨 구간 (모든 사업장)
+     */
+    @Query("SELECT new com.fitness.domain.lesson.dto.LessonInterval(l.lessonId, l.startDate, l.endDate) " +
+           "FROM Lesson l WHERE l.trainer.userId = :trainerId AND l.endDate > :from " +
+           "AND l.status IN :statuses AND l.deletedAt IS NULL")
+    List<LessonInterval> findUpcomingIntervals(@Param("trainerId") Long trainerId,
+                                               @Param("from") LocalDateTime from,
+                                               @Param("statuses") Collection<ScheduleStatus> statuses);
+
+    /**
+     * 반복 레슨 회차 조회
+     */
+    @Query("SELECT l FROM Lesson l WHERE l.series.seriesId = :seriesId AND l.occurrenceDate = :occurrenceDate")
+    Optional<Lesson> findBySeriesIdAndOccurrenceDate(@Param("seriesId") Long seriesId,
+                                                     @Param("occurrenceDate") LocalDate occurrenceDate);
+
+    /**
+     * 달력 기간에 시작하는 저장된 레슨 (단일 레슨 + 저장된 반복 레슨 회차, 트레이너 이름 포함)
+     * (business_id, start_date) 인덱스 범위 조회
+     */
+    @Query("SELECT new com.fitness.domain.lesson.dto.CalendarLessonRow(" +
+           "l.lessonId, s.seriesId, l.occurrenceDate, t.userId, t.name, l.lessonType, l.status, l.title, " +
+           "l.startDate, l.endDate, l.maxParticipant, l.bookedCount) " +
+           "FROM Lesson l LEFT JOIN l.series s LEFT JOIN l.trainer t " +
+           "WHERE l.business.businessId = :businessId AND l.deletedAt IS NULL " +
+           "AND l.startDate >= :start AND l.startDate < :end")
+    List<CalendarLessonRow> findCalendarLessons(@Param("businessId") Long businessId,
+                                                @Param("start") LocalDateTime start,
+                                                @Param("end") LocalDateTime end);
+
+    /**
+     * 원래 일자가 달력 기간인 저장된 반복 레슨 회차 (다른 날로 옮긴 회차가 계산된 회차를 대신하도록 조회)
+     * (business_id, occurrence_date) 인덱스 범위 조회
+     */
+    @Query("SELECT new com.fitness.domain.lesson.dto.CalendarLessonRow(" +
+           "l.lessonId, s.seriesId, l.occurrenceDate, t.userId, t.name, l.lessonType, l.status, l.title, " +
+           "l.startDate, l.endDate, l.maxParticipant, l.bookedCount) " +
+           "FROM Lesson l JOIN l.series s LEFT JOIN l.trainer t " +
+           "WHERE l.business.businessId = :businessId AND l.deletedAt IS NULL " +
+           "AND l.occurrenceDate >= :fromDate AND l.occurrenceDate <= :toDate")
+    List<CalendarLessonRow> findCalendarOccurrences(@Param("businessId") Long businessId,
+                                                    @Param("fromDate") LocalDate fromDate,
+                                                    @Param("toDate") LocalDate toDate);
+
+    /**
+     * 반복 레슨들의 저장된 회차 (seriesId, occurrenceDate)
+     */
+    @Query("SELECT l.series.seriesId, l.occurrenceDate FROM Lesson l WHERE l.series.seriesId IN :seriesIds " +
+           "AND l.occurrenceDate >= :from AND l.occurrenceDate <= :to")
+    List<Object[]> findOccurrenceDates(@Param("seriesIds") Collection<Long> seriesIds,
+                                       @Param("from") LocalDate from,
+                                       @Param("to") LocalDate to);
+}
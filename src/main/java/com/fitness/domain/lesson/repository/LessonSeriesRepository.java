@@ -0,0 +1,44 @@
+package com.fitness.domain.lesson.repository;
+
+import com.fitness.domain.lesson.entity.LessonSeries;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 반복 레슨 리포지토리
+ */
+@Repository
+public interface LessonSeriesRepository extends JpaRepository<LessonSeries, Long> {
+
+    /**
+     * 사업장 반복 레슨 조회
+     */
+    @Query("SELECT s FROM LessonSeries s WHERE s.seriesId = :seriesId AND s.business.businessId = :businessId " +
+           "AND s.deletedAt IS NULL")
+    Optional<LessonSeries> findByIdAndBusinessId(@Param("seriesId") Long seriesId, @Param("businessId") Long businessId);
+
+    /**
+     * 기간과 반복 기간이 겹치는 사업장 반복 레슨 (트레이너 함께 조회)
+     */
+    @Query("SELECT s FROM LessonSeries s JOIN FETCH s.trainer " +
+           "WHERE s.business.businessId = :businessId AND s.startDate <= :to " +
+           "AND (s.endDate IS NULL OR s.endDate >= :from) AND s.deletedAt IS NULL")
+    List<LessonSeries> findByBusinessIdInRange(@Param("businessId") Long businessId,
+                                               @Param("from") LocalDate from,
+                                               @Param("to") LocalDate to);
+
+    /**
+     * 기간과 반복 기간이 겹치는 트레이너 반복 레슨 (모든 사업장)
+     */
+    @Query("SELECT s FROM LessonSeries s WHERE s.trainer.userId = :trainerId AND s.startDate <= :to " +
+           "AND (s.endDate IS NULL OR s.endDate >= :from) AND s.deletedAt IS NULL")
+    List<LessonSeries> findByTrainerIdInRange(@Param("trainerId") Long trainerId,
+                                              @Param("from") LocalDate from,
+                                              @Param("to") LocalDate to);
+}
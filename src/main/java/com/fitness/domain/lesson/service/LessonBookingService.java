@@ -0,0 +1,262 @@
+package com.fitness.domain.lesson.service;
+
+import com.fitness.common.enums.ParticipantStatus;
+import com.fitness.common.enums.ScheduleStatus;
+import com.fitness.common.exception.BusinessException;
+import com.fitness.common.exception.ErrorCode;
+import com.fitness.domain.business.repository.BusinessMemberRepository;
+import com.fitness.domain.business.repository.BusinessRepository;
+import com.fitness.domain.lesson.dto.LessonBookingRequest;
+import com.fitness.domain.lesson.dto.LessonParticipantResponse;
+import com.fitness.domain.lesson.entity.Lesson;
+import com.fitness.domain.lesson.entity.LessonParticipant;
+import com.fitness.domain.lesson.repository.LessonBookingJdbcRepository;
+import com.fitness.domain.lesson.repository.LessonParticipantRepository;
+import com.fitness.domain.lesson.repository.LessonRepository;
+import com.fitness.domain.user.repository.UserRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static com.fitness.common.util.TransactionUtils.afterCommit;
+
+/**
+ * 레슨 참가 신청 서비스 (그룹 레슨 정원 관리)
+ * - 자리 확보는 lesson.booked_count 조건부 UPDATE 한 번 (booked_count < max_participant)
+ *   레슨 행을 먼저 잠그지 않으므로 인기 수업에서도 신청 트랜잭션은 UPDATE + INSERT만큼만 행 잠금을 잡음
+ * - 정원이 차면 WAITLISTED로 등록, 자리를 가진 참가자가 취소하면 같은 트랜잭션에서 첫 대기자에게 자리를 넘김
+ * - 기동 시 예정된 레슨의 확보 자리 수를 참가자 수로 보정 (자리 수 컬럼 도입 이전 레슨 포함)
+ * - 대기 등록 / 자리 반납 커밋 후 남는 자리가 있으면 전용 스레드에서 대기자를 신청 순서대로 승격
+ *   (동시 신청/취소 사이에 생긴 빈자리 보정, 같은 레슨의 승격 요청은 하나로 합침)
+ * 참가 상태 변경은 엔티티 저장 대신 조건부 UPDATE로만 수행
+ */
+@Slf4j
+@Service
+public class LessonBookingService {
+
+    private static final List<ParticipantStatus> SEATED = List.of(ParticipantStatus.READY, ParticipantStatus.APPROVED);
+    private static final List<ParticipantStatus> WAITLISTED = List.of(ParticipantStatus.WAITLISTED);
+    private static final int WAITLIST_BATCH = 10;
+
+    private final LessonRepository lessonRepository;
+    private final LessonParticipantRepository participantRepository;
+    private final LessonBookingJdbcRepository bookingRepository;
+    private final BusinessRepository businessRepository;
+    private final BusinessMemberRepository businessMemberRepository;
+    private final UserRepository userRepository;
+    private final LessonSeriesService lessonSeriesService;
+    private final ThreadPoolTaskExecutor lessonBookingExecutor;
+    private final TransactionTemplate transactionTemplate;
+    private final Set<Long> pendingPromotions = ConcurrentHashMap.newKeySet();
+
+    public LessonBookingService(LessonRepository lessonRepository,
+                                LessonParticipantRepository participantRepository,
+                                LessonBookingJdbcRepository bookingRepository,
+                                BusinessRepository businessRepository,
+                                BusinessMemberRepository businessMemberRepository,
+                                UserRepository userRepository,
+                                LessonSeriesService lessonSeriesService,
+                                @Qualifier("lessonBookingExecutor") ThreadPoolTaskExecutor lessonBookingExecutor,
+                                PlatformTransactionManager transactionManager) {
+        this.lessonRepository = lessonRepository;
+        this.participantRepository = participantRepository;
+        this.bookingRepository = bookingRepository;
+        this.businessRepository = businessRepository;
+        this.businessMemberRepository = businessMemberRepository;
+        this.userRepository = userRepository;
+        this.lessonSeriesService = lessonSeriesService;
+        this.lessonBookingExecutor = lessonBookingExecutor;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    /**
+     * 레슨 참가 신청 (정원이 차 있으면 대기 등록)
+     * @throws BusinessException 이미 신청했으면 LESSON_ALREADY_BOOKED
+     */
+    public LessonParticipantResponse book(Long ownerId, Long businessId, Long lessonId, LessonBookingRequest request) {
+        verifyOwner(ownerId, businessId);
+        return transactionTemplate.execute(status -> doBook(businessId, lessonId, request.getMemberId()));
+    }
+
+    /**
+     * 반복 레슨 회차 참가 신청 (회차를 레슨으로 저장한 뒤 신청)
+     */
+    public LessonParticipantResponse bookOccurrence(Long ownerId, Long businessId, Long seriesId,
+                                                    LocalDate occurrenceDate, LessonBookingRequest request) {
+        verifyOwner(ownerId, businessId);
+        Lesson occurrence = lessonSeriesService.findOrCreateOccurrence(businessId, seriesId, occurrenceDate);
+        return transactionTemplate.execute(
+                status -> doBook(businessId, occurrence.getLessonId(), request.getMemberId()));
+    }
+
+    /**
+     * 참가 취소 (자리를 가진 참가자면 첫 대기자에게 자리를 넘김)
+     */
+    public LessonParticipantResponse cancel(Long ownerId, Long businessId, Long lessonId, Long participantId) {
+        verifyOwner(ownerId, businessId);
+        return transactionTemplate.execute(status -> {
+            findLesson(businessId, lessonId);
+            if (bookingRepository.changeStatus(participantId, lessonId, SEATED, ParticipantStatus.CANCELLED)) {
+                if (!handOverSeat(lessonId)) {
+                    bookingRepository.releaseSeat(lessonId);
+                    schedulePromotion(lessonId);
+                }
+            } else if (!bookingRepository.changeStatus(participantId, lessonId, WAITLISTED, ParticipantStatus.CANCELLED)) {
+                throw new BusinessException(ErrorCode.LESSON_PARTICIPANT_NOT_FOUND);
+            }
+            LessonParticipant participant = participantRepository.findById(participantId)
+                    .orElseThrow(() -> new BusinessException(ErrorCode.LESSON_PARTICIPANT_NOT_FOUND));
+            return toResponse(participant, lessonId, ParticipantStatus.CANCELLED);
+        });
+    }
+
+    /**
+     * 기동 완료 시 예정된 레슨의 확보 자리 수를 참가자 수로 보정
+     * 자리 수 컬럼 도입 이전 레슨이 0에서 시작하여 정원을 넘겨 신청받지 않도록 함
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void reconcileBookedCounts() {
+        try {
+            int reconciled = bookingRepository.reconcileBookedCounts();
+            if (reconciled > 0) {
+                log.info("레슨 확보 자리 수 보정 - {}건", reconciled);
+            }
+        } catch (RuntimeException e) {
+            log.error("레슨 확보 자리 수 보정 실패 - 원인: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 커밋 후 대기자 승격 예약 (이미 예약된 레슨이면 생략)
+     */
+    private void schedulePromotion(Long lessonId) {
+        afterCommit(() -> {
+            if (!pendingPromotions.add(lessonId)) {
+                return;
+            }
+            try {
+                lessonBookingExecutor.execute(() -> {
+                    pendingPromotions.remove(lessonId);
+                    try {
+                        promoteWaitlisted(lessonId);
+                    } catch (RuntimeException e) {
+                        log.error("레슨 대기자 승격 실패 - 레슨: {}, 원인: {}", lessonId, e.getMessage());
+                    }
+                });
+            } catch (TaskRejectedException e) {
+                pendingPromotions.remove(lessonId);
+                log.warn("레슨 대기자 승격 대기열 가득 참 - 레슨: {}", lessonId);
+            }
+        });
+    }
+
+    /**
+     * 남은 자리만큼 대기자를 신청 순서대로 승격 (자리 확보 + 상태 변경을 한 트랜잭션으로)
+     */
+    private void promoteWaitlisted(Long lessonId) {
+        Boolean promoted;
+        do {
+            promoted = transactionTemplate.execute(status -> {
+                List<Long> waiters = bookingRepository.findWaitlisted(lessonId, WAITLIST_BATCH);
+                if (waiters.isEmpty() || !bookingRepository.reserveSeat(lessonId)) {
+                    return false;
+                }
+                for (Long waiter : waiters) {
+                    if (bookingRepository.changeStatus(waiter, lessonId, WAITLISTED, ParticipantStatus.READY)) {
+                        log.debug("레슨 대기자 승격 - 레슨: {}, 참가: {}", lessonId, waiter);
+                        return true;
+                    }
+                }
+                // 조회한 대기자가 모두 다른 트랜잭션에서 바뀜 - 자리 반납 후 다시 조회
+                status.setRollbackOnly();
+                return true;
+            });
+        } while (Boolean.TRUE.equals(promoted));
+    }
+
+    private LessonParticipantResponse doBook(Long businessId, Long lessonId, Long memberId) {
+        Lesson lesson = findLesson(businessId, lessonId);
+        if (lesson.getStatus() != ScheduleStatus.SCHEDULED || !lesson.getStartDate().isAfter(LocalDateTime.now())) {
+            throw new BusinessException(ErrorCode.LESSON_NOT_MODIFIABLE);
+        }
+        if (!businessMemberRepository.existsByBusiness_BusinessIdAndMember_UserId(businessId, memberId)) {
+            throw new BusinessException(ErrorCode.MEMBER_NOT_FOUND);
+        }
+        LessonParticipant existing = participantRepository.findByLessonIdAndMemberId(lessonId, memberId).orElse(null);
+        if (existing != null && existing.getParticipantStatus() != ParticipantStatus.CANCELLED) {
+            throw new BusinessException(ErrorCode.LESSON_ALREADY_BOOKED);
+        }
+
+        boolean seated = bookingRepository.reserveSeat(lessonId);
+        ParticipantStatus status = seated ? ParticipantStatus.READY : ParticipantStatus.WAITLISTED;
+        LocalDateTime now = LocalDateTime.now();
+        LessonParticipant participant;
+        if (existing != null) {
+            if (!bookingRepository.reactivate(existing.getLessonParticipantId(), status, now)) {
+                throw new BusinessException(ErrorCode.LESSON_ALREADY_BOOKED);
+            }
+            participant = existing;
+        } else {
+            try {
+                participant = participantRepository.saveAndFlush(LessonParticipant.builder()
+                        .business(lesson.getBusiness())
+                        .lesson(lesson)
+                        .member(userRepository.getReferenceById(memberId))
+                        .participantStatus(status)
+                        .registeredDate(now)
+                        .build());
+            } catch (DataIntegrityViolationException e) {
+                throw new BusinessException(ErrorCode.LESSON_ALREADY_BOOKED);
+            }
+        }
+        if (!seated) {
+            // 신청과 동시에 반납된 자리가 있으면 커밋 후 승격
+            schedulePromotion(lessonId);
+        }
+        return new LessonParticipantResponse(participant.getLessonParticipantId(), lessonId, memberId, status, now);
+    }
+
+    /**
+     * 첫 대기자에게 자리 넘기기 (조회한 대기자가 모두 다른 트랜잭션에서 바뀌었으면 false)
+     */
+    private boolean handOverSeat(Long lessonId) {
+        for (Long waiter : bookingRepository.findWaitlisted(lessonId, WAITLIST_BATCH)) {
+            if (bookingRepository.changeStatus(waiter, lessonId, WAITLISTED, ParticipantStatus.READY)) {
+                log.debug("레슨 대기자 승격 - 레슨: {}, 참가: {}", lessonId, waiter);
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private Lesson findLesson(Long businessId, Long lessonId) {
+        return lessonRepository.findByIdAndBusinessId(lessonId, businessId)
+                .orElseThrow(() -> new BusinessException(ErrorCode.LESSON_NOT_FOUND));
+    }
+
+    private void verifyOwner(Long ownerId, Long businessId) {
+        if (!businessRepository.existsByBusinessIdAndOwner_UserId(businessId, ownerId)) {
+            throw new BusinessException(ErrorCode.BUSINESS_NOT_FOUND);
+        }
+    }
+
+    private static LessonParticipantResponse toResponse(LessonParticipant participant, Long lessonId,
+                                                        ParticipantStatus status) {
+        return new LessonParticipantResponse(participant.getLessonParticipantId(), lessonId,
+                participant.getMember() != null ? participant.getMember().getUserId() : null,
+                status, participant.getRegisteredDate());
+    }
+}
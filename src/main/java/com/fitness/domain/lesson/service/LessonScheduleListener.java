@@ -0,0 +1,50 @@
+package com.fitness.domain.lesson.service;
+
+import com.fitness.domain.lesson.entity.Lesson;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+
+import static com.fitness.common.util.TransactionUtils.afterCommit;
+
+/**
+ * Lesson 변경 시 트레이너 일정 인덱스를 갱신하는 JPA 엔티티 리스너
+ * - 변경 값은 이벤트 시점에 복사하고, 인덱스 반영은 트랜잭션 커밋 이후에 수행
+ * - 레슨 생성/일정 변경 API는 저장 시점에 이미 반영(선점)하므로 같은 값으로 한 번 더 반영됨
+ */
+@Component
+public class LessonScheduleListener {
+
+    private final ObjectProvider<TrainerScheduleIndex> scheduleIndexProvider;
+
+    public LessonScheduleListener(ObjectProvider<TrainerScheduleIndex> scheduleIndexProvider) {
+        this.scheduleIndexProvider = scheduleIndexProvider;
+    }
+
+    @PostPersist
+    @PostUpdate
+    public void onSave(Lesson lesson) {
+        apply(lesson, !lesson.isDeleted() && TrainerScheduleIndex.ACTIVE_STATUSES.contains(lesson.getStatus()));
+    }
+
+    @PostRemove
+    public void onRemove(Lesson lesson) {
+        apply(lesson, false);
+    }
+
+    private void apply(Lesson lesson, boolean active) {
+        TrainerScheduleIndex scheduleIndex = scheduleIndexProvider.getIfAvailable();
+        if (scheduleIndex == null) {
+            return;
+        }
+        Long lessonId = lesson.getLessonId();
+        Long trainerId = lesson.getTrainer() != null ? lesson.getTrainer().getUserId() : null;
+        LocalDateTime start = lesson.getStartDate();
+        LocalDateTime end = lesson.getEndDate();
+        afterCommit(() -> scheduleIndex.apply(lessonId, trainerId, start, end, active));
+    }
+}
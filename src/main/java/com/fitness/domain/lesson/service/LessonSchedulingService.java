@@ -0,0 +1,272 @@
+package com.fitness.domain.lesson.service;
+
+import com.fitness.common.config.BusinessProperties;
+import com.fitness.common.enums.ScheduleStatus;
+import com.fitness.common.exception.BusinessException;
+import com.fitness.common.exception.ErrorCode;
+import com.fitness.domain.business.entity.BusinessEmployee;
+import com.fitness.domain.business.entity.BusinessEmployeeStatus;
+import com.fitness.domain.business.repository.BusinessEmployeeRepository;
+import com.fitness.domain.business.repository.BusinessRepository;
+import com.fitness.domain.lesson.dto.FreeSlotResponse;
+import com.fitness.domain.lesson.dto.LessonCreateRequest;
+import com.fitness.domain.lesson.dto.LessonInterval;
+import com.fitness.domain.lesson.dto.LessonMoveRequest;
+import com.fitness.domain.lesson.dto.LessonResponse;
+import com.fitness.domain.lesson.entity.Lesson;
+import com.fitness.domain.lesson.entity.LessonSeries;
+import com.fitness.domain.lesson.repository.LessonRepository;
+import com.fitness.domain.lesson.repository.LessonSeriesRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 레슨 일정 서비스
+ * - 생성/일정 변경 시 트레이너 중복 배정을 {@link TrainerScheduleIndex}에서 검사
+ *   저장되지 않은 반복 레슨 회차는 반복 규칙으로 계산해 함께 검사
+ * - 트레이너 빈 시간은 근무 시간(없으면 기본 근무 시간) 안에서 레슨 사이 간격으로 계산
+ */
+@Service
+@RequiredArgsConstructor
+public class LessonSchedulingService {
+
+    private static final Set<BusinessEmployeeStatus> WORKING_STATUSES =
+            EnumSet.of(BusinessEmployeeStatus.APPROVED, BusinessEmployeeStatus.NORMAL);
+
+    private final LessonRepository lessonRepository;
+    private final LessonSeriesRepository lessonSeriesRepository;
+    private final BusinessRepository businessRepository;
+    private final BusinessEmployeeRepository businessEmployeeRepository;
+    private final TrainerScheduleIndex scheduleIndex;
+    private final BusinessProperties businessProperties;
+
+    /**
+     * 레슨 생성
+     * @throws BusinessException 트레이너의 다른 레슨과 겹치면 LESSON_TIME_CONFLICT
+     */
+    @Transactional
+    public LessonResponse createLesson(Long ownerId, Long businessId, LessonCreateRequest request) {
+        verifyOwner(ownerId, businessId);
+        BusinessEmployee trainer = findTrainer(businessId, request.getTrainerId());
+        LocalDateTime start = request.getStartDate().truncatedTo(ChronoUnit.MINUTES);
+        if (start.isBefore(LocalDateTime.now())) {
+            throw new BusinessException(ErrorCode.INVALID_INPUT);
+        }
+        LocalDateTime end = start.plusMinutes(request.getDurationMinute());
+        scheduleIndex.lockUntilCompletion(request.getTrainerId());
+        verifyNoSeriesConflict(request.getTrainerId(), start, end);
+
+        Lesson lesson = Lesson.builder()
+                .business(businessRepository.getReferenceById(businessId))
+                .trainer(trainer.getEmployee())
+                .lessonType(request.getLessonType())
+                .title(request.getTitle())
+                .description(request.getDescription())
+                .startDate(start)
+                .endDate(end)
+                .durationMinute(request.getDurationMinute())
+                .build();
+        if (request.getMaxParticipant() != null) {
+            lesson.setMaxParticipant(request.getMaxParticipant());
+        }
+        return LessonResponse.from(scheduleIndex.reserve(request.getTrainerId(), null, start, end,
+                () -> lessonRepository.save(lesson)));
+    }
+
+    /**
+     * 레슨 일정 변경 (시작 일시, 소요시간, 트레이너)
+     * @throws BusinessException 트레이너의 다른 레슨과 겹치면 LESSON_TIME_CONFLICT
+     */
+    @Transactional
+    public LessonResponse moveLesson(Long ownerId, Long businessId, Long lessonId, LessonMoveRequest request) {
+        verifyOwner(ownerId, businessId);
+        Lesson lesson = findScheduledLesson(businessId, lessonId);
+        BusinessEmployee trainer = null;
+        Long trainerId;
+        if (request.getTrainerId() != null) {
+            trainer = findTrainer(businessId, request.getTrainerId());
+            trainerId = request.getTrainerId();
+        } else if (lesson.getTrainer() != null) {
+            trainerId = lesson.getTrainer().getUserId();
+        } else {
+            throw new BusinessException(ErrorCode.INVALID_INPUT);
+        }
+
+        LocalDateTime start = request.getStartDate().truncatedTo(ChronoUnit.MINUTES);
+        if (start.isBefore(LocalDateTime.now())) {
+            throw new BusinessException(ErrorCode.INVALID_INPUT);
+        }
+        int durationMinute = request.getDurationMinute() != null ? request.getDurationMinute() : lesson.getDurationMinute();
+        LocalDateTime end = start.plusMinutes(durationMinute);
+        scheduleIndex.lockUntilCompletion(trainerId);
+        verifyNoSeriesConflict(trainerId, start, end);
+
+        BusinessEmployee newTrainer = trainer;
+        return LessonResponse.from(scheduleIndex.reserve(trainerId, lessonId, start, end, () -> {
+            lesson.setStartDate(start);
+            lesson.setEndDate(end);
+            lesson.setDurationMinute(durationMinute);
+            if (newTrainer != null) {
+                lesson.setTrainer(newTrainer.getEmployee());
+            }
+            return lesson;
+        }));
+    }
+
+    /**
+     * 레슨 취소 (커밋 후 트레이너 일정에서 제거)
+     */
+    @Transactional
+    public LessonResponse cancelLesson(Long ownerId, Long businessId, Long lessonId) {
+        verifyOwner(ownerId, businessId);
+        Lesson lesson = findScheduledLesson(businessId, lessonId);
+        lesson.setStatus(ScheduleStatus.CANCELLED);
+        return LessonResponse.from(lesson);
+    }
+
+    /**
+     * 트레이너 빈 시간 (기간 내 일자별 근무 시간 중 레슨이 없는 구간)
+     * @param minMinutes 최소 빈 시간 (분, null이면 기본값)
+     */
+    @Transactional(readOnly = true)
+    public List<FreeSlotResponse> getFreeSlots(Long ownerId, Long businessId, Long trainerId,
+                                               LocalDate from, LocalDate to, Integer minMinutes) {
+        verifyOwner(ownerId, businessId);
+        BusinessProperties.LessonSchedule properties = businessProperties.getLessonSchedule();
+        if (to.isBefore(from) || ChronoUnit.DAYS.between(from, to) >= properties.getMaxFreeSlotDays()) {
+            throw new BusinessException(ErrorCode.INVALID_INPUT);
+        }
+        BusinessEmployee trainer = findTrainer(businessId, trainerId);
+        LocalTime workStart = trainer.getWorkingStartTime();
+        LocalTime workEnd = trainer.getWorkingEndTime();
+        if (workStart == null || workEnd == null || !workEnd.isAfter(workStart)) {
+            workStart = properties.getDefaultWorkingStart();
+            workEnd = properties.getDefaultWorkingEnd();
+        }
+        Duration minimum = Duration.ofMinutes(minMinutes != null ? minMinutes : properties.getMinFreeSlotMinutes());
+        LocalDateTime now = LocalDateTime.now().truncatedTo(ChronoUnit.MINUTES);
+
+        List<LessonInterval> occurrences = findSeriesOccurrences(trainerId, from.minusDays(1), to);
+
+        List<FreeSlotResponse> slots = new ArrayList<>();
+        for (LocalDate date = from; !date.isAfter(to); date = date.plusDays(1)) {
+            LocalDateTime dayStart = date.atTime(workStart);
+            LocalDateTime dayEnd = date.atTime(workEnd);
+            LocalDateTime cursor = dayStart.isBefore(now) ? now : dayStart;
+            if (!cursor.isBefore(dayEnd)) {
+                continue;
+            }
+            List<LessonInterval> lessons = new ArrayList<>(scheduleIndex.findLessons(trainerId, cursor, dayEnd));
+            for (LessonInterval occurrence : occurrences) {
+                if (occurrence.getStartDate().isBefore(dayEnd) && occurrence.getEndDate().isAfter(cursor)) {
+                    lessons.add(occurrence);
+                }
+            }
+            lessons.sort(Comparator.comparing(LessonInterval::getStartDate));
+            for (LessonInterval lesson : lessons) {
+                addSlot(slots, cursor, lesson.getStartDate(), minimum);
+                if (lesson.getEndDate().isAfter(cursor)) {
+                    cursor = lesson.getEndDate();
+                }
+            }
+            addSlot(slots, cursor, dayEnd, minimum);
+        }
+        return slots;
+    }
+
+    private static void addSlot(List<FreeSlotResponse> slots, LocalDateTime start, LocalDateTime end, Duration minimum) {
+        Duration length = Duration.between(start, end);
+        if (length.compareTo(minimum) >= 0 && !length.isZero()) {
+            slots.add(new FreeSlotResponse(start, end, length.toMinutes()));
+        }
+    }
+
+    /**
+     * 트레이너 반복 레슨의 저장되지 않은 회차 구간 (시작 시각 순, lessonId 없음)
+     * 저장된 회차는 일반 레슨과 같이 트레이너 일정 인덱스에 있으므로 제외
+     */
+    List<LessonInterval> findSeriesOccurrences(Long trainerId, LocalDate from, LocalDate to) {
+        List<LessonSeries> seriesList = lessonSeriesRepository.findByTrainerIdInRange(trainerId, from, to);
+        if (seriesList.isEmpty()) {
+            return List.of();
+        }
+        Map<Long, Set<LocalDate>> stored = new HashMap<>();
+        List<Long> seriesIds = seriesList.stream().map(LessonSeries::getSeriesId).toList();
+        for (Object[] row : lessonRepository.findOccurrenceDates(seriesIds, from, to)) {
+            stored.computeIfAbsent((Long) row[0], id -> new HashSet<>()).add((LocalDate) row[1]);
+        }
+
+        List<LessonInterval> occurrences = new ArrayList<>();
+        for (LessonSeries series : seriesList) {
+            Set<LocalDate> storedDates = stored.getOrDefault(series.getSeriesId(), Set.of());
+            for (LocalDate date : series.occurrenceDates(from, to)) {
+                if (!storedDates.contains(date)) {
+                    occurrences.add(new LessonInterval(null, series.occurrenceStart(date), series.occurrenceEnd(date)));
+                }
+            }
+        }
+        occurrences.sort(Comparator.comparing(LessonInterval::getStartDate));
+        return occurrences;
+    }
+
+    /**
+     * 시작 시각 순 구간 목록 중 [start, end)와 겹치는 것이 있는지
+     */
+    static boolean overlapsAny(List<LessonInterval> sorted, LocalDateTime start, LocalDateTime end) {
+        for (LessonInterval interval : sorted) {
+            if (!interval.getStartDate().isBefore(end)) {
+                break;
+            }
+            if (interval.getEndDate().isAfter(start)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 저장되지 않은 반복 레슨 회차와 겹치면 거절 (전날 시작해 자정을 넘기는 회차 포함)
+     */
+    private void verifyNoSeriesConflict(Long trainerId, LocalDateTime start, LocalDateTime end) {
+        List<LessonInterval> occurrences = findSeriesOccurrences(
+                trainerId, start.toLocalDate().minusDays(1), end.toLocalDate());
+        if (overlapsAny(occurrences, start, end)) {
+            throw new BusinessException(ErrorCode.LESSON_TIME_CONFLICT);
+        }
+    }
+
+    void verifyOwner(Long ownerId, Long businessId) {
+        if (!businessRepository.existsByBusinessIdAndOwner_UserId(businessId, ownerId)) {
+            throw new BusinessException(ErrorCode.BUSINESS_NOT_FOUND);
+        }
+    }
+
+    BusinessEmployee findTrainer(Long businessId, Long trainerId) {
+        return businessEmployeeRepository.findByBusinessIdAndEmployeeId(businessId, trainerId, WORKING_STATUSES)
+                .orElseThrow(() -> new BusinessException(ErrorCode.EMPLOYEE_NOT_FOUND));
+    }
+
+    private Lesson findScheduledLesson(Long businessId, Long lessonId) {
+        Lesson lesson = lessonRepository.findByIdAndBusinessId(lessonId, businessId)
+                .orElseThrow(() -> new BusinessException(ErrorCode.LESSON_NOT_FOUND));
+        if (lesson.getStatus() != ScheduleStatus.SCHEDULED) {
+            throw new BusinessException(ErrorCode.LESSON_NOT_MODIFIABLE);
+        }
+        return lesson;
+    }
+}
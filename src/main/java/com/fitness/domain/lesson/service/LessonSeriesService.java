@@ -0,0 +1,277 @@
+package com.fitness.domain.lesson.service;
+
+import com.fitness.common.config.BusinessProperties;
+import com.fitness.common.exception.BusinessException;
+import com.fitness.common.exception.ErrorCode;
+import com.fitness.domain.business.entity.BusinessEmployee;
+import com.fitness.domain.business.repository.BusinessRepository;
+import com.fitness.domain.lesson.dto.CalendarLessonResponse;
+import com.fitness.domain.lesson.dto.CalendarLessonRow;
+import com.fitness.domain.lesson.dto.CalendarParticipantResponse;
+import com.fitness.domain.lesson.dto.LessonInterval;
+import com.fitness.domain.lesson.dto.LessonResponse;
+import com.fitness.domain.lesson.dto.LessonSeriesCreateRequest;
+import com.fitness.domain.lesson.dto.LessonSeriesResponse;
+import com.fitness.domain.lesson.entity.Lesson;
+import com.fitness.domain.lesson.entity.LessonSeries;
+import com.fitness.domain.lesson.repository.LessonParticipantRepository;
+import com.fitness.domain.lesson.repository.LessonRepository;
+import com.fitness.domain.lesson.repository.LessonSeriesRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 반복 레슨 서비스
+ * - 반복 규칙만 저장하고 달력 조회 시 기간 안의 회차를 계산
+ *   (저장된 레슨 / 반복 레슨 / 참가 회원 쿼리 3번, 참가 회원은 레슨 ID IN 청크 단위로 조회)
+ * - 참가 신청, 취소, 시간 변경이 필요한 회차만 Lesson으로 저장 (series_id + occurrence_date 유니크)
+ * - 생성 시 트레이너의 기존 레슨/다른 반복 레슨 회차와 겹치는지 seriesCheckDays 기간까지 검사
+ */
+@Slf4j
+@Service
+public class LessonSeriesService {
+
+    /**
+     * 참가 회원 조회 시 IN 절 레슨 ID 최대 개수
+     */
+    static final int PARTICIPANT_BATCH_SIZE = 1000;
+
+    private final LessonSeriesRepository lessonSeriesRepository;
+    private final LessonRepository lessonRepository;
+    private final LessonParticipantRepository lessonParticipantRepository;
+    private final BusinessRepository businessRepository;
+    private final LessonSchedulingService lessonSchedulingService;
+    private final TrainerScheduleIndex scheduleIndex;
+    private final TransactionTemplate requiresNewTemplate;
+    private final BusinessProperties.LessonSchedule properties;
+
+    public LessonSeriesService(LessonSeriesRepository lessonSeriesRepository,
+                               LessonRepository lessonRepository,
+                               LessonParticipantRepository lessonParticipantRepository,
+                               BusinessRepository businessRepository,
+                               LessonSchedulingService lessonSchedulingService,
+                               TrainerScheduleIndex scheduleIndex,
+                               PlatformTransactionManager transactionManager,
+                               BusinessProperties businessProperties) {
+        this.lessonSeriesRepository = lessonSeriesRepository;
+        this.lessonRepository = lessonRepository;
+        this.lessonParticipantRepository = lessonParticipantRepository;
+        this.businessRepository = businessRepository;
+        this.lessonSchedulingService = lessonSchedulingService;
+        this.scheduleIndex = scheduleIndex;
+        this.requiresNewTemplate = new TransactionTemplate(transactionManager);
+        this.requiresNewTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.properties = businessProperties.getLessonSchedule();
+    }
+
+    /**
+     * 반복 레슨 생성
+     * @throws BusinessException 회차가 트레이너의 다른 레슨과 겹치면 LESSON_TIME_CONFLICT
+     */
+    @Transactional
+    public LessonSeriesResponse createSeries(Long ownerId, Long businessId, LessonSeriesCreateRequest request) {
+        lessonSchedulingService.verifyOwner(ownerId, businessId);
+        BusinessEmployee trainer = lessonSchedulingService.findTrainer(businessId, request.getTrainerId());
+        if (request.getStartDate().isBefore(LocalDate.now())
+                || (request.getEndDate() != null && request.getEndDate().isBefore(request.getStartDate()))) {
+            throw new BusinessException(ErrorCode.INVALID_INPUT);
+        }
+
+        LessonSeries series = LessonSeries.builder()
+                .business(businessRepository.getReferenceById(businessId))
+                .trainer(trainer.getEmployee())
+                .lessonType(request.getLessonType())
+                .title(request.getTitle())
+                .description(request.getDescription())
+                .daysOfWeek(LessonSeries.toDaysOfWeek(request.getDaysOfWeek()))
+                .startTime(request.getStartTime().truncatedTo(ChronoUnit.MINUTES))
+                .durationMinute(request.getDurationMinute())
+                .startDate(request.getStartDate())
+                .endDate(request.getEndDate())
+                .build();
+        if (request.getIntervalWeeks() != null) {
+            series.setIntervalWeeks(request.getIntervalWeeks());
+        }
+        if (request.getMaxParticipant() != null) {
+            series.setMaxParticipant(request.getMaxParticipant());
+        }
+
+        // 같은 트레이너의 레슨 생성/일정 변경과 겹침 검사 ~ 커밋 구간이 엇갈리지 않도록 직렬화
+        scheduleIndex.lockUntilCompletion(request.getTrainerId());
+        verifyNoConflict(request.getTrainerId(), series);
+        return LessonSeriesResponse.from(lessonSeriesRepository.save(series));
+    }
+
+    /**
+     * 달력 조회 (저장된 레슨 + 참가 회원, 계산한 반복 레슨 회차, 시작 일시 순)
+     * @param trainerId 트레이너 ID (null이면 사업장 전체)
+     */
+    @Transactional(readOnly = true)
+    public List<CalendarLessonResponse> getCalendar(Long ownerId, Long businessId, LocalDate from, LocalDate to,
+                                                    Long trainerId) {
+        lessonSchedulingService.verifyOwner(ownerId, businessId);
+        if (to.isBefore(from) || ChronoUnit.DAYS.between(from, to) >= properties.getMaxCalendarDays()) {
+            throw new BusinessException(ErrorCode.INVALID_INPUT);
+        }
+        LocalDateTime start = from.atStartOfDay();
+        LocalDateTime end = to.plusDays(1).atStartOfDay();
+
+        // 기간에 시작하는 레슨과 원래 일자가 기간인 회차를 각각 인덱스로 조회 (둘 다 해당하는 회차는 한 번만)
+        Map<Long, CalendarLessonRow> rows = new LinkedHashMap<>();
+        lessonRepository.findCalendarLessons(businessId, start, end)
+                .forEach(lesson -> rows.put(lesson.getLessonId(), lesson));
+        lessonRepository.findCalendarOccurrences(businessId, from, to)
+                .forEach(lesson -> rows.putIfAbsent(lesson.getLessonId(), lesson));
+
+        List<CalendarLessonRow> lessons = new ArrayList<>();
+        Map<Long, Set<LocalDate>> stored = new HashMap<>();
+        for (CalendarLessonRow lesson : rows.values()) {
+            if (lesson.getSeriesId() != null) {
+                stored.computeIfAbsent(lesson.getSeriesId(), id -> new HashSet<>()).add(lesson.getOccurrenceDate());
+            }
+            // 다른 날로 옮긴 회차는 원래 회차를 가리기만 하고 표시하지 않음
+            boolean inRange = !lesson.getStartDate().isBefore(start) && lesson.getStartDate().isBefore(end);
+            if (inRange && (trainerId == null || trainerId.equals(lesson.getTrainerId()))) {
+                lessons.add(lesson);
+            }
+        }
+
+        Map<Long, List<CalendarParticipantResponse>> participants = findParticipants(lessons);
+        List<CalendarLessonResponse> calendar = new ArrayList<>();
+        for (CalendarLessonRow lesson : lessons) {
+            calendar.add(CalendarLessonResponse.from(lesson,
+                    participants.getOrDefault(lesson.getLessonId(), List.of())));
+        }
+        for (LessonSeries series : lessonSeriesRepository.findByBusinessIdInRange(businessId, from, to)) {
+            if (trainerId != null && !trainerId.equals(series.getTrainer().getUserId())) {
+                continue;
+            }
+            Set<LocalDate> storedDates = stored.getOrDefault(series.getSeriesId(), Set.of());
+            for (LocalDate date : series.occurrenceDates(from, to)) {
+                if (!storedDates.contains(date)) {
+                    calendar.add(CalendarLessonResponse.occurrence(series, date));
+                }
+            }
+        }
+        calendar.sort(Comparator.comparing(CalendarLessonResponse::getStartDate)
+                .thenComparing(CalendarLessonResponse::getTitle));
+        return calendar;
+    }
+
+    /**
+     * 레슨별 참가 회원 (레슨 ID를 PARTICIPANT_BATCH_SIZE 단위로 묶어 조회)
+     */
+    private Map<Long, List<CalendarParticipantResponse>> findParticipants(List<CalendarLessonRow> lessons) {
+        Map<Long, List<CalendarParticipantResponse>> participants = new HashMap<>();
+        List<Long> lessonIds = lessons.stream().map(CalendarLessonRow::getLessonId).toList();
+        for (int from = 0; from < lessonIds.size(); from += PARTICIPANT_BATCH_SIZE) {
+            List<Long> chunk = lessonIds.subList(from, Math.min(from + PARTICIPANT_BATCH_SIZE, lessonIds.size()));
+            for (CalendarParticipantResponse participant : lessonParticipantRepository.findCalendarParticipants(chunk)) {
+                participants.computeIfAbsent(participant.getLessonId(), id -> new ArrayList<>()).add(participant);
+            }
+        }
+        return participants;
+    }
+
+    /**
+     * 반복 레슨 회차를 레슨으로 저장 (이미 저장되어 있으면 그대로 반환)
+     * 참가 신청이나 시간 변경 전에 lessonId를 얻을 때 사용
+     */
+    public LessonResponse materializeOccurrence(Long ownerId, Long businessId, Long seriesId, LocalDate occurrenceDate) {
+        lessonSchedulingService.verifyOwner(ownerId, businessId);
+        return LessonResponse.from(findOrCreateOccurrence(businessId, seriesId, occurrenceDate));
+    }
+
+    /**
+     * 반복 레슨 회차 취소 (취소 상태로 저장해 계산된 회차를 가림)
+     */
+    public LessonResponse cancelOccurrence(Long ownerId, Long businessId, Long seriesId, LocalDate occurrenceDate) {
+        lessonSchedulingService.verifyOwner(ownerId, businessId);
+        Lesson occurrence = findOrCreateOccurrence(businessId, seriesId, occurrenceDate);
+        return lessonSchedulingService.cancelLesson(ownerId, businessId, occurrence.getLessonId());
+    }
+
+    /**
+     * 회차 레슨 조회, 없으면 별도 트랜잭션으로 저장
+     * 동시에 저장하면 유니크 제약으로 한쪽만 성공하고 다른 쪽은 저장된 행을 다시 읽음
+     * 새 행이 보이도록 호출하는 쪽 트랜잭션 밖에서 호출
+     */
+    public Lesson findOrCreateOccurrence(Long businessId, Long seriesId, LocalDate occurrenceDate) {
+        try {
+            return requiresNewTemplate.execute(status -> {
+                LessonSeries series = lessonSeriesRepository.findByIdAndBusinessId(seriesId, businessId)
+                        .orElseThrow(() -> new BusinessException(ErrorCode.LESSON_SERIES_NOT_FOUND));
+                return lessonRepository.findBySeriesIdAndOccurrenceDate(seriesId, occurrenceDate)
+                        .orElseGet(() -> lessonRepository.saveAndFlush(toLesson(series, occurrenceDate)));
+            });
+        } catch (DataIntegrityViolationException e) {
+            log.debug("반복 레슨 회차 동시 저장 - 반복 레슨: {}, 회차: {}", seriesId, occurrenceDate);
+            return lessonRepository.findBySeriesIdAndOccurrenceDate(seriesId, occurrenceDate)
+                    .orElseThrow(() -> e);
+        }
+    }
+
+    private static Lesson toLesson(LessonSeries series, LocalDate occurrenceDate) {
+        if (!series.occursOn(occurrenceDate)) {
+            throw new BusinessException(ErrorCode.LESSON_OCCURRENCE_NOT_FOUND);
+        }
+        return Lesson.builder()
+                .business(series.getBusiness())
+                .trainer(series.getTrainer())
+                .series(series)
+                .occurrenceDate(occurrenceDate)
+                .lessonType(series.getLessonType())
+                .title(series.getTitle())
+                .description(series.getDescription())
+                .startDate(series.occurrenceStart(occurrenceDate))
+                .endDate(series.occurrenceEnd(occurrenceDate))
+                .durationMinute(series.getDurationMinute())
+                .maxParticipant(series.getMaxParticipant())
+                .build();
+    }
+
+    /**
+     * 검사 기간 안의 회차가 트레이너의 저장된 레슨 / 다른 반복 레슨 회차와 겹치면 거절
+     */
+    private void verifyNoConflict(Long trainerId, LessonSeries series) {
+        LocalDate last = series.getStartDate().plusDays(properties.getSeriesCheckDays());
+        if (series.getEndDate() != null && series.getEndDate().isBefore(last)) {
+            last = series.getEndDate();
+        }
+        List<LocalDate> dates = series.occurrenceDates(series.getStartDate(), last);
+        if (dates.isEmpty()) {
+            throw new BusinessException(ErrorCode.LESSON_OCCURRENCE_NOT_FOUND);
+        }
+
+        List<LessonInterval> lessons = scheduleIndex.findLessons(trainerId,
+                series.occurrenceStart(dates.get(0)), series.occurrenceEnd(dates.get(dates.size() - 1)));
+        List<LessonInterval> occurrences = lessonSchedulingService.findSeriesOccurrences(
+                trainerId, series.getStartDate().minusDays(1), last.plusDays(1));
+        for (LocalDate date : dates) {
+            LocalDateTime start = series.occurrenceStart(date);
+            LocalDateTime end = series.occurrenceEnd(date);
+            if (LessonSchedulingService.overlapsAny(lessons, start, end)
+                    || LessonSchedulingService.overlapsAny(occurrences, start, end)) {
+                log.debug("반복 레슨 회차 겹침 - 트레이너: {}, 회차: {}", trainerId, date);
+                throw new BusinessException(ErrorCode.LESSON_TIME_CONFLICT);
+            }
+        }
+    }
+}
@@ -0,0 +1,122 @@
+package com.fitness.domain.lesson.service;
+
+import com.fitness.domain.lesson.dto.LessonInterval;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.TreeSet;
+
+/**
+ * 트레이너 1명의 예정 레슨 구간 (시작 시각 정렬)
+ * - 구간은 [시작, 종료) - 앞 레슨 종료 시각에 바로 시작하는 레슨은 겹치지 않음
+ * - 겹침 검사는 (시작 - 가장 긴 레슨 시간) 이후에 시작하는 구간만 확인하므로 O(log n + 겹칠 수 있는 구간 수)
+ *   (기존 데이터에 이미 겹친 레슨이 있어도 정확)
+ * 호출하는 쪽에서 이 객체로 동기화 ({@link TrainerScheduleIndex})
+ */
+class TrainerSchedule {
+
+    private static final Comparator<LessonInterval> ORDER = Comparator
+            .comparing(LessonInterval::getStartDate)
+            .thenComparing(LessonInterval::getLessonId);
+
+    private final NavigableSet<LessonInterval> intervals = new TreeSet<>(ORDER);
+    private final Map<Long, LessonInterval> lessons = new HashMap<>();
+    private Duration longest = Duration.ZERO;
+    private boolean loaded;
+
+    boolean isLoaded() {
+        return loaded;
+    }
+
+    void load(List<LessonInterval> upcoming) {
+        upcoming.forEach(this::put);
+        loaded = true;
+    }
+
+    /**
+     * 겹치는 레슨 조회
+     * @param excludeLessonId 검사에서 제외할 레슨 (일정 변경 시 자기 자신, 없으면 null)
+     * @return 처음 찾은 겹치는 레슨 (없으면 null)
+     */
+    LessonInterval findConflict(LocalDateTime start, LocalDateTime end, Long excludeLessonId) {
+        for (LessonInterval interval : overlapCandidates(start, end)) {
+            if (interval.getEndDate().isAfter(start) && !interval.getLessonId().equals(excludeLessonId)) {
+                return interval;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * 기간과 겹치는 레슨 (시작 시각 순)
+     */
+    List<LessonInterval> findOverlapping(LocalDateTime start, LocalDateTime end) {
+        List<LessonInterval> results = new ArrayList<>();
+        for (LessonInterval interval : overlapCandidates(start, end)) {
+            if (interval.getEndDate().isAfter(start)) {
+                results.add(interval);
+            }
+        }
+        return results;
+    }
+
+    /**
+     * 레슨 추가/변경
+     * @return 변경 전 구간 (새 레슨이면 null)
+     */
+    LessonInterval put(LessonInterval interval) {
+        LessonInterval previous = remove(interval.getLessonId());
+        intervals.add(interval);
+        lessons.put(interval.getLessonId(), interval);
+        Duration duration = Duration.between(interval.getStartDate(), interval.getEndDate());
+        if (duration.compareTo(longest) > 0) {
+            longest = duration;
+        }
+        return previous;
+    }
+
+    /**
+     * 레슨 제거
+     * @return 제거한 구간 (없으면 null)
+     */
+    LessonInterval remove(Long lessonId) {
+        LessonInterval previous = lessons.remove(lessonId);
+        if (previous != null) {
+            intervals.remove(previous);
+        }
+        return previous;
+    }
+
+    boolean contains(Long lessonId) {
+        return lessons.containsKey(lessonId);
+    }
+
+    /**
+     * 끝난 레슨 정리
+     */
+    void prune(LocalDateTime now) {
+        intervals.removeIf(interval -> {
+            if (interval.getEndDate().isAfter(now)) {
+                return false;
+            }
+            lessons.remove(interval.getLessonId());
+            return true;
+        });
+    }
+
+    int size() {
+        return intervals.size();
+    }
+
+    private NavigableSet<LessonInterval> overlapCandidates(LocalDateTime start, LocalDateTime end) {
+        LessonInterval from = new LessonInterval(Long.MIN_VALUE, start.minus(longest), null);
+        LessonInterval to = new LessonInterval(Long.MIN_VALUE, end, null);
+        return intervals.subSet(from, true, to, false);
+    }
+}
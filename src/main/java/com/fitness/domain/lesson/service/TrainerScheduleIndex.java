@@ -0,0 +1,228 @@
+package com.fitness.domain.lesson.service;
+
+import com.fitness.common.enums.ScheduleStatus;
+import com.fitness.common.exception.BusinessException;
+import com.fitness.common.exception.ErrorCode;
+import com.fitness.domain.lesson.dto.LessonInterval;
+import com.fitness.domain.lesson.entity.Lesson;
+import com.fitness.domain.lesson.repository.LessonRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+/**
+ * 트레이너별 예정 레슨 일정 인덱스 (중복 배정 검사를 DB 범위 조회 대신 메모리에서 처리)
+ * - 트레이너 일정은 처음 사용할 때 끝나지 않은 레슨을 모든 사업장에서 적재
+ * - 레슨 생성/일정 변경은 트레이너 단위로 직렬화: 겹침 검사 → 저장 → 일정에 바로 반영(선점)
+ *   트랜잭션이 롤백되면 선점 취소
+ * - 반복 레슨 회차는 인덱스에 선점할 수 없으므로, 레슨 생성/일정 변경과 반복 레슨 생성은 트레이너 잠금을 트랜잭션 종료까지 유지
+ *   (겹침 검사 시점에 아직 커밋되지 않은 반복 레슨이나 단건 레슨을 놓치지 않음)
+ * - 그 밖의 레슨 변경(취소, 완료, 삭제 등)은 커밋 후 {@link LessonScheduleListener}가 반영
+ * 일정 인덱스는 서버 메모리에 있으므로 같은 트레이너의 일정 변경은 서버 1대에서 처리한다는 전제
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TrainerScheduleIndex {
+
+    /**
+     * 트레이너 일정을 차지하는 레슨 상태
+     */
+    static final Set<ScheduleStatus> ACTIVE_STATUSES = EnumSet.of(ScheduleStatus.SCHEDULED, ScheduleStatus.IN_PROGRESS);
+
+    private static final long LOCK_TIMEOUT_SECONDS = 5L;
+
+    private final LessonRepository lessonRepository;
+
+    private final Map<Long, TrainerSchedule> schedules = new ConcurrentHashMap<>();
+    private final Map<Long, Long> lessonTrainers = new ConcurrentHashMap<>();
+    private final Map<Long, ReentrantLock> trainerLocks = new ConcurrentHashMap<>();
+
+    /**
+     * 트랜잭션이 끝날 때까지 트레이너 일정 변경 잠금 (트랜잭션 안에서 호출, 같은 트랜잭션에서 다시 호출 가능)
+     * @throws BusinessException 다른 일정 변경이 오래 끝나지 않으면 SERVICE_BUSY
+     */
+    public void lockUntilCompletion(Long trainerId) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            throw new IllegalStateException("트레이너 일정 잠금은 트랜잭션 안에서만 사용할 수 있습니다.");
+        }
+        ReentrantLock lock = trainerLocks.computeIfAbsent(trainerId, id -> new ReentrantLock());
+        try {
+            if (!lock.tryLock(LOCK_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+                log.warn("트레이너 일정 잠금 대기 시간 초과 - 트레이너: {}", trainerId);
+                throw new BusinessException(ErrorCode.SERVICE_BUSY);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new BusinessException(ErrorCode.SERVICE_BUSY);
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                lock.unlock();
+            }
+        });
+    }
+
+    /**
+     * 겹치는 레슨이 없으면 저장하고 트레이너 일정에 반영 (트랜잭션 안에서 호출)
+     * @param trainerId 트레이너 ID
+     * @param lessonId 일정을 변경할 레슨 ID (새 레슨이면 null)
+     * @param save 레슨 저장 (ID가 채워진 레슨 반환)
+     * @throws BusinessException 겹치는 레슨이 있으면 LESSON_TIME_CONFLICT
+     */
+    public Lesson reserve(Long trainerId, Long lessonId, LocalDateTime start, LocalDateTime end, Supplier<Lesson> save) {
+        TrainerSchedule schedule = scheduleOf(trainerId);
+        Lesson saved;
+        LessonInterval interval;
+        LessonInterval previous;
+        synchronized (schedule) {
+            LessonInterval conflict = schedule.findConflict(start, end, lessonId);
+            if (conflict != null) {
+                log.debug("레슨 시간 겹침 - 트레이너: {}, 기존 레슨: {}", trainerId, conflict.getLessonId());
+                throw new BusinessException(ErrorCode.LESSON_TIME_CONFLICT);
+            }
+            saved = save.get();
+            interval = new LessonInterval(saved.getLessonId(), start, end);
+            previous = schedule.put(interval);
+        }
+        onRollback(() -> {
+            synchronized (schedule) {
+                if (previous != null) {
+                    schedule.put(previous);
+                } else {
+                    schedule.remove(interval.getLessonId());
+                }
+            }
+        });
+
+        // 다른 트레이너로 옮긴 경우 이전 트레이너 일정에서 제거 (잠금은 트레이너 하나씩만 잡음)
+        Long previousTrainerId = lessonTrainers.put(interval.getLessonId(), trainerId);
+        TrainerSchedule previousSchedule = previousTrainerId != null ? schedules.get(previousTrainerId) : null;
+        if (previousSchedule != null && !previousTrainerId.equals(trainerId)) {
+            LessonInterval moved;
+            synchronized (previousSchedule) {
+                moved = previousSchedule.remove(interval.getLessonId());
+            }
+            onRollback(() -> {
+                lessonTrainers.put(interval.getLessonId(), previousTrainerId);
+                if (moved != null) {
+                    synchronized (previousSchedule) {
+                        previousSchedule.put(moved);
+                    }
+                }
+            });
+        } else if (previousTrainerId == null) {
+            onRollback(() -> lessonTrainers.remove(interval.getLessonId(), trainerId));
+        }
+        return saved;
+    }
+
+    /**
+     * 기간과 겹치는 트레이너 레슨 (시작 시각 순)
+     */
+    public List<LessonInterval> findLessons(Long trainerId, LocalDateTime start, LocalDateTime end) {
+        TrainerSchedule schedule = scheduleOf(trainerId);
+        synchronized (schedule) {
+            return schedule.findOverlapping(start, end);
+        }
+    }
+
+    /**
+     * 커밋된 레슨 변경 반영 (적재되지 않은 트레이너는 무시 - 적재 시 DB에서 읽음)
+     * @param trainerId 변경 후 트레이너 ID (배정 해제면 null)
+     * @param active 트레이너 일정을 차지하는 상태인지 (예정/진행중이고 삭제되지 않음)
+     */
+    public void apply(Long lessonId, Long trainerId, LocalDateTime start, LocalDateTime end, boolean active) {
+        Long previousTrainerId = active && trainerId != null
+                ? lessonTrainers.put(lessonId, trainerId)
+                : lessonTrainers.remove(lessonId);
+        if (previousTrainerId != null && !previousTrainerId.equals(trainerId)) {
+            TrainerSchedule previous = schedules.get(previousTrainerId);
+            if (previous != null) {
+                synchronized (previous) {
+                    previous.remove(lessonId);
+                }
+            }
+        }
+        TrainerSchedule schedule = trainerId != null ? schedules.get(trainerId) : null;
+        if (schedule == null) {
+            return;
+        }
+        synchronized (schedule) {
+            if (!schedule.isLoaded()) {
+                return;
+            }
+            if (active) {
+                schedule.put(new LessonInterval(lessonId, start, end));
+            } else {
+                schedule.remove(lessonId);
+            }
+        }
+    }
+
+    /**
+     * 새벽에 끝난 레슨 정리
+     */
+    @Scheduled(cron = "${business.lesson-schedule.prune-cron:0 50 3 * * *}")
+    public void prune() {
+        LocalDateTime now = LocalDateTime.now();
+        schedules.values().forEach(schedule -> {
+            synchronized (schedule) {
+                schedule.prune(now);
+            }
+        });
+        lessonTrainers.entrySet().removeIf(entry -> {
+            TrainerSchedule schedule = schedules.get(entry.getValue());
+            if (schedule == null) {
+                return true;
+            }
+            synchronized (schedule) {
+                return !schedule.contains(entry.getKey());
+            }
+        });
+    }
+
+    private TrainerSchedule scheduleOf(Long trainerId) {
+        TrainerSchedule schedule = schedules.computeIfAbsent(trainerId, id -> new TrainerSchedule());
+        synchronized (schedule) {
+            if (!schedule.isLoaded()) {
+                List<LessonInterval> upcoming = lessonRepository.findUpcomingIntervals(
+                        trainerId, LocalDateTime.now(), ACTIVE_STATUSES);
+                schedule.load(upcoming);
+                upcoming.forEach(interval -> lessonTrainers.put(interval.getLessonId(), trainerId));
+                log.debug("트레이너 일정 적재 - 트레이너: {}, 레슨: {}건", trainerId, upcoming.size());
+            }
+        }
+        return schedule;
+    }
+
+    /**
+     * 트랜잭션이 롤백되면 실행 (트랜잭션이 없으면 등록하지 않음)
+     */
+    private void onRollback(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    if (status != STATUS_COMMITTED) {
+                        action.run();
+                    }
+                }
+            });
+        }
+    }
+}
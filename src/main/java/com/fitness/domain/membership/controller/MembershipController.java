@@ -0,0 +1,46 @@
+package com.fitness.domain.membership.controller;
+
+import com.fitness.common.security.CustomUserPrincipal;
+import com.fitness.common.util.ApiResponse;
+import com.fitness.domain.membership.dto.ExpiringMembershipResponse;
+import com.fitness.domain.membership.service.MembershipService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+/**
+ * 이용권 API 컨트롤러 (OWNER 전용)
+ */
+@RestController
+@RequestMapping("/api/owner/businesses/{businessId}/memberships")
+@RequiredArgsConstructor
+@Tag(name = "이용권 API", description = "이용권 조회 API")
+@SecurityRequirement(name = "Bearer Authentication")
+public class MembershipController {
+
+    private final MembershipService membershipService;
+
+    /**
+     * 만료 임박 회원 목록
+     */
+    @GetMapping("/expiring")
+    @Operation(summary = "만료 임박 회원 목록", description = "남은 이용권이 days일 안에 모두 끝나는 회원을 종료일 순으로 조회합니다. "
+            + "횟수제 이용권은 남은 횟수를 함께 반환합니다.")
+    public ResponseEntity<ApiResponse<List<ExpiringMembershipResponse>>> getExpiringMemberships(
+            @AuthenticationPrincipal CustomUserPrincipal principal,
+            @PathVariable Long businessId,
+            @RequestParam(required = false) Integer days) {
+        return ResponseEntity.ok(ApiResponse.success(
+                membershipService.getExpiringMemberships(principal.getUserId(), businessId, days)));
+    }
+}
@@ -0,0 +1,26 @@
+package com.fitness.domain.membership.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 만료 임박 회원 응답 DTO
+ */
+@Getter
+@AllArgsConstructor
+public class ExpiringMembershipResponse {
+
+    private final Long memberId;
+
+    /**
+     * 가장 늦게 끝나는 이용권의 종료 일시
+     */
+    private final LocalDateTime membershipEndDate;
+
+    /**
+     * 해당 이용권의 남은 횟수 (기간제는 null)
+     */
+    private final Integer remainingUses;
+}
@@ -2,6 +2,7 @@ package com.fitness.domain.membership.entity;
 
 import com.fitness.common.BaseEntity;
 import com.fitness.domain.locker.entity.Locker;
+import com.fitness.domain.membership.service.MembershipEligibilityListener;
 import com.fitness.domain.payment.entity.Payment;
 import com.fitness.domain.product.entity.Product;
 import com.fitness.domain.user.entity.User;
@@ -19,6 +20,7 @@ import java.time.LocalDateTime;
  * 회원의 이용권 정보를 관리하는 테이블
  */
 @Entity
+@EntityListeners(MembershipEligibilityListener.class)
 @Table(name = "membership")
 @Getter
 @Setter
@@ -2,6 +2,7 @@ package com.fitness.domain.membership.entity;
 
 import com.fitness.common.BaseEntity;
 import com.fitness.domain.business.entity.Business;
+import com.fitness.domain.membership.service.MembershipEligibilityListener;
 import com.fitness.domain.user.entity.User;
 import jakarta.persistence.*;
 import lombok.AccessLevel;
@@ -17,6 +18,7 @@ import java.time.LocalDateTime;
  * 회원권 정지 내역을 관리하는 테이블
  */
 @Entity
+@EntityListeners(MembershipEligibilityListener.class)
 @Table(name = "membership_suspension")
 @Getter
 @Setter
@@ -0,0 +1,133 @@
+package com.fitness.domain.membership.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 체크인 자격 인덱스 적재용 JDBC 리포지토리
+ * 사업장 전체 / 회원 1명 단위로 사업장 회원 상태, 끝나지 않은 이용권, 횟수 차감 대상 출석, 정지 기간 조회
+ */
+@Repository
+@RequiredArgsConstructor
+public class MembershipEligibilityJdbcRepository {
+
+    private static final String MEMBER_QUERY =
+            "SELECT member_id, status FROM business_member WHERE business_id = ? AND deleted_at IS NULL ";
+
+    // ms 이용권이 끝나지 않은 횟수제 이용권과 기간이 겹치는지 (바깥 쿼리의 ms, p 별칭 사용)
+    private static final String OVERLAPS_OPEN_COUNT_MEMBERSHIP =
+            "EXISTS (SELECT 1 " + completedMemberships("om", "op", "opr") +
+            "AND op.business_id = p.business_id AND om.member_id = ms.member_id AND opr.usage_cnt IS NOT NULL " +
+            "AND om.service_end_date >= ? AND om.service_start_date <= ms.service_end_date) ";
+
+    // 끝나지 않은 이용권 + 출석 배정용으로 끝나지 않은 횟수제 이용권과 기간이 겹치는 끝난 횟수제 이용권
+    private static final String MEMBERSHIP_QUERY =
+            "SELECT ms.member_id, ms.service_start_date, ms.service_end_date, pr.usage_cnt " +
+            completedMemberships("ms", "p", "pr") + "AND p.business_id = ? " +
+            "AND (ms.service_end_date >= ? OR (pr.usage_cnt IS NOT NULL AND " + OVERLAPS_OPEN_COUNT_MEMBERSHIP + ")) ";
+
+    // 위 횟수제 이용권 기간 안의 출석 중 기간제 이용권(끝난 이용권 포함) 기간 밖의 출석 - 횟수 차감 대상
+    private static final String USE_QUERY =
+            "SELECT a.member_id, a.attendance_date FROM attendance a " +
+            "WHERE a.business_id = ? AND a.deleted_at IS NULL " +
+            "AND EXISTS (SELECT 1 " + completedMemberships("ms", "p", "pr") +
+            "AND p.business_id = a.business_id AND ms.member_id = a.member_id AND pr.usage_cnt IS NOT NULL " +
+            "AND a.attendance_date BETWEEN ms.service_start_date AND ms.service_end_date " +
+            "AND (ms.service_end_date >= ? OR " + OVERLAPS_OPEN_COUNT_MEMBERSHIP + ")) " +
+            "AND NOT EXISTS (SELECT 1 " + completedMemberships("pm", "pp", "ppr") +
+            "AND pp.business_id = a.business_id AND pm.member_id = a.member_id AND ppr.usage_cnt IS NULL " +
+            "AND a.attendance_date BETWEEN pm.service_start_date AND pm.service_end_date) ";
+
+    private static final String SUSPENSION_QUERY =
+            "SELECT member_id, start_date, end_date FROM membership_suspension " +
+            "WHERE business_id = ? AND deleted_at IS NULL AND end_date >= ? ";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 운영 중인 사업장 ID 목록
+     */
+    public List<Long> findActiveBusinessIds() {
+        return jdbcTemplate.queryForList(
+                "SELECT business_id FROM business WHERE status = 'ACTIVE' AND deleted_at IS NULL", Long.class);
+    }
+
+    /**
+     * 사업장 회원 상태 조회
+     * 행: member_id, status
+     */
+    public void findMembers(Long businessId, RowCallbackHandler handler) {
+        jdbcTemplate.query(MEMBER_QUERY, handler, businessId);
+    }
+
+    /**
+     * 회원 1명의 사업장 회원 상태 조회
+     */
+    public void findMembers(Long businessId, Long memberId, RowCallbackHandler handler) {
+        jdbcTemplate.query(MEMBER_QUERY + "AND member_id = ?", handler, businessId, memberId);
+    }
+
+    /**
+     * 사업장의 끝나지 않은 이용권 조회 (끝나지 않은 횟수제 이용권과 기간이 겹치는 끝난 횟수제 이용권 포함)
+     * 행: member_id, service_start_date, service_end_date, usage_cnt (기간제는 null)
+     */
+    public void findMemberships(Long businessId, LocalDateTime now, RowCallbackHandler handler) {
+        Timestamp timestamp = Timestamp.valueOf(now);
+        jdbcTemplate.query(MEMBERSHIP_QUERY, handler, businessId, timestamp, timestamp);
+    }
+
+    /**
+     * 회원 1명의 끝나지 않은 이용권 조회
+     */
+    public void findMemberships(Long businessId, Long memberId, LocalDateTime now, RowCallbackHandler handler) {
+        Timestamp timestamp = Timestamp.valueOf(now);
+        jdbcTemplate.query(MEMBERSHIP_QUERY + "AND ms.member_id = ?", handler,
+                businessId, timestamp, timestamp, memberId);
+    }
+
+    /**
+     * 사업장의 횟수 차감 대상 출석 조회 (어느 이용권에서 차감할지는 {@code findMemberships} 결과로 판단)
+     * 행: member_id, attendance_date
+     */
+    public void findUses(Long businessId, LocalDateTime now, RowCallbackHandler handler) {
+        Timestamp timestamp = Timestamp.valueOf(now);
+        jdbcTemplate.query(USE_QUERY, handler, businessId, timestamp, timestamp);
+    }
+
+    /**
+     * 회원 1명의 횟수 차감 대상 출석 조회
+     */
+    public void findUses(Long businessId, Long memberId, LocalDateTime now, RowCallbackHandler handler) {
+        Timestamp timestamp = Timestamp.valueOf(now);
+        jdbcTemplate.query(USE_QUERY + "AND a.member_id = ?", handler, businessId, timestamp, timestamp, memberId);
+    }
+
+    /**
+     * 사업장의 끝나지 않은 정지 기간 조회
+     * 행: member_id, start_date, end_date
+     */
+    public void findSuspensions(Long businessId, LocalDateTime now, RowCallbackHandler handler) {
+        jdbcTemplate.query(SUSPENSION_QUERY, handler, businessId, Timestamp.valueOf(now));
+    }
+
+    /**
+     * 회원 1명의 끝나지 않은 정지 기간 조회
+     */
+    public void findSuspensions(Long businessId, Long memberId, LocalDateTime now, RowCallbackHandler handler) {
+        jdbcTemplate.query(SUSPENSION_QUERY + "AND member_id = ?", handler,
+                businessId, Timestamp.valueOf(now), memberId);
+    }
+
+    private static String completedMemberships(String membership, String payment, String product) {
+        return "FROM membership " + membership + " JOIN payment " + payment + " ON " + payment + ".payment_id = " +
+                membership + ".payment_id JOIN products " + product + " ON " + product + ".product_id = " +
+                membership + ".product_id WHERE " + payment + ".status = 'COMPLETED' AND " + payment +
+                ".deleted_at IS NULL AND " + membership + ".deleted_at IS NULL ";
+    }
+}
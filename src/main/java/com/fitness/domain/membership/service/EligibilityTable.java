@@ -0,0 +1,285 @@
+package com.fitness.domain.membership.service;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 사업장 체크인 자격표 (생성 후 변경하지 않음)
+ * - 정렬된 회원 ID 배열 + 회원별 이용권/정지 구간을 이어 붙인 기본형 배열 (회원당 객체를 만들지 않음)
+ *   회원 i의 이용권은 membershipOffsets[i] ~ membershipOffsets[i + 1] - 1 위치, 정지 기간도 같은 방식
+ * - 시각은 LocalDateTime을 초 단위 long으로 보관
+ * - 남은 횟수가 UNLIMITED(-1)이면 기간제, 0이면 다 쓴 횟수제 이용권
+ * - 출석 1회는 이용권 1개에만 배정 ({@link #chargedMembership}) - 적재 시 과거 출석 배정과 체크인 시 차감에 같은 규칙 사용
+ */
+final class EligibilityTable {
+
+    static final int UNLIMITED = -1;
+    static final long NONE = Long.MIN_VALUE;
+    static final EligibilityTable EMPTY = new Builder().build();
+
+    private final long[] memberIds;
+    private final boolean[] blocked;
+    private final int[] membershipOffsets;
+    private final long[] membershipStarts;
+    private final long[] membershipEnds;
+    private final int[] remainingUses;
+    private final int[] suspensionOffsets;
+    private final long[] suspensionStarts;
+    private final long[] suspensionEnds;
+
+    private EligibilityTable(long[] memberIds, boolean[] blocked,
+                             int[] membershipOffsets, long[] membershipStarts, long[] membershipEnds,
+                             int[] remainingUses,
+                             int[] suspensionOffsets, long[] suspensionStarts, long[] suspensionEnds) {
+        this.memberIds = memberIds;
+        this.blocked = blocked;
+        this.membershipOffsets = membershipOffsets;
+        this.membershipStarts = membershipStarts;
+        this.membershipEnds = membershipEnds;
+        this.remainingUses = remainingUses;
+        this.suspensionOffsets = suspensionOffsets;
+        this.suspensionStarts = suspensionStarts;
+        this.suspensionEnds = suspensionEnds;
+    }
+
+    int size() {
+        return memberIds.length;
+    }
+
+    long memberId(int index) {
+        return memberIds[index];
+    }
+
+    /**
+     * 회원 위치 (없으면 음수)
+     */
+    int indexOf(long memberId) {
+        return Arrays.binarySearch(memberIds, memberId);
+    }
+
+    /**
+     * 현재 이용 가능한 이용권의 가장 늦은 종료 시각
+     * @return 정지 상태 회원이거나 정지 기간 중, 또는 이용 가능한 이용권이 없으면 NONE
+     */
+    long eligibleUntil(int index, long now) {
+        if (blocked[index]) {
+            return NONE;
+        }
+        for (int s = suspensionOffsets[index]; s < suspensionOffsets[index + 1]; s++) {
+            if (suspensionStarts[s] <= now && now <= suspensionEnds[s]) {
+                return NONE;
+            }
+        }
+        long until = NONE;
+        for (int m = membershipOffsets[index]; m < membershipOffsets[index + 1]; m++) {
+            if (membershipStarts[m] <= now && now <= membershipEnds[m] && remainingUses[m] != 0) {
+                until = Math.max(until, membershipEnds[m]);
+            }
+        }
+        return until;
+    }
+
+    /**
+     * 끝나지 않고 횟수가 남은 이용권(앞으로 시작하는 이용권 포함) 중 가장 늦게 끝나는 이용권 위치
+     * @return 정지 상태 회원이거나 해당 이용권이 없으면 -1
+     */
+    int lastMembership(int index, long now) {
+        if (blocked[index]) {
+            return -1;
+        }
+        int last = -1;
+        for (int m = membershipOffsets[index]; m < membershipOffsets[index + 1]; m++) {
+            if (membershipEnds[m] >= now && remainingUses[m] != 0
+                    && (last < 0 || membershipEnds[m] > membershipEnds[last])) {
+                last = m;
+            }
+        }
+        return last;
+    }
+
+    /**
+     * 출석 시 차감할 횟수제 이용권이 있는지
+     */
+    boolean consumesUse(int index, long now) {
+        return chargedMembership(membershipStarts, membershipEnds, remainingUses,
+                membershipOffsets[index], membershipOffsets[index + 1], now) >= 0;
+    }
+
+    long membershipEnd(int membership) {
+        return membershipEnds[membership];
+    }
+
+    int remainingUses(int membership) {
+        return remainingUses[membership];
+    }
+
+    /**
+     * 회원 1명만 담은 자격표 (없는 회원이면 빈 자격표)
+     */
+    EligibilityTable member(long memberId) {
+        int index = indexOf(memberId);
+        if (index < 0) {
+            return EMPTY;
+        }
+        Builder builder = new Builder().member(memberId, blocked[index]);
+        for (int m = membershipOffsets[index]; m < membershipOffsets[index + 1]; m++) {
+            builder.membership(memberId, membershipStarts[m], membershipEnds[m], remainingUses[m]);
+        }
+        for (int s = suspensionOffsets[index]; s < suspensionOffsets[index + 1]; s++) {
+            builder.suspension(memberId, suspensionStarts[s], suspensionEnds[s]);
+        }
+        return builder.build();
+    }
+
+    /**
+     * 출석 1회를 반영한 회원 1명의 자격표 ({@link #chargedMembership}으로 고른 이용권 1개만 차감)
+     */
+    EligibilityTable withUse(long memberId, long now) {
+        EligibilityTable single = member(memberId);
+        int charged = chargedMembership(single.membershipStarts, single.membershipEnds, single.remainingUses,
+                0, single.remainingUses.length, now);
+        if (charged < 0) {
+            return single;
+        }
+        int[] remaining = single.remainingUses.clone();
+        remaining[charged]--;
+        return new EligibilityTable(single.memberIds, single.blocked,
+                single.membershipOffsets, single.membershipStarts, single.membershipEnds, remaining,
+                single.suspensionOffsets, single.suspensionStarts, single.suspensionEnds);
+    }
+
+    /**
+     * 출석 1회를 배정할 횟수제 이용권 위치 (from ~ to - 1 범위의 이용권 중)
+     * - at이 기간 안인 기간제 이용권이 있으면 차감하지 않음 (기간제로 입장한 출석)
+     * - 아니면 at이 기간 안이고 횟수가 남은 횟수제 이용권 중 가장 먼저 끝나는 이용권
+     * @return 차감할 이용권이 없으면 -1
+     */
+    private static int chargedMembership(long[] starts, long[] ends, int[] remainingUses, int from, int to, long at) {
+        int charged = -1;
+        for (int m = from; m < to; m++) {
+            if (starts[m] > at || at > ends[m]) {
+                continue;
+            }
+            if (remainingUses[m] == UNLIMITED) {
+                return -1;
+            }
+            if (remainingUses[m] > 0 && (charged < 0 || ends[m] < ends[charged])) {
+                charged = m;
+            }
+        }
+        return charged;
+    }
+
+    static long toSeconds(LocalDateTime dateTime) {
+        return dateTime.toEpochSecond(ZoneOffset.UTC);
+    }
+
+    static LocalDateTime toDateTime(long seconds) {
+        return LocalDateTime.ofEpochSecond(seconds, 0, ZoneOffset.UTC);
+    }
+
+    /**
+     * 자격표 생성기 (행 순서 무관, 사업장 회원으로 추가되지 않은 ID의 이용권/정지 기간/출석은 버림)
+     * 횟수제 이용권은 전체 횟수로 추가하고, 출석은 시각 순으로 {@link #chargedMembership} 규칙에 따라 차감
+     */
+    static final class Builder {
+
+        private final Map<Long, Entry> entries = new HashMap<>();
+
+        Builder member(long memberId, boolean blocked) {
+            Entry entry = entryOf(memberId);
+            entry.present = true;
+            entry.blocked = blocked;
+            return this;
+        }
+
+        Builder membership(long memberId, long start, long end, int remainingUses) {
+            entryOf(memberId).memberships.add(new long[]{start, end, remainingUses});
+            return this;
+        }
+
+        /**
+         * 횟수 차감 대상 출석
+         */
+        Builder use(long memberId, long at) {
+            entryOf(memberId).uses.add(at);
+            return this;
+        }
+
+        Builder suspension(long memberId, long start, long end) {
+            entryOf(memberId).suspensions.add(new long[]{start, end});
+            return this;
+        }
+
+        EligibilityTable build() {
+            long[] memberIds = entries.entrySet().stream()
+                    .filter(entry -> entry.getValue().present)
+                    .mapToLong(Map.Entry::getKey)
+                    .sorted()
+                    .toArray();
+            int membershipCount = 0;
+            int suspensionCount = 0;
+            for (long memberId : memberIds) {
+                Entry entry = entries.get(memberId);
+                membershipCount += entry.memberships.size();
+                suspensionCount += entry.suspensions.size();
+            }
+
+            boolean[] blocked = new boolean[memberIds.length];
+            int[] membershipOffsets = new int[memberIds.length + 1];
+            long[] membershipStarts = new long[membershipCount];
+            long[] membershipEnds = new long[membershipCount];
+            int[] remainingUses = new int[membershipCount];
+            int[] suspensionOffsets = new int[memberIds.length + 1];
+            long[] suspensionStarts = new long[suspensionCount];
+            long[] suspensionEnds = new long[suspensionCount];
+
+            int m = 0;
+            int s = 0;
+            for (int i = 0; i < memberIds.length; i++) {
+                Entry entry = entries.get(memberIds[i]);
+                blocked[i] = entry.blocked;
+                membershipOffsets[i] = m;
+                for (long[] membership : entry.memberships) {
+                    membershipStarts[m] = membership[0];
+                    membershipEnds[m] = membership[1];
+                    remainingUses[m++] = (int) membership[2];
+                }
+                entry.uses.sort(null);
+                for (long at : entry.uses) {
+                    int charged = chargedMembership(membershipStarts, membershipEnds, remainingUses,
+                            membershipOffsets[i], m, at);
+                    if (charged >= 0) {
+                        remainingUses[charged]--;
+                    }
+                }
+                suspensionOffsets[i] = s;
+                for (long[] suspension : entry.suspensions) {
+                    suspensionStarts[s] = suspension[0];
+                    suspensionEnds[s++] = suspension[1];
+                }
+            }
+            membershipOffsets[memberIds.length] = m;
+            suspensionOffsets[memberIds.length] = s;
+            return new EligibilityTable(memberIds, blocked, membershipOffsets, membershipStarts, membershipEnds,
+                    remainingUses, suspensionOffsets, suspensionStarts, suspensionEnds);
+        }
+
+        private Entry entryOf(long memberId) {
+            return entries.computeIfAbsent(memberId, id -> new Entry());
+        }
+    }
+
+    private static final class Entry {
+        private boolean present;
+        private boolean blocked;
+        private final List<long[]> memberships = new ArrayList<>(1);
+        private final List<long[]> suspensions = new ArrayList<>(0);
+        private final List<Long> uses = new ArrayList<>(0);
+    }
+}
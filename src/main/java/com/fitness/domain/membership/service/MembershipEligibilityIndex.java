@@ -0,0 +1,295 @@
+package com.fitness.domain.membership.service;
+
+import com.fitness.domain.attendance.dto.PendingAttendance;
+import com.fitness.domain.attendance.service.AttendanceWriteBuffer;
+import com.fitness.domain.business.entity.BusinessMemberStatus;
+import com.fitness.domain.membership.dto.ExpiringMembershipResponse;
+import com.fitness.domain.membership.repository.MembershipEligibilityJdbcRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * 사업장별 체크인 자격 인덱스 ("지금 입장 가능한가"를 메모리에서 판단)
+ * - 이용권 기간, 정지 기간, 사업장 회원 상태(정지), 횟수제 상품의 남은 횟수를 합쳐
+ *   사업장마다 {@link EligibilityTable} 하나로 미리 계산
+ * - 기동 시 운영 중인 사업장 전체 적재, 이후 엔티티 변경 이벤트로 회원 단위 갱신
+ *   ({@link MembershipEligibilityListener}) - 갱신된 회원은 다음 재적재 전까지 별도 자격표로 보관
+ * - 새벽 재적재로 끝난 구간 정리 및 JPA를 거치지 않은 변경 반영
+ * - 사용 횟수는 출석 테이블에서 세므로 {@link AttendanceWriteBuffer}의 저장 대기 출석도 반영
+ *   - 사업장 재적재: 저장 대기 출석을 먼저 저장 (적재 시작 이후 체크인은 회원별 자격표로 유지)
+ *   - 회원 재적재: 저장하지 않고 저장 대기 출석을 DB 출석에 더함 (체크인 요청 스레드에서 호출되므로)
+ * 사업장 회원 상태 중 만료/만료임박은 결제보다 늦게 바뀌는 표시용 상태이므로 정지만 입장 불가로 처리
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class MembershipEligibilityIndex {
+
+    private final MembershipEligibilityJdbcRepository eligibilityRepository;
+    private final AttendanceWriteBuffer writeBuffer;
+
+    private final Map<Long, BusinessEligibility> businesses = new ConcurrentHashMap<>();
+
+    /**
+     * 현재 이용 가능한 이용권의 종료 일시
+     * @return 이용 가능하면 가장 늦은 종료 일시, 이용권이 없거나 정지 중이면 null
+     */
+    public LocalDateTime eligibleUntil(Long businessId, Long memberId, LocalDateTime now) {
+        EligibilityTable table = eligibilityOf(businessId).tableOf(memberId);
+        int index = table.indexOf(memberId);
+        if (index < 0) {
+            return null;
+        }
+        long until = table.eligibleUntil(index, EligibilityTable.toSeconds(now));
+        return until == EligibilityTable.NONE ? null : EligibilityTable.toDateTime(until);
+    }
+
+    /**
+     * 출석 1회 반영 (횟수제 이용권 남은 횟수 차감, 기간제만 있으면 변경 없음)
+     */
+    public void recordUse(Long businessId, Long memberId, LocalDateTime now) {
+        long seconds = EligibilityTable.toSeconds(now);
+        BusinessEligibility eligibility = eligibilityOf(businessId);
+        EligibilityTable current = eligibility.tableOf(memberId);
+        int index = current.indexOf(memberId);
+        if (index < 0 || !current.consumesUse(index, seconds)) {
+            return;
+        }
+        eligibility.overrides.compute(memberId, (id, override) -> new MemberOverride(
+                (override != null ? override.table : eligibility.base).withUse(memberId, seconds), System.nanoTime()));
+    }
+
+    /**
+     * 만료 임박 회원 목록 (종료 일시 오름차순)
+     * 끝나지 않고 횟수가 남은 이용권 중 가장 늦게 끝나는 이용권이 기간 안에 끝나는 회원
+     */
+    public List<ExpiringMembershipResponse> findExpiringSoon(Long businessId, LocalDateTime now, LocalDateTime until) {
+        BusinessEligibility eligibility = eligibilityOf(businessId);
+        long from = EligibilityTable.toSeconds(now);
+        long to = EligibilityTable.toSeconds(until);
+
+        List<ExpiringMembershipResponse> results = new ArrayList<>();
+        EligibilityTable base = eligibility.base;
+        for (int i = 0; i < base.size(); i++) {
+            if (!eligibility.overrides.containsKey(base.memberId(i))) {
+                addIfExpiring(results, base, i, from, to);
+            }
+        }
+        for (MemberOverride override : eligibility.overrides.values()) {
+            for (int i = 0; i < override.table.size(); i++) {
+                addIfExpiring(results, override.table, i, from, to);
+            }
+        }
+        results.sort(Comparator.comparing(ExpiringMembershipResponse::getMembershipEndDate)
+                .thenComparing(ExpiringMembershipResponse::getMemberId));
+        return results;
+    }
+
+    /**
+     * 회원 1명 다시 적재 (적재되지 않은 사업장은 무시 - 적재 시 DB에서 읽음)
+     */
+    public void refreshMember(Long businessId, Long memberId) {
+        BusinessEligibility eligibility = businesses.get(businessId);
+        if (eligibility != null && eligibility.isLoaded()) {
+            long loadedAt = System.nanoTime();
+            // DB보다 먼저 조회 (조회 후 저장된 출석은 DB에서 읽힘)
+            List<PendingAttendance> pending = writeBuffer.pendingAttendances(businessId, memberId);
+            MemberOverride loaded = new MemberOverride(loadMember(businessId, memberId, pending), loadedAt);
+            // 적재 중 체크인으로 갱신된 자격표가 있으면 유지 (교체 시 사용 횟수가 되돌아가지 않도록)
+            eligibility.overrides.merge(memberId, loaded,
+                    (current, fresh) -> current.loadedAt - fresh.loadedAt > 0 ? current : fresh);
+        }
+    }
+
+    /**
+     * 회원이 속한 적재된 모든 사업장에서 회원 1명 다시 적재 (사업장을 바로 알 수 없는 이용권 변경용)
+     */
+    public void refreshMember(Long memberId) {
+        businesses.forEach((businessId, eligibility) -> {
+            if (eligibility.isLoaded() && eligibility.tableOf(memberId).indexOf(memberId) >= 0) {
+                refreshMember(businessId, memberId);
+            }
+        });
+    }
+
+    /**
+     * 사업장 전체 다시 적재 (JDBC 일괄 등록 등 엔티티 이벤트가 없는 변경 후)
+     */
+    public void reload(Long businessId) {
+        BusinessEligibility eligibility = businesses.get(businessId);
+        if (eligibility != null && eligibility.isLoaded()) {
+            long loadedAt = System.nanoTime();
+            writeBuffer.flush();
+            eligibility.replace(load(businessId), loadedAt);
+        }
+    }
+
+    /**
+     * 기동 완료 시 운영 중인 사업장 전체 적재
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadAll() {
+        long startedAt = System.currentTimeMillis();
+        List<Long> businessIds = eligibilityRepository.findActiveBusinessIds();
+        for (Long businessId : businessIds) {
+            try {
+                eligibilityOf(businessId);
+            } catch (RuntimeException e) {
+                log.error("체크인 자격 인덱스 적재 실패 - 사업장: {}, 원인: {}", businessId, e.getMessage());
+            }
+        }
+        log.info("체크인 자격 인덱스 적재 완료 - 사업장: {}개, 소요: {}ms", businessIds.size(),
+                System.currentTimeMillis() - startedAt);
+    }
+
+    /**
+     * 새벽 재적재 (끝난 구간 정리, 회원 단위 자격표 병합)
+     */
+    @Scheduled(cron = "${business.eligibility.rebuild-cron:0 45 3 * * *}")
+    public void reloadAll() {
+        for (Long businessId : businesses.keySet()) {
+            try {
+                reload(businessId);
+            } catch (RuntimeException e) {
+                log.error("체크인 자격 인덱스 재적재 실패 - 사업장: {}, 원인: {}", businessId, e.getMessage());
+            }
+        }
+    }
+
+    private BusinessEligibility eligibilityOf(Long businessId) {
+        BusinessEligibility eligibility = businesses.computeIfAbsent(businessId, id -> new BusinessEligibility());
+        eligibility.loadIfNecessary(() -> load(businessId));
+        return eligibility;
+    }
+
+    private EligibilityTable load(Long businessId) {
+        LocalDateTime now = LocalDateTime.now();
+        EligibilityTable.Builder builder = new EligibilityTable.Builder();
+        eligibilityRepository.findMembers(businessId, rs -> addMember(builder, rs));
+        eligibilityRepository.findMemberships(businessId, now, rs -> addMembership(builder, rs));
+        eligibilityRepository.findUses(businessId, now, rs -> addUse(builder, rs));
+        eligibilityRepository.findSuspensions(businessId, now, rs -> addSuspension(builder, rs));
+        EligibilityTable table = builder.build();
+        log.debug("체크인 자격 인덱스 적재 - 사업장: {}, 회원: {}명", businessId, table.size());
+        return table;
+    }
+
+    /**
+     * 회원 1명 적재 - 저장 대기 출석 중 DB에서 읽은 출석과 일시(초 단위)가 같은 출석은 저장된 것으로 보고 제외
+     */
+    private EligibilityTable loadMember(Long businessId, Long memberId, List<PendingAttendance> pending) {
+        LocalDateTime now = LocalDateTime.now();
+        EligibilityTable.Builder builder = new EligibilityTable.Builder();
+        Set<Long> stored = new HashSet<>();
+        eligibilityRepository.findMembers(businessId, memberId, rs -> addMember(builder, rs));
+        eligibilityRepository.findMemberships(businessId, memberId, now, rs -> addMembership(builder, rs));
+        eligibilityRepository.findUses(businessId, memberId, now, rs -> {
+            addUse(builder, rs);
+            stored.add(seconds(rs, 2));
+        });
+        eligibilityRepository.findSuspensions(businessId, memberId, now, rs -> addSuspension(builder, rs));
+        for (PendingAttendance attendance : pending) {
+            long at = EligibilityTable.toSeconds(attendance.getAttendanceDate());
+            if (!stored.contains(at)) {
+                builder.use(memberId, at);
+            }
+        }
+        return builder.build();
+    }
+
+    private static void addMember(EligibilityTable.Builder builder, ResultSet rs) throws SQLException {
+        builder.member(rs.getLong(1), BusinessMemberStatus.SUSPENDED.name().equals(rs.getString(2)));
+    }
+
+    private static void addMembership(EligibilityTable.Builder builder, ResultSet rs) throws SQLException {
+        int usageCount = rs.getInt(4);
+        int remainingUses = rs.wasNull() ? EligibilityTable.UNLIMITED : usageCount;
+        builder.membership(rs.getLong(1), seconds(rs, 2), seconds(rs, 3), remainingUses);
+    }
+
+    private static void addUse(EligibilityTable.Builder builder, ResultSet rs) throws SQLException {
+        builder.use(rs.getLong(1), seconds(rs, 2));
+    }
+
+    private static void addSuspension(EligibilityTable.Builder builder, ResultSet rs) throws SQLException {
+        builder.suspension(rs.getLong(1), seconds(rs, 2), seconds(rs, 3));
+    }
+
+    private static long seconds(ResultSet rs, int column) throws SQLException {
+        return EligibilityTable.toSeconds(rs.getTimestamp(column).toLocalDateTime());
+    }
+
+    private static void addIfExpiring(List<ExpiringMembershipResponse> results, EligibilityTable table, int index,
+                                      long from, long to) {
+        int last = table.lastMembership(index, from);
+        if (last < 0 || table.membershipEnd(last) > to) {
+            return;
+        }
+        int remainingUses = table.remainingUses(last);
+        results.add(new ExpiringMembershipResponse(table.memberId(index),
+                EligibilityTable.toDateTime(table.membershipEnd(last)),
+                remainingUses == EligibilityTable.UNLIMITED ? null : remainingUses));
+    }
+
+    /**
+     * 사업장 자격표 + 이후 갱신된 회원별 자격표
+     */
+    private static final class BusinessEligibility {
+
+        private volatile EligibilityTable base;
+        private final Map<Long, MemberOverride> overrides = new ConcurrentHashMap<>();
+
+        private boolean isLoaded() {
+            return base != null;
+        }
+
+        private void loadIfNecessary(Supplier<EligibilityTable> loader) {
+            if (base == null) {
+                synchronized (this) {
+                    if (base == null) {
+                        base = loader.get();
+                    }
+                }
+            }
+        }
+
+        private EligibilityTable tableOf(Long memberId) {
+            MemberOverride override = overrides.get(memberId);
+            return override != null ? override.table : base;
+        }
+
+        /**
+         * 새 자격표로 교체 - 적재 시작 이후에 갱신된 회원 자격표는 유지
+         */
+        private synchronized void replace(EligibilityTable table, long loadStartedAt) {
+            base = table;
+            overrides.values().removeIf(override -> override.loadedAt - loadStartedAt < 0);
+        }
+    }
+
+    private static final class MemberOverride {
+        private final EligibilityTable table;
+        private final long loadedAt;
+
+        private MemberOverride(EligibilityTable table, long loadedAt) {
+            this.table = table;
+            this.loadedAt = loadedAt;
+        }
+    }
+}
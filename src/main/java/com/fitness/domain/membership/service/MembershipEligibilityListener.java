@@ -0,0 +1,55 @@
+package com.fitness.domain.membership.service;
+
+import com.fitness.domain.business.entity.BusinessMember;
+import com.fitness.domain.membership.entity.Membership;
+import com.fitness.domain.membership.entity.MembershipSuspension;
+import com.fitness.domain.payment.entity.Payment;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+
+import static com.fitness.common.util.TransactionUtils.afterCommit;
+
+/**
+ * 이용권 / 정지 / 결제 / 사업장 회원 변경 시 체크인 자격 인덱스의 해당 회원을 다시 적재하는 JPA 엔티티 리스너
+ * - ID만 이벤트 시점에 복사하고, 다시 적재는 트랜잭션 커밋 이후에 수행 (롤백된 변경은 반영되지 않음)
+ * - 이용권은 결제를 거쳐야 사업장을 알 수 있으므로 지연 로딩을 피해 회원이 속한 사업장 전체에서 갱신
+ */
+@Component
+public class MembershipEligibilityListener {
+
+    private final ObjectProvider<MembershipEligibilityIndex> eligibilityIndexProvider;
+
+    public MembershipEligibilityListener(ObjectProvider<MembershipEligibilityIndex> eligibilityIndexProvider) {
+        this.eligibilityIndexProvider = eligibilityIndexProvider;
+    }
+
+    @PostPersist
+    @PostUpdate
+    @PostRemove
+    public void onChange(Object entity) {
+        MembershipEligibilityIndex eligibilityIndex = eligibilityIndexProvider.getIfAvailable();
+        if (eligibilityIndex == null) {
+            return;
+        }
+
+        if (entity instanceof Membership membership) {
+            Long memberId = membership.getMember().getUserId();
+            afterCommit(() -> eligibilityIndex.refreshMember(memberId));
+        } else if (entity instanceof MembershipSuspension suspension) {
+            Long businessId = suspension.getBusiness().getBusinessId();
+            Long memberId = suspension.getMember().getUserId();
+            afterCommit(() -> eligibilityIndex.refreshMember(businessId, memberId));
+        } else if (entity instanceof Payment payment) {
+            Long businessId = payment.getBusiness().getBusinessId();
+            Long memberId = payment.getMember().getUserId();
+            afterCommit(() -> eligibilityIndex.refreshMember(businessId, memberId));
+        } else if (entity instanceof BusinessMember businessMember) {
+            Long businessId = businessMember.getBusiness().getBusinessId();
+            Long memberId = businessMember.getMember().getUserId();
+            afterCommit(() -> eligibilityIndex.refreshMember(businessId, memberId));
+        }
+    }
+}
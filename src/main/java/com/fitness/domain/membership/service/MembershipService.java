@@ -0,0 +1,41 @@
+package com.fitness.domain.membership.service;
+
+import com.fitness.common.config.BusinessProperties;
+import com.fitness.common.exception.BusinessException;
+import com.fitness.common.exception.ErrorCode;
+import com.fitness.domain.business.repository.BusinessRepository;
+import com.fitness.domain.membership.dto.ExpiringMembershipResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 이용권 조회 서비스
+ */
+@Service
+@RequiredArgsConstructor
+public class MembershipService {
+
+    private final BusinessRepository businessRepository;
+    private final MembershipEligibilityIndex eligibilityIndex;
+    private final BusinessProperties businessProperties;
+
+    /**
+     * 만료 임박 회원 목록 (체크인 자격 인덱스에서 조회)
+     * @param days 오늘부터 며칠 안에 끝나는 회원 (null이면 기본값)
+     */
+    public List<ExpiringMembershipResponse> getExpiringMemberships(Long ownerId, Long businessId, Integer days) {
+        if (!businessRepository.existsByBusinessIdAndOwner_UserId(businessId, ownerId)) {
+            throw new BusinessException(ErrorCode.BUSINESS_NOT_FOUND);
+        }
+        BusinessProperties.Eligibility properties = businessProperties.getEligibility();
+        int range = days != null ? days : properties.getExpiringSoonDays();
+        if (range < 0 || range > properties.getMaxExpiringSoonDays()) {
+            throw new BusinessException(ErrorCode.INVALID_INPUT);
+        }
+        LocalDateTime now = LocalDateTime.now();
+        return eligibilityIndex.findExpiringSoon(businessId, now, now.toLocalDate().plusDays(range).atTime(23, 59, 59));
+    }
+}
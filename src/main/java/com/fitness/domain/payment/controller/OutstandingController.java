@@ -0,0 +1,73 @@
+package com.fitness.domain.payment.controller;
+
+import com.fitness.common.security.CustomUserPrincipal;
+import com.fitness.common.util.ApiResponse;
+import com.fitness.domain.payment.dto.OutstandingLedgerResponse;
+import com.fitness.domain.payment.dto.OutstandingMemberResponse;
+import com.fitness.domain.payment.service.OutstandingLedgerService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.web.PageableDefault;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * 미수금 API 컨트롤러 (OWNER 전용)
+ */
+@RestController
+@RequestMapping("/api/owner/businesses/{businessId}/outstanding")
+@RequiredArgsConstructor
+@Tag(name = "미수금 API", description = "회원 미수금 조회/보정 API")
+@SecurityRequirement(name = "Bearer Authentication")
+public class OutstandingController {
+
+    private final OutstandingLedgerService ledgerService;
+
+    /**
+     * 미수금 보유 회원 목록
+     */
+    @GetMapping("/members")
+    @Operation(summary = "미수금 보유 회원 목록", description = "총 미수금이 있는 회원을 미수금이 많은 순으로 조회합니다.")
+    public ResponseEntity<ApiResponse<Page<OutstandingMemberResponse>>> getMembersWithOutstanding(
+            @AuthenticationPrincipal CustomUserPrincipal principal,
+            @PathVariable Long businessId,
+            @PageableDefault(size = 20) Pageable pageable) {
+        return ResponseEntity.ok(ApiResponse.success(
+                ledgerService.getMembersWithOutstanding(principal.getUserId(), businessId, pageable)));
+    }
+
+    /**
+     * 미수금 잔액 보정
+     */
+    @PostMapping("/reconcile")
+    @Operation(summary = "미수금 잔액 보정", description = "결제 원본의 남은 미수금과 회원 총 미수금을 비교하여 "
+            + "차이를 보정 기록으로 맞춥니다. 보정한 회원 수를 반환합니다. (매일 새벽 자동 실행)")
+    public ResponseEntity<ApiResponse<Integer>> reconcile(
+            @AuthenticationPrincipal CustomUserPrincipal principal,
+            @PathVariable Long businessId) {
+        return ResponseEntity.ok(ApiResponse.success(ledgerService.reconcile(principal.getUserId(), businessId)));
+    }
+
+    /**
+     * 회원 미수금 원장
+     */
+    @GetMapping("/members/{memberId}/ledger")
+    @Operation(summary = "회원 미수금 원장", description = "회원의 미수금 발생/납부/소멸 기록을 최근 순으로 조회합니다.")
+    public ResponseEntity<ApiResponse<Page<OutstandingLedgerResponse>>> getLedger(
+            @AuthenticationPrincipal CustomUserPrincipal principal,
+            @PathVariable Long businessId,
+            @PathVariable Long memberId,
+            @PageableDefault(size = 20) Pageable pageable) {
+        return ResponseEntity.ok(ApiResponse.success(
+                ledgerService.getLedger(principal.getUserId(), businessId, memberId, pageable)));
+    }
+}
@@ -0,0 +1,45 @@
+package com.fitness.domain.payment.dto;
+
+import com.fitness.domain.payment.entity.OutstandingLedgerEntry;
+import com.fitness.domain.payment.entity.OutstandingLedgerType;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 미수금 원장 기록 응답 DTO
+ */
+@Getter
+@Builder
+public class OutstandingLedgerResponse {
+
+    private final Long ledgerId;
+    private final Long paymentId;
+    private final Long outstandingPaymentId;
+    private final OutstandingLedgerType entryType;
+
+    /**
+     * 변동액 (발생 +, 납부/소멸 -)
+     */
+    private final long amount;
+
+    /**
+     * 기록 후 잔액
+     */
+    private final long balanceAfter;
+
+    private final LocalDateTime createdAt;
+
+    public static OutstandingLedgerResponse from(OutstandingLedgerEntry entry) {
+        return OutstandingLedgerResponse.builder()
+                .ledgerId(entry.getOutstandingLedgerId())
+                .paymentId(entry.getPaymentId())
+                .outstandingPaymentId(entry.getOutstandingPaymentId())
+                .entryType(entry.getEntryType())
+                .amount(entry.getAmount())
+                .balanceAfter(entry.getBalanceAfter())
+                .createdAt(entry.getCreatedAt())
+                .build();
+    }
+}
@@ -0,0 +1,22 @@
+package com.fitness.domain.payment.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 미수금 보유 회원 응답 DTO
+ */
+@Getter
+@AllArgsConstructor
+public class OutstandingMemberResponse {
+
+    private final Long businessMemberId;
+    private final Long memberId;
+    private final String name;
+    private final String phoneNumber;
+
+    /**
+     * 총 미수금
+     */
+    private final long totalOutstandingAmount;
+}
@@ -0,0 +1,49 @@
+package com.fitness.domain.payment.entity;
+
+import com.fitness.common.BaseEntity;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 미수금 원장(OUTSTANDING_LEDGER) 엔티티
+ * 회원 미수금 변동을 추가만 하는(append-only) 이력 테이블
+ * - 금액은 부호 있는 변동액 (발생 +, 납부/소멸 -)
+ * - 기록과 동시에 사업장 회원의 총 미수금을 같은 트랜잭션에서 갱신하고 갱신 후 잔액을 함께 저장
+ */
+@Entity
+@Table(name = "outstanding_ledger", indexes = {
+        @Index(name = "idx_outstanding_ledger_member", columnList = "business_id, member_id, outstanding_ledger_id")
+})
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class OutstandingLedgerEntry extends BaseEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "outstanding_ledger_id")
+    private Long outstandingLedgerId;
+
+    @Column(name = "business_id", nullable = false)
+    private Long businessId;
+
+    @Column(name = "member_id", nullable = false)
+    private Long memberId;
+
+    @Column(name = "payment_id")
+    private Long paymentId;
+
+    @Column(name = "outstanding_payment_id")
+    private Long outstandingPaymentId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "entry_type", length = 20, nullable = false)
+    private OutstandingLedgerType entryType;
+
+    @Column(name = "amount", nullable = false)
+    private long amount;
+
+    @Column(name = "balance_after", nullable = false)
+    private long balanceAfter;
+}
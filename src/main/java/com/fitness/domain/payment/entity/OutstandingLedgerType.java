@@ -0,0 +1,19 @@
+package com.fitness.domain.payment.entity;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 미수금 원장 기록 유형 Enum
+ */
+@Getter
+@AllArgsConstructor
+public enum OutstandingLedgerType {
+    CHARGE("미수금 발생"),
+    REPAYMENT("미수금 납부"),
+    WRITE_OFF("결제 취소로 소멸"),
+    ADJUSTMENT("정산 보정");
+
+    private final String description;
+
+}
@@ -2,7 +2,9 @@ package com.fitness.domain.payment.entity;
 
 import com.fitness.common.BaseEntity;
 import com.fitness.domain.business.entity.Business;
+import com.fitness.domain.commission.service.PerformanceEventListener;
 import com.fitness.common.enums.PaymentMethod;
+import com.fitness.domain.payment.service.OutstandingLedgerListener;
 import com.fitness.domain.user.entity.User;
 import jakarta.persistence.*;
 import lombok.*;
@@ -13,6 +15,7 @@ import java.time.LocalDateTime;
  * 원본 결제 건의 미수금을 나중에 결제한 내역을 관리
  */
 @Entity
+@EntityListeners({PerformanceEventListener.class, OutstandingLedgerListener.class})
 @Table(name = "outstanding_payment")
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
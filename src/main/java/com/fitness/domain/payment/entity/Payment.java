@@ -3,7 +3,11 @@ package com.fitness.domain.payment.entity;
 import com.fitness.common.BaseEntity;
 import com.fitness.common.enums.PaymentMethod;
 import com.fitness.domain.business.entity.Business;
+import com.fitness.domain.commission.service.PerformanceEventListener;
+import com.fitness.domain.membership.service.MembershipEligibilityListener;
+import com.fitness.domain.payment.service.OutstandingLedgerListener;
 import com.fitness.domain.product.entity.Product;
+import com.fitness.domain.statistics.service.DailyStatsListener;
 import com.fitness.domain.user.entity.User;
 import jakarta.persistence.*;
 import lombok.AccessLevel;
@@ -18,7 +22,11 @@ import java.time.LocalDateTime;
  * 회원의 상품 결제 정보를 관리하는 테이블
  */
 @Entity
-@Table(name = "payment")
+@EntityListeners({DailyStatsListener.class, PerformanceEventListener.class, OutstandingLedgerListener.class,
+        MembershipEligibilityListener.class})
+@Table(name = "payment", indexes = {
+        @Index(name = "idx_payment_business_date", columnList = "business_id, payment_date")
+})
 @Getter
 @Setter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
@@ -81,4 +89,22 @@ public class Payment extends BaseEntity {
     @Column(name = "memo", columnDefinition = "TEXT")
     private String memo;
 
+    /**
+     * DB에 마지막으로 반영된 결제 상태 (엔티티 리스너에서 상태 전이 판단용)
+     */
+    @Transient
+    @Setter(AccessLevel.NONE)
+    private PaymentStatus persistedStatus;
+
+    /**
+     * 엔티티 자체 콜백은 엔티티 리스너 이후에 호출되므로
+     * 리스너의 @PostUpdate 시점에는 변경 전 상태가 남아 있음
+     */
+    @PostLoad
+    @PostPersist
+    @PostUpdate
+    void rememberPersistedStatus() {
+        this.persistedStatus = status;
+    }
+
 }
\ No newline at end of file
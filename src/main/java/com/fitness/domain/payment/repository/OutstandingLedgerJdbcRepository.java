@@ -0,0 +1,103 @@
+package com.fitness.domain.payment.repository;
+
+import com.fitness.domain.payment.entity.OutstandingLedgerType;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 미수금 원장 기록 / 잔액 갱신 JDBC 리포지토리
+ * 결제 엔티티 flush 도중(엔티티 리스너)에 호출되므로 EntityManager 대신 같은 트랜잭션의 커넥션으로 SQL 실행
+ */
+@Repository
+@RequiredArgsConstructor
+public class OutstandingLedgerJdbcRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 사업장 회원 총 미수금 증감 (행 잠금을 잡고 원자적으로 더함)
+     * @return 갱신된 사업장 회원 수 (0이면 소속 회원 없음)
+     */
+    public int addToBalance(Long businessId, Long memberId, long amount) {
+        return jdbcTemplate.update(
+                "UPDATE business_member SET total_outstanding_amount = total_outstanding_amount + ? " +
+                "WHERE business_id = ? AND member_id = ? AND deleted_at IS NULL",
+                amount, businessId, memberId);
+    }
+
+    /**
+     * 사업장 회원 총 미수금 조회
+     */
+    public long findBalance(Long businessId, Long memberId) {
+        List<Long> balances = jdbcTemplate.queryForList(
+                "SELECT total_outstanding_amount FROM business_member " +
+                "WHERE business_id = ? AND member_id = ? AND deleted_at IS NULL",
+                Long.class, businessId, memberId);
+        return balances.isEmpty() ? 0L : balances.get(0);
+    }
+
+    /**
+     * 원장 기록 추가
+     */
+    public void insertEntry(Long businessId, Long memberId, Long paymentId, Long outstandingPaymentId,
+                            OutstandingLedgerType type, long amount, long balanceAfter) {
+        jdbcTemplate.update(
+                "INSERT INTO outstanding_ledger (business_id, member_id, payment_id, outstanding_payment_id, " +
+                "entry_type, amount, balance_after, created_at) VALUES (?, ?, ?, ?, ?, ?, ?, ?)",
+                businessId, memberId, paymentId, outstandingPaymentId, type.name(), amount, balanceAfter,
+                Timestamp.valueOf(LocalDateTime.now()));
+    }
+
+    /**
+     * 결제 원본 기준 회원별 미수금 합계 (완료된 결제의 남은 미수금)
+     * @return 회원 ID별 미수금
+     */
+    public Map<Long, Long> sumOutstandingByMember(Long businessId) {
+        Map<Long, Long> outstanding = new HashMap<>();
+        jdbcTemplate.query(
+                "SELECT member_id, SUM(outstanding_amount) FROM payment " +
+                "WHERE business_id = ? AND status = 'COMPLETED' AND deleted_at IS NULL " +
+                "AND outstanding_amount <> 0 GROUP BY member_id",
+                rs -> {
+                    outstanding.put(rs.getLong(1), rs.getLong(2));
+                },
+                businessId);
+        return outstanding;
+    }
+
+    /**
+     * 미수금 잔액이 있는 사업장 회원 조회
+     * @return 회원 ID별 잔액
+     */
+    public Map<Long, Long> findNonZeroBalances(Long businessId) {
+        Map<Long, Long> balances = new HashMap<>();
+        jdbcTemplate.query(
+                "SELECT member_id, total_outstanding_amount FROM business_member " +
+                "WHERE business_id = ? AND deleted_at IS NULL AND total_outstanding_amount <> 0",
+                rs -> {
+                    balances.put(rs.getLong(1), rs.getLong(2));
+                },
+                businessId);
+        return balances;
+    }
+
+    /**
+     * 보정 대상 사업장 (결제 원본에 미수금이 있거나 회원 잔액이 남아 있는 사업장)
+     */
+    public List<Long> findBusinessIdsToReconcile() {
+        return jdbcTemplate.queryForList(
+                "SELECT business_id FROM payment " +
+                "WHERE status = 'COMPLETED' AND deleted_at IS NULL AND outstanding_amount <> 0 " +
+                "UNION " +
+                "SELECT business_id FROM business_member " +
+                "WHERE deleted_at IS NULL AND total_outstanding_amount <> 0",
+                Long.class);
+    }
+}
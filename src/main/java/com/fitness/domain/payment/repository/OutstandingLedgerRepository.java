@@ -0,0 +1,40 @@
+package com.fitness.domain.payment.repository;
+
+import com.fitness.domain.payment.dto.OutstandingMemberResponse;
+import com.fitness.domain.payment.entity.OutstandingLedgerEntry;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+/**
+ * 미수금 원장 / 미수금 보유 회원 조회 리포지토리 (기록은 OutstandingLedgerJdbcRepository)
+ */
+@Repository
+public interface OutstandingLedgerRepository extends JpaRepository<OutstandingLedgerEntry, Long> {
+
+    /**
+     * 회원 미수금 원장 (최근 기록순)
+     */
+    Page<OutstandingLedgerEntry> findByBusinessIdAndMemberIdOrderByOutstandingLedgerIdDesc(
+            Long businessId, Long memberId, Pageable pageable);
+
+    /**
+     * 미수금 보유 회원 목록 조회 (미수금 많은 순, (사업장, 총 미수금) 인덱스 범위 조회)
+     */
+    @Query(value = "SELECT new com.fitness.domain.payment.dto.OutstandingMemberResponse(" +
+                   "bm.businessMemberId, m.userId, m.name, m.phoneNumber, bm.totalOutstandingAmount) " +
+                   "FROM BusinessMember bm " +
+                   "JOIN bm.member m " +
+                   "WHERE bm.business.businessId = :businessId " +
+                   "AND bm.totalOutstandingAmount > 0 " +
+                   "AND bm.deletedAt IS NULL " +
+                   "ORDER BY bm.totalOutstandingAmount DESC, bm.businessMemberId DESC",
+           countQuery = "SELECT COUNT(bm) FROM BusinessMember bm " +
+                        "WHERE bm.business.businessId = :businessId " +
+                        "AND bm.totalOutstandingAmount > 0 " +
+                        "AND bm.deletedAt IS NULL")
+    Page<OutstandingMemberResponse> findMembersWithOutstanding(@Param("businessId") Long businessId, Pageable pageable);
+}
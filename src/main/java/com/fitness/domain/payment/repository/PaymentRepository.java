@@ -0,0 +1,27 @@
+package com.fitness.domain.payment.repository;
+
+import com.fitness.domain.payment.entity.Payment;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+/**
+ * 결제 리포지토리
+ */
+@Repository
+public interface PaymentRepository extends JpaRepository<Payment, Long> {
+
+    /**
+     * 해당 결제 이전에 같은 사업장에서 완료된 회원 결제가 있는지 확인 (신규/재등록 구분)
+     */
+    @Query("SELECT COUNT(p) > 0 FROM Payment p " +
+           "WHERE p.business.businessId = :businessId " +
+           "AND p.member.userId = :memberId " +
+           "AND p.status = com.fitness.domain.payment.entity.PaymentStatus.COMPLETED " +
+           "AND p.deletedAt IS NULL " +
+           "AND p.paymentId < :paymentId")
+    boolean existsCompletedBefore(@Param("businessId") Long businessId,
+                                  @Param("memberId") Long memberId,
+                                  @Param("paymentId") Long paymentId);
+}
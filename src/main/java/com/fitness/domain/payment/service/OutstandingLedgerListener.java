@@ -0,0 +1,88 @@
+package com.fitness.domain.payment.service;
+
+import com.fitness.domain.payment.entity.OutstandingLedgerType;
+import com.fitness.domain.payment.entity.OutstandingPayment;
+import com.fitness.domain.payment.entity.Payment;
+import com.fitness.domain.payment.entity.PaymentStatus;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostUpdate;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+
+/**
+ * 결제 / 미수금 납부를 미수금 원장에 기록하는 JPA 엔티티 리스너
+ * - 완료된 결제의 최초 미수금: 발생 (+)
+ * - 미수금 납부: 납부액만큼 차감 (-)
+ * - 완료된 결제 취소: 남은 미수금 소멸 (-)
+ * 다른 리스너와 달리 커밋 후가 아니라 flush 시점에 같은 트랜잭션에서 기록 (결제와 원자적으로 반영)
+ */
+@Component
+public class OutstandingLedgerListener {
+
+    private final ObjectProvider<OutstandingLedgerService> ledgerServiceProvider;
+
+    public OutstandingLedgerListener(ObjectProvider<OutstandingLedgerService> ledgerServiceProvider) {
+        this.ledgerServiceProvider = ledgerServiceProvider;
+    }
+
+    @PostPersist
+    public void onPersist(Object entity) {
+        OutstandingLedgerService ledgerService = ledgerServiceProvider.getIfAvailable();
+        if (ledgerService == null) {
+            return;
+        }
+
+        if (entity instanceof Payment payment) {
+            if (payment.getStatus() == PaymentStatus.COMPLETED && !payment.isDeleted()) {
+                charge(ledgerService, payment);
+            }
+        } else if (entity instanceof OutstandingPayment outstandingPayment) {
+            long paidAmount = amountOf(outstandingPayment.getPaidAmount());
+            if (paidAmount == 0 || outstandingPayment.isDeleted()) {
+                return;
+            }
+            ledgerService.append(outstandingPayment.getBusiness().getBusinessId(),
+                    outstandingPayment.getMember().getUserId(),
+                    outstandingPayment.getOriginalPayment() != null
+                            ? outstandingPayment.getOriginalPayment().getPaymentId() : null,
+                    outstandingPayment.getOutstandingPaymentId(),
+                    OutstandingLedgerType.REPAYMENT, -paidAmount);
+        }
+    }
+
+    @PostUpdate
+    public void onUpdate(Object entity) {
+        OutstandingLedgerService ledgerService = ledgerServiceProvider.getIfAvailable();
+        if (ledgerService == null || !(entity instanceof Payment payment)) {
+            return;
+        }
+
+        PaymentStatus before = payment.getPersistedStatus();
+        PaymentStatus after = payment.getStatus();
+        if (before != PaymentStatus.COMPLETED && after == PaymentStatus.COMPLETED) {
+            charge(ledgerService, payment);
+        } else if (before == PaymentStatus.COMPLETED && after == PaymentStatus.CANCELLED) {
+            long remaining = amountOf(payment.getOutstandingAmount());
+            if (remaining != 0) {
+                ledgerService.append(payment.getBusiness().getBusinessId(), payment.getMember().getUserId(),
+                        payment.getPaymentId(), null, OutstandingLedgerType.WRITE_OFF, -remaining);
+            }
+        }
+    }
+
+    /**
+     * 최초 미수금 발생 기록 (최초 미수금이 없으면 현재 미수금 기준)
+     */
+    private static void charge(OutstandingLedgerService ledgerService, Payment payment) {
+        long amount = amountOf(payment.getInitialOutstandingAmount() != null
+                ? payment.getInitialOutstandingAmount() : payment.getOutstandingAmount());
+        if (amount != 0) {
+            ledgerService.append(payment.getBusiness().getBusinessId(), payment.getMember().getUserId(),
+                    payment.getPaymentId(), null, OutstandingLedgerType.CHARGE, amount);
+        }
+    }
+
+    private static long amountOf(Integer amount) {
+        return amount != null ? amount : 0L;
+    }
+}
@@ -0,0 +1,148 @@
+package com.fitness.domain.payment.service;
+
+import com.fitness.common.exception.BusinessException;
+import com.fitness.common.exception.ErrorCode;
+import com.fitness.domain.business.repository.BusinessRepository;
+import com.fitness.domain.payment.dto.OutstandingLedgerResponse;
+import com.fitness.domain.payment.dto.OutstandingMemberResponse;
+import com.fitness.domain.payment.entity.OutstandingLedgerType;
+import com.fitness.domain.payment.repository.OutstandingLedgerJdbcRepository;
+import com.fitness.domain.payment.repository.OutstandingLedgerRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 미수금 원장 서비스
+ * - 결제/미수금 납부와 같은 트랜잭션에서 원장 기록 + 회원 총 미수금 갱신 (결제가 롤백되면 함께 롤백)
+ * - 미수금 보유 회원 목록은 (사업장, 총 미수금) 인덱스 범위 조회
+ * - 결제 원본의 남은 미수금과 비교하여 차이를 보정 기록으로 맞춤 (최초 적재 / 검증, 매일 새벽 및 OWNER 요청 시)
+ */
+@Slf4j
+@Service
+public class OutstandingLedgerService {
+
+    private final OutstandingLedgerJdbcRepository ledgerJdbcRepository;
+    private final OutstandingLedgerRepository ledgerRepository;
+    private final BusinessRepository businessRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    public OutstandingLedgerService(OutstandingLedgerJdbcRepository ledgerJdbcRepository,
+                                    OutstandingLedgerRepository ledgerRepository,
+                                    BusinessRepository businessRepository,
+                                    PlatformTransactionManager transactionManager) {
+        this.ledgerJdbcRepository = ledgerJdbcRepository;
+        this.ledgerRepository = ledgerRepository;
+        this.businessRepository = businessRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    /**
+     * 원장 기록 (진행 중인 트랜잭션 필수)
+     * @param amount 변동액 (발생 +, 납부/소멸 -)
+     * @return 기록 후 잔액
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public long append(Long businessId, Long memberId, Long paymentId, Long outstandingPaymentId,
+                       OutstandingLedgerType type, long amount) {
+        if (ledgerJdbcRepository.addToBalance(businessId, memberId, amount) == 0) {
+            log.warn("미수금 잔액 갱신 대상 없음 - 사업장: {}, 회원: {}", businessId, memberId);
+        }
+        long balance = ledgerJdbcRepository.findBalance(businessId, memberId);
+        ledgerJdbcRepository.insertEntry(businessId, memberId, paymentId, outstandingPaymentId, type, amount, balance);
+        return balance;
+    }
+
+    /**
+     * 미수금 보유 회원 목록 (미수금 많은 순)
+     */
+    @Transactional(readOnly = true)
+    public Page<OutstandingMemberResponse> getMembersWithOutstanding(Long ownerId, Long businessId, Pageable pageable) {
+        validateOwner(ownerId, businessId);
+        return ledgerRepository.findMembersWithOutstanding(businessId, pageable);
+    }
+
+    /**
+     * 회원 미수금 원장 (최근 기록순)
+     */
+    @Transactional(readOnly = true)
+    public Page<OutstandingLedgerResponse> getLedger(Long ownerId, Long businessId, Long memberId, Pageable pageable) {
+        validateOwner(ownerId, businessId);
+        return ledgerRepository.findByBusinessIdAndMemberIdOrderByOutstandingLedgerIdDesc(businessId, memberId, pageable)
+                .map(OutstandingLedgerResponse::from);
+    }
+
+    /**
+     * 모든 사업장 미수금 잔액 보정 (매일 새벽, 사업장별 별도 트랜잭션)
+     * 원장 도입 전부터 있던 미수금도 첫 실행에서 보정 기록으로 적재됨
+     * @return 보정한 회원 수
+     */
+    @Scheduled(cron = "${business.outstanding.reconcile-cron:0 20 3 * * *}")
+    public int reconcileAll() {
+        int adjusted = 0;
+        int failed = 0;
+        for (Long businessId : ledgerJdbcRepository.findBusinessIdsToReconcile()) {
+            try {
+                Integer count = transactionTemplate.execute(status -> reconcile(businessId));
+                adjusted += count != null ? count : 0;
+            } catch (RuntimeException e) {
+                failed++;
+                log.error("미수금 잔액 보정 실패 - 사업장: {}, 원인: {}", businessId, e.getMessage());
+            }
+        }
+        log.info("미수금 잔액 보정 완료 - 보정 회원: {}명, 실패 사업장: {}개", adjusted, failed);
+        return adjusted;
+    }
+
+    /**
+     * 사업장 미수금 잔액 보정 (OWNER 요청)
+     * @return 보정한 회원 수
+     */
+    @Transactional
+    public int reconcile(Long ownerId, Long businessId) {
+        validateOwner(ownerId, businessId);
+        return reconcile(businessId);
+    }
+
+    /**
+     * 결제 원본의 남은 미수금과 회원 잔액을 비교하여 차이만큼 보정 기록
+     * @param businessId 사업장 ID
+     * @return 보정한 회원 수
+     */
+    @Transactional
+    public int reconcile(Long businessId) {
+        Map<Long, Long> expected = ledgerJdbcRepository.sumOutstandingByMember(businessId);
+        Map<Long, Long> actual = new HashMap<>(ledgerJdbcRepository.findNonZeroBalances(businessId));
+        for (Long memberId : expected.keySet()) {
+            actual.putIfAbsent(memberId, 0L);
+        }
+
+        int adjusted = 0;
+        for (Map.Entry<Long, Long> balance : actual.entrySet()) {
+            long difference = expected.getOrDefault(balance.getKey(), 0L) - balance.getValue();
+            if (difference != 0) {
+                append(businessId, balance.getKey(), null, null, OutstandingLedgerType.ADJUSTMENT, difference);
+                adjusted++;
+            }
+        }
+        if (adjusted > 0) {
+            log.warn("미수금 잔액 보정 - 사업장: {}, 회원: {}명", businessId, adjusted);
+        }
+        return adjusted;
+    }
+
+    private void validateOwner(Long ownerId, Long businessId) {
+        if (!businessRepository.existsByBusinessIdAndOwner_UserId(businessId, ownerId)) {
+            throw new BusinessException(ErrorCode.BUSINESS_NOT_FOUND);
+        }
+    }
+}
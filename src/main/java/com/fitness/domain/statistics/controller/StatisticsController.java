@@ -0,0 +1,49 @@
+package com.fitness.domain.statistics.controller;
+
+import com.fitness.common.security.CustomUserPrincipal;
+import com.fitness.common.util.ApiResponse;
+import com.fitness.domain.statistics.dto.BusinessDailyStatsResponse;
+import com.fitness.domain.statistics.service.BusinessDailyStatsService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * 사업장 통계 API 컨트롤러 (OWNER 전용)
+ * 대시보드 통계는 일별 집계 테이블에서 조회
+ */
+@RestController
+@RequestMapping("/api/owner/businesses/{businessId}/statistics")
+@RequiredArgsConstructor
+@Tag(name = "통계 API", description = "사업장 대시보드 통계 API")
+@SecurityRequirement(name = "Bearer Authentication")
+public class StatisticsController {
+
+    private final BusinessDailyStatsService dailyStatsService;
+
+    /**
+     * 일별 매출/방문 통계
+     */
+    @GetMapping("/daily")
+    @Operation(summary = "일별 통계", description = "기간 내 일별 매출(결제, 일일권, 상품 유형별)과 출석/방문자 수를 조회합니다.")
+    public ResponseEntity<ApiResponse<List<BusinessDailyStatsResponse>>> getDailyStats(
+            @AuthenticationPrincipal CustomUserPrincipal principal,
+            @PathVariable Long businessId,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        return ResponseEntity.ok(ApiResponse.success(
+                dailyStatsService.getDailyStats(principal.getUserId(), businessId, from, to)));
+    }
+}
@@ -0,0 +1,70 @@
+package com.fitness.domain.statistics.dto;
+
+import com.fitness.domain.statistics.entity.BusinessDailyStats;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDate;
+
+/**
+ * 사업장 일별 통계 응답 DTO
+ */
+@Getter
+@Builder
+public class BusinessDailyStatsResponse {
+
+    private final LocalDate date;
+
+    /**
+     * 결제 매출 (완료 건, 실결제 금액 기준)
+     */
+    private final long paymentRevenue;
+    private final long paymentCount;
+
+    /**
+     * 상품 유형별 결제 매출
+     */
+    private final long membershipRevenue;
+    private final long personalTrainingRevenue;
+    private final long lockerRevenue;
+    private final long othersRevenue;
+
+    private final long daypassRevenue;
+    private final long daypassCount;
+
+    /**
+     * 총 매출 (결제 + 일일권)
+     */
+    private final long totalRevenue;
+
+    private final long attendanceCount;
+
+    /**
+     * 방문자 수 (회원 중복 제거)
+     */
+    private final long visitorCount;
+
+    public static BusinessDailyStatsResponse from(BusinessDailyStats stats) {
+        return BusinessDailyStatsResponse.builder()
+                .date(stats.getStatDate())
+                .paymentRevenue(stats.getPaymentRevenue())
+                .paymentCount(stats.getPaymentCount())
+                .membershipRevenue(stats.getMembershipRevenue())
+                .personalTrainingRevenue(stats.getPersonalTrainingRevenue())
+                .lockerRevenue(stats.getLockerRevenue())
+                .othersRevenue(stats.getOthersRevenue())
+                .daypassRevenue(stats.getDaypassRevenue())
+                .daypassCount(stats.getDaypassCount())
+                .totalRevenue(stats.getPaymentRevenue() + stats.getDaypassRevenue())
+                .attendanceCount(stats.getAttendanceCount())
+                .visitorCount(stats.getVisitorCount())
+                .build();
+    }
+
+    /**
+     * 기록이 없는 날짜
+     */
+    public static BusinessDailyStatsResponse empty(LocalDate date) {
+        return BusinessDailyStatsResponse.builder().date(date).build();
+    }
+}
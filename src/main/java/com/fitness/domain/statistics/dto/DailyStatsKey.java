@@ -0,0 +1,21 @@
+package com.fitness.domain.statistics.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.ToString;
+
+import java.time.LocalDate;
+
+/**
+ * 일별 통계 키 (사업장 + 날짜)
+ */
+@Getter
+@AllArgsConstructor
+@EqualsAndHashCode
+@ToString
+public class DailyStatsKey {
+
+    private final Long businessId;
+    private final LocalDate statDate;
+}
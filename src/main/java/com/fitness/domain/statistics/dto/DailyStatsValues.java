@@ -0,0 +1,101 @@
+package com.fitness.domain.statistics.dto;
+
+import com.fitness.domain.product.entity.ProductType;
+import lombok.Getter;
+
+/**
+ * 일별 통계 집계 값 (증분 또는 하루 전체 재집계 결과)
+ * 방문자 수(중복 제거)는 증분으로 계산할 수 없으므로 포함하지 않음
+ */
+@Getter
+public class DailyStatsValues {
+
+    private long paymentRevenue;
+    private long paymentCount;
+    private long membershipRevenue;
+    private long personalTrainingRevenue;
+    private long lockerRevenue;
+    private long othersRevenue;
+    private long daypassRevenue;
+    private long daypassCount;
+    private long attendanceCount;
+
+    /**
+     * 완료된 결제 반영
+     */
+    public DailyStatsValues addPayment(ProductType productType, long amount) {
+        paymentRevenue += amount;
+        paymentCount++;
+        switch (productType != null ? productType : ProductType.OTHERS) {
+            case MEMBERSHIP -> membershipRevenue += amount;
+            case PERSONAL_TRAINING -> personalTrainingRevenue += amount;
+            case LOCKER -> lockerRevenue += amount;
+            case OTHERS -> othersRevenue += amount;
+        }
+        return this;
+    }
+
+    /**
+     * 일일권 판매 반영
+     */
+    public DailyStatsValues addDaypass(long amount) {
+        daypassRevenue += amount;
+        daypassCount++;
+        return this;
+    }
+
+    /**
+     * 출석 반영
+     */
+    public DailyStatsValues addAttendance() {
+        attendanceCount++;
+        return this;
+    }
+
+    /**
+     * 다른 집계 값 합산
+     */
+    public DailyStatsValues add(DailyStatsValues other) {
+        paymentRevenue += other.paymentRevenue;
+        paymentCount += other.paymentCount;
+        membershipRevenue += other.membershipRevenue;
+        personalTrainingRevenue += other.personalTrainingRevenue;
+        lockerRevenue += other.lockerRevenue;
+        othersRevenue += other.othersRevenue;
+        daypassRevenue += other.daypassRevenue;
+        daypassCount += other.daypassCount;
+        attendanceCount += other.attendanceCount;
+        return this;
+    }
+
+    /**
+     * 결제 재집계 결과 설정
+     */
+    public DailyStatsValues setPayments(long revenue, long count, long membership, long personalTraining,
+                                        long locker, long others) {
+        this.paymentRevenue = revenue;
+        this.paymentCount = count;
+        this.membershipRevenue = membership;
+        this.personalTrainingRevenue = personalTraining;
+        this.lockerRevenue = locker;
+        this.othersRevenue = others;
+        return this;
+    }
+
+    /**
+     * 일일권 재집계 결과 설정
+     */
+    public DailyStatsValues setDaypasses(long revenue, long count) {
+        this.daypassRevenue = revenue;
+        this.daypassCount = count;
+        return this;
+    }
+
+    /**
+     * 출석 재집계 결과 설정
+     */
+    public DailyStatsValues setAttendances(long count) {
+        this.attendanceCount = count;
+        return this;
+    }
+}
@@ -0,0 +1,108 @@
+package com.fitness.domain.statistics.entity;
+
+import com.fitness.common.BaseEntity;
+import com.fitness.domain.statistics.dto.DailyStatsValues;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+/**
+ * 사업장 일별 통계(BUSINESS_DAILY_STATS) 엔티티
+ * 결제/일일권/출석 원본 테이블 대신 대시보드가 조회하는 일 단위 집계 테이블
+ * - 원본 저장 시 증분 반영, 수정/삭제 시 해당 일자 재집계
+ * - 매일 새벽 최근 일자를 원본 기준으로 재집계하여 보정
+ */
+@Entity
+@Table(name = "business_daily_stats", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_business_daily_stats_business_date", columnNames = {"business_id", "stat_date"})
+})
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class BusinessDailyStats extends BaseEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "business_daily_stats_id")
+    private Long businessDailyStatsId;
+
+    @Column(name = "business_id", nullable = false)
+    private Long businessId;
+
+    @Column(name = "stat_date", nullable = false)
+    private LocalDate statDate;
+
+    @Column(name = "payment_revenue", nullable = false)
+    private long paymentRevenue;
+
+    @Column(name = "payment_count", nullable = false)
+    private long paymentCount;
+
+    @Column(name = "membership_revenue", nullable = false)
+    private long membershipRevenue;
+
+    @Column(name = "personal_training_revenue", nullable = false)
+    private long personalTrainingRevenue;
+
+    @Column(name = "locker_revenue", nullable = false)
+    private long lockerRevenue;
+
+    @Column(name = "others_revenue", nullable = false)
+    private long othersRevenue;
+
+    @Column(name = "daypass_revenue", nullable = false)
+    private long daypassRevenue;
+
+    @Column(name = "daypass_count", nullable = false)
+    private long daypassCount;
+
+    @Column(name = "attendance_count", nullable = false)
+    private long attendanceCount;
+
+    @Column(name = "visitor_count", nullable = false)
+    private long visitorCount;
+
+    public static BusinessDailyStats create(Long businessId, LocalDate statDate) {
+        BusinessDailyStats stats = new BusinessDailyStats();
+        stats.businessId = businessId;
+        stats.statDate = statDate;
+        return stats;
+    }
+
+    /**
+     * 증분 반영
+     */
+    public void add(DailyStatsValues delta) {
+        this.paymentRevenue += delta.getPaymentRevenue();
+        this.paymentCount += delta.getPaymentCount();
+        this.membershipRevenue += delta.getMembershipRevenue();
+        this.personalTrainingRevenue += delta.getPersonalTrainingRevenue();
+        this.lockerRevenue += delta.getLockerRevenue();
+        this.othersRevenue += delta.getOthersRevenue();
+        this.daypassRevenue += delta.getDaypassRevenue();
+        this.daypassCount += delta.getDaypassCount();
+        this.attendanceCount += delta.getAttendanceCount();
+    }
+
+    /**
+     * 재집계 결과로 덮어쓰기
+     */
+    public void overwrite(DailyStatsValues values, long visitorCount) {
+        this.paymentRevenue = values.getPaymentRevenue();
+        this.paymentCount = values.getPaymentCount();
+        this.membershipRevenue = values.getMembershipRevenue();
+        this.personalTrainingRevenue = values.getPersonalTrainingRevenue();
+        this.lockerRevenue = values.getLockerRevenue();
+        this.othersRevenue = values.getOthersRevenue();
+        this.daypassRevenue = values.getDaypassRevenue();
+        this.daypassCount = values.getDaypassCount();
+        this.attendanceCount = values.getAttendanceCount();
+        this.visitorCount = visitorCount;
+    }
+
+    public void updateVisitorCount(long visitorCount) {
+        this.visitorCount = visitorCount;
+    }
+}
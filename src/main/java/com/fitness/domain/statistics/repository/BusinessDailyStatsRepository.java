@@ -0,0 +1,43 @@
+package com.fitness.domain.statistics.repository;
+
+import com.fitness.domain.statistics.entity.BusinessDailyStats;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 사업장 일별 통계 리포지토리
+ */
+@Repository
+public interface BusinessDailyStatsRepository extends JpaRepository<BusinessDailyStats, Long>, BusinessDailyStatsRepositoryCustom {
+
+    /**
+     * 기간별 일별 통계 조회 (대시보드용)
+     */
+    List<BusinessDailyStats> findByBusinessIdAndStatDateBetweenOrderByStatDateAsc(Long businessId,
+                                                                                  LocalDate from,
+                                                                                  LocalDate to);
+
+    /**
+     * 갱신용 조회 (증분 반영과 재집계가 겹치지 않도록 행 잠금)
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT s FROM BusinessDailyStats s " +
+           "WHERE s.businessId = :businessId " +
+           "AND s.statDate = :statDate")
+    Optional<BusinessDailyStats> findForUpdate(@Param("businessId") Long businessId,
+                                               @Param("statDate") LocalDate statDate);
+
+    /**
+     * 특정 일자에 통계가 기록된 사업장 ID 목록
+     */
+    @Query("SELECT s.businessId FROM BusinessDailyStats s WHERE s.statDate = :statDate")
+    List<Long> findBusinessIdsByStatDate(@Param("statDate") LocalDate statDate);
+}
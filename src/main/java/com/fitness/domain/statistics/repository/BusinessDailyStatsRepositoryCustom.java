@@ -0,0 +1,28 @@
+package com.fitness.domain.statistics.repository;
+
+import com.fitness.domain.statistics.dto.DailyStatsValues;
+
+import java.time.LocalDate;
+import java.util.Set;
+
+/**
+ * 일별 통계 재집계용 커스텀 리포지토리 인터페이스
+ * 원본 테이블(결제, 일일권, 출석)을 (사업장, 일시) 범위 조건으로 집계
+ */
+public interface BusinessDailyStatsRepositoryCustom {
+
+    /**
+     * 사업장의 하루 매출/출석 재집계
+     */
+    DailyStatsValues aggregate(Long businessId, LocalDate date);
+
+    /**
+     * 사업장의 하루 방문자 수 (회원 중복 제거)
+     */
+    long countVisitors(Long businessId, LocalDate date);
+
+    /**
+     * 해당 일자에 결제/일일권/출석 기록이 있는 사업장 ID 목록
+     */
+    Set<Long> findActiveBusinessIds(LocalDate date);
+}
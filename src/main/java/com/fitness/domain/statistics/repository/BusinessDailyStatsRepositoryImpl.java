@@ -0,0 +1,129 @@
+package com.fitness.domain.statistics.repository;
+
+import com.fitness.domain.payment.entity.PaymentStatus;
+import com.fitness.domain.product.entity.ProductType;
+import com.fitness.domain.statistics.dto.DailyStatsValues;
+import com.querydsl.core.Tuple;
+import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.core.types.dsl.CaseBuilder;
+import com.querydsl.core.types.dsl.NumberExpression;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.Set;
+
+import static com.fitness.domain.attendance.entity.QAttendance.attendance;
+import static com.fitness.domain.daypass.entity.QDaypass.daypass;
+import static com.fitness.domain.payment.entity.QPayment.payment;
+
+/**
+ * 일별 통계 재집계 리포지토리 구현체
+ * DATE(컬럼) = 날짜 대신 [당일 0시, 다음날 0시) 범위 조건을 사용하여 (사업장, 일시) 인덱스를 사용
+ */
+@Repository
+@RequiredArgsConstructor
+public class BusinessDailyStatsRepositoryImpl implements BusinessDailyStatsRepositoryCustom {
+
+    private final JPAQueryFactory queryFactory;
+
+    @Override
+    public DailyStatsValues aggregate(Long businessId, LocalDate date) {
+        LocalDateTime start = date.atStartOfDay();
+        LocalDateTime end = date.plusDays(1).atStartOfDay();
+
+        NumberExpression<Long> revenue = payment.actualPrice.longValue().sum();
+        NumberExpression<Long> membership = revenueOf(ProductType.MEMBERSHIP);
+        NumberExpression<Long> personalTraining = revenueOf(ProductType.PERSONAL_TRAINING);
+        NumberExpression<Long> locker = revenueOf(ProductType.LOCKER);
+        NumberExpression<Long> others = revenueOf(ProductType.OTHERS);
+        Tuple payments = queryFactory
+                .select(revenue, payment.count(), membership, personalTraining, locker, others)
+                .from(payment)
+                .where(payment.business.businessId.eq(businessId),
+                        payment.paymentDate.goe(start),
+                        payment.paymentDate.lt(end),
+                        payment.status.eq(PaymentStatus.COMPLETED),
+                        payment.deletedAt.isNull())
+                .fetchOne();
+
+        NumberExpression<Long> daypassRevenue = daypass.amount.longValue().sum();
+        Tuple daypasses = queryFactory
+                .select(daypassRevenue, daypass.count())
+                .from(daypass)
+                .where(daypass.business.businessId.eq(businessId),
+                        daypass.visitDate.goe(start),
+                        daypass.visitDate.lt(end),
+                        daypass.deletedAt.isNull())
+                .fetchOne();
+
+        Long attendances = queryFactory
+                .select(attendance.count())
+                .from(attendance)
+                .where(attendanceOn(businessId, start, end))
+                .fetchOne();
+
+        return new DailyStatsValues()
+                .setPayments(valueOf(payments, revenue), valueOf(payments, payment.count()),
+                        valueOf(payments, membership), valueOf(payments, personalTraining),
+                        valueOf(payments, locker), valueOf(payments, others))
+                .setDaypasses(valueOf(daypasses, daypassRevenue), valueOf(daypasses, daypass.count()))
+                .setAttendances(attendances != null ? attendances : 0L);
+    }
+
+    @Override
+    public long countVisitors(Long businessId, LocalDate date) {
+        Long visitors = queryFactory
+                .select(attendance.member.userId.countDistinct())
+                .from(attendance)
+                .where(attendanceOn(businessId, date.atStartOfDay(), date.plusDays(1).atStartOfDay()))
+                .fetchOne();
+        return visitors != null ? visitors : 0L;
+    }
+
+    @Override
+    public Set<Long> findActiveBusinessIds(LocalDate date) {
+        LocalDateTime start = date.atStartOfDay();
+        LocalDateTime end = date.plusDays(1).atStartOfDay();
+
+        Set<Long> businessIds = new HashSet<>(queryFactory
+                .select(payment.business.businessId).distinct()
+                .from(payment)
+                .where(payment.paymentDate.goe(start), payment.paymentDate.lt(end))
+                .fetch());
+        businessIds.addAll(queryFactory
+                .select(daypass.business.businessId).distinct()
+                .from(daypass)
+                .where(daypass.visitDate.goe(start), daypass.visitDate.lt(end), daypass.business.isNotNull())
+                .fetch());
+        businessIds.addAll(queryFactory
+                .select(attendance.business.businessId).distinct()
+                .from(attendance)
+                .where(attendance.attendanceDate.goe(start), attendance.attendanceDate.lt(end))
+                .fetch());
+        return businessIds;
+    }
+
+    private static NumberExpression<Long> revenueOf(ProductType productType) {
+        return new CaseBuilder()
+                .when(payment.product.productType.eq(productType)).then(payment.actualPrice.longValue())
+                .otherwise(0L)
+                .sum();
+    }
+
+    private static BooleanExpression attendanceOn(Long businessId, LocalDateTime start, LocalDateTime end) {
+        return attendance.business.businessId.eq(businessId)
+                .and(attendance.attendanceDate.goe(start))
+                .and(attendance.attendanceDate.lt(end))
+                .and(attendance.deletedAt.isNull());
+    }
+
+    private static long valueOf(Tuple row, NumberExpression<Long> expression) {
+        // 대상 행이 없으면 SUM 결과는 NULL
+        Long value = row != null ? row.get(expression) : null;
+        return value != null ? value : 0L;
+    }
+}
@@ -0,0 +1,149 @@
+package com.fitness.domain.statistics.service;
+
+import com.fitness.common.config.BusinessProperties;
+import com.fitness.common.exception.BusinessException;
+import com.fitness.common.exception.ErrorCode;
+import com.fitness.domain.business.repository.BusinessRepository;
+import com.fitness.domain.statistics.dto.BusinessDailyStatsResponse;
+import com.fitness.domain.statistics.dto.DailyStatsKey;
+import com.fitness.domain.statistics.dto.DailyStatsValues;
+import com.fitness.domain.statistics.entity.BusinessDailyStats;
+import com.fitness.domain.statistics.repository.BusinessDailyStatsRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 사업장 일별 통계 서비스
+ * - 대시보드는 business_daily_stats의 일 단위 행만 조회 (조회 기간의 일수만큼)
+ * - 증분 반영/재집계는 사업장+날짜 단위로 각각 별도 트랜잭션에서 수행
+ * - 매일 새벽 최근 일자를 원본 기준으로 재집계하여 누락/중복 반영을 보정
+ */
+@Slf4j
+@Service
+public class BusinessDailyStatsService {
+
+    private final BusinessDailyStatsRepository dailyStatsRepository;
+    private final BusinessRepository businessRepository;
+    private final BusinessProperties.DailyStats properties;
+    private final TransactionTemplate transactionTemplate;
+
+    public BusinessDailyStatsService(BusinessDailyStatsRepository dailyStatsRepository,
+                                     BusinessRepository businessRepository,
+                                     BusinessProperties businessProperties,
+                                     PlatformTransactionManager transactionManager) {
+        this.dailyStatsRepository = dailyStatsRepository;
+        this.businessRepository = businessRepository;
+        this.properties = businessProperties.getDailyStats();
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    /**
+     * 기간별 일별 통계 조회 (기록이 없는 날짜는 0으로 채움)
+     * @param ownerId 요청한 사장님 ID
+     * @param businessId 사업장 ID
+     * @param from 시작일
+     * @param to 종료일 (포함)
+     * @return 일별 통계 목록
+     */
+    @Transactional(readOnly = true)
+    public List<BusinessDailyStatsResponse> getDailyStats(Long ownerId, Long businessId, LocalDate from, LocalDate to) {
+        if (from.isAfter(to) || ChronoUnit.DAYS.between(from, to) >= properties.getMaxQueryDays()) {
+            throw new BusinessException(ErrorCode.INVALID_INPUT);
+        }
+        if (!businessRepository.existsByBusinessIdAndOwner_UserId(businessId, ownerId)) {
+            throw new BusinessException(ErrorCode.BUSINESS_NOT_FOUND);
+        }
+
+        Map<LocalDate, BusinessDailyStats> rows = dailyStatsRepository
+                .findByBusinessIdAndStatDateBetweenOrderByStatDateAsc(businessId, from, to).stream()
+                .collect(Collectors.toMap(BusinessDailyStats::getStatDate, Function.identity()));
+
+        List<BusinessDailyStatsResponse> responses = new ArrayList<>();
+        for (LocalDate date = from; !date.isAfter(to); date = date.plusDays(1)) {
+            BusinessDailyStats stats = rows.get(date);
+            responses.add(stats != null ? BusinessDailyStatsResponse.from(stats) : BusinessDailyStatsResponse.empty(date));
+        }
+        return responses;
+    }
+
+    /**
+     * 증분 반영 (행이 없으면 생성)
+     * @param key 사업장 + 날짜
+     * @param delta 증분
+     * @param recountVisitors 방문자 수 재계산 여부 (출석이 추가된 경우)
+     */
+    public void applyDelta(DailyStatsKey key, DailyStatsValues delta, boolean recountVisitors) {
+        transactionTemplate.executeWithoutResult(status -> {
+            BusinessDailyStats stats = findOrCreate(key);
+            stats.add(delta);
+            if (recountVisitors) {
+                stats.updateVisitorCount(dailyStatsRepository.countVisitors(key.getBusinessId(), key.getStatDate()));
+            }
+        });
+    }
+
+    /**
+     * 원본 테이블 기준 하루 전체 재집계
+     * @param key 사업장 + 날짜
+     */
+    public void recompute(DailyStatsKey key) {
+        transactionTemplate.executeWithoutResult(status -> {
+            DailyStatsValues values = dailyStatsRepository.aggregate(key.getBusinessId(), key.getStatDate());
+            long visitors = dailyStatsRepository.countVisitors(key.getBusinessId(), key.getStatDate());
+            findOrCreate(key).overwrite(values, visitors);
+        });
+    }
+
+    /**
+     * 최근 일자 재집계 보정 (매일 새벽)
+     */
+    @Scheduled(cron = "${business.daily-stats.reconcile-cron:0 30 3 * * *}")
+    public void reconcileRecentDays() {
+        LocalDate today = LocalDate.now();
+        for (int days = properties.getReconcileDays(); days >= 1; days--) {
+            reconcile(today.minusDays(days));
+        }
+    }
+
+    /**
+     * 특정 일자의 모든 사업장 재집계
+     * @param date 대상 일자
+     * @return 재집계한 사업장 수
+     */
+    public int reconcile(LocalDate date) {
+        Set<Long> businessIds = new HashSet<>(dailyStatsRepository.findActiveBusinessIds(date));
+        businessIds.addAll(dailyStatsRepository.findBusinessIdsByStatDate(date));
+
+        int failed = 0;
+        for (Long businessId : businessIds) {
+            try {
+                recompute(new DailyStatsKey(businessId, date));
+            } catch (RuntimeException e) {
+                failed++;
+                log.error("일별 통계 재집계 실패 - 사업장: {}, 일자: {}, 원인: {}", businessId, date, e.getMessage());
+            }
+        }
+        log.info("일별 통계 재집계 완료 - 일자: {}, 사업장: {}개, 실패: {}개", date, businessIds.size(), failed);
+        return businessIds.size() - failed;
+    }
+
+    private BusinessDailyStats findOrCreate(DailyStatsKey key) {
+        return dailyStatsRepository.findForUpdate(key.getBusinessId(), key.getStatDate())
+                .orElseGet(() -> dailyStatsRepository.saveAndFlush(
+                        BusinessDailyStats.create(key.getBusinessId(), key.getStatDate())));
+    }
+}
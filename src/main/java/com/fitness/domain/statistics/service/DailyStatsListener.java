@@ -0,0 +1,98 @@
+package com.fitness.domain.statistics.service;
+
+import com.fitness.domain.attendance.entity.Attendance;
+import com.fitness.domain.daypass.entity.Daypass;
+import com.fitness.domain.payment.entity.Payment;
+import com.fitness.domain.payment.entity.PaymentStatus;
+import com.fitness.domain.product.entity.ProductType;
+import com.fitness.domain.statistics.dto.DailyStatsKey;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import org.hibernate.Hibernate;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+
+import static com.fitness.common.util.TransactionUtils.afterCommit;
+
+/**
+ * 결제 / 일일권 / 출석 엔티티 변경을 일별 통계에 반영하는 JPA 엔티티 리스너
+ * - 저장: 증분 기록 (완료된 결제만 매출로 집계, 상품이 로딩되지 않은 결제는 해당 일자 재집계)
+ * - 수정/삭제: 해당 일자 재집계 (날짜가 바뀐 경우 이전 일자는 새벽 재집계에서 보정)
+ * - 트랜잭션 커밋 이후에 기록하여 롤백된 변경은 반영하지 않음
+ */
+@Component
+public class DailyStatsListener {
+
+    private final ObjectProvider<DailyStatsRecorder> recorderProvider;
+
+    public DailyStatsListener(ObjectProvider<DailyStatsRecorder> recorderProvider) {
+        this.recorderProvider = recorderProvider;
+    }
+
+    @PostPersist
+    public void onPersist(Object entity) {
+        DailyStatsRecorder recorder = recorderProvider.getIfAvailable();
+        if (recorder == null) {
+            return;
+        }
+
+        if (entity instanceof Payment payment) {
+            if (payment.getStatus() != PaymentStatus.COMPLETED || payment.isDeleted()) {
+                return;
+            }
+            DailyStatsKey key = key(payment.getBusiness().getBusinessId(), payment.getPaymentDate());
+            // 플러시 콜백 안에서 지연 로딩하지 않도록 이미 로딩된 상품에서만 유형을 읽고, 아니면 해당 일자 재집계
+            if (!Hibernate.isInitialized(payment.getProduct())) {
+                afterCommit(() -> recorder.markStale(key));
+                return;
+            }
+            ProductType productType = payment.getProduct().getProductType();
+            long amount = amountOf(payment.getActualPrice());
+            afterCommit(() -> recorder.recordPayment(key, productType, amount));
+        } else if (entity instanceof Daypass daypass) {
+            if (daypass.getBusiness() == null) {
+                return;
+            }
+            DailyStatsKey key = key(daypass.getBusiness().getBusinessId(), daypass.getVisitDate());
+            long amount = amountOf(daypass.getAmount());
+            afterCommit(() -> recorder.recordDaypass(key, amount));
+        } else if (entity instanceof Attendance attendance) {
+            DailyStatsKey key = key(attendance.getBusiness().getBusinessId(), attendance.getAttendanceDate());
+            afterCommit(() -> recorder.recordAttendance(key));
+        }
+    }
+
+    @PostUpdate
+    @PostRemove
+    public void onChange(Object entity) {
+        DailyStatsRecorder recorder = recorderProvider.getIfAvailable();
+        if (recorder == null) {
+            return;
+        }
+
+        DailyStatsKey key = null;
+        if (entity instanceof Payment payment) {
+            key = key(payment.getBusiness().getBusinessId(), payment.getPaymentDate());
+        } else if (entity instanceof Daypass daypass && daypass.getBusiness() != null) {
+            key = key(daypass.getBusiness().getBusinessId(), daypass.getVisitDate());
+        } else if (entity instanceof Attendance attendance) {
+            key = key(attendance.getBusiness().getBusinessId(), attendance.getAttendanceDate());
+        }
+
+        if (key != null) {
+            DailyStatsKey staleKey = key;
+            afterCommit(() -> recorder.markStale(staleKey));
+        }
+    }
+
+    private static DailyStatsKey key(Long businessId, LocalDateTime dateTime) {
+        return new DailyStatsKey(businessId, dateTime.toLocalDate());
+    }
+
+    private static long amountOf(Integer amount) {
+        return amount != null ? amount : 0L;
+    }
+}
@@ -0,0 +1,104 @@
+package com.fitness.domain.statistics.service;
+
+import com.fitness.domain.product.entity.ProductType;
+import com.fitness.domain.statistics.dto.DailyStatsKey;
+import com.fitness.domain.statistics.dto.DailyStatsValues;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 일별 통계 변경 기록기 (write-behind)
+ * - 결제/일일권/출석 저장 시 증분을 메모리에 누적하고 주기적으로 사업장+날짜별 1건으로 병합 반영
+ *   (체크인이 몰려도 통계 행 갱신은 반영 주기당 1회)
+ * - 원본 수정/삭제는 증분 계산이 불가능하므로 해당 일자를 재집계 대상으로 등록
+ * - 반영 실패 시 해당 일자를 재집계 대상으로 전환 (원본이 이미 커밋되어 있으므로 재집계로 복구)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class DailyStatsRecorder {
+
+    private final BusinessDailyStatsService dailyStatsService;
+
+    private final Map<DailyStatsKey, DailyStatsValues> deltas = new ConcurrentHashMap<>();
+    private final Set<DailyStatsKey> visitorKeys = ConcurrentHashMap.newKeySet();
+    private final Set<DailyStatsKey> staleKeys = ConcurrentHashMap.newKeySet();
+
+    /**
+     * 완료된 결제 기록
+     */
+    public void recordPayment(DailyStatsKey key, ProductType productType, long amount) {
+        deltas.compute(key, (k, delta) -> (delta != null ? delta : new DailyStatsValues()).addPayment(productType, amount));
+    }
+
+    /**
+     * 일일권 판매 기록
+     */
+    public void recordDaypass(DailyStatsKey key, long amount) {
+        deltas.compute(key, (k, delta) -> (delta != null ? delta : new DailyStatsValues()).addDaypass(amount));
+    }
+
+    /**
+     * 출석 기록 (방문자 수는 반영 시 재계산)
+     */
+    public void recordAttendance(DailyStatsKey key) {
+        deltas.compute(key, (k, delta) -> (delta != null ? delta : new DailyStatsValues()).addAttendance());
+        visitorKeys.add(key);
+    }
+
+    /**
+     * 해당 일자 재집계 대상 등록
+     */
+    public void markStale(DailyStatsKey key) {
+        staleKeys.add(key);
+    }
+
+    /**
+     * 누적된 증분/재집계 대상 반영
+     */
+    @Scheduled(fixedDelayString = "${business.daily-stats.flush-interval:5000}")
+    public void flush() {
+        // 재집계 대상은 누적 증분이 이미 원본에 포함되어 있으므로 증분은 버림
+        for (DailyStatsKey key : List.copyOf(staleKeys)) {
+            staleKeys.remove(key);
+            deltas.remove(key);
+            visitorKeys.remove(key);
+            try {
+                dailyStatsService.recompute(key);
+            } catch (RuntimeException e) {
+                log.error("일별 통계 재집계 실패 - {}, 원인: {}", key, e.getMessage());
+                staleKeys.add(key);
+            }
+        }
+
+        for (DailyStatsKey key : List.copyOf(deltas.keySet())) {
+            DailyStatsValues delta = deltas.remove(key);
+            if (delta == null) {
+                continue;
+            }
+            boolean recountVisitors = visitorKeys.remove(key);
+            try {
+                dailyStatsService.applyDelta(key, delta, recountVisitors);
+            } catch (RuntimeException e) {
+                log.error("일별 통계 증분 반영 실패 - {}, 원인: {}", key, e.getMessage());
+                staleKeys.add(key);
+            }
+        }
+    }
+
+    /**
+     * 종료 시 남은 변경 사항 반영
+     */
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+}
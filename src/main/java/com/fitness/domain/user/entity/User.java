@@ -4,7 +4,9 @@ import com.fitness.common.BaseEntity;
 import com.fitness.common.enums.Gender;
 import com.fitness.common.enums.UserStatus;
 import com.fitness.common.enums.UserType;
+import com.fitness.common.security.PrincipalCacheEvictionListener;
 import com.fitness.domain.auth.entity.Auth;
+import com.fitness.domain.business.service.MemberSearchIndexListener;
 import jakarta.persistence.*;
 import lombok.AccessLevel;
 import lombok.Getter;
@@ -20,6 +22,7 @@ import java.util.List;
  * 사용자 기본 정보를 관리하는 테이블
  */
 @Entity
+@EntityListeners({PrincipalCacheEvictionListener.class, MemberSearchIndexListener.class})
 @Table(name = "user")
 @Getter
 @Setter
@@ -0,0 +1,47 @@
+package com.fitness.domain.workout.controller;
+
+import com.fitness.common.security.CustomUserPrincipal;
+import com.fitness.common.util.ApiResponse;
+import com.fitness.common.util.CursorPage;
+import com.fitness.domain.workout.dto.WorkoutSessionResponse;
+import com.fitness.domain.workout.service.WorkoutHistoryService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * 회원 운동 기록 API 컨트롤러 (OWNER 전용)
+ */
+@RestController
+@RequestMapping("/api/owner/businesses/{businessId}/members/{memberId}/workouts")
+@RequiredArgsConstructor
+@Tag(name = "운동 기록 API", description = "회원 운동 기록 조회 API")
+@SecurityRequirement(name = "Bearer Authentication")
+public class WorkoutHistoryController {
+
+    private final WorkoutHistoryService workoutHistoryService;
+
+    /**
+     * 회원 운동 기록 조회
+     */
+    @GetMapping
+    @Operation(summary = "회원 운동 기록 조회", description = "운동 세션을 최신순으로 종목, 세트, 첨부파일, "
+            + "댓글, 대댓글과 함께 조회합니다. 다음 페이지는 응답의 nextCursor를 cursor로 전달합니다. (size 최대 50)")
+    public ResponseEntity<ApiResponse<CursorPage<WorkoutSessionResponse>>> getHistory(
+            @AuthenticationPrincipal CustomUserPrincipal principal,
+            @PathVariable Long businessId,
+            @PathVariable Long memberId,
+            @RequestParam(required = false) Long cursor,
+            @RequestParam(defaultValue = "10") int size) {
+        return ResponseEntity.ok(ApiResponse.success(
+                workoutHistoryService.getHistory(principal.getUserId(), businessId, memberId, cursor, size)));
+    }
+}
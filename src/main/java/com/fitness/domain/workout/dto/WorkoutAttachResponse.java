@@ -0,0 +1,20 @@
+package com.fitness.domain.workout.dto;
+
+import com.fitness.domain.workout.entity.AttachType;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 운동 기록 첨부파일 응답 DTO
+ */
+@Getter
+@AllArgsConstructor
+public class WorkoutAttachResponse {
+
+    private final Long workoutExerciseId;
+    private final Long exerciseAttachId;
+    private final String attachUrl;
+    private final AttachType attachType;
+    private final Integer attachOrder;
+    private final Integer fileSize;
+}
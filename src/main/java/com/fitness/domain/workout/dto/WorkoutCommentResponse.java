@@ -0,0 +1,33 @@
+package com.fitness.domain.workout.dto;
+
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 운동 기록 댓글 응답 DTO
+ * 대댓글은 댓글 ID로 묶어 조회한 뒤 채움
+ */
+@Getter
+public class WorkoutCommentResponse {
+
+    private final Long workoutCommentId;
+    private final Long workoutSessionId;
+    private final Long writerId;
+    private final String writerName;
+    private final String content;
+    private final LocalDateTime createdAt;
+    private final List<WorkoutReplyResponse> replies = new ArrayList<>();
+
+    public WorkoutCommentResponse(Long workoutCommentId, Long workoutSessionId, Long writerId, String writerName,
+                                  String content, LocalDateTime createdAt) {
+        this.workoutCommentId = workoutCommentId;
+        this.workoutSessionId = workoutSessionId;
+        this.writerId = writerId;
+        this.writerName = writerName;
+        this.content = content;
+        this.createdAt = createdAt;
+    }
+}
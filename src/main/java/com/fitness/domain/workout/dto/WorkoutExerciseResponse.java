@@ -0,0 +1,37 @@
+package com.fitness.domain.workout.dto;
+
+import com.fitness.domain.workout.entity.ExerciseCategory;
+import lombok.Getter;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 운동 기록 종목 응답 DTO
+ * 세트/첨부파일은 종목 ID로 묶어 조회한 뒤 채움
+ */
+@Getter
+public class WorkoutExerciseResponse {
+
+    private final Long workoutExerciseId;
+    private final Long workoutSessionId;
+    private final Long exerciseTypeId;
+    private final String exerciseName; // 운동 종목명 (커스텀 종목명 우선)
+    private final ExerciseCategory exerciseCategory;
+    private final Integer exerciseOrder;
+    private final String memo;
+    private final List<WorkoutSetResponse> sets = new ArrayList<>();
+    private final List<WorkoutAttachResponse> attaches = new ArrayList<>();
+
+    public WorkoutExerciseResponse(Long workoutExerciseId, Long workoutSessionId, Long exerciseTypeId,
+                                   String exerciseTypeName, ExerciseCategory exerciseCategory,
+                                   String customExerciseName, Integer exerciseOrder, String memo) {
+        this.workoutExerciseId = workoutExerciseId;
+        this.workoutSessionId = workoutSessionId;
+        this.exerciseTypeId = exerciseTypeId;
+        this.exerciseName = customExerciseName != null ? customExerciseName : exerciseTypeName;
+        this.exerciseCategory = exerciseCategory;
+        this.exerciseOrder = exerciseOrder;
+        this.memo = memo;
+    }
+}
@@ -0,0 +1,21 @@
+package com.fitness.domain.workout.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 운동 기록 대댓글 응답 DTO
+ */
+@Getter
+@AllArgsConstructor
+public class WorkoutReplyResponse {
+
+    private final Long workoutCommentId;
+    private final Long workoutReplyId;
+    private final Long writerId;
+    private final String writerName;
+    private final String content;
+    private final LocalDateTime createdAt;
+}
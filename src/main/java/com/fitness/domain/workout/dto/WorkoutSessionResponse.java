@@ -0,0 +1,34 @@
+package com.fitness.domain.workout.dto;
+
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 운동 기록 세션 응답 DTO
+ * 세션 컬럼은 JPQL 프로젝션으로 조회하고, 종목/댓글은 세션 ID로 묶어 조회한 뒤 채움
+ */
+@Getter
+public class WorkoutSessionResponse {
+
+    private final Long workoutSessionId;
+    private final Long lessonId;
+    private final String lessonTitle;
+    private final LocalDateTime lessonStartDate;
+    private final String memo;
+    private final LocalDateTime createdAt;
+    private final List<WorkoutExerciseResponse> exercises = new ArrayList<>();
+    private final List<WorkoutCommentResponse> comments = new ArrayList<>();
+
+    public WorkoutSessionResponse(Long workoutSessionId, Long lessonId, String lessonTitle,
+                                  LocalDateTime lessonStartDate, String memo, LocalDateTime createdAt) {
+        this.workoutSessionId = workoutSessionId;
+        this.lessonId = lessonId;
+        this.lessonTitle = lessonTitle;
+        this.lessonStartDate = lessonStartDate;
+        this.memo = memo;
+        this.createdAt = createdAt;
+    }
+}
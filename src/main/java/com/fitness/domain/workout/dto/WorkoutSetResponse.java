@@ -0,0 +1,22 @@
+package com.fitness.domain.workout.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 운동 기록 세트 응답 DTO
+ */
+@Getter
+@AllArgsConstructor
+public class WorkoutSetResponse {
+
+    private final Long workoutExerciseId;
+    private final Long exerciseSetsId;
+    private final Integer setOrder;
+    private final Integer weight;
+    private final Integer reps;
+    private final Integer durationMinute;
+    private final Integer durationSecond;
+    private final Integer restMinute;
+    private final Integer restSecond;
+}
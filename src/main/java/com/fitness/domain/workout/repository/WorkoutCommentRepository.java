@@ -0,0 +1,41 @@
+package com.fitness.domain.workout.repository;
+
+import com.fitness.domain.workout.dto.WorkoutCommentResponse;
+import com.fitness.domain.workout.dto.WorkoutReplyResponse;
+import com.fitness.domain.workout.entity.WorkoutComment;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 운동 기록 댓글 리포지토리
+ */
+@Repository
+public interface WorkoutCommentRepository extends JpaRepository<WorkoutComment, Long> {
+
+    /**
+     * 세션들의 댓글 (작성자 이름 포함, 세션 / 작성 순)
+     * 작성자 행이 없어도 댓글은 조회 (작성자 ID/이름은 null)
+     */
+    @Query("SELECT new com.fitness.domain.workout.dto.WorkoutCommentResponse(" +
+           "c.workoutCommentId, c.workoutSession.workoutSessionId, w.userId, w.name, c.content, c.createdAt) " +
+           "FROM WorkoutComment c LEFT JOIN c.writer w " +
+           "WHERE c.workoutSession.workoutSessionId IN :sessionIds AND c.deletedAt IS NULL " +
+           "ORDER BY c.workoutSession.workoutSessionId, c.createdAt, c.workoutCommentId")
+    List<WorkoutCommentResponse> findComments(@Param("sessionIds") Collection<Long> sessionIds);
+
+    /**
+     * 댓글들의 대댓글 (작성자 이름 포함, 댓글 / 작성 순)
+     * 작성자 행이 없어도 대댓글은 조회 (작성자 ID/이름은 null)
+     */
+    @Query("SELECT new com.fitness.domain.workout.dto.WorkoutReplyResponse(" +
+           "r.workoutComment.workoutCommentId, r.workoutReplyId, w.userId, w.name, r.content, r.createdAt) " +
+           "FROM WorkoutReply r LEFT JOIN r.writer w " +
+           "WHERE r.workoutComment.workoutCommentId IN :commentIds AND r.deletedAt IS NULL " +
+           "ORDER BY r.workoutComment.workoutCommentId, r.createdAt, r.workoutReplyId")
+    List<WorkoutReplyResponse> findReplies(@Param("commentIds") Collection<Long> commentIds);
+}
@@ -0,0 +1,78 @@
+package com.fitness.domain.workout.repository;
+
+import com.fitness.domain.workout.dto.WorkoutAttachResponse;
+import com.fitness.domain.workout.dto.WorkoutExerciseResponse;
+import com.fitness.domain.workout.dto.WorkoutSessionResponse;
+import com.fitness.domain.workout.dto.WorkoutSetResponse;
+import com.fitness.domain.workout.entity.WorkoutSession;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 운동 기록 세션 리포지토리
+ * 기록 조회는 단계별 프로젝션 쿼리로 읽어 서비스에서 조립
+ * (종목 아래 세트/첨부파일 두 컬렉션을 함께 fetch join 하면 MultipleBagFetchException, 행 수도 곱으로 늘어남)
+ */
+@Repository
+public interface WorkoutSessionRepository extends JpaRepository<WorkoutSession, Long> {
+
+    /**
+     * 회원 운동 기록 세션 (최신순, cursorId 이전)
+     * 사업장 레슨의 세션 + 레슨 없이 기록한 세션 중 사업장 등록일 이후 세션만 조회
+     * (레슨 없는 세션은 어느 사업장에도 속하지 않으므로, 여러 사업장에 동시에 등록한 회원이면 각 사업장에 보임)
+     * @param joinedAt 사업장 등록일 시작 일시
+     * @param cursorId 이전 페이지 마지막 세션 ID (null이면 첫 페이지)
+     */
+    @Query("SELECT new com.fitness.domain.workout.dto.WorkoutSessionResponse(" +
+           "s.workoutSessionId, l.lessonId, l.title, l.startDate, s.memo, s.createdAt) " +
+           "FROM WorkoutSession s LEFT JOIN s.lesson l " +
+           "WHERE s.member.userId = :memberId AND s.deletedAt IS NULL " +
+           "AND (l.business.businessId = :businessId OR (l IS NULL AND s.createdAt >= :joinedAt)) " +
+           "AND (:cursorId IS NULL OR s.workoutSessionId < :cursorId) " +
+           "ORDER BY s.workoutSessionId DESC")
+    List<WorkoutSessionResponse> findHistory(@Param("businessId") Long businessId,
+                                             @Param("memberId") Long memberId,
+                                             @Param("joinedAt") LocalDateTime joinedAt,
+                                             @Param("cursorId") Long cursorId,
+                                             Pageable pageable);
+
+    /**
+     * 세션들의 운동 종목 (세션 / 운동 순서 순)
+     */
+    @Query("SELECT new com.fitness.domain.workout.dto.WorkoutExerciseResponse(" +
+           "e.workoutExerciseId, e.workoutSession.workoutSessionId, t.exerciseTypeId, t.name, t.exerciseCategory, " +
+           "e.customExerciseName, e.exerciseOrder, e.memo) " +
+           "FROM WorkoutExercise e LEFT JOIN e.exerciseType t " +
+           "WHERE e.workoutSession.workoutSessionId IN :sessionIds AND e.deletedAt IS NULL " +
+           "ORDER BY e.workoutSession.workoutSessionId, e.exerciseOrder, e.workoutExerciseId")
+    List<WorkoutExerciseResponse> findExercises(@Param("sessionIds") Collection<Long> sessionIds);
+
+    /**
+     * 종목들의 세트 (종목 / 세트 순서 순)
+     */
+    @Query("SELECT new com.fitness.domain.workout.dto.WorkoutSetResponse(" +
+           "s.workoutExercise.workoutExerciseId, s.exerciseSetsId, s.setOrder, s.weight, s.reps, " +
+           "s.durationMinute, s.durationSecond, s.restMinute, s.restSecond) " +
+           "FROM ExerciseSets s " +
+           "WHERE s.workoutExercise.workoutExerciseId IN :exerciseIds AND s.deletedAt IS NULL " +
+           "ORDER BY s.workoutExercise.workoutExerciseId, s.setOrder, s.exerciseSetsId")
+    List<WorkoutSetResponse> findSets(@Param("exerciseIds") Collection<Long> exerciseIds);
+
+    /**
+     * 종목들의 첨부파일 (종목 / 첨부 순서 순)
+     */
+    @Query("SELECT new com.fitness.domain.workout.dto.WorkoutAttachResponse(" +
+           "a.workoutExercise.workoutExerciseId, a.exerciseAttachId, a.attachUrl, a.attachType, a.attachOrder, " +
+           "a.fileSize) " +
+           "FROM ExerciseAttach a " +
+           "WHERE a.workoutExercise.workoutExerciseId IN :exerciseIds AND a.deletedAt IS NULL " +
+           "ORDER BY a.workoutExercise.workoutExerciseId, a.attachOrder, a.exerciseAttachId")
+    List<WorkoutAttachResponse> findAttaches(@Param("exerciseIds") Collection<Long> exerciseIds);
+}
@@ -0,0 +1,112 @@
+package com.fitness.domain.workout.service;
+
+import com.fitness.common.exception.BusinessException;
+import com.fitness.common.exception.ErrorCode;
+import com.fitness.common.util.CursorPage;
+import com.fitness.domain.business.entity.BusinessMember;
+import com.fitness.domain.business.repository.BusinessMemberRepository;
+import com.fitness.domain.business.repository.BusinessRepository;
+import com.fitness.domain.workout.dto.WorkoutAttachResponse;
+import com.fitness.domain.workout.dto.WorkoutCommentResponse;
+import com.fitness.domain.workout.dto.WorkoutExerciseResponse;
+import com.fitness.domain.workout.dto.WorkoutReplyResponse;
+import com.fitness.domain.workout.dto.WorkoutSessionResponse;
+import com.fitness.domain.workout.dto.WorkoutSetResponse;
+import com.fitness.domain.workout.repository.WorkoutCommentRepository;
+import com.fitness.domain.workout.repository.WorkoutSessionRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * 회원 운동 기록 조회 서비스
+ * 세션 → 종목 → 세트/첨부파일, 세션 → 댓글 → 대댓글을 단계별 IN 쿼리로 읽어 메모리에서 조립
+ * 페이지당 쿼리 수는 세션/종목/댓글 수와 무관 (세션, 종목, 세트, 첨부파일, 댓글, 대댓글 각 1번)
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class WorkoutHistoryService {
+
+    static final int MAX_PAGE_SIZE = 50;
+
+    /**
+     * IN 절 ID 최대 개수
+     */
+    static final int IN_BATCH_SIZE = 1000;
+
+    private final WorkoutSessionRepository workoutSessionRepository;
+    private final WorkoutCommentRepository workoutCommentRepository;
+    private final BusinessRepository businessRepository;
+    private final BusinessMemberRepository businessMemberRepository;
+
+    /**
+     * 회원 운동 기록 조회 (최신 세션순 커서 페이지)
+     * @param cursorId 이전 페이지의 nextCursor (null이면 첫 페이지)
+     * @param size 페이지 크기 (1 ~ MAX_PAGE_SIZE)
+     */
+    public CursorPage<WorkoutSessionResponse> getHistory(Long ownerId, Long businessId, Long memberId,
+                                                         Long cursorId, int size) {
+        if (size < 1 || size > MAX_PAGE_SIZE) {
+            throw new BusinessException(ErrorCode.INVALID_INPUT);
+        }
+        if (!businessRepository.existsByBusinessIdAndOwner_UserId(businessId, ownerId)) {
+            throw new BusinessException(ErrorCode.BUSINESS_NOT_FOUND);
+        }
+        BusinessMember businessMember = businessMemberRepository
+                .findByBusiness_BusinessIdAndMember_UserId(businessId, memberId)
+                .orElseThrow(() -> new BusinessException(ErrorCode.MEMBER_NOT_FOUND));
+
+        CursorPage<WorkoutSessionResponse> page = CursorPage.of(
+                workoutSessionRepository.findHistory(businessId, memberId, businessMember.getJoinDate().atStartOfDay(),
+                        cursorId, PageRequest.of(0, size + 1)),
+                size, WorkoutSessionResponse::getWorkoutSessionId);
+        if (!page.getContent().isEmpty()) {
+            assemble(page.getContent());
+        }
+        return page;
+    }
+
+    private void assemble(List<WorkoutSessionResponse> sessions) {
+        Map<Long, WorkoutSessionResponse> sessionById = new HashMap<>();
+        for (WorkoutSessionResponse session : sessions) {
+            sessionById.put(session.getWorkoutSessionId(), session);
+        }
+
+        Map<Long, WorkoutExerciseResponse> exerciseById = new HashMap<>();
+        loadInBatches(List.copyOf(sessionById.keySet()), workoutSessionRepository::findExercises, exercise -> {
+            sessionById.get(exercise.getWorkoutSessionId()).getExercises().add(exercise);
+            exerciseById.put(exercise.getWorkoutExerciseId(), exercise);
+        });
+        List<Long> exerciseIds = List.copyOf(exerciseById.keySet());
+        loadInBatches(exerciseIds, workoutSessionRepository::findSets, (WorkoutSetResponse set) ->
+                exerciseById.get(set.getWorkoutExerciseId()).getSets().add(set));
+        loadInBatches(exerciseIds, workoutSessionRepository::findAttaches, (WorkoutAttachResponse attach) ->
+                exerciseById.get(attach.getWorkoutExerciseId()).getAttaches().add(attach));
+
+        Map<Long, WorkoutCommentResponse> commentById = new HashMap<>();
+        loadInBatches(List.copyOf(sessionById.keySet()), workoutCommentRepository::findComments, comment -> {
+            sessionById.get(comment.getWorkoutSessionId()).getComments().add(comment);
+            commentById.put(comment.getWorkoutCommentId(), comment);
+        });
+        loadInBatches(List.copyOf(commentById.keySet()), workoutCommentRepository::findReplies,
+                (WorkoutReplyResponse reply) -> commentById.get(reply.getWorkoutCommentId()).getReplies().add(reply));
+    }
+
+    /**
+     * ID를 IN_BATCH_SIZE 단위로 나눠 조회 (ID가 없으면 쿼리 생략)
+     * 각 조회 결과는 부모 ID 순으로 정렬되어 있어 부모 목록에 조회 순서대로 추가
+     */
+    private static <T> void loadInBatches(List<Long> ids, Function<List<Long>, List<T>> loader, Consumer<T> consumer) {
+        for (int from = 0; from < ids.size(); from += IN_BATCH_SIZE) {
+            loader.apply(ids.subList(from, Math.min(from + IN_BATCH_SIZE, ids.size()))).forEach(consumer);
+        }
+    }
+}
@@ -0,0 +1,139 @@
+package com.fitness.common.jwt;
+
+import com.fitness.common.config.JwtProperties;
+import com.fitness.common.config.PrincipalCacheProperties;
+import com.fitness.common.enums.UserType;
+import com.fitness.common.security.CustomUserPrincipal;
+import com.fitness.common.security.UserPrincipalCache;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * JWT 인증 필터 테스트
+ * 클레임 기반(Stateless) 인증, 클레임 없는 토큰의 캐시 조회, 비활성/폐기/Refresh Token 거절 검증
+ */
+class JwtAuthenticationFilterTest {
+
+    private JwtUtil jwtUtil;
+    private TokenRevocationService revocationService;
+    private JwtAuthenticationFilter filter;
+    private final AtomicInteger userLookups = new AtomicInteger();
+
+    @BeforeEach
+    void setUp() {
+        JwtProperties jwtProperties = new JwtProperties();
+        jwtProperties.setSecret("test-jwt-secret-key-for-development-only-32-chars-minimum");
+        jwtProperties.setAccessTokenExpiration(900_000L);
+        jwtProperties.setRefreshTokenExpiration(604_800_000L);
+        jwtProperties.setStatelessAuthentication(true);
+
+        jwtUtil = new JwtUtil(jwtProperties);
+        revocationService = new TokenRevocationService(new InMemoryTokenRevocationStore(), jwtProperties);
+        filter = new JwtAuthenticationFilter(jwtUtil, jwtProperties,
+                username -> {
+                    userLookups.incrementAndGet();
+                    return principal(username, true);
+                },
+                new UserPrincipalCache(new PrincipalCacheProperties(), new SimpleMeterRegistry()),
+                revocationService);
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void 클레임이_있는_토큰은_사용자_조회_없이_인증() throws Exception {
+        // Given
+        String token = jwtUtil.generateAccessToken(principal("owner", true));
+
+        // When
+        Authentication authentication = filter(token);
+
+        // Then
+        assertThat(userLookups).hasValue(0);
+        CustomUserPrincipal principal = (CustomUserPrincipal) authentication.getPrincipal();
+        assertThat(principal.getUserId()).isEqualTo(1L);
+        assertThat(principal.getUserType()).isEqualTo(UserType.OWNER);
+        assertThat(authentication.getAuthorities()).extracting(GrantedAuthority::getAuthority)
+                .containsExactly("ROLE_OWNER");
+    }
+
+    @Test
+    void 클레임_없는_이전_토큰은_캐시를_거쳐_한_번만_조회() throws Exception {
+        // Given - 클레임 도입 이전 형식의 Access Token
+        String token = jwtUtil.refreshToken(jwtUtil.generateAccessToken(principal("owner", true)));
+
+        // When
+        Authentication first = filter(token);
+        Authentication second = filter(token);
+
+        // Then
+        assertThat(first).isNotNull();
+        assertThat(second).isNotNull();
+        assertThat(userLookups).hasValue(1);
+    }
+
+    @Test
+    void 비활성_사용자와_폐기된_토큰은_인증하지_않음() throws Exception {
+        // Given
+        String disabled = jwtUtil.generateAccessToken(principal("disabled", false));
+        String revoked = jwtUtil.generateAccessToken(principal("owner", true));
+        revocationService.revoke(jwtUtil.verify(revoked).orElseThrow());
+
+        // When & Then
+        assertThat(filter(disabled)).isNull();
+        assertThat(filter(revoked)).isNull();
+        assertThat(filter("invalid-token")).isNull();
+    }
+
+    @Test
+    void Refresh_Token은_Access_Token으로_인증하지_않음() throws Exception {
+        // Given
+        String refreshToken = jwtUtil.generateRefreshToken("owner", 1L, "token-id",
+                new Date(System.currentTimeMillis() + 60_000));
+        String legacyRefreshToken = jwtUtil.generateRefreshToken("owner");
+
+        // When & Then
+        assertThat(filter(refreshToken)).isNull();
+        assertThat(filter(legacyRefreshToken)).isNull();
+        assertThat(userLookups).hasValue(0);
+    }
+
+    /**
+     * 필터 실행 후 설정된 인증 정보 반환
+     */
+    private Authentication filter(String token) throws Exception {
+        SecurityContextHolder.clearContext();
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/owner/businesses");
+        request.addHeader("Authorization", "Bearer " + token);
+        filter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+        return SecurityContextHolder.getContext().getAuthentication();
+    }
+
+    private static CustomUserPrincipal principal(String username, boolean enabled) {
+        return CustomUserPrincipal.builder()
+                .userId(1L)
+                .username(username)
+                .userType(UserType.OWNER)
+                .authorities(List.of(new SimpleGrantedAuthority("ROLE_OWNER")))
+                .enabled(enabled)
+                .build();
+    }
+}
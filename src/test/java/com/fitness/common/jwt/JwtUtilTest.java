@@ -0,0 +1,96 @@
+package com.fitness.common.jwt;
+
+import com.fitness.common.config.JwtProperties;
+import com.fitness.common.enums.UserType;
+import com.fitness.common.security.CustomUserPrincipal;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+import java.util.Date;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * JWT 유틸리티 테스트
+ * 한 번의 파싱으로 서명/만료 검증 및 클레임 추출, 기존 검증 메서드와 결과 일치 검증
+ */
+class JwtUtilTest {
+
+    private static final String SECRET = "test-jwt-secret-key-for-development-only-32-chars-minimum";
+
+    private JwtUtil jwtUtil;
+
+    @BeforeEach
+    void setUp() {
+        jwtUtil = new JwtUtil(properties(SECRET));
+    }
+
+    @Test
+    void 유효한_토큰은_한_번의_검증으로_클레임을_반환() {
+        // Given
+        String token = jwtUtil.generateAccessToken(CustomUserPrincipal.builder()
+                .userId(7L)
+                .username("owner")
+                .userType(UserType.OWNER)
+                .authorities(List.of(new SimpleGrantedAuthority("ROLE_OWNER")))
+                .enabled(true)
+                .build());
+
+        // When
+        JwtTokenClaims claims = jwtUtil.verify(token).orElseThrow();
+
+        // Then
+        assertThat(claims.getSubject()).isEqualTo("owner");
+        assertThat(claims.getUserId()).isEqualTo(7L);
+        assertThat(claims.getRoles()).containsExactly("ROLE_OWNER");
+        assertThat(claims.getTokenId()).isNotBlank();
+        assertThat(claims.getExpiration()).isAfter(claims.getIssuedAt());
+        assertThat(jwtUtil.validateToken(token)).isTrue();
+        assertThat(jwtUtil.getUsernameFromToken(token)).isEqualTo("owner");
+    }
+
+    @Test
+    void 만료_위조_다른_키로_서명된_토큰은_검증_실패() {
+        // Given
+        String expired = jwtUtil.generateRefreshToken("owner", 1L, "token-id",
+                new Date(System.currentTimeMillis() - 1_000));
+        String valid = jwtUtil.generateRefreshToken("owner");
+        String tampered = valid.substring(0, valid.length() - 2)
+                + (valid.endsWith("AA") ? "BB" : "AA");
+        String otherKey = new JwtUtil(properties(SECRET + "-other")).generateRefreshToken("owner");
+
+        // When & Then
+        assertThat(jwtUtil.verify(expired)).isEmpty();
+        assertThat(jwtUtil.verify(tampered)).isEmpty();
+        assertThat(jwtUtil.verify(otherKey)).isEmpty();
+        assertThat(jwtUtil.verify("")).isEmpty();
+        assertThat(jwtUtil.validateToken(otherKey)).isFalse();
+        assertThat(jwtUtil.verify(valid)).isPresent();
+    }
+
+    @Test
+    void 알_수_없는_사용자_타입의_토큰은_검증_실패() {
+        // Given - 서명은 유효하지만 사용자 타입이 정의되지 않은 값
+        String token = Jwts.builder()
+                .subject("owner")
+                .claim(JwtUtil.CLAIM_USER_TYPE, "ADMIN")
+                .expiration(new Date(System.currentTimeMillis() + 60_000))
+                .signWith(Keys.hmacShaKeyFor(SECRET.getBytes()))
+                .compact();
+
+        // When & Then
+        assertThat(jwtUtil.verify(token)).isEmpty();
+    }
+
+    private static JwtProperties properties(String secret) {
+        JwtProperties properties = new JwtProperties();
+        properties.setSecret(secret);
+        properties.setAccessTokenExpiration(900_000L);
+        properties.setRefreshTokenExpiration(604_800_000L);
+        return properties;
+    }
+}
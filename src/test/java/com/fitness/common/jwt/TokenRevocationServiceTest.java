@@ -0,0 +1,92 @@
+package com.fitness.common.jwt;
+
+import com.fitness.common.config.JwtProperties;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 토큰 폐기 서비스 테스트
+ * 블룸 필터가 폐기되지 않은 토큰의 저장소 조회를 차단하는지 검증
+ */
+class TokenRevocationServiceTest {
+
+    private CountingTokenRevocationStore store;
+    private TokenRevocationService revocationService;
+
+    @BeforeEach
+    void setUp() {
+        store = new CountingTokenRevocationStore();
+        revocationService = new TokenRevocationService(store, new JwtProperties());
+    }
+
+    @Test
+    void 폐기되지_않은_토큰은_저장소를_조회하지_않음() {
+        // Given
+        for (int i = 0; i < 1_000; i++) {
+            revocationService.revoke(UUID.randomUUID().toString(), Instant.now().plusSeconds(900));
+        }
+
+        // When
+        int revokedCount = 0;
+        for (int i = 0; i < 10_000; i++) {
+            if (revocationService.isRevoked(UUID.randomUUID().toString())) {
+                revokedCount++;
+            }
+        }
+
+        // Then (오탐률 1% 기준, 여유를 두고 검증)
+        assertThat(revokedCount).isZero();
+        assertThat(store.lookups).isLessThan(300);
+    }
+
+    @Test
+    void 폐기된_토큰_확인() {
+        // Given
+        String tokenId = UUID.randomUUID().toString();
+
+        // When
+        revocationService.revoke(tokenId, Instant.now().plusSeconds(900));
+
+        // Then
+        assertThat(revocationService.isRevoked(tokenId)).isTrue();
+        assertThat(revocationService.isRevoked(null)).isFalse();
+    }
+
+    @Test
+    void 만료된_폐기_항목_정리_후_필터_재구성() {
+        // Given
+        String expiredId = UUID.randomUUID().toString();
+        String activeId = UUID.randomUUID().toString();
+        revocationService.revoke(expiredId, Instant.now().minusSeconds(1));
+        revocationService.revoke(activeId, Instant.now().plusSeconds(900));
+
+        // When
+        revocationService.purgeExpired();
+        store.lookups = 0;
+
+        // Then
+        assertThat(store.activeTokenIds()).containsExactly(activeId);
+        assertThat(revocationService.isRevoked(activeId)).isTrue();
+        assertThat(revocationService.isRevoked(expiredId)).isFalse();
+        assertThat(store.lookups).isEqualTo(1);
+    }
+
+    /**
+     * 저장소 조회 횟수를 기록하는 테스트용 저장소
+     */
+    private static class CountingTokenRevocationStore extends InMemoryTokenRevocationStore {
+
+        private int lookups;
+
+        @Override
+        public boolean isRevoked(String tokenId) {
+            lookups++;
+            return super.isRevoked(tokenId);
+        }
+    }
+}
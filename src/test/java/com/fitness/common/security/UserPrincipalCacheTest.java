@@ -0,0 +1,111 @@
+package com.fitness.common.security;
+
+import com.fitness.common.config.PrincipalCacheProperties;
+import com.fitness.common.enums.UserType;
+import com.fitness.domain.auth.entity.Auth;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.DefaultListableBeanFactory;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 사용자 정보 캐시 테스트
+ * 캐시 적중 시 로드 생략, 사용자 ID 기준 제거, 엔티티 변경 시 커밋 후 제거 검증
+ */
+class UserPrincipalCacheTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private UserPrincipalCache principalCache;
+    private final AtomicInteger loads = new AtomicInteger();
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        principalCache = new UserPrincipalCache(new PrincipalCacheProperties(), meterRegistry);
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void 같은_사용자는_한_번만_로드하고_적중률을_메트릭으로_노출() {
+        // When
+        for (int i = 0; i < 5; i++) {
+            principalCache.get("owner", this::load);
+        }
+
+        // Then
+        assertThat(loads).hasValue(1);
+        assertThat(meterRegistry.get("cache.gets").tag("cache", UserPrincipalCache.CACHE_NAME)
+                .tag("result", "hit").functionCounter().count()).isEqualTo(4);
+        assertThat(meterRegistry.get("cache.gets").tag("cache", UserPrincipalCache.CACHE_NAME)
+                .tag("result", "miss").functionCounter().count()).isEqualTo(1);
+    }
+
+    @Test
+    void 사용자_ID로_제거하면_연결된_모든_계정이_제거됨() {
+        // Given - 같은 사용자(1)의 일반/소셜 계정, 다른 사용자(2)
+        principalCache.get("owner", key -> principal(1L, key));
+        principalCache.get("kakao_123", key -> principal(1L, key));
+        principalCache.get("other", key -> principal(2L, key));
+
+        // When
+        principalCache.evictByUserId(1L);
+
+        // Then
+        principalCache.get("owner", this::load);
+        principalCache.get("kakao_123", this::load);
+        principalCache.get("other", this::load);
+        assertThat(loads).hasValue(2);
+    }
+
+    @Test
+    void 계정_변경은_트랜잭션_커밋_후에_캐시에서_제거() {
+        // Given
+        DefaultListableBeanFactory beanFactory = new DefaultListableBeanFactory();
+        beanFactory.registerSingleton("userPrincipalCache", principalCache);
+        PrincipalCacheEvictionListener listener =
+                new PrincipalCacheEvictionListener(beanFactory.getBeanProvider(UserPrincipalCache.class));
+        Auth auth = Auth.createGeneralAuth(null, "owner", "password", null);
+        principalCache.get("owner", this::load);
+        TransactionSynchronizationManager.initSynchronization();
+
+        // When - 커밋 전에는 유지
+        listener.onChange(auth);
+        principalCache.get("owner", this::load);
+        assertThat(loads).hasValue(1);
+
+        // Then - 커밋 후 제거
+        List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+        synchronizations.forEach(TransactionSynchronization::afterCommit);
+        principalCache.get("owner", this::load);
+        assertThat(loads).hasValue(2);
+    }
+
+    private CustomUserPrincipal load(String username) {
+        loads.incrementAndGet();
+        return principal(1L, username);
+    }
+
+    private static CustomUserPrincipal principal(Long userId, String username) {
+        return CustomUserPrincipal.builder()
+                .userId(userId)
+                .username(username)
+                .userType(UserType.OWNER)
+                .authorities(List.of())
+                .enabled(true)
+                .build();
+    }
+}
@@ -0,0 +1,143 @@
+package com.fitness.domain.attendance.service;
+
+import com.fitness.common.config.BusinessProperties;
+import com.fitness.common.config.QuerydslConfig;
+import com.fitness.domain.attendance.dto.PendingAttendance;
+import com.fitness.domain.attendance.repository.AttendanceJdbcRepository;
+import com.fitness.domain.statistics.service.BusinessDailyStatsService;
+import com.fitness.domain.statistics.service.DailyStatsRecorder;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.jdbc.Sql;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 출석 쓰기 버퍼 테스트
+ * 저장 실패한 배치가 이후 출석 저장을 막지 않는지 (무결성 위반 행 제외, 재시도 횟수 제한) 검증
+ */
+@DataJpaTest
+@Import({DailyStatsRecorder.class, BusinessDailyStatsService.class, SimpleMeterRegistry.class, BusinessProperties.class,
+        QuerydslConfig.class})
+@ActiveProfiles("test")
+@Sql("/sql/owner-business.sql")
+@Sql(scripts = "/sql/cleanup.sql", executionPhase = Sql.ExecutionPhase.AFTER_TEST_METHOD)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class AttendanceWriteBufferTest {
+
+    private static final Long BUSINESS_ID = 1L;
+    private static final int MAX_RETRIES = 3;
+
+    @Autowired
+    private DailyStatsRecorder dailyStatsRecorder;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private FailingAttendanceRepository repository;
+    private AttendanceWriteBuffer writeBuffer;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.update("INSERT INTO user (user_id, user_type, name, status, created_at) VALUES " +
+                "(2, 'MEMBER', '회원1', 'ACTIVE', NOW()), " +
+                "(3, 'MEMBER', '회원2', 'ACTIVE', NOW())");
+
+        BusinessProperties properties = new BusinessProperties();
+        properties.getCheckIn().setMaxRetries(MAX_RETRIES);
+        repository = new FailingAttendanceRepository(jdbcTemplate);
+        writeBuffer = new AttendanceWriteBuffer(repository, dailyStatsRecorder, transactionManager, properties);
+    }
+
+    @Test
+    void 무결성_위반_출석만_제외하고_나머지는_저장() {
+        // Given - 없는 회원(999)의 출석이 섞인 배치
+        writeBuffer.add(attendance(2L));
+        writeBuffer.add(attendance(999L));
+        writeBuffer.add(attendance(3L));
+
+        // When
+        writeBuffer.flush();
+        writeBuffer.add(attendance(2L));
+        writeBuffer.flush();
+
+        // Then
+        assertThat(writeBuffer.pendingCount()).isZero();
+        assertThat(attendanceCount()).isEqualTo(3);
+    }
+
+    @Test
+    void 저장_실패한_배치는_재시도_횟수까지만_보관() {
+        // Given - 재시도 중 복구되면 저장
+        repository.unavailable = true;
+        writeBuffer.add(attendance(2L));
+        writeBuffer.flush();
+        writeBuffer.flush();
+        assertThat(writeBuffer.pendingCount()).isEqualTo(1);
+        repository.unavailable = false;
+        writeBuffer.flush();
+        assertThat(writeBuffer.pendingCount()).isZero();
+        assertThat(attendanceCount()).isEqualTo(1);
+
+        // When - 재시도 횟수 동안 복구되지 않음
+        repository.unavailable = true;
+        writeBuffer.add(attendance(3L));
+        writeBuffer.flush();
+        for (int i = 1; i < MAX_RETRIES; i++) {
+            writeBuffer.flush();
+            assertThat(writeBuffer.pendingCount()).isEqualTo(1);
+        }
+        writeBuffer.flush();
+
+        // Then - 저장 포기 후 다음 출석은 정상 저장
+        assertThat(writeBuffer.pendingCount()).isZero();
+        repository.unavailable = false;
+        writeBuffer.add(attendance(2L));
+        writeBuffer.flush();
+        assertThat(jdbcTemplate.queryForList("SELECT member_id FROM attendance ORDER BY attendance_id", Long.class))
+                .containsExactly(2L, 2L);
+    }
+
+    private static PendingAttendance attendance(Long memberId) {
+        return new PendingAttendance(BUSINESS_ID, memberId, LocalDateTime.now());
+    }
+
+    private long attendanceCount() {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM attendance", Long.class);
+    }
+
+    /**
+     * DB 장애를 흉내 낼 수 있는 출석 리포지토리
+     */
+    private static final class FailingAttendanceRepository extends AttendanceJdbcRepository {
+        private volatile boolean unavailable;
+
+        private FailingAttendanceRepository(JdbcTemplate jdbcTemplate) {
+            super(jdbcTemplate);
+        }
+
+        @Override
+        public void batchInsert(List<PendingAttendance> attendances) {
+            if (unavailable) {
+                throw new DataAccessResourceFailureException("DB 연결 실패");
+            }
+            super.batchInsert(attendances);
+        }
+    }
+}
@@ -0,0 +1,354 @@
+package com.fitness.domain.attendance.service;
+
+import com.fitness.common.config.BusinessProperties;
+import com.fitness.common.config.QuerydslConfig;
+import com.fitness.common.exception.BusinessException;
+import com.fitness.common.exception.ErrorCode;
+import com.fitness.domain.attendance.dto.CheckInResponse;
+import com.fitness.domain.attendance.repository.AttendanceJdbcRepository;
+import com.fitness.domain.membership.repository.MembershipEligibilityJdbcRepository;
+import com.fitness.domain.membership.service.MembershipEligibilityIndex;
+import com.fitness.domain.statistics.service.BusinessDailyStatsService;
+import com.fitness.domain.statistics.service.DailyStatsRecorder;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.jdbc.Sql;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 출석 체크인 테스트
+ * 동시 체크인 수백 건에서 중복 억제, 이용권 확인, 배치 저장 결과 검증 및 회원별 첫 체크인 응답 시간 측정
+ * 저장 전 출석이 자격 인덱스 재적재에 반영되는지 보기 위해 주기 저장은 끄고 직접 flush
+ */
+@DataJpaTest
+@Import({CheckInService.class, MembershipEligibilityIndex.class, MembershipEligibilityJdbcRepository.class,
+        AttendanceWriteBuffer.class, AttendanceJdbcRepository.class, DailyStatsRecorder.class, BusinessDailyStatsService.class,
+        SimpleMeterRegistry.class, BusinessProperties.class, QuerydslConfig.class})
+@ActiveProfiles("test")
+@Sql("/sql/owner-business.sql")
+@Sql(scripts = "/sql/cleanup.sql", executionPhase = Sql.ExecutionPhase.AFTER_TEST_METHOD)
+@TestPropertySource(properties = "business.check-in.flush-interval=600000")
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_EACH_TEST_METHOD) // 중복 체크인 / 자격 인덱스 초기화
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class CheckInServiceTest {
+
+    private static final Long OWNER_ID = 1L;
+    private static final Long BUSINESS_ID = 1L;
+    private static final long FIRST_MEMBER_ID = 100L;
+    private static final int ELIGIBLE = 200;
+    private static final int SUSPENDED = 20;
+    private static final int EXPIRED = 30;
+    private static final long FIRST_WARMUP_MEMBER_ID = 10_000L;
+    private static final int WARMUP_CHECK_INS = 5_000;
+    private static final int TIMED_CHECK_INS = 8_000;
+
+    @Autowired
+    private CheckInService checkInService;
+
+    @Autowired
+    private AttendanceWriteBuffer writeBuffer;
+
+    @Autowired
+    private MembershipEligibilityIndex eligibilityIndex;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        LocalDateTime now = LocalDateTime.now();
+        jdbcTemplate.update("INSERT INTO products (product_id, business_id, name, product_type, price, is_active, created_at) " +
+                "VALUES (1, 1, '3개월 회원권', 'MEMBERSHIP', 300000, TRUE, NOW())");
+
+        // 이용 중 200명 (그중 20명 정지 중) + 만료 30명
+        List<Object[]> users = new ArrayList<>();
+        List<Object[]> businessMembers = new ArrayList<>();
+        List<Object[]> payments = new ArrayList<>();
+        List<Object[]> memberships = new ArrayList<>();
+        List<Object[]> suspensions = new ArrayList<>();
+        for (int i = 0; i < ELIGIBLE + SUSPENDED + EXPIRED; i++) {
+            long memberId = FIRST_MEMBER_ID + i;
+            boolean expired = i >= ELIGIBLE + SUSPENDED;
+            Timestamp start = Timestamp.valueOf(now.minusMonths(expired ? 4 : 1));
+            Timestamp end = Timestamp.valueOf(expired ? now.minusMonths(1) : now.plusMonths(2));
+            users.add(new Object[]{memberId, "회원" + i});
+            businessMembers.add(new Object[]{memberId, memberId});
+            payments.add(new Object[]{memberId, memberId, start});
+            memberships.add(new Object[]{memberId, memberId, memberId, start, end});
+            if (i >= ELIGIBLE && !expired) {
+                suspensions.add(new Object[]{memberId, Timestamp.valueOf(now.minusDays(1)),
+                        Timestamp.valueOf(now.plusDays(6))});
+            }
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO user (user_id, user_type, name, status, created_at) " +
+                "VALUES (?, 'MEMBER', ?, 'ACTIVE', NOW())", users);
+        jdbcTemplate.batchUpdate("INSERT INTO business_member (business_member_id, member_id, business_id, status, " +
+                "sms_yn, join_date, created_at) VALUES (?, ?, 1, 'ACTIVE', TRUE, CURRENT_DATE, NOW())", businessMembers);
+        jdbcTemplate.batchUpdate("INSERT INTO payment (payment_id, business_id, member_id, product_id, status, " +
+                "actual_price, payment_method, payment_date, created_at) " +
+                "VALUES (?, 1, ?, 1, 'COMPLETED', 300000, 'CARD', ?, NOW())", payments);
+        jdbcTemplate.batchUpdate("INSERT INTO membership (membership_id, payment_id, member_id, type, product_id, " +
+                "service_start_date, service_end_date, created_at) VALUES (?, ?, ?, 'GYM', 1, ?, ?, NOW())", memberships);
+        jdbcTemplate.batchUpdate("INSERT INTO membership_suspension (business_id, member_id, start_date, end_date, " +
+                "created_at) VALUES (1, ?, ?, ?, NOW())", suspensions);
+    }
+
+    @AfterEach
+    void tearDown() {
+        writeBuffer.flush();
+    }
+
+    @Test
+    void 이용권이_없거나_정지_중이면_체크인_거절() {
+        // Given
+        Long suspended = FIRST_MEMBER_ID + ELIGIBLE;
+        Long expired = FIRST_MEMBER_ID + ELIGIBLE + SUSPENDED;
+
+        // When & Then
+        assertThatThrownBy(() -> checkInService.checkIn(OWNER_ID, BUSINESS_ID, suspended))
+                .isInstanceOf(BusinessException.class)
+                .extracting("errorCode").isEqualTo(ErrorCode.CHECK_IN_NOT_ELIGIBLE);
+        assertThatThrownBy(() -> checkInService.checkIn(OWNER_ID, BUSINESS_ID, expired))
+                .isInstanceOf(BusinessException.class)
+                .extracting("errorCode").isEqualTo(ErrorCode.CHECK_IN_NOT_ELIGIBLE);
+        assertThatThrownBy(() -> checkInService.checkIn(2L, BUSINESS_ID, FIRST_MEMBER_ID))
+                .isInstanceOf(BusinessException.class)
+                .extracting("errorCode").isEqualTo(ErrorCode.BUSINESS_NOT_FOUND);
+    }
+
+    @Test
+    void 다른_서버에서_결제한_이용권은_DB_재확인_후_체크인하고_마지막_회차_중복은_DUPLICATE() {
+        // Given - 자격 인덱스 적재 후 엔티티 이벤트 없이 1회 남은 횟수제 이용권 결제
+        Long memberId = FIRST_MEMBER_ID + ELIGIBLE + SUSPENDED;
+        assertThatThrownBy(() -> checkInService.checkIn(OWNER_ID, BUSINESS_ID, memberId))
+                .isInstanceOf(BusinessException.class)
+                .extracting("errorCode").isEqualTo(ErrorCode.CHECK_IN_NOT_ELIGIBLE);
+        LocalDateTime end = countMembership(memberId);
+
+        // When
+        CheckInResponse first = checkInService.checkIn(OWNER_ID, BUSINESS_ID, memberId);
+        CheckInResponse duplicate = checkInService.checkIn(OWNER_ID, BUSINESS_ID, memberId);
+
+        // Then
+        assertThat(first.getStatus()).isEqualTo(CheckInResponse.Status.CHECKED_IN);
+        assertThat(first.getMembershipEndDate()).isEqualTo(end);
+        assertThat(duplicate.getStatus()).isEqualTo(CheckInResponse.Status.DUPLICATE);
+        assertThat(duplicate.getCheckedInAt()).isEqualTo(first.getCheckedInAt());
+        assertThat(duplicate.getMembershipEndDate()).isEqualTo(end);
+        assertThat(writeBuffer.pendingCount()).isEqualTo(1);
+    }
+
+    @Test
+    void 저장_전_출석도_자격_인덱스_재적재_후_사용_횟수로_유지() {
+        // Given - 1회 남은 횟수제 이용권으로 체크인, 출석은 아직 저장 전
+        Long memberId = FIRST_MEMBER_ID + ELIGIBLE + SUSPENDED;
+        countMembership(memberId);
+        checkInService.checkIn(OWNER_ID, BUSINESS_ID, memberId);
+        assertThat(writeBuffer.pendingCount()).isEqualTo(1);
+
+        // When
+        eligibilityIndex.reload(BUSINESS_ID);
+        eligibilityIndex.refreshMember(BUSINESS_ID, memberId);
+
+        // Then
+        assertThat(writeBuffer.pendingCount()).isZero();
+        assertThat(eligibilityIndex.eligibleUntil(BUSINESS_ID, memberId, LocalDateTime.now())).isNull();
+    }
+
+    @Test
+    void 이용_불가_재확인은_저장_전_출석을_저장하지_않고_사용_횟수에_반영() {
+        // Given - 횟수제 이용권으로 체크인 후 (출석은 아직 저장 전) 엔티티 이벤트 없이 2회권으로 변경
+        Long memberId = FIRST_MEMBER_ID + ELIGIBLE + SUSPENDED;
+        countMembership(memberId);
+        checkInService.checkIn(OWNER_ID, BUSINESS_ID, memberId);
+        jdbcTemplate.update("UPDATE products SET usage_cnt = 2 WHERE product_id = 2");
+
+        // When - 체크인 서비스가 이용 불가일 때 호출하는 회원 재적재
+        eligibilityIndex.refreshMember(BUSINESS_ID, memberId);
+
+        // Then - 저장 전 출석 1회 반영, 저장하지 않음
+        assertThat(writeBuffer.pendingCount()).isEqualTo(1);
+        assertThat(remainingUses(memberId)).isEqualTo(1);
+
+        // 저장 후 다시 적재해도 같은 출석을 두 번 세지 않음
+        writeBuffer.flush();
+        eligibilityIndex.refreshMember(BUSINESS_ID, memberId);
+        assertThat(remainingUses(memberId)).isEqualTo(1);
+    }
+
+    @Test
+    void 동시_체크인_중복_억제와_배치_저장() throws Exception {
+        // Given - 이용 중 회원 200명이 각 3번씩 + 거절 대상 50명, 32개 스레드에서 동시 체크인
+        checkInService.checkIn(OWNER_ID, BUSINESS_ID, FIRST_MEMBER_ID);
+        List<Long> requests = new ArrayList<>();
+        for (int repeat = 0; repeat < 3; repeat++) {
+            for (int i = 1; i < ELIGIBLE + SUSPENDED + EXPIRED; i++) {
+                if (repeat == 0 || i < ELIGIBLE) {
+                    requests.add(FIRST_MEMBER_ID + i);
+                }
+            }
+        }
+        Collections.shuffle(requests);
+
+        AtomicInteger checkedIn = new AtomicInteger();
+        AtomicInteger duplicates = new AtomicInteger();
+        AtomicInteger rejected = new AtomicInteger();
+        CountDownLatch ready = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(32);
+
+        // When
+        List<Future<?>> futures = new ArrayList<>();
+        for (Long memberId : requests) {
+            futures.add(executor.submit((Callable<Void>) () -> {
+                ready.await();
+                try {
+                    CheckInResponse response = checkInService.checkIn(OWNER_ID, BUSINESS_ID, memberId);
+                    (response.getStatus() == CheckInResponse.Status.CHECKED_IN ? checkedIn : duplicates)
+                            .incrementAndGet();
+                } catch (BusinessException e) {
+                    rejected.incrementAndGet();
+                }
+                return null;
+            }));
+        }
+        ready.countDown();
+        for (Future<?> future : futures) {
+            future.get();
+        }
+        executor.shutdown();
+        writeBuffer.flush();
+
+        // Then
+        assertThat(checkedIn.get()).isEqualTo(ELIGIBLE - 1);
+        assertThat(duplicates.get()).isEqualTo((ELIGIBLE - 1) * 2);
+        assertThat(rejected.get()).isEqualTo(SUSPENDED + EXPIRED);
+        assertThat(writeBuffer.pendingCount()).isZero();
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM attendance WHERE business_id = 1", Long.class))
+                .isEqualTo((long) ELIGIBLE);
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(DISTINCT member_id) FROM attendance", Long.class))
+                .isEqualTo((long) ELIGIBLE);
+    }
+
+    @Test
+    void 이용_가능_회원_체크인_응답_시간() throws Exception {
+        // Given - 예열용 / 측정용 회원을 따로 두어 측정하는 체크인은 모두 회원별 첫 체크인 (중복 응답 제외)
+        // 코어보다 스레드가 많으면 스케줄링 대기가 응답 시간에 섞이므로 코어 수만큼의 스레드로 측정
+        int threads = Runtime.getRuntime().availableProcessors();
+        int perThread = TIMED_CHECK_INS / threads;
+        long firstTimedMemberId = FIRST_WARMUP_MEMBER_ID + WARMUP_CHECK_INS;
+        insertEligibleMembers(FIRST_WARMUP_MEMBER_ID, WARMUP_CHECK_INS + perThread * threads);
+        for (int i = 0; i < WARMUP_CHECK_INS; i++) {
+            checkInService.checkIn(OWNER_ID, BUSINESS_ID, FIRST_WARMUP_MEMBER_ID + i);
+        }
+        writeBuffer.flush();
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+
+        // When
+        List<Future<long[]>> futures = new ArrayList<>();
+        for (int t = 0; t < threads; t++) {
+            long firstMemberId = firstTimedMemberId + (long) t * perThread;
+            futures.add(executor.submit(() -> {
+                long[] latencies = new long[perThread];
+                for (int i = 0; i < latencies.length; i++) {
+                    long startedAt = System.nanoTime();
+                    CheckInResponse response = checkInService.checkIn(OWNER_ID, BUSINESS_ID, firstMemberId + i);
+                    latencies[i] = System.nanoTime() - startedAt;
+                    assertThat(response.getStatus()).isEqualTo(CheckInResponse.Status.CHECKED_IN);
+                }
+                return latencies;
+            }));
+        }
+        List<Long> sorted = new ArrayList<>();
+        for (Future<long[]> future : futures) {
+            for (long latency : future.get()) {
+                sorted.add(latency);
+            }
+        }
+        executor.shutdown();
+
+        // Then
+        Collections.sort(sorted);
+        long p99Micros = sorted.get((int) Math.ceil(sorted.size() * 0.99) - 1) / 1_000;
+        assertThat(sorted).hasSize(perThread * threads);
+        assertThat(p99Micros).as("이용 가능 회원 첫 체크인 p99 (us)").isLessThan(5_000);
+    }
+
+    /**
+     * 기간제 이용권을 가진 회원 일괄 등록 (회원 ID를 결제/이용권 ID로도 사용)
+     */
+    private void insertEligibleMembers(long firstMemberId, int count) {
+        Timestamp start = Timestamp.valueOf(LocalDateTime.now().minusMonths(1));
+        Timestamp end = Timestamp.valueOf(LocalDateTime.now().plusMonths(2));
+        List<Object[]> users = new ArrayList<>();
+        List<Object[]> businessMembers = new ArrayList<>();
+        List<Object[]> payments = new ArrayList<>();
+        List<Object[]> memberships = new ArrayList<>();
+        for (long memberId = firstMemberId; memberId < firstMemberId + count; memberId++) {
+            users.add(new Object[]{memberId, "회원" + memberId});
+            businessMembers.add(new Object[]{memberId, memberId});
+            payments.add(new Object[]{memberId, memberId, start});
+            memberships.add(new Object[]{memberId, memberId, memberId, start, end});
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO user (user_id, user_type, name, status, created_at) " +
+                "VALUES (?, 'MEMBER', ?, 'ACTIVE', NOW())", users);
+        jdbcTemplate.batchUpdate("INSERT INTO business_member (business_member_id, member_id, business_id, status, " +
+                "sms_yn, join_date, created_at) VALUES (?, ?, 1, 'ACTIVE', TRUE, CURRENT_DATE, NOW())", businessMembers);
+        jdbcTemplate.batchUpdate("INSERT INTO payment (payment_id, business_id, member_id, product_id, status, " +
+                "actual_price, payment_method, payment_date, created_at) " +
+                "VALUES (?, 1, ?, 1, 'COMPLETED', 300000, 'CARD', ?, NOW())", payments);
+        jdbcTemplate.batchUpdate("INSERT INTO membership (membership_id, payment_id, member_id, type, product_id, " +
+                "service_start_date, service_end_date, created_at) VALUES (?, ?, ?, 'GYM', 1, ?, ?, NOW())", memberships);
+    }
+
+    /**
+     * 1회 남은 횟수제 이용권 결제
+     * @return 이용권 종료 일시
+     */
+    private Integer remainingUses(Long memberId) {
+        LocalDateTime now = LocalDateTime.now();
+        return eligibilityIndex.findExpiringSoon(BUSINESS_ID, now, now.plusMonths(2)).stream()
+                .filter(expiring -> expiring.getMemberId().equals(memberId))
+                .findFirst()
+                .orElseThrow()
+                .getRemainingUses();
+    }
+
+    private LocalDateTime countMembership(Long memberId) {
+        LocalDateTime now = LocalDateTime.now().withNano(0);
+        Timestamp start = Timestamp.valueOf(now.minusDays(1));
+        jdbcTemplate.update("INSERT INTO products (product_id, business_id, name, product_type, price, usage_cnt, " +
+                "is_active, created_at) VALUES (2, 1, 'PT 1회', 'PERSONAL_TRAINING', 50000, 1, TRUE, NOW())");
+        jdbcTemplate.update("INSERT INTO payment (payment_id, business_id, member_id, product_id, status, " +
+                "actual_price, payment_method, payment_date, created_at) " +
+                "VALUES (1000, 1, ?, 2, 'COMPLETED', 50000, 'CARD', ?, NOW())", memberId, start);
+        jdbcTemplate.update("INSERT INTO membership (membership_id, payment_id, member_id, type, product_id, " +
+                "service_start_date, service_end_date, created_at) VALUES (1000, 1000, ?, 'PT', 2, ?, ?, NOW())",
+                memberId, start, Timestamp.valueOf(now.plusMonths(1)));
+        return now.plusMonths(1);
+    }
+}
@@ -0,0 +1,194 @@
+package com.fitness.domain.auth.service;
+
+import com.fitness.common.config.SocialLoginProperties;
+import com.fitness.common.exception.BusinessException;
+import com.fitness.common.exception.ErrorCode;
+import com.fitness.domain.auth.dto.AppleUserInfo;
+import com.sun.net.httpserver.HttpServer;
+import io.jsonwebtoken.Jwts;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.client.RestTemplate;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.math.BigInteger;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.NoSuchAlgorithmException;
+import java.security.interfaces.RSAPublicKey;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 애플 Identity Token 검증기 테스트
+ * RSA 키 쌍으로 서명한 토큰과 로컬 스텁 JWKS 서버로 검증/키 갱신 동작 확인
+ */
+class AppleIdentityTokenVerifierTest {
+
+    private static final String ISSUER = "https://appleid.apple.com";
+    private static final String CLIENT_ID = "com.fitness.app";
+
+    private HttpServer server;
+    private final AtomicInteger jwksRequests = new AtomicInteger();
+    private volatile String jwks;
+
+    private KeyPair currentKey;
+    private AppleIdentityTokenVerifier verifier;
+
+    @BeforeEach
+    void setUp() throws IOException, NoSuchAlgorithmException {
+        currentKey = generateKeyPair();
+        jwks = jwks(List.of("key-1"), List.of(currentKey));
+
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/auth/keys", exchange -> {
+            jwksRequests.incrementAndGet();
+            byte[] body = jwks.getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        });
+        server.start();
+
+        SocialLoginProperties properties = new SocialLoginProperties();
+        properties.getApple().setJwksUri("http://127.0.0.1:" + server.getAddress().getPort() + "/auth/keys");
+        properties.getApple().setClientIds(List.of(CLIENT_ID));
+        properties.getApple().setMinRefreshInterval(0L);
+        verifier = new AppleIdentityTokenVerifier(new RestTemplate(), properties);
+    }
+
+    @AfterEach
+    void tearDown() {
+        verifier.shutdown();
+        server.stop(0);
+    }
+
+    @Test
+    void 유효한_토큰_검증_및_공개키_재사용() {
+        // Given
+        String token = token("key-1", currentKey, CLIENT_ID, new Date(System.currentTimeMillis() + 600_000));
+
+        // When
+        AppleUserInfo first = verifier.verify(token);
+        AppleUserInfo second = verifier.verify(token);
+
+        // Then
+        assertThat(first.getSub()).isEqualTo("001234.abcdef.0001");
+        assertThat(first.getEmail()).isEqualTo("user@privaterelay.appleid.com");
+        assertThat(first.getEmailVerified()).isTrue();
+        assertThat(second.getSub()).isEqualTo(first.getSub());
+        assertThat(jwksRequests.get()).isEqualTo(1);
+    }
+
+    @Test
+    void 대상_불일치_토큰_거부() {
+        // Given
+        String token = token("key-1", currentKey, "com.other.app", new Date(System.currentTimeMillis() + 600_000));
+
+        // When & Then
+        assertInvalid(token);
+    }
+
+    @Test
+    void 만료된_토큰_거부() {
+        // Given
+        String token = token("key-1", currentKey, CLIENT_ID, new Date(System.currentTimeMillis() - 600_000));
+
+        // When & Then
+        assertInvalid(token);
+    }
+
+    @Test
+    void 다른_키로_서명된_토큰_거부() throws NoSuchAlgorithmException {
+        // Given
+        String token = token("key-1", generateKeyPair(), CLIENT_ID, new Date(System.currentTimeMillis() + 600_000));
+
+        // When & Then
+        assertInvalid(token);
+    }
+
+    @Test
+    void 키_교체_시_요청은_대기하지_않고_백그라운드_갱신() throws Exception {
+        // Given
+        verifier.refresh();
+        KeyPair rotatedKey = generateKeyPair();
+        jwks = jwks(List.of("key-1", "key-2"), List.of(currentKey, rotatedKey));
+        String token = token("key-2", rotatedKey, CLIENT_ID, new Date(System.currentTimeMillis() + 600_000));
+
+        // When - 알 수 없는 kid는 일시 오류로 즉시 응답
+        assertThatThrownBy(() -> verifier.verify(token))
+                .isInstanceOf(BusinessException.class)
+                .extracting(e -> ((BusinessException) e).getErrorCode())
+                .isEqualTo(ErrorCode.SOCIAL_PROVIDER_UNAVAILABLE);
+
+        // Then - 백그라운드 갱신 후 성공
+        long deadline = System.currentTimeMillis() + 5_000;
+        while (!verifier.getKeyIds().contains("key-2") && System.currentTimeMillis() < deadline) {
+            Thread.sleep(20);
+        }
+        assertThat(verifier.verify(token).getSub()).isEqualTo("001234.abcdef.0001");
+        assertThat(jwksRequests.get()).isEqualTo(2);
+    }
+
+    private void assertInvalid(String token) {
+        assertThatThrownBy(() -> verifier.verify(token))
+                .isInstanceOf(BusinessException.class)
+                .extracting(e -> ((BusinessException) e).getErrorCode())
+                .isEqualTo(ErrorCode.INVALID_SOCIAL_TOKEN);
+    }
+
+    private static String token(String keyId, KeyPair keyPair, String audience, Date expiration) {
+        return Jwts.builder()
+                .header().keyId(keyId).and()
+                .issuer(ISSUER)
+                .audience().add(audience).and()
+                .subject("001234.abcdef.0001")
+                .claim("email", "user@privaterelay.appleid.com")
+                .claim("email_verified", "true")
+                .issuedAt(new Date())
+                .expiration(expiration)
+                .signWith(keyPair.getPrivate(), Jwts.SIG.RS256)
+                .compact();
+    }
+
+    private static KeyPair generateKeyPair() throws NoSuchAlgorithmException {
+        KeyPairGenerator generator = KeyPairGenerator.getInstance("RSA");
+        generator.initialize(2048);
+        return generator.generateKeyPair();
+    }
+
+    private static String jwks(List<String> keyIds, List<KeyPair> keyPairs) {
+        StringBuilder json = new StringBuilder("{\"keys\":[");
+        for (int i = 0; i < keyIds.size(); i++) {
+            RSAPublicKey publicKey = (RSAPublicKey) keyPairs.get(i).getPublic();
+            if (i > 0) {
+                json.append(',');
+            }
+            json.append("{\"kty\":\"RSA\",\"use\":\"sig\",\"alg\":\"RS256\",\"kid\":\"").append(keyIds.get(i))
+                    .append("\",\"n\":\"").append(base64Url(publicKey.getModulus()))
+                    .append("\",\"e\":\"").append(base64Url(publicKey.getPublicExponent()))
+                    .append("\"}");
+        }
+        return json.append("]}").toString();
+    }
+
+    private static String base64Url(BigInteger value) {
+        byte[] bytes = value.toByteArray();
+        if (bytes.length > 1 && bytes[0] == 0) {
+            bytes = Arrays.copyOfRange(bytes, 1, bytes.length);
+        }
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+    }
+}
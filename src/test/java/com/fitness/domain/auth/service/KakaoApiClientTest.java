@@ -0,0 +1,187 @@
+package com.fitness.domain.auth.service;
+
+import com.fitness.common.config.HttpClientProperties;
+import com.fitness.common.config.SocialLoginProperties;
+import com.fitness.common.config.WebConfig;
+import com.fitness.common.exception.BusinessException;
+import com.fitness.common.exception.ErrorCode;
+import com.fitness.domain.auth.dto.KakaoUserInfo;
+import com.sun.net.httpserver.HttpServer;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+import org.springframework.web.client.RestTemplate;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 카카오 API 클라이언트 테스트
+ * 응답 지연을 주입할 수 있는 로컬 스텁 HTTP 서버로 제한 시간, 서킷 브레이커, 커넥션 풀 동작 검증
+ */
+class KakaoApiClientTest {
+
+    private static final String USER_INFO_JSON = """
+            {"id": 12345, "properties": {"nickname": "테스트"}, "kakao_account": {"email": "test@kakao.com"}}
+            """;
+
+    private HttpServer server;
+    private ExecutorService serverExecutor;
+    private final AtomicInteger requestCount = new AtomicInteger();
+    private volatile long delayMillis;
+    private volatile int status = 200;
+
+    private KakaoApiClient kakaoApiClient;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/v2/user/me", exchange -> {
+            requestCount.incrementAndGet();
+            sleep(delayMillis);
+            byte[] body = USER_INFO_JSON.getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().add("Content-Type", "application/json;charset=UTF-8");
+            exchange.sendResponseHeaders(status, body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        });
+        serverExecutor = Executors.newCachedThreadPool();
+        server.setExecutor(serverExecutor);
+        server.start();
+
+        HttpClientProperties httpClientProperties = new HttpClientProperties();
+        httpClientProperties.setReadTimeout(300L);
+
+        SocialLoginProperties socialLoginProperties = new SocialLoginProperties();
+        socialLoginProperties.getKakao().setUserInfoUri(
+                "http://127.0.0.1:" + server.getAddress().getPort() + "/v2/user/me");
+        socialLoginProperties.getCircuitBreaker().setSlidingWindowSize(4);
+        socialLoginProperties.getCircuitBreaker().setMinimumNumberOfCalls(4);
+
+        RestTemplate restTemplate = new RestTemplate(
+                new HttpComponentsClientHttpRequestFactory(WebConfig.httpClient(httpClientProperties)));
+        kakaoApiClient = new KakaoApiClient(restTemplate, socialLoginProperties);
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.stop(0);
+        serverExecutor.shutdownNow();
+    }
+
+    @Test
+    void 사용자_정보_조회() {
+        // When
+        KakaoUserInfo userInfo = kakaoApiClient.getUserInfo("token");
+
+        // Then
+        assertThat(userInfo.getId()).isEqualTo(12345L);
+        assertThat(userInfo.getKakaoAccount().getEmail()).isEqualTo("test@kakao.com");
+    }
+
+    @Test
+    void 응답_지연_시_제한_시간_내_실패() {
+        // Given
+        delayMillis = 2_000;
+
+        // When
+        long start = System.nanoTime();
+        assertThatThrownBy(() -> kakaoApiClient.getUserInfo("token"))
+                .isInstanceOf(BusinessException.class)
+                .extracting(e -> ((BusinessException) e).getErrorCode())
+                .isEqualTo(ErrorCode.SOCIAL_PROVIDER_UNAVAILABLE);
+        long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+
+        // Then (read timeout 300ms)
+        assertThat(elapsedMillis).isLessThan(1_500);
+    }
+
+    @Test
+    void 연속_실패_시_서킷_open_후_즉시_차단() {
+        // Given
+        delayMillis = 1_000;
+        for (int i = 0; i < 4; i++) {
+            assertThatThrownBy(() -> kakaoApiClient.getUserInfo("token")).isInstanceOf(BusinessException.class);
+        }
+        assertThat(kakaoApiClient.getCircuitBreakerState()).isEqualTo(CircuitBreaker.State.OPEN);
+        int requestsBefore = requestCount.get();
+
+        // When
+        long start = System.nanoTime();
+        assertThatThrownBy(() -> kakaoApiClient.getUserInfo("token"))
+                .isInstanceOf(BusinessException.class)
+                .extracting(e -> ((BusinessException) e).getErrorCode())
+                .isEqualTo(ErrorCode.SOCIAL_PROVIDER_UNAVAILABLE);
+        long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+
+        // Then
+        assertThat(requestCount.get()).isEqualTo(requestsBefore);
+        assertThat(elapsedMillis).isLessThan(100);
+    }
+
+    @Test
+    void 잘못된_토큰_응답은_서킷_실패로_집계하지_않음() {
+        // Given
+        status = 401;
+
+        // When
+        for (int i = 0; i < 10; i++) {
+            assertThatThrownBy(() -> kakaoApiClient.getUserInfo("invalid"))
+                    .isInstanceOf(BusinessException.class)
+                    .extracting(e -> ((BusinessException) e).getErrorCode())
+                    .isEqualTo(ErrorCode.INVALID_SOCIAL_TOKEN);
+        }
+
+        // Then
+        assertThat(kakaoApiClient.getCircuitBreakerState()).isEqualTo(CircuitBreaker.State.CLOSED);
+    }
+
+    @Test
+    void 지연_응답에도_동시_요청은_병렬_처리() {
+        // Given
+        delayMillis = 200;
+        ExecutorService callers = Executors.newFixedThreadPool(20);
+
+        try {
+            // When
+            long start = System.nanoTime();
+            List<CompletableFuture<KakaoUserInfo>> futures = new ArrayList<>();
+            for (int i = 0; i < 20; i++) {
+                futures.add(CompletableFuture.supplyAsync(() -> kakaoApiClient.getUserInfo("token"), callers));
+            }
+            futures.forEach(CompletableFuture::join);
+            long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+
+            // Then (순차 처리 시 4초)
+            assertThat(futures).allMatch(future -> future.join().getId() == 12345L);
+            assertThat(elapsedMillis).isLessThan(2_000);
+        } finally {
+            callers.shutdownNow();
+        }
+    }
+
+    private static void sleep(long millis) {
+        if (millis <= 0) {
+            return;
+        }
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,184 @@
+package com.fitness.domain.auth.service;
+
+import com.fitness.common.config.JwtProperties;
+import com.fitness.common.config.PrincipalCacheProperties;
+import com.fitness.common.config.QuerydslConfig;
+import com.fitness.common.config.TokenRevocationConfig;
+import com.fitness.common.exception.BusinessException;
+import com.fitness.common.jwt.JwtTokenClaims;
+import com.fitness.common.jwt.JwtUtil;
+import com.fitness.common.jwt.TokenRevocationService;
+import com.fitness.common.security.UserPrincipalCache;
+import com.fitness.domain.auth.entity.RefreshTokenFamily;
+import com.fitness.domain.auth.repository.RefreshTokenFamilyRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Refresh Token 회전 서비스 테스트
+ * 회전, 이전 토큰 재사용 시 패밀리 폐기, 로그아웃 폐기 (Access Token이 유효하지 않은 경우 포함), 일괄 기록 중 회전 검증
+ * 캐시 크기를 1로 두어 기록 중 캐시에서 밀려난 패밀리도 DB의 이전 상태로 판단하지 않는지 확인
+ */
+@DataJpaTest(properties = "jwt.refresh-rotation.maximum-size=1")
+@Import({RefreshTokenService.class, RefreshTokenFamilyCache.class, JwtUtil.class, JwtProperties.class,
+        TokenRevocationService.class, TokenRevocationConfig.class, SimpleMeterRegistry.class, QuerydslConfig.class})
+@ActiveProfiles("test")
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_EACH_TEST_METHOD) // 회전 상태 캐시 / 폐기 목록 초기화
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class RefreshTokenServiceTest {
+
+    @Autowired
+    private RefreshTokenService refreshTokenService;
+
+    @Autowired
+    private RefreshTokenFamilyCache familyCache;
+
+    @Autowired
+    private RefreshTokenFamilyRepository refreshTokenFamilyRepository;
+
+    @Autowired
+    private TokenRevocationService revocationService;
+
+    @Autowired
+    private JwtUtil jwtUtil;
+
+    @AfterEach
+    void tearDown() {
+        refreshTokenFamilyRepository.deleteAll();
+    }
+
+    @Test
+    void 회전하면_새_토큰을_발급하고_이전_토큰은_폐기_목록에_등록() {
+        // Given
+        JwtTokenClaims first = claims(refreshTokenService.issue("owner"));
+
+        // When
+        JwtTokenClaims second = claims(refreshTokenService.rotate(first));
+        JwtTokenClaims third = claims(refreshTokenService.rotate(second));
+        familyCache.flush();
+
+        // Then
+        assertThat(second.isRefreshToken()).isTrue();
+        assertThat(second.getFamilyId()).isEqualTo(first.getFamilyId());
+        assertThat(revocationService.isRevoked(first.getTokenId())).isTrue();
+        assertThat(revocationService.isRevoked(second.getTokenId())).isTrue();
+        assertThat(revocationService.isRevoked(third.getTokenId())).isFalse();
+        RefreshTokenFamily family = refreshTokenFamilyRepository.findById(first.getFamilyId()).orElseThrow();
+        assertThat(family.getGeneration()).isEqualTo(2);
+        assertThat(family.getCurrentTokenId()).isEqualTo(third.getTokenId());
+        assertThat(family.getRevoked()).isFalse();
+    }
+
+    @Test
+    void 이전_토큰을_재사용하면_패밀리_전체를_즉시_폐기() {
+        // Given
+        JwtTokenClaims first = claims(refreshTokenService.issue("owner"));
+        JwtTokenClaims second = claims(refreshTokenService.rotate(first));
+
+        // When - 탈취된 이전 토큰 재사용
+        assertThatThrownBy(() -> refreshTokenService.rotate(first))
+                .hasMessage("이미 사용된 Refresh Token입니다.");
+
+        // Then - 정상 사용자의 최신 토큰도 더 이상 사용할 수 없고, 주기 기록 전에도 DB에 반영됨
+        assertThatThrownBy(() -> refreshTokenService.rotate(second))
+                .hasMessage("폐기된 Refresh Token입니다.");
+        assertThat(refreshTokenFamilyRepository.findById(first.getFamilyId()).orElseThrow().getRevoked()).isTrue();
+    }
+
+    @Test
+    void 로그아웃으로_폐기한_패밀리는_회전할_수_없음() {
+        // Given
+        JwtTokenClaims first = claims(refreshTokenService.issue("owner"));
+        JwtTokenClaims other = claims(refreshTokenService.issue("owner"));
+
+        // When
+        refreshTokenService.revoke(first);
+        familyCache.flush();
+
+        // Then - 같은 사용자의 다른 로그인(패밀리)은 유지
+        assertThatThrownBy(() -> refreshTokenService.rotate(first))
+                .hasMessage("폐기된 Refresh Token입니다.");
+        assertThat(refreshTokenFamilyRepository.findById(first.getFamilyId()).orElseThrow().getRevoked()).isTrue();
+        assertThat(claims(refreshTokenService.rotate(other)).getFamilyId()).isEqualTo(other.getFamilyId());
+    }
+
+    @Test
+    void 만료되거나_잘못된_Access_Token으로_로그아웃해도_Refresh_Token은_폐기() {
+        // Given
+        AuthService authService = new AuthService(null, jwtUtil,
+                new UserPrincipalCache(new PrincipalCacheProperties(), new SimpleMeterRegistry()),
+                null, revocationService, refreshTokenService);
+        String refreshToken = refreshTokenService.issue("owner");
+        JwtTokenClaims refreshClaims = claims(refreshToken);
+
+        // When
+        authService.logout("expired-access-token", refreshToken);
+
+        // Then
+        assertThat(revocationService.isRevoked(refreshClaims.getTokenId())).isTrue();
+        assertThatThrownBy(() -> refreshTokenService.rotate(refreshClaims))
+                .hasMessage("폐기된 Refresh Token입니다.");
+        assertThatThrownBy(() -> authService.logout("expired-access-token", null))
+                .isInstanceOf(BusinessException.class);
+    }
+
+    @Test
+    void 일괄_기록_중에도_정상_회전을_재사용으로_오판하지_않음() throws Exception {
+        // Given - 패밀리 2개를 번갈아 회전하여 캐시(크기 1)에서 계속 밀려나게 함
+        List<JwtTokenClaims> families = List.of(claims(refreshTokenService.issue("owner")),
+                claims(refreshTokenService.issue("trainer")));
+        AtomicBoolean running = new AtomicBoolean(true);
+        ExecutorService executor = Executors.newFixedThreadPool(3);
+
+        // When - 기록 스레드가 계속 flush 하는 동안 회전
+        Future<?> flusher = executor.submit(() -> {
+            while (running.get()) {
+                familyCache.flush();
+            }
+        });
+        List<Future<JwtTokenClaims>> rotations = families.stream()
+                .map(family -> executor.submit(() -> {
+                    JwtTokenClaims current = family;
+                    for (int i = 0; i < 100; i++) {
+                        current = claims(refreshTokenService.rotate(current));
+                    }
+                    return current;
+                }))
+                .toList();
+        for (Future<JwtTokenClaims> rotation : rotations) {
+            rotation.get();
+        }
+        running.set(false);
+        flusher.get();
+        executor.shutdown();
+        familyCache.flush();
+
+        // Then
+        for (JwtTokenClaims family : families) {
+            RefreshTokenFamily saved = refreshTokenFamilyRepository.findById(family.getFamilyId()).orElseThrow();
+            assertThat(saved.getGeneration()).isEqualTo(100);
+            assertThat(saved.getRevoked()).isFalse();
+        }
+    }
+
+    private JwtTokenClaims claims(String refreshToken) {
+        return jwtUtil.verify(refreshToken).orElseThrow();
+    }
+}
@@ -0,0 +1,104 @@
+package com.fitness.domain.auth.service;
+
+import com.fitness.common.config.SocialLoginProperties;
+import com.fitness.common.enums.SocialProvider;
+import com.fitness.common.exception.BusinessException;
+import com.fitness.common.exception.ErrorCode;
+import com.fitness.domain.auth.dto.SocialUserInfo;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 소셜 제공자 토큰 검증 결과 캐시 테스트
+ * 같은 토큰 재요청/동시 요청 시 제공자 호출 1회, 거부 토큰 음성 캐시, 제공자 장애 미캐시 검증
+ */
+class SocialIdentityCacheTest {
+
+    private SocialIdentityCache identityCache;
+    private final AtomicInteger providerCalls = new AtomicInteger();
+
+    @BeforeEach
+    void setUp() {
+        identityCache = new SocialIdentityCache(new SocialLoginProperties(), new SimpleMeterRegistry());
+    }
+
+    @Test
+    void 같은_토큰은_동시에_요청해도_제공자를_한_번만_호출() throws Exception {
+        // Given
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        CountDownLatch start = new CountDownLatch(1);
+
+        // When
+        List<Future<SocialUserInfo>> futures = new ArrayList<>();
+        for (int i = 0; i < 8; i++) {
+            futures.add(executor.submit(() -> {
+                start.await();
+                return identityCache.get(SocialProvider.KAKAO, "kakao-token", () -> {
+                    sleep();
+                    return userInfo("100");
+                });
+            }));
+        }
+        start.countDown();
+        List<String> socialIds = new ArrayList<>();
+        for (Future<SocialUserInfo> future : futures) {
+            socialIds.add(future.get().getSocialId());
+        }
+        executor.shutdown();
+
+        // Then - 같은 토큰 값이라도 제공자가 다르면 별도 항목
+        assertThat(socialIds).containsOnly("100");
+        assertThat(providerCalls).hasValue(1);
+        identityCache.get(SocialProvider.APPLE, "kakao-token", () -> userInfo("200"));
+        assertThat(providerCalls).hasValue(2);
+    }
+
+    @Test
+    void 거부된_토큰은_제공자_호출_없이_거절하고_제공자_장애는_캐시하지_않음() {
+        // Given
+        assertThatThrownBy(() -> identityCache.get(SocialProvider.KAKAO, "invalid", () -> {
+            providerCalls.incrementAndGet();
+            throw new BusinessException(ErrorCode.INVALID_SOCIAL_TOKEN);
+        })).isInstanceOf(BusinessException.class);
+        assertThatThrownBy(() -> identityCache.get(SocialProvider.KAKAO, "outage", () -> {
+            providerCalls.incrementAndGet();
+            throw new BusinessException(ErrorCode.SOCIAL_PROVIDER_UNAVAILABLE);
+        })).isInstanceOf(BusinessException.class);
+
+        // When & Then
+        assertThatThrownBy(() -> identityCache.get(SocialProvider.KAKAO, "invalid", () -> userInfo("100")))
+                .isInstanceOf(BusinessException.class)
+                .extracting("errorCode").isEqualTo(ErrorCode.INVALID_SOCIAL_TOKEN);
+        assertThat(identityCache.get(SocialProvider.KAKAO, "outage", () -> userInfo("100")).getSocialId())
+                .isEqualTo("100");
+        assertThat(providerCalls).hasValue(3);
+    }
+
+    private SocialUserInfo userInfo(String socialId) {
+        providerCalls.incrementAndGet();
+        return SocialUserInfo.builder()
+                .socialId(socialId)
+                .provider(SocialProvider.KAKAO)
+                .build();
+    }
+
+    private static void sleep() {
+        try {
+            Thread.sleep(100);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
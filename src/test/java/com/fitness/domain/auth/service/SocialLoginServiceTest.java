@@ -0,0 +1,172 @@
+package com.fitness.domain.auth.service;
+
+import com.fitness.common.config.JwtProperties;
+import com.fitness.common.config.QuerydslConfig;
+import com.fitness.common.config.SocialLoginProperties;
+import com.fitness.common.config.TokenRevocationConfig;
+import com.fitness.common.enums.SocialProvider;
+import com.fitness.common.jwt.JwtUtil;
+import com.fitness.common.jwt.TokenRevocationService;
+import com.fitness.domain.auth.dto.KakaoUserInfo;
+import com.fitness.domain.auth.dto.LoginResponse;
+import com.fitness.domain.auth.dto.SocialLoginRequest;
+import com.fitness.domain.auth.entity.Auth;
+import com.fitness.domain.auth.repository.AuthRepository;
+import com.fitness.domain.user.repository.UserRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.jdbc.Sql;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.client.RestTemplate;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.util.List;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 소셜 로그인 서비스 테스트
+ * 같은 소셜 계정으로 동시에 가입해도 계정이 하나만 생성되고, 늦은 요청은 기존 계정으로 로그인되는지 검증
+ */
+@DataJpaTest
+@Import({UsernameAllocator.class, RefreshTokenService.class, RefreshTokenFamilyCache.class, JwtUtil.class,
+        JwtProperties.class, TokenRevocationService.class, TokenRevocationConfig.class, SimpleMeterRegistry.class,
+        QuerydslConfig.class})
+@ActiveProfiles("test")
+@Sql(scripts = "/sql/cleanup.sql", executionPhase = Sql.ExecutionPhase.AFTER_TEST_METHOD)
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_EACH_TEST_METHOD) // 사용자명 카운터 / 회전 상태 캐시 초기화
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class SocialLoginServiceTest {
+
+    private static final long KAKAO_ID = 4242L;
+
+    @Autowired
+    private AuthRepository authRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JwtUtil jwtUtil;
+
+    @Autowired
+    private RefreshTokenService refreshTokenService;
+
+    @Autowired
+    private UsernameAllocator usernameAllocator;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private final CyclicBarrier lookupBarrier = new CyclicBarrier(2);
+    private final AtomicInteger lookups = new AtomicInteger();
+    private volatile boolean racing;
+
+    private SocialLoginService socialLoginService;
+
+    @BeforeEach
+    void setUp() {
+        SocialLoginProperties properties = new SocialLoginProperties();
+        KakaoApiClient kakaoApiClient = new KakaoApiClient(new RestTemplate(), properties) {
+            @Override
+            public KakaoUserInfo getUserInfo(String accessToken) {
+                KakaoUserInfo userInfo = new KakaoUserInfo();
+                userInfo.setId(KAKAO_ID);
+                return userInfo;
+            }
+        };
+
+        socialLoginService = new SocialLoginService(
+                racingAuthRepository(),
+                userRepository,
+                jwtUtil,
+                refreshTokenService,
+                new BCryptPasswordEncoder(),
+                kakaoApiClient,
+                new AppleIdentityTokenVerifier(new RestTemplate(), properties),
+                new SocialIdentityCache(properties, new SimpleMeterRegistry()),
+                new TransactionTemplate(transactionManager),
+                usernameAllocator);
+    }
+
+    @Test
+    void 같은_소셜_계정으로_동시에_가입해도_계정은_하나만_생성() throws Exception {
+        // Given - 두 기기에서 서로 다른 카카오 토큰으로 같은 계정 로그인
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        racing = true;
+
+        // When - 두 요청 모두 기존 계정이 없다고 조회한 뒤 가입 진행
+        List<Future<LoginResponse>> futures = List.of(
+                executor.submit(() -> socialLoginService.socialLogin(request("device-a-token"))),
+                executor.submit(() -> socialLoginService.socialLogin(request("device-b-token"))));
+        LoginResponse first = futures.get(0).get(30, TimeUnit.SECONDS);
+        LoginResponse second = futures.get(1).get(30, TimeUnit.SECONDS);
+        executor.shutdown();
+
+        // Then - 늦은 요청은 제약 위반 후 먼저 가입된 계정을 다시 조회하여 로그인
+        assertThat(lookups.get()).isGreaterThanOrEqualTo(3);
+        assertThat(second.getUserId()).isEqualTo(first.getUserId());
+        assertThat(second.getUsername()).isEqualTo(first.getUsername());
+        List<Auth> auths = authRepository.findAll();
+        assertThat(auths).hasSize(1);
+        assertThat(auths.get(0).getSocialId()).isEqualTo(String.valueOf(KAKAO_ID));
+        assertThat(userRepository.count()).isEqualTo(1);
+        assertThat(authRepository.findBySocialIdAndProvider(String.valueOf(KAKAO_ID), SocialProvider.KAKAO)).isPresent();
+    }
+
+    @Test
+    void 가입된_소셜_계정은_기존_계정으로_로그인() {
+        // Given
+        LoginResponse signUp = socialLoginService.socialLogin(request("device-a-token"));
+
+        // When
+        LoginResponse login = socialLoginService.socialLogin(request("device-b-token"));
+
+        // Then
+        assertThat(login.getUserId()).isEqualTo(signUp.getUserId());
+        assertThat(authRepository.count()).isEqualTo(1);
+    }
+
+    /**
+     * 처음 두 번의 소셜 계정 조회가 모두 끝난 뒤에 진행하도록 하여 동시 가입 경쟁을 재현하는 저장소
+     */
+    private AuthRepository racingAuthRepository() {
+        return (AuthRepository) Proxy.newProxyInstance(AuthRepository.class.getClassLoader(),
+                new Class<?>[]{AuthRepository.class}, (proxy, method, args) -> {
+                    Object result;
+                    try {
+                        result = method.invoke(authRepository, args);
+                    } catch (InvocationTargetException e) {
+                        throw e.getCause();
+                    }
+                    if (method.getName().equals("findBySocialIdAndProvider") && racing && lookups.incrementAndGet() <= 2) {
+                        lookupBarrier.await(10, TimeUnit.SECONDS);
+                    }
+                    return result;
+                });
+    }
+
+    private static SocialLoginRequest request(String accessToken) {
+        SocialLoginRequest request = new SocialLoginRequest();
+        request.setProvider(SocialProvider.KAKAO);
+        request.setAccessToken(accessToken);
+        return request;
+    }
+}
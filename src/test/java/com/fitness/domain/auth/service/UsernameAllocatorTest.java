@@ -0,0 +1,139 @@
+package com.fitness.domain.auth.service;
+
+import com.fitness.common.config.QuerydslConfig;
+import com.fitness.common.enums.SocialProvider;
+import com.fitness.common.enums.UserType;
+import com.fitness.domain.auth.entity.Auth;
+import com.fitness.domain.auth.repository.AuthRepository;
+import com.fitness.domain.user.entity.User;
+import com.fitness.domain.user.repository.UserRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 사용자명 할당기 테스트
+ * 같은 소셜 접두사로 동시 가입 시 사용자명이 겹치지 않고, DB 조회는 1회인지 검증
+ */
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@Import({UsernameAllocator.class, QuerydslConfig.class})
+@ActiveProfiles("test")
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class UsernameAllocatorTest {
+
+    private static final String BASE_USERNAME = "kakao_100";
+    private static final int THREADS = 32;
+    private static final int SIGN_UPS = 200;
+
+    @Autowired
+    private UsernameAllocator usernameAllocator;
+
+    @Autowired
+    private AuthRepository authRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private TransactionTemplate transactionTemplate;
+
+    @BeforeEach
+    void setUp() {
+        transactionTemplate = new TransactionTemplate(transactionManager);
+
+        // 기존 사용자명: 기본, _1, _7 및 접두사만 비슷한 사용자명
+        for (String username : List.of(BASE_USERNAME, BASE_USERNAME + "_1", BASE_USERNAME + "_7",
+                BASE_USERNAME + "_x", "kakao_1000")) {
+            signUp(username);
+        }
+    }
+
+    @AfterEach
+    void tearDown() {
+        authRepository.deleteAllInBatch();
+        userRepository.deleteAllInBatch();
+    }
+
+    @Test
+    void 동시_가입_시_사용자명_중복_없음_및_조회_1회() throws Exception {
+        // Given
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<String>> futures = new ArrayList<>();
+
+        try {
+            // When
+            for (int i = 0; i < SIGN_UPS; i++) {
+                Callable<String> task = () -> {
+                    start.await();
+                    String username = usernameAllocator.allocate(BASE_USERNAME);
+                    signUp(username);
+                    return username;
+                };
+                futures.add(executor.submit(task));
+            }
+            start.countDown();
+
+            Set<String> allocated = new HashSet<>();
+            for (Future<String> future : futures) {
+                allocated.add(future.get());
+            }
+
+            // Then
+            assertThat(allocated).hasSize(SIGN_UPS);
+            assertThat(allocated).allMatch(username -> username.matches("kakao_100_\\d+"));
+            assertThat(allocated).contains(BASE_USERNAME + "_8", BASE_USERNAME + "_" + (7 + SIGN_UPS));
+            assertThat(statistics.getQueryExecutionCount()).isEqualTo(1);
+            assertThat(authRepository.count()).isEqualTo(5 + SIGN_UPS);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void 사용되지_않은_기본_사용자명은_그대로_할당() {
+        // When
+        String username = usernameAllocator.allocate("apple_000123.abc");
+
+        // Then
+        assertThat(username).isEqualTo("apple_000123.abc");
+    }
+
+    private void signUp(String username) {
+        transactionTemplate.executeWithoutResult(status -> {
+            User user = userRepository.save(User.createSocialUser(UserType.MEMBER, "회원", null));
+            authRepository.save(Auth.createSocialAuth(user, SocialProvider.KAKAO, username, null, null, username));
+        });
+    }
+}
@@ -0,0 +1,144 @@
+package com.fitness.domain.business.repository;
+
+import com.fitness.common.config.QuerydslConfig;
+import com.fitness.common.util.CursorPage;
+import com.fitness.domain.business.dto.BusinessMemberSearchCondition;
+import com.fitness.domain.business.entity.BusinessMember;
+import com.fitness.domain.business.entity.BusinessMemberStatus;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.jdbc.Sql;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 사업장 회원 검색 리포지토리 테스트
+ * 커서 조회의 페이지 경계/조건 유지, 조건별 회원 수, 페이지 조회 정렬 검증
+ */
+@DataJpaTest
+@Import(QuerydslConfig.class)
+@ActiveProfiles("test")
+@Sql("/sql/owner-business.sql")
+class BusinessMemberRepositoryTest {
+
+    private static final Long BUSINESS_ID = 1L;
+
+    @Autowired
+    private BusinessMemberRepository businessMemberRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        // 사업장 1: 회원 5명 (ID 1~5, 5번은 삭제됨), 사업장 2: 회원 1명
+        jdbcTemplate.update("INSERT INTO user (user_id, user_type, name, phone_number, status, created_at) VALUES " +
+                "(2, 'MEMBER', '김철수', '010-1111-1234', 'ACTIVE', NOW()), " +
+                "(3, 'MEMBER', '김영희', '010-2222-5678', 'ACTIVE', NOW()), " +
+                "(4, 'MEMBER', '이민수', '010-3333-1234', 'ACTIVE', NOW()), " +
+                "(5, 'MEMBER', '박지훈', '010-4444-0000', 'ACTIVE', NOW()), " +
+                "(6, 'MEMBER', '김삭제', '010-5555-1234', 'ACTIVE', NOW())");
+        jdbcTemplate.update("INSERT INTO business (business_id, owner_id, business_number, status, business_name, created_at) " +
+                "VALUES (2, 1, '123-45-67891', 'ACTIVE', '2호점', NOW())");
+        jdbcTemplate.update("INSERT INTO business_member (business_member_id, business_id, member_id, status, sms_yn, " +
+                "join_date, created_at, deleted_at) VALUES " +
+                "(1, 1, 2, 'ACTIVE', TRUE, '2025-01-10', NOW(), NULL), " +
+                "(2, 1, 3, 'EXPIRED', FALSE, '2025-02-10', NOW(), NULL), " +
+                "(3, 1, 4, 'ACTIVE', TRUE, '2025-03-10', NOW(), NULL), " +
+                "(4, 1, 5, 'SUSPENDED', TRUE, '2025-04-10', NOW(), NULL), " +
+                "(5, 1, 6, 'ACTIVE', TRUE, '2025-05-10', NOW(), NOW()), " +
+                "(6, 2, 2, 'ACTIVE', TRUE, '2025-01-10', NOW(), NULL)");
+        jdbcTemplate.update("INSERT INTO attendance (business_id, member_id, attendance_date, created_at) VALUES " +
+                "(1, 2, '2025-03-05 10:00:00', NOW()), (1, 4, '2025-03-20 10:00:00', NOW()), " +
+                "(2, 3, '2025-03-05 10:00:00', NOW())");
+    }
+
+    @Test
+    void 커서로_끝까지_조회하면_최근_등록순으로_중복_누락_없이_조회() {
+        // Given
+        BusinessMemberSearchCondition condition = condition().build();
+
+        // When
+        List<Long> ids = new ArrayList<>();
+        List<Boolean> hasNexts = new ArrayList<>();
+        Long cursor = null;
+        do {
+            CursorPage<BusinessMember> page = businessMemberRepository.searchMembersByCursor(condition, cursor, 2);
+            page.getContent().forEach(member -> ids.add(member.getBusinessMemberId()));
+            hasNexts.add(page.isHasNext());
+            cursor = page.getNextCursor();
+        } while (cursor != null);
+
+        // Then - 삭제된 회원(5), 다른 사업장 회원(6) 제외
+        assertThat(ids).containsExactly(4L, 3L, 2L, 1L);
+        assertThat(hasNexts).containsExactly(true, false);
+    }
+
+    @Test
+    void 커서_조회는_다음_페이지에서도_검색_조건_유지() {
+        // Given - 전화번호 뒷자리 1234
+        BusinessMemberSearchCondition condition = condition().phone("1234").build();
+
+        // When
+        CursorPage<BusinessMember> first = businessMemberRepository.searchMembersByCursor(condition, null, 1);
+        CursorPage<BusinessMember> second = businessMemberRepository.searchMembersByCursor(
+                condition, first.getNextCursor(), 1);
+
+        // Then
+        assertThat(first.getContent()).extracting(BusinessMember::getBusinessMemberId).containsExactly(3L);
+        assertThat(first.getNextCursor()).isEqualTo(3L);
+        assertThat(second.getContent()).extracting(BusinessMember::getBusinessMemberId).containsExactly(1L);
+        assertThat(second.isHasNext()).isFalse();
+        assertThat(second.getNextCursor()).isNull();
+        assertThat(second.getContent().get(0).getMember().getName()).isEqualTo("김철수");
+    }
+
+    @Test
+    void 조건별_회원_수() {
+        assertThat(businessMemberRepository.countMembers(condition().build())).isEqualTo(4);
+        assertThat(businessMemberRepository.countMembers(condition().name("김").build())).isEqualTo(2);
+        assertThat(businessMemberRepository.countMembers(condition().phone("1234").build())).isEqualTo(2);
+        assertThat(businessMemberRepository.countMembers(condition().phone("010-2").build())).isEqualTo(1);
+        assertThat(businessMemberRepository.countMembers(condition().status(BusinessMemberStatus.ACTIVE).build()))
+                .isEqualTo(2);
+        assertThat(businessMemberRepository.countMembers(condition().smsConsent(false).build())).isEqualTo(1);
+        assertThat(businessMemberRepository.countMembers(condition().memberNumber("3").build())).isEqualTo(1);
+        assertThat(businessMemberRepository.countMembers(condition().memberNumber("abc").build())).isZero();
+        assertThat(businessMemberRepository.countMembers(condition()
+                .joinDateFrom(LocalDate.of(2025, 2, 1)).joinDateTo(LocalDate.of(2025, 3, 31)).build())).isEqualTo(2);
+        // 마지막 방문일이 3월 1일 ~ 3월 10일인 회원 (3월 20일에 다시 방문한 회원 제외)
+        assertThat(businessMemberRepository.countMembers(condition()
+                .lastVisitDateFrom(LocalDate.of(2025, 3, 1)).lastVisitDateTo(LocalDate.of(2025, 3, 10)).build()))
+                .isEqualTo(1);
+        assertThat(businessMemberRepository.countMembers(BusinessMemberSearchCondition.builder()
+                .businessId(2L).build())).isEqualTo(1);
+    }
+
+    @Test
+    void 페이지_조회는_정렬_후_ID_역순으로_고정하고_전체_건수_포함() {
+        // When
+        Page<BusinessMember> page = businessMemberRepository.searchMembers(condition().build(),
+                PageRequest.of(0, 3, Sort.by("status")));
+
+        // Then - ACTIVE(3, 1), EXPIRED(2) / 전체 4건
+        assertThat(page.getContent()).extracting(BusinessMember::getBusinessMemberId).containsExactly(3L, 1L, 2L);
+        assertThat(page.getTotalElements()).isEqualTo(4);
+        assertThat(page.getTotalPages()).isEqualTo(2);
+    }
+
+    private static BusinessMemberSearchCondition.BusinessMemberSearchConditionBuilder condition() {
+        return BusinessMemberSearchCondition.builder().businessId(BUSINESS_ID);
+    }
+}
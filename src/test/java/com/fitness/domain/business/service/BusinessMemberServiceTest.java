@@ -0,0 +1,126 @@
+package com.fitness.domain.business.service;
+
+import com.fitness.common.config.QuerydslConfig;
+import com.fitness.common.exception.BusinessException;
+import com.fitness.common.exception.ErrorCode;
+import com.fitness.domain.business.dto.MemberSearchResult;
+import com.fitness.domain.business.entity.BusinessMember;
+import com.fitness.domain.business.entity.BusinessMemberStatus;
+import jakarta.persistence.EntityManager;
+import org.hibernate.Hibernate;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.jdbc.Sql;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 사업장 회원 키워드 검색 테스트
+ * 검색 API가 검색 인덱스를 사용하는지, 회원 정보를 읽지 않은 소속 변경도 지연 로딩 없이 인덱스에 반영되는지 검증
+ */
+@DataJpaTest
+@Import({BusinessMemberService.class, BusinessMemberSearchIndex.class, MemberSearchIndexListener.class,
+        QuerydslConfig.class})
+@ActiveProfiles("test")
+@Sql("/sql/owner-business.sql")
+@Sql(scripts = "/sql/cleanup.sql", executionPhase = Sql.ExecutionPhase.AFTER_TEST_METHOD)
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_EACH_TEST_METHOD) // 검색 인덱스 초기화
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class BusinessMemberServiceTest {
+
+    private static final Long OWNER_ID = 1L;
+    private static final Long BUSINESS_ID = 1L;
+
+    @Autowired
+    private BusinessMemberService businessMemberService;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.update("INSERT INTO user (user_id, user_type, name, phone_number, status, created_at) VALUES " +
+                "(2, 'MEMBER', '김민수', '010-1111-1234', 'ACTIVE', NOW()), " +
+                "(3, 'MEMBER', '김민지', '010-2222-5678', 'ACTIVE', NOW()), " +
+                "(4, 'MEMBER', '이서준', '010-3333-1234', 'ACTIVE', NOW())");
+        jdbcTemplate.update("INSERT INTO business_member (business_member_id, business_id, member_id, status, sms_yn, " +
+                "join_date, created_at) VALUES " +
+                "(1, 1, 2, 'ACTIVE', TRUE, CURRENT_DATE, NOW()), (2, 1, 3, 'ACTIVE', TRUE, CURRENT_DATE, NOW())");
+    }
+
+    @Test
+    void 이름_초성_전화번호_뒷자리로_검색() {
+        assertThat(ids(search("민", null))).containsExactly(2L, 1L);
+        assertThat(ids(search("ㄱㅁㅅ", null))).containsExactly(1L);
+        assertThat(ids(search("1234", null))).containsExactly(1L);
+        assertThat(search("이서준", null)).isEmpty();
+        assertThatThrownBy(() -> businessMemberService.searchMembers(2L, BUSINESS_ID, "민", null, 10))
+                .isInstanceOf(BusinessException.class)
+                .extracting("errorCode").isEqualTo(ErrorCode.BUSINESS_NOT_FOUND);
+        assertThatThrownBy(() -> search(" ", null))
+                .isInstanceOf(BusinessException.class)
+                .extracting("errorCode").isEqualTo(ErrorCode.INVALID_INPUT);
+    }
+
+    @Test
+    void 회원_정보를_읽지_않은_상태_변경도_지연_로딩_없이_검색에_반영() {
+        // Given - 인덱스 적재
+        assertThat(ids(search("민", BusinessMemberStatus.ACTIVE))).containsExactly(2L, 1L);
+
+        // When - 회원(User)을 읽지 않고 소속 상태만 변경
+        boolean memberLoaded = new TransactionTemplate(transactionManager).execute(status -> {
+            BusinessMember businessMember = entityManager.find(BusinessMember.class, 1L);
+            businessMember.setStatus(BusinessMemberStatus.SUSPENDED);
+            entityManager.flush();
+            return Hibernate.isInitialized(businessMember.getMember());
+        });
+
+        // Then
+        assertThat(memberLoaded).isFalse();
+        assertThat(ids(search("민", BusinessMemberStatus.ACTIVE))).containsExactly(2L);
+        assertThat(ids(search("민", BusinessMemberStatus.SUSPENDED))).containsExactly(1L);
+    }
+
+    @Test
+    void 인덱스에_없는_회원의_변경은_사업장_인덱스를_다시_적재() {
+        // Given - 인덱스 적재 후 엔티티 이벤트 없이 추가된 소속 회원
+        assertThat(search("이서준", null)).isEmpty();
+        jdbcTemplate.update("INSERT INTO business_member (business_member_id, business_id, member_id, status, sms_yn, " +
+                "join_date, created_at) VALUES (3, 1, 4, 'ACTIVE', TRUE, CURRENT_DATE, NOW())");
+
+        // When - 회원 정보를 읽지 않고 상태 변경
+        new TransactionTemplate(transactionManager).executeWithoutResult(status ->
+                entityManager.find(BusinessMember.class, 3L).setStatus(BusinessMemberStatus.EXPIRED));
+
+        // Then
+        assertThat(ids(search("이서준", BusinessMemberStatus.EXPIRED))).containsExactly(3L);
+        assertThat(ids(search("1234", null))).containsExactly(3L, 1L);
+    }
+
+    private List<MemberSearchResult> search(String keyword, BusinessMemberStatus status) {
+        return businessMemberService.searchMembers(OWNER_ID, BUSINESS_ID, keyword, status, 10);
+    }
+
+    private static List<Long> ids(List<MemberSearchResult> results) {
+        return results.stream().map(MemberSearchResult::getBusinessMemberId).toList();
+    }
+}
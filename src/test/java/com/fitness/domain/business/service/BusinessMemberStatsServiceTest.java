@@ -0,0 +1,136 @@
+package com.fitness.domain.business.service;
+
+import com.fitness.common.config.BusinessProperties;
+import com.fitness.common.config.QuerydslConfig;
+import com.fitness.domain.business.entity.BusinessMember;
+import com.fitness.domain.business.entity.BusinessMemberStatus;
+import com.fitness.domain.business.repository.BusinessMemberRepositoryCustom.BusinessMemberStats;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.jdbc.Sql;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 사업장 회원 통계 테스트
+ * 조건부 집계 쿼리의 상태별 회원 수와 커밋 후 캐시 제거 검증
+ */
+@DataJpaTest
+@Import({BusinessMemberStatsService.class, MemberStatsCacheEvictionListener.class, BusinessProperties.class,
+        SimpleMeterRegistry.class, QuerydslConfig.class})
+@ActiveProfiles("test")
+@Sql("/sql/owner-business.sql")
+@Sql(scripts = "/sql/cleanup.sql", executionPhase = Sql.ExecutionPhase.AFTER_TEST_METHOD)
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_EACH_TEST_METHOD) // 통계 캐시 초기화
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class BusinessMemberStatsServiceTest {
+
+    private static final Long BUSINESS_ID = 1L;
+
+    @Autowired
+    private BusinessMemberStatsService statsService;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.update("INSERT INTO user (user_id, user_type, name, status, created_at) VALUES " +
+                "(9, 'EMPLOYEE', '트레이너', 'ACTIVE', NOW()), " +
+                "(2, 'MEMBER', '회원1', 'ACTIVE', NOW()), (3, 'MEMBER', '회원2', 'ACTIVE', NOW()), " +
+                "(4, 'MEMBER', '회원3', 'ACTIVE', NOW()), (5, 'MEMBER', '회원4', 'ACTIVE', NOW()), " +
+                "(6, 'MEMBER', '회원5', 'ACTIVE', NOW()), (7, 'MEMBER', '회원6', 'ACTIVE', NOW())");
+        jdbcTemplate.update("INSERT INTO business (business_id, owner_id, business_number, status, business_name, created_at) " +
+                "VALUES (2, 1, '123-45-67891', 'ACTIVE', '2호점', NOW())");
+        // 이용 중 3명(PT 1명, SMS 동의 2명) + 정지(PT) 1명 + 만료 1명, 삭제된 회원/다른 사업장 회원은 제외
+        jdbcTemplate.update("INSERT INTO business_member (business_member_id, business_id, member_id, employee_id, " +
+                "status, sms_yn, join_date, created_at, deleted_at) VALUES " +
+                "(1, 1, 2, 9, 'ACTIVE', TRUE, CURRENT_DATE, NOW(), NULL), " +
+                "(2, 1, 3, NULL, 'ACTIVE', FALSE, CURRENT_DATE, NOW(), NULL), " +
+                "(3, 1, 4, NULL, 'EXPIRING_SOON', TRUE, CURRENT_DATE, NOW(), NULL), " +
+                "(4, 1, 5, 9, 'SUSPENDED', TRUE, CURRENT_DATE, NOW(), NULL), " +
+                "(5, 1, 6, NULL, 'EXPIRED', TRUE, CURRENT_DATE, NOW(), NULL), " +
+                "(6, 1, 7, NULL, 'ACTIVE', TRUE, CURRENT_DATE, NOW(), NOW()), " +
+                "(7, 2, 2, NULL, 'ACTIVE', TRUE, CURRENT_DATE, NOW(), NULL)");
+        // 최근 30일 방문 3건 (30일 이전 방문, 다른 사업장 방문 제외)
+        jdbcTemplate.update("INSERT INTO attendance (business_id, member_id, attendance_date, created_at) VALUES " +
+                "(1, 2, DATEADD('DAY', -1, NOW()), NOW()), (1, 2, DATEADD('DAY', -2, NOW()), NOW()), " +
+                "(1, 3, DATEADD('DAY', -3, NOW()), NOW()), (1, 3, DATEADD('DAY', -40, NOW()), NOW()), " +
+                "(2, 2, DATEADD('DAY', -1, NOW()), NOW())");
+    }
+
+    @Test
+    void 상태별_회원_수_집계() {
+        // When
+        BusinessMemberStats stats = statsService.getMemberStats(BUSINESS_ID);
+
+        // Then
+        assertThat(stats.getTotalMembers()).isEqualTo(5);
+        assertThat(stats.getActiveMembers()).isEqualTo(3);
+        assertThat(stats.getInactiveMembers()).isEqualTo(2);
+        assertThat(stats.getSuspendedMembers()).isEqualTo(1);
+        assertThat(stats.getExpiredMembers()).isEqualTo(1);
+        assertThat(stats.getPersonalTrainingMembers()).isEqualTo(1);
+        assertThat(stats.getGeneralMembers()).isEqualTo(2);
+        assertThat(stats.getSmsConsentMembers()).isEqualTo(2);
+        assertThat(stats.getAverageVisitFrequency()).isEqualTo(1.0);
+    }
+
+    @Test
+    void 회원이_없는_사업장은_모두_0() {
+        // Given
+        jdbcTemplate.update("INSERT INTO business (business_id, owner_id, business_number, status, business_name, " +
+                "created_at) VALUES (3, 1, '123-45-67892', 'ACTIVE', '3호점', NOW())");
+
+        // When
+        BusinessMemberStats stats = statsService.getMemberStats(3L);
+
+        // Then
+        assertThat(stats.getTotalMembers()).isZero();
+        assertThat(stats.getActiveMembers()).isZero();
+        assertThat(stats.getInactiveMembers()).isZero();
+        assertThat(stats.getSuspendedMembers()).isZero();
+        assertThat(stats.getExpiredMembers()).isZero();
+        assertThat(stats.getPersonalTrainingMembers()).isZero();
+        assertThat(stats.getGeneralMembers()).isZero();
+        assertThat(stats.getSmsConsentMembers()).isZero();
+        assertThat(stats.getAverageVisitFrequency()).isZero();
+    }
+
+    @Test
+    void 캐시된_통계는_회원_상태_변경_커밋_후_다시_집계() {
+        // Given - 캐시 적재 후 엔티티 이벤트 없이 바뀐 값은 캐시에 반영되지 않음
+        statsService.getMemberStats(BUSINESS_ID);
+        jdbcTemplate.update("UPDATE business_member SET sms_yn = FALSE WHERE business_member_id = 3");
+        assertThat(statsService.getMemberStats(BUSINESS_ID).getSmsConsentMembers()).isEqualTo(2);
+
+        // When - 이용 중 회원 정지
+        new TransactionTemplate(transactionManager).executeWithoutResult(status ->
+                entityManager.find(BusinessMember.class, 2L).setStatus(BusinessMemberStatus.SUSPENDED));
+
+        // Then
+        BusinessMemberStats stats = statsService.getMemberStats(BUSINESS_ID);
+        assertThat(stats.getActiveMembers()).isEqualTo(2);
+        assertThat(stats.getSuspendedMembers()).isEqualTo(2);
+        assertThat(stats.getGeneralMembers()).isEqualTo(1);
+        assertThat(stats.getSmsConsentMembers()).isEqualTo(1);
+    }
+}
@@ -0,0 +1,150 @@
+package com.fitness.domain.business.service;
+
+import com.fitness.common.config.AsyncConfig;
+import com.fitness.common.config.BusinessProperties;
+import com.fitness.common.config.QuerydslConfig;
+import com.fitness.common.config.SocialLoginProperties;
+import com.fitness.domain.attendance.repository.AttendanceJdbcRepository;
+import com.fitness.domain.attendance.service.AttendanceWriteBuffer;
+import com.fitness.domain.business.dto.MemberImportError;
+import com.fitness.domain.business.dto.MemberImportJobResponse;
+import com.fitness.domain.business.repository.MemberImportJdbcRepository;
+import com.fitness.domain.membership.repository.MembershipEligibilityJdbcRepository;
+import com.fitness.domain.membership.service.MembershipEligibilityIndex;
+import com.fitness.domain.statistics.service.BusinessDailyStatsService;
+import com.fitness.domain.statistics.service.DailyStatsRecorder;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.jdbc.Sql;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 회원 일괄 등록 테스트
+ * 검증 실패 시 전체 미등록, 검증 통과 시 청크 단위 배치 저장과 FK 연결 검증
+ */
+@DataJpaTest
+@Import({MemberImportService.class, MemberImportJdbcRepository.class, BusinessMemberSearchIndex.class,
+        BusinessMemberStatsService.class, BusinessDailyStatsService.class, MembershipEligibilityIndex.class,
+        MembershipEligibilityJdbcRepository.class, AttendanceWriteBuffer.class, AttendanceJdbcRepository.class,
+        DailyStatsRecorder.class, SimpleMeterRegistry.class,
+        AsyncConfig.class, BusinessProperties.class, SocialLoginProperties.class, QuerydslConfig.class})
+@ActiveProfiles("test")
+@Sql("/sql/owner-business.sql")
+@Sql(scripts = "/sql/cleanup.sql", executionPhase = Sql.ExecutionPhase.AFTER_TEST_METHOD)
+@TestPropertySource(properties = "business.member-import.batch-size=2")
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class MemberImportServiceTest {
+
+    private static final Long OWNER_ID = 1L;
+    private static final Long BUSINESS_ID = 1L;
+    private static final String HEADER = "이름,전화번호,성별,생년월일,상태,등록일,문자수신,메모,상품명,이용시작일,이용종료일,결제금액,결제수단\n";
+
+    @Autowired
+    private MemberImportService importService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.update("INSERT INTO user (user_id, user_type, name, phone_number, status, created_at) VALUES " +
+                "(2, 'MEMBER', '기존회원', '010-1111-2222', 'ACTIVE', NOW())");
+        jdbcTemplate.update("INSERT INTO business_member (business_member_id, member_id, business_id, status, sms_yn, " +
+                "join_date, created_at) VALUES (1, 2, 1, 'ACTIVE', TRUE, '2024-01-01', NOW())");
+        jdbcTemplate.update("INSERT INTO products (product_id, business_id, name, product_type, price, is_active, created_at) " +
+                "VALUES (1, 1, '3개월 회원권', 'MEMBERSHIP', 300000, TRUE, NOW()), " +
+                "(2, 1, 'PT 10회', 'PERSONAL_TRAINING', 500000, TRUE, NOW())");
+    }
+
+    @Test
+    void 검증_오류가_있으면_아무것도_등록하지_않음() {
+        // Given
+        String csv = HEADER +
+                "김민수,010-3333-4444,남성,1990-01-01,활성,2025-03-01,Y,,,,,,\n" +
+                "중복회원,01011112222,,,,,,,,,,,\n" +
+                "이서연,010-5555-6666,,,,,,,필라테스 30회,2025-03-01,2025-05-31,,카드\n" +
+                "박지훈,010-3333-4444,,,,,,,,,,,\n";
+
+        // When
+        MemberImportJobResponse response = startImport(csv);
+
+        // Then
+        assertThat(response.getStatus()).isEqualTo(MemberImportJob.Status.VALIDATION_FAILED);
+        assertThat(response.getErrors()).extracting(MemberImportError::getLineNumber).containsExactly(3, 4, 5);
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM business_member", Long.class)).isEqualTo(1L);
+    }
+
+    @Test
+    void 회원과_이용권을_청크_단위로_등록() throws InterruptedException {
+        // Given - 청크 크기 2, 5행 중 3행은 이용권 포함
+        String csv = "\uFEFF" + HEADER +
+                "김민수,01033334444,남성,1990.01.01,,2025-03-01,N,\"메모, 쉼표\",,,,,\n" +
+                "이서연,010-5555-6666,여성,,,,,,3개월 회원권,2025-03-01,2025-05-31,\"270,000\",카드\n" +
+                "박지훈,010-7777-8888,,,만료,,,,PT 10회,2025-03-01,2025-04-30,,CASH\n" +
+                "최유진,010-9999-0000,,,,,,,3개월 회원권,2025-03-02,2025-06-01,,계좌이체\n" +
+                "정하늘,010-1212-3434,,,,,,,,,,,\n";
+
+        // When
+        MemberImportJobResponse started = startImport(csv);
+        MemberImportJobResponse finished = awaitFinished(started.getJobId());
+
+        // Then
+        assertThat(started.getStatus()).isEqualTo(MemberImportJob.Status.RUNNING);
+        assertThat(finished.getStatus()).isEqualTo(MemberImportJob.Status.COMPLETED);
+        assertThat(finished.getProcessedRows()).isEqualTo(5);
+        assertThat(finished.getImportedMemberships()).isEqualTo(3);
+        assertThat(finished.getProgress()).isEqualTo(100);
+
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM business_member bm JOIN user u ON u.user_id = bm.member_id " +
+                "WHERE bm.business_id = 1 AND u.user_type = 'MEMBER'", Long.class)).isEqualTo(6L);
+        assertThat(jdbcTemplate.queryForMap(
+                "SELECT u.phone_number, u.birthday, bm.sms_yn, bm.memo, bm.status FROM business_member bm " +
+                "JOIN user u ON u.user_id = bm.member_id WHERE u.name = '김민수'"))
+                .containsEntry("PHONE_NUMBER", "010-3333-4444")
+                .containsEntry("SMS_YN", false)
+                .containsEntry("MEMO", "메모, 쉼표")
+                .containsEntry("STATUS", "ACTIVE");
+        // 이용권의 결제와 회원이 같은 행에서 생성된 키로 연결
+        assertThat(jdbcTemplate.queryForList(
+                "SELECT u.name FROM membership ms JOIN payment p ON p.payment_id = ms.payment_id " +
+                "JOIN user u ON u.user_id = ms.member_id AND u.user_id = p.member_id ORDER BY u.name", String.class))
+                .containsExactly("박지훈", "이서연", "최유진");
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT type FROM membership ms JOIN user u ON u.user_id = ms.member_id WHERE u.name = '박지훈'",
+                String.class)).isEqualTo("PT");
+        // 이관된 결제 일자의 일별 통계 재집계
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT payment_revenue FROM business_daily_stats WHERE business_id = 1 AND stat_date = '2025-03-01'",
+                Long.class)).isEqualTo(270_000L + 500_000L);
+    }
+
+    private MemberImportJobResponse startImport(String csv) {
+        return importService.startImport(OWNER_ID, BUSINESS_ID,
+                new ByteArrayInputStream(csv.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    private MemberImportJobResponse awaitFinished(String jobId) throws InterruptedException {
+        for (int i = 0; i < 100; i++) {
+            MemberImportJobResponse response = importService.getJob(OWNER_ID, BUSINESS_ID, jobId);
+            if (response.getStatus() != MemberImportJob.Status.RUNNING) {
+                return response;
+            }
+            Thread.sleep(100);
+        }
+        throw new AssertionError("일괄 등록이 끝나지 않았습니다: " + jobId);
+    }
+}
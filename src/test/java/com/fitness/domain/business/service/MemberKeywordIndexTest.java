@@ -0,0 +1,81 @@
+package com.fitness.domain.business.service;
+
+import com.fitness.domain.business.dto.MemberSearchResult;
+import com.fitness.domain.business.entity.BusinessMemberStatus;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 회원 키워드 검색 인덱스 테스트
+ * 이름/초성/전화번호 검색과 증분 갱신 검증
+ */
+class MemberKeywordIndexTest {
+
+    private MemberKeywordIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new MemberKeywordIndex();
+        index.loadIfNecessary(() -> List.of(
+                new MemberSearchResult(1L, 101L, "김민수", "010-1234-5678", BusinessMemberStatus.ACTIVE),
+                new MemberSearchResult(2L, 102L, "김민지", "010-9876-1234", BusinessMemberStatus.ACTIVE),
+                new MemberSearchResult(3L, 103L, "이서준", "010-5678-4321", BusinessMemberStatus.EXPIRED),
+                new MemberSearchResult(4L, 104L, "Kim Tom", null, BusinessMemberStatus.ACTIVE)));
+    }
+
+    @Test
+    void 이름_초성_전화번호_검색() {
+        assertThat(ids(index.search("민", null, 10))).containsExactly(2L, 1L);
+        assertThat(ids(index.search("민수", null, 10))).containsExactly(1L);
+        assertThat(ids(index.search("ㄱㅁ", null, 10))).containsExactly(2L, 1L);
+        assertThat(ids(index.search("ㅅㅈ", null, 10))).containsExactly(3L);
+        assertThat(ids(index.search("kimt", null, 10))).containsExactly(4L);
+
+        // 숫자 4자리는 뒷자리만 일치 (1번 회원의 가운데 1234는 제외)
+        assertThat(ids(index.search("1234", null, 10))).containsExactly(2L);
+        assertThat(ids(index.search("5678", null, 10))).containsExactly(1L);
+        assertThat(ids(index.search("010-5678", null, 10))).containsExactly(3L);
+
+        assertThat(ids(index.search("민", BusinessMemberStatus.EXPIRED, 10))).isEmpty();
+        assertThat(ids(index.search("김", null, 1))).containsExactly(2L);
+        assertThat(index.search("박", null, 10)).isEmpty();
+    }
+
+    @Test
+    void 회원_변경_증분_반영() {
+        // When
+        index.updateMember(101L, "박민수", "010-1234-0000");
+        index.upsert(new MemberSearchResult(5L, 105L, "최지우", "010-2222-3333", BusinessMemberStatus.ACTIVE));
+        index.remove(2L);
+
+        // Then
+        assertThat(index.search("김", null, 10)).isEmpty();
+        assertThat(ids(index.search("ㅂㅁㅅ", null, 10))).containsExactly(1L);
+        assertThat(ids(index.search("0000", null, 10))).containsExactly(1L);
+        assertThat(ids(index.search("5678", null, 10))).isEmpty();
+        assertThat(ids(index.search("지우", null, 10))).containsExactly(5L);
+        assertThat(index.size()).isEqualTo(4);
+    }
+
+    @Test
+    void 소속_상태만_변경하면_이름_전화번호는_유지() {
+        // When
+        boolean indexed = index.updateStatus(1L, BusinessMemberStatus.SUSPENDED);
+        boolean missing = index.updateStatus(9L, BusinessMemberStatus.SUSPENDED);
+
+        // Then
+        assertThat(indexed).isTrue();
+        assertThat(missing).isFalse();
+        assertThat(ids(index.search("민수", BusinessMemberStatus.SUSPENDED, 10))).containsExactly(1L);
+        assertThat(ids(index.search("5678", BusinessMemberStatus.SUSPENDED, 10))).containsExactly(1L);
+        assertThat(ids(index.search("민", BusinessMemberStatus.ACTIVE, 10))).containsExactly(2L);
+    }
+
+    private static List<Long> ids(List<MemberSearchResult> results) {
+        return results.stream().map(MemberSearchResult::getBusinessMemberId).toList();
+    }
+}
@@ -0,0 +1,159 @@
+package com.fitness.domain.commission.service;
+
+import com.fitness.common.config.AsyncConfig;
+import com.fitness.common.config.BusinessProperties;
+import com.fitness.common.config.QuerydslConfig;
+import com.fitness.common.config.SocialLoginProperties;
+import com.fitness.domain.commission.dto.CommissionRunResult;
+import com.fitness.domain.commission.repository.CommissionCalculationJdbcRepository;
+import com.fitness.domain.commission.repository.CommissionPolicyRepository;
+import com.fitness.domain.commission.repository.MonthlyPerformanceRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.jdbc.Sql;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.YearMonth;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 월말 커미션 정산 테스트
+ * 직원 월 매출 합계로 구간을 결정하고 결제별 계산 내역을 기록하는지 검증
+ */
+@DataJpaTest
+@Import({CommissionCalculationService.class, CommissionCalculationJdbcRepository.class,
+        MonthlyPerformanceAggregator.class, AsyncConfig.class, BusinessProperties.class,
+        SocialLoginProperties.class, QuerydslConfig.class})
+@ActiveProfiles("test")
+@Sql("/sql/owner-business.sql")
+class CommissionCalculationServiceTest {
+
+    private static final Long BUSINESS_ID = 1L;
+    private static final YearMonth MONTH = YearMonth.of(2025, 3);
+
+    @Autowired
+    private CommissionCalculationService calculationService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private CommissionPolicyRepository policyRepository;
+
+    @Autowired
+    private MonthlyPerformanceRepository performanceRepository;
+
+    @Autowired
+    private MonthlyPerformanceAggregator performanceAggregator;
+
+    @Autowired
+    private BusinessProperties businessProperties;
+
+    @Autowired
+    private ThreadPoolTaskExecutor commissionExecutor;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.update("INSERT INTO user (user_id, user_type, name, status, created_at) VALUES " +
+                "(2, 'MEMBER', '회원', 'ACTIVE', NOW()), " +
+                "(3, 'EMPLOYEE', '직원1', 'ACTIVE', NOW()), (4, 'EMPLOYEE', '직원2', 'ACTIVE', NOW()), " +
+                "(5, 'EMPLOYEE', '직원3', 'ACTIVE', NOW())");
+        jdbcTemplate.update("INSERT INTO products (product_id, business_id, name, product_type, price, is_active, created_at) " +
+                "VALUES (1, 1, '회원권', 'MEMBERSHIP', 100000, TRUE, NOW())");
+        // 0 ~ 999,999: 5%, 1,000,000 ~ 2,999,999: 10%, 3,000,000 이상: 15% (미사용 정책 제외)
+        jdbcTemplate.update("INSERT INTO commission_policies (commission_policy_id, business_id, min_amount, max_amount, " +
+                "commission_rate, use_yn, created_at) VALUES " +
+                "(1, 1, 0, 999999, 5, TRUE, NOW()), (2, 1, 1000000, 2999999, 10, TRUE, NOW()), " +
+                "(3, 1, 3000000, NULL, 15, TRUE, NOW()), (4, 1, 1000000, NULL, 50, FALSE, NOW())");
+        // 직원1: 500,000 / 직원2: 1,000,000 (경계) / 직원3: 3,500,000, 취소 및 다른 달 결제는 제외
+        jdbcTemplate.update("INSERT INTO payment (business_id, member_id, product_id, consultant_id, status, actual_price, " +
+                "payment_method, payment_date, created_at) VALUES " +
+                "(1, 2, 1, 3, 'COMPLETED', 500000, 'CARD', '2025-03-05 10:00:00', NOW()), " +
+                "(1, 2, 1, 4, 'COMPLETED', 600000, 'CARD', '2025-03-01 00:00:00', NOW()), " +
+                "(1, 2, 1, 4, 'COMPLETED', 400000, 'CASH', '2025-03-31 23:59:59', NOW()), " +
+                "(1, 2, 1, 5, 'COMPLETED', 3500000, 'CARD', '2025-03-15 10:00:00', NOW()), " +
+                "(1, 2, 1, 5, 'CANCELLED', 900000, 'CARD', '2025-03-16 10:00:00', NOW()), " +
+                "(1, 2, 1, 5, 'COMPLETED', 800000, 'CARD', '2025-04-01 00:00:00', NOW())");
+    }
+
+    @Test
+    void 직원_월매출_구간의_비율로_결제별_커미션_기록() {
+        // When
+        CommissionRunResult result = calculationService.run(BUSINESS_ID, MONTH);
+
+        // Then
+        assertThat(result.getEmployeeCount()).isEqualTo(3);
+        assertThat(result.getPaymentCount()).isEqualTo(4);
+        assertThat(result.getTotalCommission()).isEqualTo(25_000L + 100_000L + 525_000L);
+
+        List<Map<String, Object>> rows = jdbcTemplate.queryForList(
+                "SELECT mp.employee_id, cc.commission_rate, cc.commission_amount, cc.commission_policy_id " +
+                "FROM commission_calculations cc " +
+                "JOIN employee_monthly_performances mp ON mp.monthly_performance_id = cc.performance_id " +
+                "ORDER BY mp.employee_id, cc.payment_id");
+        assertThat(rows).extracting(row -> ((Number) row.get("commission_rate")).intValue())
+                .containsExactly(5, 10, 10, 15);
+        assertThat(rows).extracting(row -> ((Number) row.get("commission_amount")).longValue())
+                .containsExactly(25_000L, 60_000L, 40_000L, 525_000L);
+        assertThat(rows).extracting(row -> ((Number) row.get("commission_policy_id")).longValue())
+                .containsExactly(1L, 2L, 2L, 3L);
+    }
+
+    @Test
+    void 재정산하면_기존_내역을_대체() {
+        // Given - 정산 후 직원1 결제 추가로 월 매출 1,100,000 (10% 구간)
+        calculationService.run(BUSINESS_ID, MONTH);
+        jdbcTemplate.update("INSERT INTO payment (business_id, member_id, product_id, consultant_id, status, actual_price, " +
+                "payment_method, payment_date, created_at) VALUES " +
+                "(1, 2, 1, 3, 'COMPLETED', 600000, 'CARD', '2025-03-20 10:00:00', NOW())");
+
+        // When
+        CommissionRunResult result = calculationService.run(BUSINESS_ID, MONTH);
+
+        // Then
+        assertThat(result.getTotalCommission()).isEqualTo(110_000L + 100_000L + 525_000L);
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM commission_calculations", Long.class))
+                .isEqualTo(5L);
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM employee_monthly_performances", Long.class))
+                .isEqualTo(3L);
+    }
+
+    @Test
+    void 월_매출_합계에_없는_직원의_결제는_제외하고_나머지는_정산() {
+        // Given - 매출 합계 조회 이후 직원3 결제가 들어와 합계에 없는 경우
+        CommissionCalculationJdbcRepository calculationRepository = new CommissionCalculationJdbcRepository(jdbcTemplate) {
+            @Override
+            public Map<Long, Long> sumSalesByEmployee(Long businessId, YearMonth yearMonth) {
+                Map<Long, Long> sales = new HashMap<>(super.sumSalesByEmployee(businessId, yearMonth));
+                sales.remove(5L);
+                return sales;
+            }
+        };
+        CommissionCalculationService service = new CommissionCalculationService(policyRepository,
+                calculationRepository, performanceRepository, performanceAggregator, businessProperties,
+                commissionExecutor, transactionManager);
+
+        // When
+        CommissionRunResult result = service.run(BUSINESS_ID, MONTH);
+
+        // Then - 직원1, 직원2 결제 3건만 기록
+        assertThat(result.getEmployeeCount()).isEqualTo(2);
+        assertThat(result.getPaymentCount()).isEqualTo(3);
+        assertThat(result.getTotalCommission()).isEqualTo(25_000L + 100_000L);
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM commission_calculations", Long.class))
+                .isEqualTo(3L);
+    }
+}
@@ -0,0 +1,138 @@
+package com.fitness.domain.commission.service;
+
+import com.fitness.common.config.QuerydslConfig;
+import com.fitness.domain.commission.dto.PerformanceEvent;
+import com.fitness.domain.commission.dto.PerformanceRebuildResult;
+import com.fitness.domain.commission.entity.MonthlyPerformance;
+import com.fitness.domain.commission.repository.MonthlyPerformanceRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.jdbc.Sql;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 직원 월별 실적 증분 반영 테스트
+ * 증분 반영 결과가 결제 원본 재계산 결과와 일치하는지, 동시 반영 시 갱신이 유실되지 않는지 검증
+ * 반영기는 별도 트랜잭션(REQUIRES_NEW)을 사용하므로 테스트 트랜잭션 없이 실행하고 데이터를 직접 정리
+ */
+@DataJpaTest
+@Import({MonthlyPerformanceAggregator.class, MonthlyPerformanceService.class, QuerydslConfig.class})
+@ActiveProfiles("test")
+@Sql("/sql/owner-business.sql")
+@Sql(scripts = "/sql/cleanup.sql", executionPhase = Sql.ExecutionPhase.AFTER_TEST_METHOD)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class MonthlyPerformanceAggregatorTest {
+
+    private static final Long BUSINESS_ID = 1L;
+    private static final Long CONSULTANT_ID = 4L;
+    private static final YearMonth MONTH = YearMonth.of(2025, 3);
+
+    @Autowired
+    private MonthlyPerformanceAggregator aggregator;
+
+    @Autowired
+    private MonthlyPerformanceService performanceService;
+
+    @Autowired
+    private MonthlyPerformanceRepository performanceRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.update("INSERT INTO user (user_id, user_type, name, status, created_at) VALUES " +
+                "(2, 'MEMBER', '회원1', 'ACTIVE', NOW()), " +
+                "(3, 'MEMBER', '회원2', 'ACTIVE', NOW()), (4, 'EMPLOYEE', '상담직원', 'ACTIVE', NOW())");
+        jdbcTemplate.update("INSERT INTO products (product_id, business_id, name, product_type, price, is_active, created_at) " +
+                "VALUES (1, 1, '3개월 회원권', 'MEMBERSHIP', 300000, TRUE, NOW())");
+        jdbcTemplate.update("INSERT INTO payment (payment_id, business_id, member_id, product_id, consultant_id, status, " +
+                "actual_price, consultant_commission_price, payment_method, payment_date, created_at) VALUES " +
+                "(1, 1, 2, 1, 4, 'COMPLETED', 300000, 30000, 'CARD', '2025-03-02 10:00:00', NOW()), " +
+                "(2, 1, 2, 1, 4, 'COMPLETED', 280000, 28000, 'CARD', '2025-03-20 10:00:00', NOW()), " +
+                "(3, 1, 3, 1, 4, 'CANCELLED', 300000, 30000, 'CASH', '2025-03-21 10:00:00', NOW())");
+        jdbcTemplate.update("INSERT INTO outstanding_payment (payment_id, business_id, member_id, paid_amount, payment_method, " +
+                "payment_date, created_at) VALUES (2, 1, 2, 20000, 'CASH', '2025-03-25 10:00:00', NOW())");
+    }
+
+    @Test
+    void 결제_완료_취소_미수금_증분은_재계산과_일치() {
+        // When - 결제 1건은 신규, 1건은 재등록, 1건은 완료 후 취소, 미수금 납부 1건
+        aggregator.apply(List.of(completed(1L, 2L, 300_000, 30_000), completed(2L, 2L, 280_000, 28_000)));
+        aggregator.apply(List.of(completed(3L, 3L, 300_000, 30_000)));
+        aggregator.apply(List.of(event(PerformanceEvent.Type.PAYMENT_CANCELLED, 3L, 3L, 300_000, 30_000),
+                event(PerformanceEvent.Type.OUTSTANDING_PAID, 2L, 2L, 20_000, 0)));
+
+        // Then
+        MonthlyPerformance performance = performanceRepository
+                .findByKey(BUSINESS_ID, CONSULTANT_ID, MONTH.toString()).orElseThrow();
+        assertThat(performance.getTotalAmount()).isEqualTo(600_000);
+        assertThat(performance.getCommissionAmount()).isEqualTo(58_000);
+        assertThat(performance.getNewMemberCnt()).isEqualTo(1);
+        assertThat(performance.getRenewalMemberCnt()).isEqualTo(1);
+
+        PerformanceRebuildResult result = performanceService.rebuild(BUSINESS_ID, MONTH);
+        assertThat(result.getEmployeeCount()).isEqualTo(1);
+        assertThat(result.getMismatches()).isEmpty();
+    }
+
+    @Test
+    void 동시_반영시_갱신_유실_없음() throws Exception {
+        // Given - 같은 직원/월 행에 동시에 반영 (취소 후 재완료를 반복하여 합계는 결제 1건)
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        List<Future<?>> futures = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            futures.add(executor.submit(() -> aggregator.apply(List.of(completed(1L, 2L, 300_000, 30_000)))));
+            futures.add(executor.submit(() -> aggregator.apply(
+                    List.of(event(PerformanceEvent.Type.PAYMENT_CANCELLED, 1L, 2L, 300_000, 30_000)))));
+        }
+        futures.add(executor.submit(() -> aggregator.apply(List.of(completed(1L, 2L, 300_000, 30_000)))));
+
+        // When
+        for (Future<?> future : futures) {
+            future.get();
+        }
+        executor.shutdown();
+
+        // Then
+        MonthlyPerformance performance = performanceRepository
+                .findByKey(BUSINESS_ID, CONSULTANT_ID, MONTH.toString()).orElseThrow();
+        assertThat(performance.getTotalAmount()).isEqualTo(300_000);
+        assertThat(performance.getCommissionAmount()).isEqualTo(30_000);
+        assertThat(performance.getNewMemberCnt()).isEqualTo(1);
+        assertThat(performance.getVersion()).isPositive();
+    }
+
+    private static PerformanceEvent completed(Long paymentId, Long memberId, long amount, long commission) {
+        return event(PerformanceEvent.Type.PAYMENT_COMPLETED, paymentId, memberId, amount, commission);
+    }
+
+    private static PerformanceEvent event(PerformanceEvent.Type type, Long paymentId, Long memberId,
+                                          long amount, long commission) {
+        return PerformanceEvent.builder()
+                .type(type)
+                .paymentId(paymentId)
+                .businessId(BUSINESS_ID)
+                .memberId(memberId)
+                .employeeId(CONSULTANT_ID)
+                .yearMonth(MONTH.toString())
+                .amount(amount)
+                .commission(commission)
+                .build();
+    }
+}
@@ -0,0 +1,71 @@
+package com.fitness.domain.export.service;
+
+import com.fitness.common.config.BusinessProperties;
+import com.fitness.common.config.QuerydslConfig;
+import com.fitness.domain.export.repository.ExportJdbcRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.jdbc.Sql;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 내보내기 서비스 테스트
+ * CSV 형식(BOM, 이스케이프, 코드 설명) 검증 (대량 내보내기는 {@link ExportStreamingTest})
+ */
+@DataJpaTest
+@Import({ExportService.class, ExportJdbcRepository.class, BusinessProperties.class, QuerydslConfig.class})
+@ActiveProfiles("test")
+@Sql("/sql/owner-business.sql")
+@Sql(scripts = "/sql/cleanup.sql", executionPhase = Sql.ExecutionPhase.AFTER_TEST_METHOD)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class ExportServiceTest {
+
+    private static final Long BUSINESS_ID = 1L;
+
+    @Autowired
+    private ExportService exportService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.update("INSERT INTO user (user_id, user_type, name, phone_number, status, created_at) VALUES " +
+                "(2, 'MEMBER', '김, \"민수\"', '010-1234-5678', 'ACTIVE', NOW())");
+    }
+
+    @Test
+    void 결제_내보내기는_BOM과_이스케이프를_적용() {
+        // Given
+        jdbcTemplate.update("INSERT INTO products (product_id, business_id, name, product_type, price, is_active, created_at) " +
+                "VALUES (1, 1, 'PT 10회', 'PERSONAL_TRAINING', 500000, TRUE, NOW())");
+        jdbcTemplate.update("INSERT INTO payment (payment_id, business_id, member_id, product_id, status, actual_price, " +
+                "payment_method, payment_date, memo, created_at) VALUES " +
+                "(1, 1, 2, 1, 'COMPLETED', 450000, 'CARD', '2025-03-10 09:00:00', '=1+1', NOW()), " +
+                "(2, 1, 2, 1, 'COMPLETED', 450000, 'CASH', '2025-03-11 00:00:00', NULL, NOW())");
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+        // When
+        long rows = exportService.exportPayments(BUSINESS_ID, LocalDate.of(2025, 3, 10), LocalDate.of(2025, 3, 10), output);
+
+        // Then
+        String[] lines = output.toString(StandardCharsets.UTF_8).split("\r\n");
+        assertThat(rows).isEqualTo(1);
+        assertThat(lines).hasSize(2);
+        assertThat(lines[0]).startsWith("\uFEFF결제번호,결제일시,");
+        assertThat(lines[1]).isEqualTo("1,2025-03-10 09:00:00,\"김, \"\"민수\"\"\",010-1234-5678,PT 10회,개인레슨,완료,카드,"
+                + ",450000,,,,\"'=1+1\"");
+    }
+}
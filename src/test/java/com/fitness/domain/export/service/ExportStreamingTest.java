@@ -0,0 +1,180 @@
+package com.fitness.domain.export.service;
+
+import com.fitness.common.config.BusinessProperties;
+import com.fitness.common.config.QuerydslConfig;
+import com.fitness.domain.export.repository.ExportJdbcRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.jdbc.Sql;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.sql.DataSource;
+import java.io.OutputStream;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 출석 100만 건 내보내기 스트리밍 테스트
+ * largeExportTest 태스크가 작은 힙(192MB)의 별도 JVM에서 실행 (결과를 메모리에 모으면 OutOfMemoryError)
+ * 행은 파일 DB에 두고 지연 실행(LAZY_QUERY_EXECUTION)으로 조회하여 드라이버도 MySQL 커서처럼 행 단위로 읽음
+ */
+@Tag("large-export")
+@DataJpaTest(properties = "spring.datasource.url=jdbc:h2:file:./build/tmp/large-export/testdb;" +
+        "MODE=MySQL;NON_KEYWORDS=USER,VALUE;CACHE_SIZE=8192;LAZY_QUERY_EXECUTION=TRUE")
+@Import({ExportService.class, ExportJdbcRepository.class, BusinessProperties.class, QuerydslConfig.class})
+@ActiveProfiles("test")
+@Sql("/sql/owner-business.sql")
+@Sql(scripts = "/sql/cleanup.sql", executionPhase = Sql.ExecutionPhase.AFTER_TEST_METHOD)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class ExportStreamingTest {
+
+    private static final Long BUSINESS_ID = 1L;
+    private static final int LARGE_ROWS = 1_000_000;
+    private static final int INSERT_CHUNK = 100_000;
+    private static final long MAX_HEAP = 192L * 1024 * 1024;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private BusinessProperties businessProperties;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.update("INSERT INTO user (user_id, user_type, name, phone_number, status, created_at) VALUES " +
+                "(2, 'MEMBER', '김민수', '010-1234-5678', 'ACTIVE', NOW())");
+        // 실제 출석 행 (초 단위로 증가, 한 트랜잭션이 너무 커지지 않도록 나누어 저장)
+        for (int from = 1; from <= LARGE_ROWS; from += INSERT_CHUNK) {
+            jdbcTemplate.update("INSERT INTO attendance (business_id, member_id, attendance_date, created_at) " +
+                    "SELECT 1, 2, DATEADD('SECOND', X, TIMESTAMP '2025-01-01 00:00:00'), NOW() " +
+                    "FROM SYSTEM_RANGE(?, ?)", from, from + INSERT_CHUNK - 1);
+        }
+    }
+
+    @Test
+    void 출석_100만건을_작은_힙에서_fetch_크기로_스트리밍하며_행_단위로_기록() {
+        // Given - 별도 JVM의 힙 제한이 적용되어 있어야 의미가 있음
+        assertThat(Runtime.getRuntime().maxMemory()).isLessThanOrEqualTo(MAX_HEAP);
+        RecordingDataSource recording = new RecordingDataSource(dataSource);
+        ExportService streamingService = new ExportService(
+                new ExportJdbcRepository(new JdbcTemplate(recording)), null, businessProperties);
+        CountingOutputStream output = new CountingOutputStream(recording);
+
+        // When
+        long rows = streamingService.exportAttendances(BUSINESS_ID, LocalDate.of(2025, 1, 1), LocalDate.of(2025, 12, 31), output);
+
+        // Then
+        int fetchSize = businessProperties.getExport().getFetchSize();
+        assertThat(rows).isEqualTo(LARGE_ROWS);
+        assertThat(output.lines).isEqualTo(LARGE_ROWS + 1);
+        assertThat(recording.fetchSize).isEqualTo(fetchSize);
+        // 결과 전체를 모아 한 번에 쓰지 않고, 읽는 도중 fetch 크기보다 적은 행 간격으로 계속 기록
+        assertThat(output.rowsReadAtFirstWrite).isLessThan(fetchSize);
+        assertThat(output.maxRowsBetweenWrites).isLessThan(fetchSize);
+    }
+
+    /**
+     * 실제 데이터소스를 감싸 조회 문장의 fetch 크기와 읽은 행 수를 기록하는 데이터소스
+     */
+    private static final class RecordingDataSource extends DelegatingDataSource {
+        private int fetchSize;
+        private long rowsRead;
+
+        private RecordingDataSource(DataSource dataSource) {
+            super(dataSource);
+        }
+
+        @Override
+        public Connection getConnection() throws SQLException {
+            Connection connection = super.getConnection();
+            return proxy(Connection.class, connection, (method, args, result) ->
+                    method.getName().equals("prepareStatement")
+                            ? proxy(PreparedStatement.class, result, this::recordStatement) : result);
+        }
+
+        private Object recordStatement(Method method, Object[] args, Object result) {
+            switch (method.getName()) {
+                case "setFetchSize" -> fetchSize = (int) args[0];
+                case "executeQuery" -> {
+                    return proxy(ResultSet.class, result, (rsMethod, rsArgs, rsResult) -> {
+                        if (rsMethod.getName().equals("next") && (boolean) rsResult) {
+                            rowsRead++;
+                        }
+                        return rsResult;
+                    });
+                }
+                default -> {
+                }
+            }
+            return result;
+        }
+
+        private interface ResultInterceptor {
+            Object intercept(Method method, Object[] args, Object result);
+        }
+
+        private static <T> T proxy(Class<T> type, Object target, ResultInterceptor interceptor) {
+            return type.cast(Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type}, (proxy, method, args) -> {
+                try {
+                    return interceptor.intercept(method, args, method.invoke(target, args));
+                } catch (InvocationTargetException e) {
+                    throw e.getTargetException();
+                }
+            }));
+        }
+    }
+
+    /**
+     * 기록된 행 수와 쓰기 시점에 읽은 DB 행 수만 세는 출력 스트림 (내용은 보관하지 않음)
+     */
+    private static final class CountingOutputStream extends OutputStream {
+        private final RecordingDataSource recording;
+        private long lines;
+        private long rowsReadAtFirstWrite = -1;
+        private long rowsReadAtLastWrite;
+        private long maxRowsBetweenWrites;
+
+        private CountingOutputStream(RecordingDataSource recording) {
+            this.recording = recording;
+        }
+
+        @Override
+        public void write(int b) {
+            write(new byte[]{(byte) b}, 0, 1);
+        }
+
+        @Override
+        public void write(byte[] buffer, int offset, int length) {
+            long rowsRead = recording.rowsRead;
+            if (rowsReadAtFirstWrite < 0) {
+                rowsReadAtFirstWrite = rowsRead;
+            }
+            maxRowsBetweenWrites = Math.max(maxRowsBetweenWrites, rowsRead - rowsReadAtLastWrite);
+            rowsReadAtLastWrite = rowsRead;
+            for (int i = offset; i < offset + length; i++) {
+                if (buffer[i] == '\n') {
+                    lines++;
+                }
+            }
+        }
+    }
+}
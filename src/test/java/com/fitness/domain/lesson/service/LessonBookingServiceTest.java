@@ -0,0 +1,242 @@
+package com.fitness.domain.lesson.service;
+
+import com.fitness.common.config.AsyncConfig;
+import com.fitness.common.config.BusinessProperties;
+import com.fitness.common.config.QuerydslConfig;
+import com.fitness.common.config.SocialLoginProperties;
+import com.fitness.common.enums.ParticipantStatus;
+import com.fitness.common.exception.BusinessException;
+import com.fitness.common.exception.ErrorCode;
+import com.fitness.domain.lesson.dto.LessonBookingRequest;
+import com.fitness.domain.lesson.dto.LessonParticipantResponse;
+import com.fitness.domain.lesson.repository.LessonBookingJdbcRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.jdbc.Sql;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 레슨 참가 신청 서비스 테스트
+ * 동시 신청 시 정원 초과 없음, 대기자 승격 순서, 재신청/중복 신청, 기동 시 확보 자리 수 보정 검증
+ */
+@DataJpaTest
+@Import({LessonBookingService.class, LessonBookingJdbcRepository.class, LessonSeriesService.class,
+        LessonSchedulingService.class, TrainerScheduleIndex.class, AsyncConfig.class, BusinessProperties.class,
+        SocialLoginProperties.class, QuerydslConfig.class})
+@ActiveProfiles("test")
+@Sql("/sql/owner-business.sql")
+@Sql(scripts = "/sql/cleanup.sql", executionPhase = Sql.ExecutionPhase.AFTER_TEST_METHOD)
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_EACH_TEST_METHOD) // 트레이너 일정 인덱스 초기화
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class LessonBookingServiceTest {
+
+    private static final Long OWNER_ID = 1L;
+    private static final Long BUSINESS_ID = 1L;
+    private static final Long GROUP_LESSON_ID = 500L;
+    private static final Long SMALL_LESSON_ID = 501L;
+    private static final long FIRST_MEMBER_ID = 1_000L;
+    private static final int MEMBERS = 500;
+    private static final int SEATS = 20;
+
+    @Autowired
+    private LessonBookingService lessonBookingService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.update("INSERT INTO user (user_id, user_type, name, status, created_at) VALUES " +
+                "(2, 'EMPLOYEE', '트레이너', 'ACTIVE', NOW())");
+        List<Object[]> members = LongStream.range(FIRST_MEMBER_ID, FIRST_MEMBER_ID + MEMBERS)
+                .mapToObj(memberId -> new Object[]{memberId})
+                .toList();
+        jdbcTemplate.batchUpdate("INSERT INTO user (user_id, user_type, name, status, created_at) " +
+                "VALUES (?, 'MEMBER', '회원', 'ACTIVE', NOW())", members);
+        jdbcTemplate.batchUpdate("INSERT INTO business_member (member_id, business_id, status, sms_yn, join_date, " +
+                "created_at) VALUES (?, 1, 'ACTIVE', TRUE, CURRENT_DATE, NOW())", members);
+
+        LocalDateTime start = LocalDateTime.now().plusDays(1).withHour(19).withMinute(0).withSecond(0).withNano(0);
+        jdbcTemplate.update("INSERT INTO lesson (lesson_id, business_id, trainer_id, lesson_type, status, title, " +
+                "start_date, end_date, duration_minute, max_participant, created_at) VALUES " +
+                "(?, 1, 2, 'SPINNING', 'SCHEDULED', '스피닝', ?, ?, 50, ?, NOW()), " +
+                "(?, 1, 2, 'GROUP_PT', 'SCHEDULED', '그룹 PT', ?, ?, 50, 2, NOW())",
+                GROUP_LESSON_ID, Timestamp.valueOf(start), Timestamp.valueOf(start.plusMinutes(50)), SEATS,
+                SMALL_LESSON_ID, Timestamp.valueOf(start.plusHours(1)), Timestamp.valueOf(start.plusHours(2)));
+    }
+
+    @Test
+    void 정원_20명_레슨에_500명이_동시에_신청해도_정원을_넘지_않음() throws Exception {
+        // When - 500명 동시 신청
+        List<LessonParticipantResponse> bookings = runConcurrently(
+                LongStream.range(FIRST_MEMBER_ID, FIRST_MEMBER_ID + MEMBERS)
+                        .mapToObj(memberId -> (Callable<LessonParticipantResponse>) () -> book(GROUP_LESSON_ID, memberId))
+                        .toList());
+
+        // Then
+        assertThat(bookings).filteredOn(booking -> booking.getStatus() == ParticipantStatus.READY).hasSize(SEATS);
+        assertThat(bookings).filteredOn(booking -> booking.getStatus() == ParticipantStatus.WAITLISTED)
+                .hasSize(MEMBERS - SEATS);
+        assertSeats(SEATS, MEMBERS - SEATS);
+
+        // When - 자리를 가진 5명 취소 → 먼저 대기한 5명 승격
+        List<Long> seated = participantIds(ParticipantStatus.READY);
+        List<Long> waitlist = participantIds(ParticipantStatus.WAITLISTED);
+        runConcurrently(seated.subList(0, 5).stream()
+                .map(participantId -> (Callable<LessonParticipantResponse>) () -> cancel(GROUP_LESSON_ID, participantId))
+                .toList());
+
+        // Then
+        assertSeats(SEATS, MEMBERS - SEATS - 5);
+        assertThat(participantIds(ParticipantStatus.READY)).containsAll(waitlist.subList(0, 5));
+
+        // When - 자리를 가진 10명 + 대기 10명 동시 취소
+        List<Callable<LessonParticipantResponse>> cancels = new ArrayList<>();
+        participantIds(ParticipantStatus.READY).subList(0, 10)
+                .forEach(participantId -> cancels.add(() -> cancel(GROUP_LESSON_ID, participantId)));
+        waitlist.subList(waitlist.size() - 10, waitlist.size())
+                .forEach(participantId -> cancels.add(() -> cancel(GROUP_LESSON_ID, participantId)));
+        runConcurrently(cancels);
+
+        // Then
+        assertSeats(SEATS, MEMBERS - SEATS - 5 - 10 - 10);
+    }
+
+    @Test
+    void 취소하면_첫_대기자에게_자리가_넘어가고_다시_신청하면_대기열_끝으로() {
+        // Given - 정원 2명
+        LessonParticipantResponse first = book(SMALL_LESSON_ID, FIRST_MEMBER_ID);
+        LessonParticipantResponse second = book(SMALL_LESSON_ID, FIRST_MEMBER_ID + 1);
+        LessonParticipantResponse third = book(SMALL_LESSON_ID, FIRST_MEMBER_ID + 2);
+        assertThat(third.getStatus()).isEqualTo(ParticipantStatus.WAITLISTED);
+
+        // When & Then - 중복 신청 거절
+        assertThatThrownBy(() -> book(SMALL_LESSON_ID, FIRST_MEMBER_ID + 1))
+                .isInstanceOf(BusinessException.class)
+                .extracting("errorCode").isEqualTo(ErrorCode.LESSON_ALREADY_BOOKED);
+
+        // 첫 번째 취소 → 대기자 승격, 정원 그대로
+        cancel(SMALL_LESSON_ID, first.getParticipantId());
+        assertThat(status(third.getParticipantId())).isEqualTo(ParticipantStatus.READY);
+        assertThat(bookedCount(SMALL_LESSON_ID)).isEqualTo(2);
+
+        // 취소했던 회원 재신청 → 대기, 대기자 없이 취소하면 자리 반납 후 대기자 승격
+        assertThat(book(SMALL_LESSON_ID, FIRST_MEMBER_ID).getStatus()).isEqualTo(ParticipantStatus.WAITLISTED);
+        assertThat(book(SMALL_LESSON_ID, FIRST_MEMBER_ID + 3).getStatus()).isEqualTo(ParticipantStatus.WAITLISTED);
+        cancel(SMALL_LESSON_ID, second.getParticipantId());
+        assertThat(status(first.getParticipantId())).isEqualTo(ParticipantStatus.READY);
+        cancel(SMALL_LESSON_ID, first.getParticipantId());
+        cancel(SMALL_LESSON_ID, third.getParticipantId());
+        assertThat(bookedCount(SMALL_LESSON_ID)).isEqualTo(1);
+        assertThat(participantIds(SMALL_LESSON_ID, ParticipantStatus.READY)).hasSize(1);
+
+        assertThatThrownBy(() -> cancel(SMALL_LESSON_ID, third.getParticipantId()))
+                .isInstanceOf(BusinessException.class)
+                .extracting("errorCode").isEqualTo(ErrorCode.LESSON_PARTICIPANT_NOT_FOUND);
+        assertThatThrownBy(() -> book(SMALL_LESSON_ID, 9_999L))
+                .isInstanceOf(BusinessException.class)
+                .extracting("errorCode").isEqualTo(ErrorCode.MEMBER_NOT_FOUND);
+    }
+
+    @Test
+    void 기동_시_확보_자리_수를_참가자_수로_보정() {
+        // Given - 자리 수 컬럼 도입 이전처럼 참가자 2명이 있는데 확보 자리 수가 0
+        book(SMALL_LESSON_ID, FIRST_MEMBER_ID);
+        book(SMALL_LESSON_ID, FIRST_MEMBER_ID + 1);
+        jdbcTemplate.update("UPDATE lesson SET booked_count = 0 WHERE lesson_id = ?", SMALL_LESSON_ID);
+
+        // When
+        lessonBookingService.reconcileBookedCounts();
+
+        // Then - 정원 2명이 찼으므로 다음 신청은 대기
+        assertThat(bookedCount(SMALL_LESSON_ID)).isEqualTo(2);
+        assertThat(bookedCount(GROUP_LESSON_ID)).isZero();
+        assertThat(book(SMALL_LESSON_ID, FIRST_MEMBER_ID + 2).getStatus()).isEqualTo(ParticipantStatus.WAITLISTED);
+    }
+
+    private LessonParticipantResponse book(Long lessonId, Long memberId) {
+        LessonBookingRequest request = new LessonBookingRequest();
+        request.setMemberId(memberId);
+        return lessonBookingService.book(OWNER_ID, BUSINESS_ID, lessonId, request);
+    }
+
+    private LessonParticipantResponse cancel(Long lessonId, Long participantId) {
+        return lessonBookingService.cancel(OWNER_ID, BUSINESS_ID, lessonId, participantId);
+    }
+
+    private static <T> List<T> runConcurrently(List<Callable<T>> tasks) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(32);
+        CountDownLatch ready = new CountDownLatch(1);
+        try {
+            List<Future<T>> futures = new ArrayList<>();
+            for (Callable<T> task : tasks) {
+                futures.add(executor.submit(() -> {
+                    ready.await();
+                    return task.call();
+                }));
+            }
+            ready.countDown();
+            List<T> results = new ArrayList<>();
+            for (Future<T> future : futures) {
+                results.add(future.get());
+            }
+            return results;
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    /**
+     * 커밋 후 승격이 끝날 때까지 대기한 뒤 정원/대기 인원 검증
+     */
+    private void assertSeats(int seated, int waitlisted) throws InterruptedException {
+        for (int i = 0; i < 100 && (bookedCount(GROUP_LESSON_ID) != seated
+                || participantIds(ParticipantStatus.WAITLISTED).size() != waitlisted); i++) {
+            Thread.sleep(100);
+        }
+        assertThat(bookedCount(GROUP_LESSON_ID)).isEqualTo(seated);
+        assertThat(participantIds(ParticipantStatus.READY)).hasSize(seated);
+        assertThat(participantIds(ParticipantStatus.WAITLISTED)).hasSize(waitlisted);
+    }
+
+    private int bookedCount(Long lessonId) {
+        return jdbcTemplate.queryForObject("SELECT booked_count FROM lesson WHERE lesson_id = ?", Integer.class, lessonId);
+    }
+
+    private ParticipantStatus status(Long participantId) {
+        return ParticipantStatus.valueOf(jdbcTemplate.queryForObject(
+                "SELECT participant_status FROM lesson_participants WHERE lesson_participant_id = ?",
+                String.class, participantId));
+    }
+
+    private List<Long> participantIds(ParticipantStatus status) {
+        return participantIds(GROUP_LESSON_ID, status);
+    }
+
+    private List<Long> participantIds(Long lessonId, ParticipantStatus status) {
+        return jdbcTemplate.queryForList("SELECT lesson_participant_id FROM lesson_participants " +
+                "WHERE lesson_id = ? AND participant_status = ? ORDER BY registered_date, lesson_participant_id",
+                Long.class, lessonId, status.name());
+    }
+}
@@ -0,0 +1,222 @@
+package com.fitness.domain.lesson.service;
+
+import com.fitness.common.config.BusinessProperties;
+import com.fitness.common.config.QuerydslConfig;
+import com.fitness.common.enums.LessonType;
+import com.fitness.common.exception.BusinessException;
+import com.fitness.common.exception.ErrorCode;
+import com.fitness.domain.lesson.dto.FreeSlotResponse;
+import com.fitness.domain.lesson.dto.LessonCreateRequest;
+import com.fitness.domain.lesson.dto.LessonMoveRequest;
+import com.fitness.domain.lesson.dto.LessonResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.jdbc.Sql;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+
+/**
+ * 레슨 일정 서비스 테스트
+ * 트레이너별 겹침 검사, 일정 변경/취소 반영, 빈 시간 계산, 롤백 시 선점 취소 검증
+ */
+@DataJpaTest
+@Import({LessonSchedulingService.class, TrainerScheduleIndex.class, BusinessProperties.class, QuerydslConfig.class})
+@ActiveProfiles("test")
+@Sql("/sql/owner-business.sql")
+@Sql(scripts = "/sql/cleanup.sql", executionPhase = Sql.ExecutionPhase.AFTER_TEST_METHOD)
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_EACH_TEST_METHOD) // 트레이너 일정 인덱스 초기화
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class LessonSchedulingServiceTest {
+
+    private static final Long OWNER_ID = 1L;
+    private static final Long BUSINESS_ID = 1L;
+    private static final Long TRAINER_ID = 2L;
+    private static final Long OTHER_TRAINER_ID = 3L;
+    private static final Long RESIGNED_TRAINER_ID = 4L;
+
+    private final LocalDate day = LocalDate.now().plusDays(1);
+
+    @Autowired
+    private LessonSchedulingService lessonSchedulingService;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.update("INSERT INTO user (user_id, user_type, name, status, created_at) VALUES " +
+                "(2, 'EMPLOYEE', '트레이너1', 'ACTIVE', NOW()), " +
+                "(3, 'EMPLOYEE', '트레이너2', 'ACTIVE', NOW()), (4, 'EMPLOYEE', '퇴사자', 'ACTIVE', NOW())");
+        jdbcTemplate.update("INSERT INTO business_employee (business_id, employee_id, status, working_start_time, " +
+                "working_end_time, created_at) VALUES (1, 2, 'NORMAL', '09:00:00', '18:00:00', NOW()), " +
+                "(1, 3, 'APPROVED', NULL, NULL, NOW()), (1, 4, 'RESIGNED', NULL, NULL, NOW())");
+        // API를 거치지 않고 이미 저장되어 있던 레슨 (트레이너 일정 적재 시 읽음)
+        jdbcTemplate.update("INSERT INTO lesson (lesson_id, business_id, trainer_id, lesson_type, status, title, " +
+                "start_date, end_date, duration_minute, max_participant, created_at) " +
+                "VALUES (1000, 1, 2, 'PERSONAL_PT', 'SCHEDULED', '기존 레슨', ?, ?, 60, 1, NOW())",
+                Timestamp.valueOf(at(14, 0)), Timestamp.valueOf(at(15, 0)));
+    }
+
+    @Test
+    void 같은_트레이너의_겹치는_레슨은_거절하고_맞닿은_레슨은_허용() {
+        // Given
+        create(TRAINER_ID, at(10, 0), 60);
+
+        // When & Then
+        assertConflict(() -> create(TRAINER_ID, at(10, 30), 30));
+        assertConflict(() -> create(TRAINER_ID, at(9, 30), 120));
+        assertConflict(() -> create(TRAINER_ID, at(14, 30), 60));
+        create(TRAINER_ID, at(11, 0), 60);
+        create(TRAINER_ID, at(9, 0), 60);
+        create(TRAINER_ID, at(15, 0), 30);
+        create(OTHER_TRAINER_ID, at(10, 30), 60);
+
+        assertThatThrownBy(() -> create(RESIGNED_TRAINER_ID, at(10, 0), 60))
+                .isInstanceOf(BusinessException.class)
+                .extracting("errorCode").isEqualTo(ErrorCode.EMPLOYEE_NOT_FOUND);
+        assertThatThrownBy(() -> lessonSchedulingService.createLesson(99L, BUSINESS_ID,
+                createRequest(TRAINER_ID, at(20, 0), 60)))
+                .isInstanceOf(BusinessException.class)
+                .extracting("errorCode").isEqualTo(ErrorCode.BUSINESS_NOT_FOUND);
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM lesson", Integer.class)).isEqualTo(6);
+    }
+
+    @Test
+    void 일정_변경과_취소가_트레이너_일정에_반영() {
+        // Given
+        LessonResponse first = create(TRAINER_ID, at(10, 0), 60);
+        LessonResponse second = create(TRAINER_ID, at(12, 0), 60);
+
+        // When & Then - 자기 자신과는 겹치지 않음
+        move(first.getLessonId(), at(10, 30), null);
+        assertConflict(() -> move(second.getLessonId(), at(11, 0), null));
+        assertConflict(() -> move(first.getLessonId(), at(11, 30), null));
+
+        // 옮긴 뒤 원래 시간은 비어 있음
+        move(first.getLessonId(), at(16, 0), null);
+        create(TRAINER_ID, at(10, 0), 60);
+
+        // 취소 후 커밋되면 시간이 비어 있음
+        lessonSchedulingService.cancelLesson(OWNER_ID, BUSINESS_ID, second.getLessonId());
+        create(TRAINER_ID, at(12, 0), 60);
+        assertThatThrownBy(() -> move(second.getLessonId(), at(17, 0), null))
+                .isInstanceOf(BusinessException.class)
+                .extracting("errorCode").isEqualTo(ErrorCode.LESSON_NOT_MODIFIABLE);
+
+        // 다른 트레이너로 옮기면 이전 트레이너 일정에서 빠지고 새 트레이너 일정에서 검사
+        create(OTHER_TRAINER_ID, at(16, 0), 60);
+        assertConflict(() -> move(first.getLessonId(), at(16, 30), OTHER_TRAINER_ID));
+        move(first.getLessonId(), at(17, 0), OTHER_TRAINER_ID);
+        create(TRAINER_ID, at(16, 0), 60);
+        assertConflict(() -> create(OTHER_TRAINER_ID, at(17, 30), 30));
+    }
+
+    @Test
+    void 근무_시간_중_레슨_사이의_빈_시간() {
+        // Given - 근무 09:00~18:00, 기존 레슨 14:00~15:00
+        create(TRAINER_ID, at(10, 0), 60);
+        create(TRAINER_ID, at(11, 0), 60);
+
+        // When
+        List<FreeSlotResponse> slots = lessonSchedulingService.getFreeSlots(
+                OWNER_ID, BUSINESS_ID, TRAINER_ID, day, day, null);
+        List<FreeSlotResponse> longSlots = lessonSchedulingService.getFreeSlots(
+                OWNER_ID, BUSINESS_ID, TRAINER_ID, day, day, 90);
+        List<FreeSlotResponse> defaultHours = lessonSchedulingService.getFreeSlots(
+                OWNER_ID, BUSINESS_ID, OTHER_TRAINER_ID, day, day.plusDays(1), null);
+
+        // Then
+        assertThat(slots).extracting(FreeSlotResponse::getStartDate, FreeSlotResponse::getEndDate,
+                        FreeSlotResponse::getMinutes)
+                .containsExactly(
+                        tuple(at(9, 0), at(10, 0), 60L),
+                        tuple(at(12, 0), at(14, 0), 120L),
+                        tuple(at(15, 0), at(18, 0), 180L));
+        assertThat(longSlots).extracting(FreeSlotResponse::getStartDate)
+                .containsExactly(at(12, 0), at(15, 0));
+        // 근무 시간이 없으면 기본 근무 시간 06:00~23:00
+        assertThat(defaultHours).extracting(FreeSlotResponse::getStartDate, FreeSlotResponse::getEndDate)
+                .containsExactly(
+                        tuple(at(6, 0), at(23, 0)),
+                        tuple(at(6, 0).plusDays(1), at(23, 0).plusDays(1)));
+        assertThatThrownBy(() -> lessonSchedulingService.getFreeSlots(
+                OWNER_ID, BUSINESS_ID, TRAINER_ID, day, day.plusDays(31), null))
+                .isInstanceOf(BusinessException.class)
+                .extracting("errorCode").isEqualTo(ErrorCode.INVALID_INPUT);
+    }
+
+    @Test
+    void 트랜잭션이_롤백되면_선점한_시간도_취소() {
+        // Given
+        LessonResponse lesson = create(TRAINER_ID, at(10, 0), 60);
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+
+        // When - 생성/일정 변경 후 같은 트랜잭션의 다른 작업이 실패
+        transactionTemplate.executeWithoutResult(status -> {
+            create(TRAINER_ID, at(12, 0), 60);
+            status.setRollbackOnly();
+        });
+        transactionTemplate.executeWithoutResult(status -> {
+            move(lesson.getLessonId(), at(16, 0), OTHER_TRAINER_ID);
+            status.setRollbackOnly();
+        });
+
+        // Then
+        create(TRAINER_ID, at(12, 0), 60);
+        create(OTHER_TRAINER_ID, at(16, 0), 60);
+        assertConflict(() -> create(TRAINER_ID, at(10, 30), 30));
+        assertThat(jdbcTemplate.queryForObject("SELECT start_date FROM lesson WHERE lesson_id = ?",
+                Timestamp.class, lesson.getLessonId()).toLocalDateTime()).isEqualTo(at(10, 0));
+    }
+
+    private LessonResponse create(Long trainerId, LocalDateTime start, int durationMinute) {
+        return lessonSchedulingService.createLesson(OWNER_ID, BUSINESS_ID, createRequest(trainerId, start, durationMinute));
+    }
+
+    private LessonResponse move(Long lessonId, LocalDateTime start, Long trainerId) {
+        LessonMoveRequest request = new LessonMoveRequest();
+        request.setStartDate(start);
+        request.setTrainerId(trainerId);
+        return lessonSchedulingService.moveLesson(OWNER_ID, BUSINESS_ID, lessonId, request);
+    }
+
+    private static LessonCreateRequest createRequest(Long trainerId, LocalDateTime start, int durationMinute) {
+        LessonCreateRequest request = new LessonCreateRequest();
+        request.setTrainerId(trainerId);
+        request.setLessonType(LessonType.PERSONAL_PT);
+        request.setTitle("PT");
+        request.setStartDate(start);
+        request.setDurationMinute(durationMinute);
+        return request;
+    }
+
+    private static void assertConflict(Runnable action) {
+        assertThatThrownBy(action::run)
+                .isInstanceOf(BusinessException.class)
+                .extracting("errorCode").isEqualTo(ErrorCode.LESSON_TIME_CONFLICT);
+    }
+
+    private LocalDateTime at(int hour, int minute) {
+        return day.atTime(hour, minute);
+    }
+}
@@ -0,0 +1,336 @@
+package com.fitness.domain.lesson.service;
+
+import com.fitness.common.config.BusinessProperties;
+import com.fitness.common.config.QuerydslConfig;
+import com.fitness.common.enums.LessonType;
+import com.fitness.common.enums.ParticipantStatus;
+import com.fitness.common.enums.ScheduleStatus;
+import com.fitness.common.exception.BusinessException;
+import com.fitness.common.exception.ErrorCode;
+import com.fitness.domain.lesson.dto.CalendarLessonResponse;
+import com.fitness.domain.lesson.dto.CalendarParticipantResponse;
+import com.fitness.domain.lesson.dto.LessonCreateRequest;
+import com.fitness.domain.lesson.dto.LessonMoveRequest;
+import com.fitness.domain.lesson.dto.LessonResponse;
+import com.fitness.domain.lesson.dto.LessonSeriesCreateRequest;
+import com.fitness.domain.lesson.dto.LessonSeriesResponse;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.jdbc.Sql;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.temporal.TemporalAdjusters;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+
+/**
+ * 반복 레슨 서비스 테스트
+ * 회차 계산, 변경된 회차만 저장, 트레이너 겹침 검사 (반복 레슨/단일 레슨 동시 생성 포함), 회차 동시 저장, 달력 조회 쿼리 수 검증
+ */
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@Import({LessonSeriesService.class, LessonSchedulingService.class, TrainerScheduleIndex.class,
+        BusinessProperties.class, QuerydslConfig.class})
+@ActiveProfiles("test")
+@Sql("/sql/owner-business.sql")
+@Sql(scripts = "/sql/cleanup.sql", executionPhase = Sql.ExecutionPhase.AFTER_TEST_METHOD)
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_EACH_TEST_METHOD) // 트레이너 일정 인덱스 초기화
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class LessonSeriesServiceTest {
+
+    private static final Long OWNER_ID = 1L;
+    private static final Long BUSINESS_ID = 1L;
+    private static final Long TRAINER_ID = 2L;
+    private static final Long OTHER_TRAINER_ID = 3L;
+
+    private final LocalDate monday = LocalDate.now().with(TemporalAdjusters.next(DayOfWeek.MONDAY));
+
+    @Autowired
+    private LessonSeriesService lessonSeriesService;
+
+    @Autowired
+    private LessonSchedulingService lessonSchedulingService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.update("INSERT INTO user (user_id, user_type, name, status, created_at) VALUES " +
+                "(2, 'EMPLOYEE', '트레이너1', 'ACTIVE', NOW()), " +
+                "(3, 'EMPLOYEE', '트레이너2', 'ACTIVE', NOW())");
+        jdbcTemplate.update("INSERT INTO business_employee (business_id, employee_id, status, created_at) " +
+                "VALUES (1, 2, 'NORMAL', NOW()), (1, 3, 'NORMAL', NOW())");
+    }
+
+    @Test
+    void 반복_규칙으로_달력_회차를_계산하고_행은_저장하지_않음() {
+        // Given - 월/수 07:00 4주, 격주 금요일 19:00 종료일 없음
+        LessonSeriesResponse yoga = createSeries(TRAINER_ID, Set.of(DayOfWeek.MONDAY, DayOfWeek.WEDNESDAY), 1,
+                LocalTime.of(7, 0), monday.plusDays(27));
+        LessonSeriesResponse spinning = createSeries(OTHER_TRAINER_ID, Set.of(DayOfWeek.FRIDAY), 2,
+                LocalTime.of(19, 0), null);
+
+        // When
+        List<CalendarLessonResponse> calendar = lessonSeriesService.getCalendar(
+                OWNER_ID, BUSINESS_ID, monday, monday.plusDays(34), null);
+        List<CalendarLessonResponse> spinningOnly = lessonSeriesService.getCalendar(
+                OWNER_ID, BUSINESS_ID, monday, monday.plusDays(34), OTHER_TRAINER_ID);
+
+        // Then
+        assertThat(calendar).hasSize(8 + 3);
+        assertThat(calendar).filteredOn(lesson -> lesson.getSeriesId().equals(yoga.getSeriesId()))
+                .extracting(CalendarLessonResponse::getStartDate)
+                .containsExactly(
+                        monday.atTime(7, 0), monday.plusDays(2).atTime(7, 0),
+                        monday.plusDays(7).atTime(7, 0), monday.plusDays(9).atTime(7, 0),
+                        monday.plusDays(14).atTime(7, 0), monday.plusDays(16).atTime(7, 0),
+                        monday.plusDays(21).atTime(7, 0), monday.plusDays(23).atTime(7, 0));
+        assertThat(spinningOnly).extracting(CalendarLessonResponse::getLessonId, CalendarLessonResponse::getOccurrenceDate,
+                        CalendarLessonResponse::getEndDate)
+                .containsExactly(
+                        tuple(null, monday.plusDays(4), monday.plusDays(4).atTime(19, 50)),
+                        tuple(null, monday.plusDays(18), monday.plusDays(18).atTime(19, 50)),
+                        tuple(null, monday.plusDays(32), monday.plusDays(32).atTime(19, 50)));
+        assertThat(spinningOnly).allMatch(lesson -> lesson.getSeriesId().equals(spinning.getSeriesId()));
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM lesson", Integer.class)).isZero();
+    }
+
+    @Test
+    void 취소하거나_시간을_옮긴_회차만_저장() {
+        // Given
+        LessonSeriesResponse yoga = createSeries(TRAINER_ID, Set.of(DayOfWeek.MONDAY, DayOfWeek.WEDNESDAY), 1,
+                LocalTime.of(7, 0), null);
+        Long seriesId = yoga.getSeriesId();
+
+        // When - 1주차 수요일 취소, 2주차 월요일은 화요일 09:00으로 이동
+        lessonSeriesService.cancelOccurrence(OWNER_ID, BUSINESS_ID, seriesId, monday.plusDays(2));
+        LessonResponse moved = lessonSeriesService.materializeOccurrence(OWNER_ID, BUSINESS_ID, seriesId, monday.plusDays(7));
+        assertThat(lessonSeriesService.materializeOccurrence(OWNER_ID, BUSINESS_ID, seriesId, monday.plusDays(7))
+                .getLessonId()).isEqualTo(moved.getLessonId());
+        LessonMoveRequest request = new LessonMoveRequest();
+        request.setStartDate(monday.plusDays(8).atTime(9, 0));
+        lessonSchedulingService.moveLesson(OWNER_ID, BUSINESS_ID, moved.getLessonId(), request);
+
+        // Then
+        List<CalendarLessonResponse> calendar = lessonSeriesService.getCalendar(
+                OWNER_ID, BUSINESS_ID, monday, monday.plusDays(13), null);
+        assertThat(calendar).extracting(CalendarLessonResponse::getOccurrenceDate, CalendarLessonResponse::getStatus,
+                        CalendarLessonResponse::getStartDate)
+                .containsExactly(
+                        tuple(monday, ScheduleStatus.SCHEDULED, monday.atTime(7, 0)),
+                        tuple(monday.plusDays(2), ScheduleStatus.CANCELLED, monday.plusDays(2).atTime(7, 0)),
+                        tuple(monday.plusDays(7), ScheduleStatus.SCHEDULED, monday.plusDays(8).atTime(9, 0)),
+                        tuple(monday.plusDays(9), ScheduleStatus.SCHEDULED, monday.plusDays(9).atTime(7, 0)));
+        // 옮겨 간 회차는 원래 일자만 조회하면 보이지 않음
+        assertThat(lessonSeriesService.getCalendar(OWNER_ID, BUSINESS_ID, monday.plusDays(7), monday.plusDays(7), null))
+                .isEmpty();
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM lesson", Integer.class)).isEqualTo(2);
+
+        assertThatThrownBy(() -> lessonSeriesService.materializeOccurrence(
+                OWNER_ID, BUSINESS_ID, seriesId, monday.plusDays(1)))
+                .isInstanceOf(BusinessException.class)
+                .extracting("errorCode").isEqualTo(ErrorCode.LESSON_OCCURRENCE_NOT_FOUND);
+    }
+
+    @Test
+    void 반복_레슨_회차와_트레이너의_다른_레슨_겹침_검사() {
+        // Given
+        createSeries(TRAINER_ID, Set.of(DayOfWeek.MONDAY, DayOfWeek.WEDNESDAY), 1, LocalTime.of(7, 0), null);
+        LessonSeriesResponse tuesday = createSeries(TRAINER_ID, Set.of(DayOfWeek.TUESDAY), 1, LocalTime.of(7, 0), null);
+        createLesson(TRAINER_ID, monday.plusDays(3).atTime(7, 0));
+
+        // When & Then - 저장되지 않은 회차와 겹치는 단일 레슨
+        assertConflict(() -> createLesson(TRAINER_ID, monday.plusDays(14).atTime(7, 30)));
+        createLesson(TRAINER_ID, monday.plusDays(14).atTime(7, 50));
+        createLesson(OTHER_TRAINER_ID, monday.plusDays(14).atTime(7, 30));
+
+        // 다른 반복 레슨 회차, 저장된 단일 레슨과 겹치는 반복 레슨
+        assertConflict(() -> createSeries(TRAINER_ID, Set.of(DayOfWeek.WEDNESDAY), 2, LocalTime.of(7, 30), null));
+        assertConflict(() -> createSeries(TRAINER_ID, Set.of(DayOfWeek.THURSDAY), 1, LocalTime.of(6, 30), null));
+        createSeries(TRAINER_ID, Set.of(DayOfWeek.THURSDAY), 1, LocalTime.of(18, 0), null);
+
+        // 취소한 회차 시간은 비어 있음
+        lessonSeriesService.cancelOccurrence(OWNER_ID, BUSINESS_ID, tuesday.getSeriesId(), monday.plusDays(8));
+        createLesson(TRAINER_ID, monday.plusDays(8).atTime(7, 0));
+        assertConflict(() -> createLesson(TRAINER_ID, monday.plusDays(15).atTime(7, 0)));
+    }
+
+    @Test
+    void 반복_레슨과_겹치는_단일_레슨을_동시에_만들면_하나만_성공() throws Exception {
+        // Given - 시간대마다 월요일 반복 레슨과 다음 주 월요일의 겹치는 단일 레슨을 동시에 생성
+        int slots = 10;
+        ExecutorService executor = Executors.newFixedThreadPool(2 * slots);
+        CountDownLatch ready = new CountDownLatch(1);
+        List<Future<Boolean>> seriesResults = new ArrayList<>();
+        List<Future<Boolean>> lessonResults = new ArrayList<>();
+
+        // When
+        for (int slot = 0; slot < slots; slot++) {
+            LocalTime startTime = LocalTime.of(6 + slot, 0);
+            seriesResults.add(executor.submit(() -> succeeded(ready,
+                    () -> createSeries(TRAINER_ID, Set.of(DayOfWeek.MONDAY), 1, startTime, null))));
+            lessonResults.add(executor.submit(() -> succeeded(ready,
+                    () -> createLesson(TRAINER_ID, monday.plusDays(7).atTime(startTime.plusMinutes(5))))));
+        }
+        ready.countDown();
+
+        // Then - 시간대마다 정확히 하나만 생성
+        for (int slot = 0; slot < slots; slot++) {
+            assertThat(seriesResults.get(slot).get() ^ lessonResults.get(slot).get()).isTrue();
+        }
+        executor.shutdown();
+    }
+
+    @Test
+    void 같은_회차를_동시에_저장해도_레슨은_하나() throws Exception {
+        // Given
+        LessonSeriesResponse yoga = createSeries(TRAINER_ID, Set.of(DayOfWeek.MONDAY), 1, LocalTime.of(7, 0), null);
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+
+        // When
+        List<Future<Long>> futures = new ArrayList<>();
+        for (int i = 0; i < 8; i++) {
+            futures.add(executor.submit(() -> lessonSeriesService.findOrCreateOccurrence(
+                    BUSINESS_ID, yoga.getSeriesId(), monday.plusDays(7)).getLessonId()));
+        }
+        List<Long> lessonIds = new ArrayList<>();
+        for (Future<Long> future : futures) {
+            lessonIds.add(future.get());
+        }
+        executor.shutdown();
+
+        // Then
+        assertThat(lessonIds).containsOnly(lessonIds.get(0));
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM lesson", Integer.class)).isEqualTo(1);
+    }
+
+    @Test
+    void 달력_조회_쿼리_수는_레슨_수와_무관() {
+        // Given - 반복 레슨 2개 (저장된 회차 1개) + 단일 레슨, 레슨마다 참가 회원 3명 (취소 1명 제외)
+        LessonSeriesResponse yoga = createSeries(TRAINER_ID, Set.of(DayOfWeek.MONDAY), 1, LocalTime.of(7, 0), null);
+        createSeries(OTHER_TRAINER_ID, Set.of(DayOfWeek.FRIDAY), 1, LocalTime.of(19, 0), null);
+        Long occurrenceId = lessonSeriesService.materializeOccurrence(
+                OWNER_ID, BUSINESS_ID, yoga.getSeriesId(), monday).getLessonId();
+        List<Long> lessonIds = new ArrayList<>(List.of(occurrenceId));
+        for (int day = 0; day < 28; day++) {
+            lessonIds.add(createLesson(day % 2 == 0 ? TRAINER_ID : OTHER_TRAINER_ID,
+                    monday.plusDays(day).atTime(10, 0)).getLessonId());
+        }
+        jdbcTemplate.update("INSERT INTO user (user_id, user_type, name, phone_number, status, created_at) VALUES " +
+                "(11, 'MEMBER', '회원1', '010-0000-0001', 'ACTIVE', NOW()), " +
+                "(12, 'MEMBER', '회원2', '010-0000-0002', 'ACTIVE', NOW()), " +
+                "(13, 'MEMBER', '회원3', '010-0000-0003', 'ACTIVE', NOW())");
+        List<Object[]> participants = new ArrayList<>();
+        for (Long lessonId : lessonIds) {
+            participants.add(new Object[]{lessonId, 11L, "ATTENDED"});
+            participants.add(new Object[]{lessonId, 12L, "WAITLISTED"});
+            participants.add(new Object[]{lessonId, 13L, "CANCELLED"});
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO lesson_participants (business_id, lesson_id, member_id, " +
+                "participant_status, registered_date, created_at) VALUES (1, ?, ?, ?, NOW(), NOW())", participants);
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+
+        // When - 1주 (레슨 7개) / 4주 (레슨 28개)
+        statistics.clear();
+        List<CalendarLessonResponse> week = lessonSeriesService.getCalendar(
+                OWNER_ID, BUSINESS_ID, monday, monday.plusDays(6), null);
+        long weekStatements = statistics.getPrepareStatementCount();
+        statistics.clear();
+        List<CalendarLessonResponse> month = lessonSeriesService.getCalendar(
+                OWNER_ID, BUSINESS_ID, monday, monday.plusDays(27), null);
+        long monthStatements = statistics.getPrepareStatementCount();
+
+        // Then - 사업장 확인 + 저장된 레슨 + 옮긴 회차 + 참가 회원 + 반복 레슨
+        assertThat(weekStatements).isEqualTo(5);
+        assertThat(monthStatements).isEqualTo(5);
+        assertThat(week).hasSize(7 + 2);
+        assertThat(month).hasSize(28 + 8);
+        assertThat(month).filteredOn(lesson -> lesson.getLessonId() != null)
+                .hasSize(29)
+                .allSatisfy(lesson -> assertThat(lesson.getParticipants())
+                        .extracting(CalendarParticipantResponse::getMemberName,
+                                CalendarParticipantResponse::getPhoneNumber, CalendarParticipantResponse::getStatus)
+                        .containsExactly(
+                                tuple("회원1", "010-0000-0001", ParticipantStatus.ATTENDED),
+                                tuple("회원2", "010-0000-0002", ParticipantStatus.WAITLISTED)));
+        assertThat(month).filteredOn(lesson -> lesson.getLessonId() == null)
+                .allSatisfy(lesson -> assertThat(lesson.getParticipants()).isEmpty())
+                .extracting(CalendarLessonResponse::getTrainerName)
+                .containsOnly("트레이너1", "트레이너2");
+        assertThat(month).filteredOn(lesson -> occurrenceId.equals(lesson.getLessonId()))
+                .extracting(CalendarLessonResponse::getSeriesId, CalendarLessonResponse::getTrainerName)
+                .containsExactly(tuple(yoga.getSeriesId(), "트레이너1"));
+    }
+
+    private LessonSeriesResponse createSeries(Long trainerId, Set<DayOfWeek> days, int intervalWeeks,
+                                              LocalTime startTime, LocalDate endDate) {
+        LessonSeriesCreateRequest request = new LessonSeriesCreateRequest();
+        request.setTrainerId(trainerId);
+        request.setLessonType(LessonType.YOGA);
+        request.setTitle("요가");
+        request.setDaysOfWeek(days);
+        request.setIntervalWeeks(intervalWeeks);
+        request.setStartTime(startTime);
+        request.setDurationMinute(50);
+        request.setStartDate(monday);
+        request.setEndDate(endDate);
+        request.setMaxParticipant(20);
+        return lessonSeriesService.createSeries(OWNER_ID, BUSINESS_ID, request);
+    }
+
+    private LessonResponse createLesson(Long trainerId, LocalDateTime start) {
+        LessonCreateRequest request = new LessonCreateRequest();
+        request.setTrainerId(trainerId);
+        request.setLessonType(LessonType.PERSONAL_PT);
+        request.setTitle("PT");
+        request.setStartDate(start);
+        request.setDurationMinute(50);
+        return lessonSchedulingService.createLesson(OWNER_ID, BUSINESS_ID, request);
+    }
+
+    /**
+     * 시작 신호 후 실행하여 생성되면 true, 시간이 겹치면 false
+     */
+    private static boolean succeeded(CountDownLatch ready, Runnable action) throws InterruptedException {
+        ready.await();
+        try {
+            action.run();
+            return true;
+        } catch (BusinessException e) {
+            assertThat(e.getErrorCode()).isEqualTo(ErrorCode.LESSON_TIME_CONFLICT);
+            return false;
+        }
+    }
+
+    private static void assertConflict(Runnable action) {
+        assertThatThrownBy(action::run)
+                .isInstanceOf(BusinessException.class)
+                .extracting("errorCode").isEqualTo(ErrorCode.LESSON_TIME_CONFLICT);
+    }
+}
@@ -0,0 +1,230 @@
+package com.fitness.domain.membership.service;
+
+import com.fitness.common.config.BusinessProperties;
+import com.fitness.common.config.QuerydslConfig;
+import com.fitness.domain.attendance.repository.AttendanceJdbcRepository;
+import com.fitness.domain.attendance.service.AttendanceWriteBuffer;
+import com.fitness.domain.business.entity.BusinessMemberStatus;
+import com.fitness.domain.business.repository.BusinessMemberRepository;
+import com.fitness.domain.membership.dto.ExpiringMembershipResponse;
+import com.fitness.domain.membership.repository.MembershipEligibilityJdbcRepository;
+import com.fitness.domain.statistics.service.BusinessDailyStatsService;
+import com.fitness.domain.statistics.service.DailyStatsRecorder;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.jdbc.Sql;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 체크인 자격 인덱스 테스트
+ * 이용권 기간, 정지 기간, 사업장 회원 상태, 횟수제 남은 횟수 조합, 출석의 이용권 배정과 엔티티 변경 반영 검증
+ */
+@DataJpaTest
+@Import({MembershipEligibilityIndex.class, MembershipEligibilityJdbcRepository.class, AttendanceWriteBuffer.class,
+        AttendanceJdbcRepository.class, DailyStatsRecorder.class, BusinessDailyStatsService.class, SimpleMeterRegistry.class,
+        BusinessProperties.class, QuerydslConfig.class})
+@ActiveProfiles("test")
+@Sql("/sql/owner-business.sql")
+@Sql(scripts = "/sql/cleanup.sql", executionPhase = Sql.ExecutionPhase.AFTER_TEST_METHOD)
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_EACH_TEST_METHOD) // 자격 인덱스 초기화
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class MembershipEligibilityIndexTest {
+
+    private static final Long BUSINESS_ID = 1L;
+    private static final Long PERIOD_MEMBER = 101L;
+    private static final Long SUSPENDED_PERIOD_MEMBER = 102L;
+    private static final Long SUSPENDED_STATUS_MEMBER = 103L;
+    private static final Long COUNT_MEMBER = 104L;
+    private static final Long NOT_A_MEMBER = 105L;
+    private static final Long FUTURE_MEMBER = 106L;
+    private static final Long RENEWED_MEMBER = 107L;
+    private static final Long OVERLAPPING_COUNT_MEMBER = 108L;
+    private static final Long PERIOD_AND_COUNT_MEMBER = 109L;
+    private static final Long ENDED_PERIOD_AND_COUNT_MEMBER = 110L;
+
+    private final LocalDateTime now = LocalDateTime.now().truncatedTo(ChronoUnit.SECONDS);
+
+    @Autowired
+    private MembershipEligibilityIndex eligibilityIndex;
+
+    @Autowired
+    private BusinessMemberRepository businessMemberRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.update("INSERT INTO products (product_id, business_id, name, product_type, price, usage_cnt, " +
+                "is_active, created_at) VALUES (1, 1, '3개월 회원권', 'MEMBERSHIP', 300000, NULL, TRUE, NOW()), " +
+                "(2, 1, 'PT 3회', 'PERSONAL_TRAINING', 150000, 3, TRUE, NOW())");
+        for (long memberId = PERIOD_MEMBER; memberId <= ENDED_PERIOD_AND_COUNT_MEMBER; memberId++) {
+            jdbcTemplate.update("INSERT INTO user (user_id, user_type, name, status, created_at) " +
+                    "VALUES (?, 'MEMBER', ?, 'ACTIVE', NOW())", memberId, "회원" + memberId);
+            if (!NOT_A_MEMBER.equals(memberId)) {
+                jdbcTemplate.update("INSERT INTO business_member (business_member_id, member_id, business_id, status, " +
+                        "sms_yn, join_date, created_at) VALUES (?, ?, 1, ?, TRUE, CURRENT_DATE, NOW())", memberId, memberId,
+                        SUSPENDED_STATUS_MEMBER.equals(memberId) ? "SUSPENDED" : "ACTIVE");
+            }
+        }
+
+        membership(1, PERIOD_MEMBER, 1, now.minusMonths(1), now.plusDays(3));
+        membership(2, SUSPENDED_PERIOD_MEMBER, 1, now.minusMonths(1), now.plusMonths(2));
+        membership(3, SUSPENDED_STATUS_MEMBER, 1, now.minusMonths(1), now.plusMonths(2));
+        membership(4, COUNT_MEMBER, 2, now.minusMonths(1), now.plusDays(5));
+        membership(5, NOT_A_MEMBER, 1, now.minusMonths(1), now.plusMonths(2));
+        membership(6, FUTURE_MEMBER, 1, now.plusDays(1), now.plusMonths(3));
+        membership(7, RENEWED_MEMBER, 1, now.minusMonths(1), now.plusDays(2));
+        membership(8, RENEWED_MEMBER, 1, now.plusDays(2), now.plusMonths(3));
+
+        jdbcTemplate.update("INSERT INTO membership_suspension (business_id, member_id, start_date, end_date, created_at) " +
+                "VALUES (1, ?, ?, ?, NOW())", SUSPENDED_PERIOD_MEMBER,
+                Timestamp.valueOf(now.minusDays(1)), Timestamp.valueOf(now.plusDays(6)));
+        // 횟수제 3회 중 2회 사용 + 이용 시작 전 출석 1회 (차감 대상 아님)
+        jdbcTemplate.update("INSERT INTO attendance (business_id, member_id, attendance_date, created_at) VALUES " +
+                "(1, ?, ?, NOW()), (1, ?, ?, NOW()), (1, ?, ?, NOW())",
+                COUNT_MEMBER, Timestamp.valueOf(now.minusDays(3)), COUNT_MEMBER, Timestamp.valueOf(now.minusDays(1)),
+                COUNT_MEMBER, Timestamp.valueOf(now.minusMonths(2)));
+    }
+
+    @Test
+    void 이용권_정지_회원상태_남은횟수를_합쳐_입장_판단() {
+        // When & Then
+        assertThat(eligibilityIndex.eligibleUntil(BUSINESS_ID, PERIOD_MEMBER, now)).isEqualTo(now.plusDays(3));
+        assertThat(eligibilityIndex.eligibleUntil(BUSINESS_ID, SUSPENDED_PERIOD_MEMBER, now)).isNull();
+        assertThat(eligibilityIndex.eligibleUntil(BUSINESS_ID, SUSPENDED_PERIOD_MEMBER, now.plusDays(7)))
+                .isEqualTo(now.plusMonths(2));
+        assertThat(eligibilityIndex.eligibleUntil(BUSINESS_ID, SUSPENDED_STATUS_MEMBER, now)).isNull();
+        assertThat(eligibilityIndex.eligibleUntil(BUSINESS_ID, NOT_A_MEMBER, now)).isNull();
+        assertThat(eligibilityIndex.eligibleUntil(BUSINESS_ID, FUTURE_MEMBER, now)).isNull();
+        assertThat(eligibilityIndex.eligibleUntil(BUSINESS_ID, FUTURE_MEMBER, now.plusDays(2)))
+                .isEqualTo(now.plusMonths(3));
+
+        // 횟수제 - 남은 1회 사용 후 입장 불가, 기간제 회원은 출석해도 변화 없음
+        assertThat(eligibilityIndex.eligibleUntil(BUSINESS_ID, COUNT_MEMBER, now)).isEqualTo(now.plusDays(5));
+        eligibilityIndex.recordUse(BUSINESS_ID, COUNT_MEMBER, now);
+        eligibilityIndex.recordUse(BUSINESS_ID, PERIOD_MEMBER, now);
+        assertThat(eligibilityIndex.eligibleUntil(BUSINESS_ID, COUNT_MEMBER, now)).isNull();
+        assertThat(eligibilityIndex.eligibleUntil(BUSINESS_ID, PERIOD_MEMBER, now)).isEqualTo(now.plusDays(3));
+    }
+
+    @Test
+    void 만료_임박_회원_목록() {
+        // When
+        List<ExpiringMembershipResponse> expiring = eligibilityIndex.findExpiringSoon(BUSINESS_ID, now, now.plusDays(7));
+
+        // Then - 정지 상태 회원, 재등록 회원, 이용권이 7일 뒤에도 남은 회원 제외
+        assertThat(expiring).extracting(ExpiringMembershipResponse::getMemberId)
+                .containsExactly(PERIOD_MEMBER, COUNT_MEMBER);
+        assertThat(expiring.get(0).getRemainingUses()).isNull();
+        assertThat(expiring.get(1).getMembershipEndDate()).isEqualTo(now.plusDays(5));
+        assertThat(expiring.get(1).getRemainingUses()).isEqualTo(1);
+    }
+
+    @Test
+    void 겹치는_횟수제_이용권은_먼저_끝나는_이용권부터_차감() {
+        // Given - 3회권 2개 (기간 겹침), 먼저 끝나는 이용권 기간에만 출석 1회 + 겹치는 기간에 출석 3회
+        membership(9, OVERLAPPING_COUNT_MEMBER, 2, now.minusMonths(1), now.plusDays(10));
+        membership(10, OVERLAPPING_COUNT_MEMBER, 2, now.minusDays(10), now.plusDays(20));
+        attendance(OVERLAPPING_COUNT_MEMBER, now.minusDays(20), now.minusDays(5), now.minusDays(4), now.minusDays(3));
+
+        // When & Then - 먼저 끝나는 이용권 3회 모두 사용, 나중 이용권 2회 사용 (합계 6회 중 4회)
+        assertThat(eligibilityIndex.eligibleUntil(BUSINESS_ID, OVERLAPPING_COUNT_MEMBER, now)).isEqualTo(now.plusDays(20));
+        assertThat(remainingUses(OVERLAPPING_COUNT_MEMBER)).isEqualTo(2);
+
+        eligibilityIndex.recordUse(BUSINESS_ID, OVERLAPPING_COUNT_MEMBER, now);
+        assertThat(remainingUses(OVERLAPPING_COUNT_MEMBER)).isEqualTo(1);
+
+        // DB에서 다시 읽어도 같은 규칙으로 배정
+        attendance(OVERLAPPING_COUNT_MEMBER, now);
+        eligibilityIndex.refreshMember(BUSINESS_ID, OVERLAPPING_COUNT_MEMBER);
+        assertThat(remainingUses(OVERLAPPING_COUNT_MEMBER)).isEqualTo(1);
+        eligibilityIndex.recordUse(BUSINESS_ID, OVERLAPPING_COUNT_MEMBER, now.plusMinutes(1));
+        assertThat(eligibilityIndex.eligibleUntil(BUSINESS_ID, OVERLAPPING_COUNT_MEMBER, now.plusMinutes(1))).isNull();
+    }
+
+    @Test
+    void 기간제_이용권_기간의_출석은_횟수제_이용권에서_차감하지_않음() {
+        // Given - 회원권 + PT 3회권, 회원권 기간 안의 출석만 있음
+        membership(11, PERIOD_AND_COUNT_MEMBER, 1, now.minusMonths(1), now.plusDays(10));
+        membership(12, PERIOD_AND_COUNT_MEMBER, 2, now.minusDays(10), now.plusDays(20));
+        attendance(PERIOD_AND_COUNT_MEMBER, now.minusDays(5), now.minusDays(4), now.minusDays(3), now.minusDays(2));
+        // 끝난 회원권 + PT 3회권, 회원권 기간 안의 출석 2회 + 회원권 종료 후 출석 1회
+        membership(13, ENDED_PERIOD_AND_COUNT_MEMBER, 1, now.minusMonths(1), now.minusDays(1));
+        membership(14, ENDED_PERIOD_AND_COUNT_MEMBER, 2, now.minusDays(10), now.plusDays(20));
+        attendance(ENDED_PERIOD_AND_COUNT_MEMBER, now.minusDays(5), now.minusDays(3), now.minusHours(12));
+
+        // When & Then
+        assertThat(remainingUses(PERIOD_AND_COUNT_MEMBER)).isEqualTo(3);
+        eligibilityIndex.recordUse(BUSINESS_ID, PERIOD_AND_COUNT_MEMBER, now);
+        assertThat(remainingUses(PERIOD_AND_COUNT_MEMBER)).isEqualTo(3);
+
+        assertThat(remainingUses(ENDED_PERIOD_AND_COUNT_MEMBER)).isEqualTo(2);
+        eligibilityIndex.recordUse(BUSINESS_ID, ENDED_PERIOD_AND_COUNT_MEMBER, now);
+        assertThat(remainingUses(ENDED_PERIOD_AND_COUNT_MEMBER)).isEqualTo(1);
+    }
+
+    @Test
+    void 엔티티_변경_커밋_후_회원_다시_적재() {
+        // Given
+        assertThat(eligibilityIndex.eligibleUntil(BUSINESS_ID, PERIOD_MEMBER, now)).isNotNull();
+
+        // When - 사업장 회원 상태를 정지로 변경 (JPA)
+        new TransactionTemplate(transactionManager).executeWithoutResult(status ->
+                businessMemberRepository.findById(PERIOD_MEMBER).orElseThrow()
+                        .setStatus(BusinessMemberStatus.SUSPENDED));
+
+        // Then
+        assertThat(eligibilityIndex.eligibleUntil(BUSINESS_ID, PERIOD_MEMBER, now)).isNull();
+        assertThat(eligibilityIndex.findExpiringSoon(BUSINESS_ID, now, now.plusDays(7)))
+                .extracting(ExpiringMembershipResponse::getMemberId)
+                .containsExactly(COUNT_MEMBER);
+    }
+
+    /**
+     * 30일 안에 끝나는 마지막 이용권의 남은 횟수
+     */
+    private Integer remainingUses(Long memberId) {
+        return eligibilityIndex.findExpiringSoon(BUSINESS_ID, now, now.plusDays(30)).stream()
+                .filter(expiring -> expiring.getMemberId().equals(memberId))
+                .findFirst()
+                .orElseThrow()
+                .getRemainingUses();
+    }
+
+    private void attendance(Long memberId, LocalDateTime... attendanceDates) {
+        for (LocalDateTime attendanceDate : attendanceDates) {
+            jdbcTemplate.update("INSERT INTO attendance (business_id, member_id, attendance_date, created_at) " +
+                    "VALUES (1, ?, ?, NOW())", memberId, Timestamp.valueOf(attendanceDate));
+        }
+    }
+
+    private void membership(long id, Long memberId, long productId, LocalDateTime start, LocalDateTime end) {
+        jdbcTemplate.update("INSERT INTO payment (payment_id, business_id, member_id, product_id, status, actual_price, " +
+                "payment_method, payment_date, created_at) VALUES (?, 1, ?, ?, 'COMPLETED', 100000, 'CARD', ?, NOW())",
+                id, memberId, productId, Timestamp.valueOf(start));
+        jdbcTemplate.update("INSERT INTO membership (membership_id, payment_id, member_id, type, product_id, " +
+                "service_start_date, service_end_date, created_at) VALUES (?, ?, ?, ?, ?, ?, ?, NOW())",
+                id, id, memberId, productId == 2 ? "PT" : "GYM", productId, Timestamp.valueOf(start), Timestamp.valueOf(end));
+    }
+}
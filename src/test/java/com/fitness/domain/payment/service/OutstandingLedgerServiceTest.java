@@ -0,0 +1,148 @@
+package com.fitness.domain.payment.service;
+
+import com.fitness.common.config.QuerydslConfig;
+import com.fitness.common.enums.PaymentMethod;
+import com.fitness.common.exception.BusinessException;
+import com.fitness.common.exception.ErrorCode;
+import com.fitness.domain.business.entity.Business;
+import com.fitness.domain.payment.dto.OutstandingLedgerResponse;
+import com.fitness.domain.payment.dto.OutstandingMemberResponse;
+import com.fitness.domain.payment.entity.OutstandingLedgerType;
+import com.fitness.domain.payment.entity.OutstandingPayment;
+import com.fitness.domain.payment.entity.Payment;
+import com.fitness.domain.payment.repository.OutstandingLedgerJdbcRepository;
+import com.fitness.domain.user.entity.User;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.jdbc.Sql;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 미수금 원장 서비스 테스트
+ * 결제 원본 기준 보정(매일 전체 사업장 / OWNER 요청), 미수금 납부 시 같은 트랜잭션의 원장 기록/잔액 갱신,
+ * 미수금 보유 회원 조회 검증
+ */
+@DataJpaTest
+@Import({OutstandingLedgerService.class, OutstandingLedgerJdbcRepository.class, QuerydslConfig.class})
+@ActiveProfiles("test")
+@Sql("/sql/owner-business.sql")
+class OutstandingLedgerServiceTest {
+
+    private static final Long OWNER_ID = 1L;
+    private static final Long BUSINESS_ID = 1L;
+
+    @Autowired
+    private OutstandingLedgerService ledgerService;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.update("INSERT INTO user (user_id, user_type, name, status, created_at) VALUES " +
+                "(2, 'MEMBER', '회원1', 'ACTIVE', NOW()), " +
+                "(3, 'MEMBER', '회원2', 'ACTIVE', NOW()), (4, 'MEMBER', '회원3', 'ACTIVE', NOW())");
+        jdbcTemplate.update("INSERT INTO business_member (business_id, member_id, status, sms_yn, join_date, created_at) VALUES " +
+                "(1, 2, 'ACTIVE', TRUE, '2025-01-01', NOW()), (1, 3, 'ACTIVE', TRUE, '2025-01-01', NOW()), " +
+                "(1, 4, 'ACTIVE', TRUE, '2025-01-01', NOW())");
+        jdbcTemplate.update("INSERT INTO products (product_id, business_id, name, product_type, price, is_active, created_at) " +
+                "VALUES (1, 1, '회원권', 'MEMBERSHIP', 300000, TRUE, NOW())");
+        jdbcTemplate.update("INSERT INTO payment (payment_id, business_id, member_id, product_id, status, actual_price, " +
+                "outstanding_amount, initial_outstanding_amount, payment_method, payment_date, created_at) VALUES " +
+                "(1, 1, 2, 1, 'COMPLETED', 200000, 100000, 100000, 'CARD', '2025-03-01 10:00:00', NOW()), " +
+                "(2, 1, 3, 1, 'COMPLETED', 270000, 30000, 30000, 'CARD', '2025-03-02 10:00:00', NOW()), " +
+                "(3, 1, 3, 1, 'CANCELLED', 250000, 50000, 50000, 'CARD', '2025-03-03 10:00:00', NOW()), " +
+                "(4, 1, 4, 1, 'COMPLETED', 300000, 0, 0, 'CASH', '2025-03-04 10:00:00', NOW())");
+    }
+
+    @Test
+    void 결제_원본_기준_보정_후_미수금_많은순_조회() {
+        // When
+        int adjusted = ledgerService.reconcile(BUSINESS_ID);
+
+        // Then
+        List<OutstandingMemberResponse> members = ledgerService
+                .getMembersWithOutstanding(OWNER_ID, BUSINESS_ID, PageRequest.of(0, 10)).getContent();
+        assertThat(adjusted).isEqualTo(2);
+        assertThat(members).extracting(OutstandingMemberResponse::getMemberId).containsExactly(2L, 3L);
+        assertThat(members).extracting(OutstandingMemberResponse::getTotalOutstandingAmount)
+                .containsExactly(100_000L, 30_000L);
+        assertThat(ledgerService.reconcile(BUSINESS_ID)).isZero();
+    }
+
+    @Test
+    void 미수금_납부는_같은_트랜잭션에서_원장과_잔액에_반영() {
+        // Given
+        ledgerService.reconcile(BUSINESS_ID);
+
+        // When - 회원1이 미수금 100,000 중 40,000 납부
+        entityManager.persist(OutstandingPayment.builder()
+                .originalPayment(entityManager.getReference(Payment.class, 1L))
+                .business(entityManager.getReference(Business.class, BUSINESS_ID))
+                .member(entityManager.getReference(User.class, 2L))
+                .paidAmount(40_000)
+                .paymentMethod(PaymentMethod.CASH)
+                .paymentDate(LocalDateTime.of(2025, 3, 10, 10, 0))
+                .build());
+        entityManager.flush();
+
+        // Then
+        List<OutstandingLedgerResponse> ledger = ledgerService
+                .getLedger(OWNER_ID, BUSINESS_ID, 2L, PageRequest.of(0, 10)).getContent();
+        assertThat(ledger).extracting(OutstandingLedgerResponse::getEntryType)
+                .containsExactly(OutstandingLedgerType.REPAYMENT, OutstandingLedgerType.ADJUSTMENT);
+        assertThat(ledger.get(0).getAmount()).isEqualTo(-40_000L);
+        assertThat(ledger.get(0).getBalanceAfter()).isEqualTo(60_000L);
+        assertThat(ledger.get(0).getPaymentId()).isEqualTo(1L);
+        assertThat(ledgerService.getMembersWithOutstanding(OWNER_ID, BUSINESS_ID, PageRequest.of(0, 10)).getContent())
+                .extracting(OutstandingMemberResponse::getTotalOutstandingAmount)
+                .containsExactly(60_000L, 30_000L);
+    }
+
+    @Test
+    void 매일_보정은_원장_도입_전_미수금이_있는_모든_사업장을_적재() {
+        // Given - 다른 사업장의 기존 미수금
+        jdbcTemplate.update("INSERT INTO business (business_id, owner_id, business_number, status, business_name, created_at) " +
+                "VALUES (2, 1, '123-45-67891', 'ACTIVE', '2호점', NOW())");
+        jdbcTemplate.update("INSERT INTO business_member (business_id, member_id, status, sms_yn, join_date, created_at) " +
+                "VALUES (2, 4, 'ACTIVE', TRUE, '2025-01-01', NOW())");
+        jdbcTemplate.update("INSERT INTO payment (payment_id, business_id, member_id, product_id, status, actual_price, " +
+                "outstanding_amount, initial_outstanding_amount, payment_method, payment_date, created_at) VALUES " +
+                "(5, 2, 4, 1, 'COMPLETED', 280000, 20000, 20000, 'CARD', '2025-03-05 10:00:00', NOW())");
+
+        // When
+        int adjusted = ledgerService.reconcileAll();
+
+        // Then
+        assertThat(adjusted).isEqualTo(3);
+        assertThat(ledgerService.getMembersWithOutstanding(OWNER_ID, BUSINESS_ID, PageRequest.of(0, 10)).getContent())
+                .extracting(OutstandingMemberResponse::getMemberId).containsExactly(2L, 3L);
+        assertThat(ledgerService.getMembersWithOutstanding(OWNER_ID, 2L, PageRequest.of(0, 10)).getContent())
+                .extracting(OutstandingMemberResponse::getTotalOutstandingAmount).containsExactly(20_000L);
+        assertThat(ledgerService.reconcileAll()).isZero();
+    }
+
+    @Test
+    void 보정_요청은_사업장_소유자만_가능() {
+        // When / Then
+        assertThatThrownBy(() -> ledgerService.reconcile(2L, BUSINESS_ID))
+                .isInstanceOf(BusinessException.class)
+                .extracting("errorCode").isEqualTo(ErrorCode.BUSINESS_NOT_FOUND);
+        assertThat(ledgerService.reconcile(OWNER_ID, BUSINESS_ID)).isEqualTo(2);
+    }
+}
@@ -0,0 +1,100 @@
+package com.fitness.domain.statistics.service;
+
+import com.fitness.common.config.BusinessProperties;
+import com.fitness.common.config.QuerydslConfig;
+import com.fitness.domain.product.entity.ProductType;
+import com.fitness.domain.statistics.dto.BusinessDailyStatsResponse;
+import com.fitness.domain.statistics.dto.DailyStatsKey;
+import com.fitness.domain.statistics.dto.DailyStatsValues;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.jdbc.Sql;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 사업장 일별 통계 서비스 테스트
+ * 원본(결제, 일일권, 출석) 기준 재집계와 증분 반영 결과 검증
+ */
+@DataJpaTest
+@Import({BusinessDailyStatsService.class, BusinessProperties.class, QuerydslConfig.class})
+@ActiveProfiles("test")
+@Sql("/sql/owner-business.sql")
+class BusinessDailyStatsServiceTest {
+
+    private static final Long OWNER_ID = 1L;
+    private static final Long BUSINESS_ID = 1L;
+    private static final LocalDate DAY = LocalDate.of(2025, 3, 10);
+
+    @Autowired
+    private BusinessDailyStatsService dailyStatsService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.update("INSERT INTO user (user_id, user_type, name, status, created_at) VALUES " +
+                "(2, 'MEMBER', '회원1', 'ACTIVE', NOW()), " +
+                "(3, 'MEMBER', '회원2', 'ACTIVE', NOW())");
+        jdbcTemplate.update("INSERT INTO products (product_id, business_id, name, product_type, price, is_active, created_at) VALUES " +
+                "(1, 1, '3개월 회원권', 'MEMBERSHIP', 300000, TRUE, NOW()), (2, 1, 'PT 10회', 'PERSONAL_TRAINING', 500000, TRUE, NOW())");
+        jdbcTemplate.update("INSERT INTO payment (business_id, member_id, product_id, status, actual_price, payment_method, payment_date, created_at) VALUES " +
+                "(1, 2, 1, 'COMPLETED', 300000, 'CARD', '2025-03-10 09:00:00', NOW()), " +
+                "(1, 3, 2, 'COMPLETED', 450000, 'CASH', '2025-03-10 23:59:59', NOW()), " +
+                "(1, 3, 2, 'CANCELLED', 500000, 'CARD', '2025-03-10 12:00:00', NOW()), " +
+                "(1, 2, 1, 'COMPLETED', 300000, 'CARD', '2025-03-11 00:00:00', NOW())");
+        jdbcTemplate.update("INSERT INTO daypass (business_id, customer_name, customer_phone, amount, payment_method, visit_date, created_at) VALUES " +
+                "(1, '일일권', '010-0000-0000', 10000, 'CASH', '2025-03-10 18:00:00', NOW())");
+        jdbcTemplate.update("INSERT INTO attendance (business_id, member_id, attendance_date, created_at) VALUES " +
+                "(1, 2, '2025-03-10 07:00:00', NOW()), (1, 2, '2025-03-10 19:00:00', NOW()), " +
+                "(1, 3, '2025-03-10 20:00:00', NOW()), (1, 3, '2025-03-09 20:00:00', NOW())");
+    }
+
+    @Test
+    void 새벽_재집계는_원본과_일치() {
+        // When
+        int reconciled = dailyStatsService.reconcile(DAY);
+
+        // Then
+        BusinessDailyStatsResponse stats = dailyStatsService.getDailyStats(OWNER_ID, BUSINESS_ID, DAY, DAY).get(0);
+        assertThat(reconciled).isEqualTo(1);
+        assertThat(stats.getPaymentRevenue()).isEqualTo(750_000L);
+        assertThat(stats.getPaymentCount()).isEqualTo(2L);
+        assertThat(stats.getMembershipRevenue()).isEqualTo(300_000L);
+        assertThat(stats.getPersonalTrainingRevenue()).isEqualTo(450_000L);
+        assertThat(stats.getDaypassRevenue()).isEqualTo(10_000L);
+        assertThat(stats.getTotalRevenue()).isEqualTo(760_000L);
+        assertThat(stats.getAttendanceCount()).isEqualTo(3L);
+        assertThat(stats.getVisitorCount()).isEqualTo(2L);
+    }
+
+    @Test
+    void 증분_반영_후_기록없는_날짜는_0으로_조회() {
+        // Given
+        DailyStatsKey key = new DailyStatsKey(BUSINESS_ID, DAY);
+        dailyStatsService.recompute(key);
+
+        // When
+        dailyStatsService.applyDelta(key, new DailyStatsValues()
+                .addPayment(ProductType.LOCKER, 20_000L)
+                .addDaypass(10_000L), false);
+
+        // Then
+        List<BusinessDailyStatsResponse> stats = dailyStatsService.getDailyStats(OWNER_ID, BUSINESS_ID, DAY, DAY.plusDays(2));
+        assertThat(stats).hasSize(3);
+        assertThat(stats.get(0).getPaymentRevenue()).isEqualTo(770_000L);
+        assertThat(stats.get(0).getLockerRevenue()).isEqualTo(20_000L);
+        assertThat(stats.get(0).getDaypassCount()).isEqualTo(2L);
+        assertThat(stats.get(1).getPaymentRevenue()).isZero();
+        assertThat(stats.get(2).getDate()).isEqualTo(DAY.plusDays(2));
+    }
+}
@@ -1,10 +1,12 @@
 package com.fitness.domain.user.entity;
 
+import com.fitness.common.config.QuerydslConfig;
 import com.fitness.common.enums.UserStatus;
 import com.fitness.common.enums.UserType;
 import org.junit.jupiter.api.Test;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.beans.factory.annotation.Autowired;
 
@@ -15,6 +17,7 @@ import static org.assertj.core.api.Assertions.assertThat;
  * H2 메모리 DB를 사용하여 엔티티 저장/조회 검증
  */
 @DataJpaTest
+@Import(QuerydslConfig.class)
 @ActiveProfiles("test")
 class UserEntityTest {
 
@@ -0,0 +1,188 @@
+package com.fitness.domain.workout.service;
+
+import com.fitness.common.config.BusinessProperties;
+import com.fitness.common.config.QuerydslConfig;
+import com.fitness.common.exception.BusinessException;
+import com.fitness.common.exception.ErrorCode;
+import com.fitness.common.util.CursorPage;
+import com.fitness.domain.workout.dto.WorkoutAttachResponse;
+import com.fitness.domain.workout.dto.WorkoutCommentResponse;
+import com.fitness.domain.workout.dto.WorkoutExerciseResponse;
+import com.fitness.domain.workout.dto.WorkoutReplyResponse;
+import com.fitness.domain.workout.dto.WorkoutSessionResponse;
+import com.fitness.domain.workout.dto.WorkoutSetResponse;
+import com.fitness.domain.workout.entity.ExerciseCategory;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.jdbc.Sql;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+
+/**
+ * 회원 운동 기록 조회 서비스 테스트
+ * 커서 페이지, 세션 트리 조립, 페이지당 쿼리 수 고정 검증
+ */
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@Import({WorkoutHistoryService.class, BusinessProperties.class, QuerydslConfig.class})
+@ActiveProfiles("test")
+@Sql("/sql/owner-business.sql")
+@Sql(scripts = "/sql/cleanup.sql", executionPhase = Sql.ExecutionPhase.AFTER_TEST_METHOD)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class WorkoutHistoryServiceTest {
+
+    private static final Long OWNER_ID = 1L;
+    private static final Long BUSINESS_ID = 1L;
+    private static final Long TRAINER_ID = 2L;
+    private static final Long MEMBER_ID = 10L;
+
+    @Autowired
+    private WorkoutHistoryService workoutHistoryService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.update("INSERT INTO user (user_id, user_type, name, status, created_at) VALUES " +
+                "(2, 'EMPLOYEE', '트레이너', 'ACTIVE', NOW()), " +
+                "(3, 'OWNER', '다른 사장', 'ACTIVE', NOW()), (10, 'MEMBER', '회원', 'ACTIVE', NOW()), " +
+                "(11, 'MEMBER', '다른 회원', 'ACTIVE', NOW())");
+        jdbcTemplate.update("INSERT INTO business (business_id, owner_id, business_number, status, business_name, created_at) " +
+                "VALUES (2, 3, '987-65-43210', 'ACTIVE', '다른 헬스장', NOW())");
+        jdbcTemplate.update("INSERT INTO business_member (member_id, business_id, status, sms_yn, join_date, created_at) " +
+                "VALUES (10, 1, 'ACTIVE', TRUE, CURRENT_DATE, NOW()), (10, 2, 'ACTIVE', TRUE, CURRENT_DATE, NOW())");
+        jdbcTemplate.update("INSERT INTO lesson (lesson_id, business_id, trainer_id, lesson_type, status, title, " +
+                "start_date, end_date, duration_minute, max_participant, created_at) VALUES " +
+                "(1, 1, 2, 'PERSONAL_PT', 'COMPLETED', 'PT', NOW(), NOW(), 50, 1, NOW()), " +
+                "(2, 2, 2, 'PERSONAL_PT', 'COMPLETED', '다른 헬스장 PT', NOW(), NOW(), 50, 1, NOW())");
+        jdbcTemplate.update("INSERT INTO exercise_types (exercise_type_id, exercise_category, name, use_yn, created_at) " +
+                "VALUES (1, 'CHEST', '벤치프레스', TRUE, NOW()), (2, 'LEGS', '스쿼트', TRUE, NOW())");
+
+        // 세션 1~5 (3번은 다른 사업장 레슨, 4번은 사업장 레슨), 5번만 종목 3개, 7번은 사업장 등록 전 레슨 없는 세션
+        jdbcTemplate.update("INSERT INTO workout_sessions (workout_session_id, lesson_schedule_id, member_id, memo, " +
+                "created_at) VALUES (1, NULL, 10, '세션1', NOW()), (2, NULL, 10, '세션2', NOW()), " +
+                "(3, 2, 10, '세션3', NOW()), (4, 1, 10, '세션4', NOW()), (5, NULL, 10, '세션5', NOW()), " +
+                "(6, NULL, 11, '다른 회원', NOW()), (7, NULL, 10, '등록 전', DATEADD('DAY', -30, NOW()))");
+        List<Object[]> exercises = new ArrayList<>();
+        List<Object[]> sets = new ArrayList<>();
+        List<Object[]> attaches = new ArrayList<>();
+        long exerciseId = 0;
+        for (long sessionId = 1; sessionId <= 6; sessionId++) {
+            for (int order = 1; order <= (sessionId == 5 ? 3 : 2); order++) {
+                exerciseId++;
+                exercises.add(new Object[]{exerciseId, sessionId, order == 3 ? null : (long) order,
+                        order == 3 ? "케틀벨 스윙" : null, order});
+                for (int setOrder = 3; setOrder >= 1; setOrder--) {
+                    sets.add(new Object[]{exerciseId, setOrder, 40 + setOrder * 10});
+                }
+                attaches.add(new Object[]{exerciseId, "https://cdn/" + exerciseId + "-2.jpg", 2});
+                attaches.add(new Object[]{exerciseId, "https://cdn/" + exerciseId + "-1.jpg", 1});
+            }
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO workout_exercises (workout_exercise_id, workout_session_id, " +
+                "exercise_type_id, custom_exercise_name, exercise_order, created_at) VALUES (?, ?, ?, ?, ?, NOW())",
+                exercises);
+        jdbcTemplate.batchUpdate("INSERT INTO exercise_sets (workout_exercise_id, set_order, weight, reps, created_at) " +
+                "VALUES (?, ?, ?, 10, NOW())", sets);
+        jdbcTemplate.batchUpdate("INSERT INTO exercise_attach (workout_exercise_id, attach_url, attach_type, " +
+                "attach_order, created_at) VALUES (?, ?, 'IMAGE', ?, NOW())", attaches);
+        jdbcTemplate.update("INSERT INTO workout_comments (workout_comment_id, workout_session_id, writer_id, content, " +
+                "created_at) VALUES (1, 5, 2, '자세 좋아요', NOW()), (2, 1, 2, '무게 올려봐요', NOW())");
+        jdbcTemplate.update("INSERT INTO workout_replies (workout_comment_id, writer_id, content, created_at) VALUES " +
+                "(1, 10, '감사합니다', NOW()), (1, 2, '다음에도 화이팅', NOW())");
+        // 작성자 행이 없는 댓글/대댓글 (참조 무결성 검사를 잠시 끄고 추가)
+        jdbcTemplate.execute("SET REFERENTIAL_INTEGRITY FALSE");
+        jdbcTemplate.update("INSERT INTO workout_comments (workout_comment_id, workout_session_id, writer_id, content, " +
+                "created_at) VALUES (3, 2, 99, '작성자 없음', NOW())");
+        jdbcTemplate.update("INSERT INTO workout_replies (workout_comment_id, writer_id, content, created_at) VALUES " +
+                "(3, 99, '작성자 없는 답글', NOW())");
+        jdbcTemplate.execute("SET REFERENTIAL_INTEGRITY TRUE");
+    }
+
+    @Test
+    void 커서_페이지로_세션_트리를_조립하고_쿼리_수는_고정() {
+        // Given
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+
+        // When - 2개씩 조회
+        statistics.clear();
+        CursorPage<WorkoutSessionResponse> first = workoutHistoryService.getHistory(
+                OWNER_ID, BUSINESS_ID, MEMBER_ID, null, 2);
+        long firstStatements = statistics.getPrepareStatementCount();
+        statistics.clear();
+        CursorPage<WorkoutSessionResponse> second = workoutHistoryService.getHistory(
+                OWNER_ID, BUSINESS_ID, MEMBER_ID, first.getNextCursor(), 2);
+        long secondStatements = statistics.getPrepareStatementCount();
+
+        // Then - 사업장/회원 확인 + 세션, 종목, 세트, 첨부파일, 댓글, 대댓글
+        // (다른 사업장 레슨 세션, 사업장 등록 전 레슨 없는 세션 제외)
+        assertThat(firstStatements).isEqualTo(8);
+        assertThat(secondStatements).isEqualTo(8);
+        assertThat(first.getContent()).extracting(WorkoutSessionResponse::getWorkoutSessionId,
+                        WorkoutSessionResponse::getLessonTitle)
+                .containsExactly(tuple(5L, null), tuple(4L, "PT"));
+        assertThat(first.isHasNext()).isTrue();
+        assertThat(first.getNextCursor()).isEqualTo(4L);
+        assertThat(second.getContent()).extracting(WorkoutSessionResponse::getWorkoutSessionId)
+                .containsExactly(2L, 1L);
+        assertThat(second.isHasNext()).isFalse();
+
+        WorkoutSessionResponse latest = first.getContent().get(0);
+        assertThat(latest.getExercises())
+                .extracting(WorkoutExerciseResponse::getExerciseName, WorkoutExerciseResponse::getExerciseCategory)
+                .containsExactly(tuple("벤치프레스", ExerciseCategory.CHEST), tuple("스쿼트", ExerciseCategory.LEGS),
+                        tuple("케틀벨 스윙", null));
+        assertThat(latest.getExercises()).allSatisfy(exercise -> {
+            assertThat(exercise.getSets()).extracting(WorkoutSetResponse::getSetOrder, WorkoutSetResponse::getWeight)
+                    .containsExactly(tuple(1, 50), tuple(2, 60), tuple(3, 70));
+            assertThat(exercise.getAttaches()).extracting(WorkoutAttachResponse::getAttachOrder)
+                    .containsExactly(1, 2);
+        });
+        assertThat(latest.getComments()).extracting(WorkoutCommentResponse::getWriterName,
+                        WorkoutCommentResponse::getContent)
+                .containsExactly(tuple("트레이너", "자세 좋아요"));
+        assertThat(latest.getComments().get(0).getReplies())
+                .extracting(WorkoutReplyResponse::getWriterName, WorkoutReplyResponse::getContent)
+                .containsExactly(tuple("회원", "감사합니다"), tuple("트레이너", "다음에도 화이팅"));
+        assertThat(second.getContent().get(0).getComments())
+                .extracting(WorkoutCommentResponse::getWriterName, WorkoutCommentResponse::getContent)
+                .containsExactly(tuple(null, "작성자 없음"));
+        assertThat(second.getContent().get(0).getComments().get(0).getReplies())
+                .extracting(WorkoutReplyResponse::getWriterName, WorkoutReplyResponse::getContent)
+                .containsExactly(tuple(null, "작성자 없는 답글"));
+        assertThat(second.getContent().get(1).getComments()).extracting(WorkoutCommentResponse::getContent)
+                .containsExactly("무게 올려봐요");
+    }
+
+    @Test
+    void 사업장_회원이_아니거나_페이지_크기가_범위를_벗어나면_거절() {
+        assertThatThrownBy(() -> workoutHistoryService.getHistory(OWNER_ID, BUSINESS_ID, 11L, null, 10))
+                .isInstanceOf(BusinessException.class)
+                .extracting("errorCode").isEqualTo(ErrorCode.MEMBER_NOT_FOUND);
+        assertThatThrownBy(() -> workoutHistoryService.getHistory(3L, BUSINESS_ID, MEMBER_ID, null, 10))
+                .isInstanceOf(BusinessException.class)
+                .extracting("errorCode").isEqualTo(ErrorCode.BUSINESS_NOT_FOUND);
+        assertThatThrownBy(() -> workoutHistoryService.getHistory(
+                OWNER_ID, BUSINESS_ID, MEMBER_ID, null, WorkoutHistoryService.MAX_PAGE_SIZE + 1))
+                .isInstanceOf(BusinessException.class)
+                .extracting("errorCode").isEqualTo(ErrorCode.INVALID_INPUT);
+    }
+}
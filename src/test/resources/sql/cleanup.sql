@@ -0,0 +1,40 @@
+-- 커밋하는 테스트(propagation = NOT_SUPPORTED) 종료 후 전체 데이터 삭제
+-- 참조 순서와 무관하게 지우도록 H2 참조 무결성 검사를 잠시 끔
+SET REFERENTIAL_INTEGRITY FALSE;
+DELETE FROM alim_hist;
+DELETE FROM sms_recipient;
+DELETE FROM sms_hist;
+DELETE FROM workout_replies;
+DELETE FROM workout_comments;
+DELETE FROM exercise_attach;
+DELETE FROM exercise_sets;
+DELETE FROM workout_exercises;
+DELETE FROM workout_sessions;
+DELETE FROM exercise_types;
+DELETE FROM lesson_participants;
+DELETE FROM lesson;
+DELETE FROM lesson_series;
+DELETE FROM attendance;
+DELETE FROM membership_suspension;
+DELETE FROM membership;
+DELETE FROM daypass;
+DELETE FROM lockers;
+DELETE FROM commission_calculations;
+DELETE FROM commission_policies;
+DELETE FROM employee_monthly_performances;
+DELETE FROM outstanding_ledger;
+DELETE FROM outstanding_payment;
+DELETE FROM payment;
+DELETE FROM expense;
+DELETE FROM products;
+DELETE FROM business_daily_stats;
+DELETE FROM business_member;
+DELETE FROM business_employee;
+DELETE FROM business;
+DELETE FROM refresh_token_family;
+DELETE FROM user_push_set;
+DELETE FROM device;
+DELETE FROM auth;
+DELETE FROM admin;
+DELETE FROM user;
+SET REFERENTIAL_INTEGRITY TRUE;
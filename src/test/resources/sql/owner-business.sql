@@ -0,0 +1,5 @@
+-- 서비스 테스트 공통 데이터: 사장님(1)과 그 사업장(1)
+-- 회원/직원 등 테스트마다 다른 데이터는 각 테스트에서 추가
+INSERT INTO user (user_id, user_type, name, status, created_at) VALUES (1, 'OWNER', '사장', 'ACTIVE', NOW());
+INSERT INTO business (business_id, owner_id, business_number, status, business_name, created_at)
+VALUES (1, 1, '123-45-67890', 'ACTIVE', '헬스장', NOW());